@@ -69,6 +69,14 @@ public:
      */
     virtual void writeIndex(faiss::IOWriter* writer, jlong idMapAddress);
 
+    /**
+     * Renumber vectors in breadth first order of the level-0 graph, so that neighbors are stored close to each other in the
+     * index file. The id map is permuted accordingly, hence search results are not affected. Non HNSW indices are left as is.
+     *
+     * @param idMapAddress memory address of the native index object
+     */
+    virtual void reorderIndex(jlong idMapAddress);
+
     virtual ~IndexService() = default;
 
 protected:
@@ -132,6 +140,14 @@ public:
      */
     void writeIndex(faiss::IOWriter* writer, jlong idMapAddress) final;
 
+    /**
+     * Renumber vectors in breadth first order of the level-0 graph. Binary HNSW does not support permuting entries in faiss,
+     * hence binary codes are moved here before permuting the graph.
+     *
+     * @param idMapAddress memory address of the native index object
+     */
+    void reorderIndex(jlong idMapAddress) final;
+
 protected:
     void allocIndex(faiss::Index * index, size_t dim, size_t numVectors) final;
 };  // class BinaryIndexService
@@ -25,6 +25,9 @@ namespace knn_jni {
 
         void WriteIndex(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jobject output, jlong indexAddr, IndexService *indexService);
 
+        // Renumber vectors of an index under construction for page locality, see IndexService::reorderIndex.
+        void ReorderIndex(jlong indexAddr, IndexService *indexService);
+
         // Create an index with ids and vectors. Instead of creating a new index, this function creates the index
         // based off of the template index passed in. The index is serialized to indexPathJ.
         void CreateIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
@@ -53,6 +56,12 @@ namespace knn_jni {
         // Returns a pointer of the loaded index
         jlong LoadIndexWithStream(faiss::IOReader* ioReader);
 
+        // Loads an HNSW index with a reader implemented IOReader, so that a merge can add the vectors of the other segments to
+        // it. The index is mutable and the ids of its id map are renumbered, newIdsJ mapping an id to its new id.
+        //
+        // Returns a pointer of the loaded index
+        jlong LoadIndexForMerge(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, faiss::IOReader* ioReader, jintArray newIdsJ);
+
         // Loads an index with a reader implemented IOReader. The index
         // is expected to be a binary index. For ADC, it will be converted into a
         // float index.
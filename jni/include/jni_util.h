@@ -268,6 +268,7 @@ namespace knn_jni {
 
     extern const std::string NPROBES;
     extern const std::string COARSE_QUANTIZER;
+    extern const std::string IVF_CENTROIDS;
     extern const std::string M;
     extern const std::string M_NMSLIB;
     extern const std::string EF_CONSTRUCTION;
@@ -19,3 +19,11 @@
     #define LIKELY(x)   (x)
     #define UNLIKELY(x) (x)
 #endif
+
+#if defined(__GNUC__) || defined(__clang__)
+    // Hint the CPU to pull the cache line holding `addr` for a read, without keeping it in higher cache levels.
+    // Issuing prefetches for several vectors before touching any of them keeps multiple memory loads in flight.
+    #define KNN_PREFETCH_READ(addr) (__builtin_prefetch((addr), 0, 0))
+#else
+    #define KNN_PREFETCH_READ(addr) ((void)(addr))
+#endif
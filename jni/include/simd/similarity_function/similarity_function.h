@@ -12,7 +12,15 @@ namespace knn_jni::simd::similarity_function {
         // Max inner product will transform inner product to v < 0 ? 1 / (1 - v) : (1 + v)
         FP16_MAXIMUM_INNER_PRODUCT,
         // L2 for FP16
-        FP16_L2
+        FP16_L2,
+        // Max inner product for FP32. Same transform as FP16_MAXIMUM_INNER_PRODUCT.
+        FP32_MAXIMUM_INNER_PRODUCT,
+        // L2 for FP32
+        FP32_L2,
+        // Max inner product for 8 bits direct signed scalar quantization, where each code is (int8 value + 128).
+        SQ8_DIRECT_SIGNED_MAXIMUM_INNER_PRODUCT,
+        // L2 for 8 bits direct signed scalar quantization
+        SQ8_DIRECT_SIGNED_L2
     };
 
     struct SimilarityFunction;
@@ -37,7 +45,8 @@ namespace knn_jni::simd::similarity_function {
         SimilarityFunction* similarityFunction;
         // Faiss distance computation function.
         std::unique_ptr<faiss::DistanceComputer> faissFunction;
-        // Temp buffer which is reset per search.
+        // Temp buffer holding vectors that straddle two mapped regions. It is sized once per search and reset per lookup,
+        // so pointers returned by a lookup are only valid until the next one.
         std::vector<uint8_t> tmpBuffer;
 
         ~SimdVectorSearchContext();
@@ -48,6 +57,13 @@ namespace knn_jni::simd::similarity_function {
 
         // Similar to `getVectorPointersInBulk`, but it returns raw pointer pointing to the vector it's looking for.
         uint8_t* getVectorPointer(int32_t internalVectorId);
+
+      private:
+        // Clear `tmpBuffer` and make sure it can hold `numVectors` copied vectors without reallocating.
+        void resetTmpBuffer(int32_t numVectors);
+
+        // Locate the vector among multiple mapped regions, copying it into `tmpBuffer` if it straddles two of them.
+        uint8_t* locateVectorPointer(int32_t internalVectorId);
     };
 
     // This class's responsibility is to calculate similarity between query and vectors.
@@ -17,6 +17,7 @@
 #include "faiss/IndexBinaryIVF.h"
 #include "faiss/IndexIDMap.h"
 
+#include <cstring>
 #include <string>
 #include <vector>
 #include <memory>
@@ -53,6 +54,55 @@ void SetExtraParameters(knn_jni::JNIUtilInterface * jniUtil, JNIEnv *env,
     }
 }
 
+// Returns a permutation mapping a new vector id to its old id, visiting the level-0 graph in breadth first order from the entry
+// point. Vectors unreachable from the entry point are visited afterward in their original order.
+std::vector<faiss::idx_t> ComputeBreadthFirstOrder(const faiss::HNSW& hnsw) {
+    const size_t ntotal = hnsw.levels.size();
+    std::vector<faiss::idx_t> order;
+    order.reserve(ntotal);
+    std::vector<bool> visited(ntotal, false);
+
+    auto visit = [&](faiss::idx_t start) {
+        size_t head = order.size();
+        visited[start] = true;
+        order.push_back(start);
+        while (head < order.size()) {
+            size_t begin, end;
+            hnsw.neighbor_range(order[head++], 0, &begin, &end);
+            for (size_t i = begin; i < end; ++i) {
+                const faiss::idx_t neighbor = hnsw.neighbors[i];
+                // Neighbor lists have a fixed size, -1 marks the end.
+                if (neighbor < 0) {
+                    break;
+                }
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    order.push_back(neighbor);
+                }
+            }
+        }
+    };
+
+    if (hnsw.entry_point >= 0) {
+        visit(hnsw.entry_point);
+    }
+    for (size_t i = 0; i < ntotal; ++i) {
+        if (!visited[i]) {
+            visit(i);
+        }
+    }
+    return order;
+}
+
+template<typename ID_MAP>
+void PermuteIdMap(ID_MAP * idMap, const std::vector<faiss::idx_t>& order) {
+    std::vector<faiss::idx_t> permuted(order.size());
+    for (size_t i = 0; i < order.size(); ++i) {
+        permuted[i] = idMap->id_map[order[i]];
+    }
+    idMap->id_map.swap(permuted);
+}
+
 IndexService::IndexService(std::unique_ptr<FaissMethods> _faissMethods) : faissMethods(std::move(_faissMethods)) {}
 
 void IndexService::allocIndex(faiss::Index * index, size_t dim, size_t numVectors) {
@@ -155,6 +205,19 @@ void IndexService::writeIndex(
     }
 }
 
+void IndexService::reorderIndex(jlong idMapAddress) {
+    auto * idMap = reinterpret_cast<faiss::IndexIDMap *> (idMapAddress);
+    auto * indexHnsw = dynamic_cast<faiss::IndexHNSW *>(idMap->index);
+    if (indexHnsw == nullptr || indexHnsw->ntotal == 0) {
+        return;
+    }
+
+    const std::vector<faiss::idx_t> order = ComputeBreadthFirstOrder(indexHnsw->hnsw);
+    // Moves both the flat codes and the graph.
+    indexHnsw->permute_entries(order.data());
+    PermuteIdMap(idMap, order);
+}
+
 BinaryIndexService::BinaryIndexService(std::unique_ptr<FaissMethods> _faissMethods)
   : IndexService(std::move(_faissMethods)) {
 }
@@ -252,6 +315,28 @@ void BinaryIndexService::writeIndex(
     }
 }
 
+void BinaryIndexService::reorderIndex(jlong idMapAddress) {
+    auto * idMap = reinterpret_cast<faiss::IndexBinaryIDMap *> (idMapAddress);
+    auto * indexBinaryHnsw = dynamic_cast<faiss::IndexBinaryHNSW *>(idMap->index);
+    if (indexBinaryHnsw == nullptr || indexBinaryHnsw->ntotal == 0) {
+        return;
+    }
+    auto * indexBinaryFlat = dynamic_cast<faiss::IndexBinaryFlat *>(indexBinaryHnsw->storage);
+    if (indexBinaryFlat == nullptr) {
+        return;
+    }
+
+    const std::vector<faiss::idx_t> order = ComputeBreadthFirstOrder(indexBinaryHnsw->hnsw);
+    const size_t codeSize = indexBinaryFlat->code_size;
+    std::vector<uint8_t> permuted(indexBinaryFlat->xb.size());
+    for (size_t i = 0; i < order.size(); ++i) {
+        std::memcpy(permuted.data() + i * codeSize, indexBinaryFlat->xb.data() + order[i] * codeSize, codeSize);
+    }
+    std::memcpy(indexBinaryFlat->xb.data(), permuted.data(), permuted.size());
+    indexBinaryHnsw->hnsw.permute_entries(order.data());
+    PermuteIdMap(idMap, order);
+}
+
 ByteIndexService::ByteIndexService(std::unique_ptr<FaissMethods> _faissMethods)
   : IndexService(std::move(_faissMethods)) {
 }
@@ -75,6 +75,9 @@ faiss::MetricType TranslateSpaceToMetric(const std::string& spaceType);
 void SetExtraParameters(knn_jni::JNIUtilInterface * jniUtil, JNIEnv *env,
                         const std::unordered_map<std::string, jobject>& parametersCpp, faiss::Index * index);
 
+// Seed the coarse quantizer of an IVF index with centroids trained outside of faiss
+void SetIVFCentroids(knn_jni::JNIUtilInterface * jniUtil, JNIEnv *env, jobject centroidsJ, faiss::Index * index, int dim);
+
 // Train an index with data provided
 void InternalTrainIndex(faiss::Index * index, faiss::idx_t n, const float* x);
 
@@ -199,6 +202,14 @@ void knn_jni::faiss_wrapper::WriteIndex(knn_jni::JNIUtilInterface * jniUtil, JNI
     indexService->writeIndex(&writer, index_ptr);
 }
 
+void knn_jni::faiss_wrapper::ReorderIndex(jlong index_ptr, IndexService* indexService) {
+    if (index_ptr == 0) {
+        throw std::runtime_error("Index address cannot be 0");
+    }
+
+    indexService->reorderIndex(index_ptr);
+}
+
 void knn_jni::faiss_wrapper::CreateIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
                                                      jlong vectorsAddressJ, jint dimJ, jobject output,
                                                      jbyteArray templateIndexJ, jobject parametersJ) {
@@ -462,6 +473,38 @@ jlong knn_jni::faiss_wrapper::LoadIndexWithStream(faiss::IOReader* ioReader) {
 
     return (jlong) indexReader;
 }
+
+jlong knn_jni::faiss_wrapper::LoadIndexForMerge(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, faiss::IOReader* ioReader,
+                                                jintArray newIdsJ) {
+    if (ioReader == nullptr)  {
+        throw std::runtime_error("IOReader cannot be null");
+    }
+
+    if (newIdsJ == nullptr) {
+        throw std::runtime_error("New ids cannot be null");
+    }
+
+    // Vectors are added to the index, so it is read without any flag
+    std::unique_ptr<faiss::Index> index(faiss::read_index(ioReader));
+    auto * idMap = dynamic_cast<faiss::IndexIDMap *>(index.get());
+    if (idMap == nullptr || dynamic_cast<faiss::IndexHNSW *>(idMap->index) == nullptr) {
+        throw std::runtime_error("Only HNSW indices with an id map can be loaded for merge");
+    }
+    // Cagra graphs built remotely keep only the base level, to which faiss cannot add vectors
+    if (dynamic_cast<faiss::IndexHNSWCagra *>(idMap->index) != nullptr) {
+        throw std::runtime_error("HNSW Cagra indices cannot be loaded for merge");
+    }
+
+    const std::vector<int64_t> newIds = jniUtil->ConvertJavaIntArrayToCppIntVector(env, newIdsJ);
+    for (auto & id : idMap->id_map) {
+        if (id < 0 || id >= (faiss::idx_t) newIds.size() || newIds[id] < 0) {
+            throw std::runtime_error("Index contains an id without new id");
+        }
+        id = newIds[id];
+    }
+
+    return (jlong) index.release();
+}
 jlong knn_jni::faiss_wrapper::LoadIndexWithStreamADCParams(faiss::IOReader* ioReader, knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject methodParamsJ) {
     auto methodParams = jniUtil->ConvertJavaMapToCppMap(env, methodParamsJ);
 
@@ -962,6 +1005,12 @@ jbyteArray knn_jni::faiss_wrapper::TrainIndex(knn_jni::JNIUtilInterface * jniUti
         jniUtil->DeleteLocalRef(env, subParametersJ);
     }
 
+    // Coarse centroids computed across the shards holding the training vectors. The quantizer is then already trained,
+    // so faiss only trains the encoder.
+    if (parametersCpp.find(knn_jni::IVF_CENTROIDS) != parametersCpp.end()) {
+        SetIVFCentroids(jniUtil, env, parametersCpp[knn_jni::IVF_CENTROIDS], indexWriter.get(), (int) dimensionJ);
+    }
+
     // Train index if needed
     auto *trainingVectorsPointerCpp = reinterpret_cast<std::vector<float>*>(trainVectorsPointerJ);
     int numVectors = trainingVectorsPointerCpp->size()/(int) dimensionJ;
@@ -1159,6 +1208,24 @@ void SetExtraParameters(knn_jni::JNIUtilInterface * jniUtil, JNIEnv *env,
     }
 }
 
+void SetIVFCentroids(knn_jni::JNIUtilInterface * jniUtil, JNIEnv *env, jobject centroidsJ, faiss::Index * index, int dim) {
+    auto * indexIvf = dynamic_cast<faiss::IndexIVF*>(index);
+    if (indexIvf == nullptr || indexIvf->quantizer == nullptr || indexIvf->quantizer_trains_alone != 0) {
+        throw std::runtime_error("Centroids can only be set on an IVF index with a flat coarse quantizer");
+    }
+
+    std::vector<float> centroids = jniUtil->Convert2dJavaObjectArrayToCppFloatVector(env, (jobjectArray) centroidsJ, dim);
+    auto numCentroids = (faiss::idx_t) (centroids.size() / dim);
+    if (numCentroids != (faiss::idx_t) indexIvf->nlist) {
+        throw std::runtime_error("Number of centroids must be equal to nlist");
+    }
+
+    // IndexIVF::train skips the quantizer when it is trained and holds nlist centroids
+    indexIvf->quantizer->reset();
+    indexIvf->quantizer->add(numCentroids, centroids.data());
+    indexIvf->quantizer->is_trained = true;
+}
+
 void InternalTrainIndex(faiss::Index * index, faiss::idx_t n, const float* x) {
     if (auto * indexIvf = dynamic_cast<faiss::IndexIVF*>(index)) {
         if (indexIvf->quantizer_trains_alone == 2) {
@@ -699,6 +699,7 @@ const std::string knn_jni::HAMMING = "hamming";
 
 const std::string knn_jni::NPROBES = "nprobes";
 const std::string knn_jni::COARSE_QUANTIZER = "coarse_quantizer";
+const std::string knn_jni::IVF_CENTROIDS = "ivf_centroids";
 const std::string knn_jni::M = "m";
 const std::string knn_jni::M_NMSLIB = "M";
 const std::string knn_jni::EF_CONSTRUCTION = "ef_construction";
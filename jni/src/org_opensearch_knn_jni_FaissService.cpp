@@ -166,6 +166,32 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_writeByteIndex(J
   }
 }
 
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_reorderIndex(JNIEnv * env,
+                                                                             jclass cls,
+                                                                             jlong indexAddress)
+{
+  try {
+      std::unique_ptr<knn_jni::faiss_wrapper::FaissMethods> faissMethods(new knn_jni::faiss_wrapper::FaissMethods());
+      knn_jni::faiss_wrapper::IndexService indexService(std::move(faissMethods));
+      knn_jni::faiss_wrapper::ReorderIndex(indexAddress, &indexService);
+  } catch (...) {
+      jniUtil.CatchCppExceptionAndThrowJava(env);
+  }
+}
+
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_reorderBinaryIndex(JNIEnv * env,
+                                                                                   jclass cls,
+                                                                                   jlong indexAddress)
+{
+  try {
+      std::unique_ptr<knn_jni::faiss_wrapper::FaissMethods> faissMethods(new knn_jni::faiss_wrapper::FaissMethods());
+      knn_jni::faiss_wrapper::BinaryIndexService binaryIndexService(std::move(faissMethods));
+      knn_jni::faiss_wrapper::ReorderIndex(indexAddress, &binaryIndexService);
+  } catch (...) {
+      jniUtil.CatchCppExceptionAndThrowJava(env);
+  }
+}
+
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createIndexFromTemplate(JNIEnv * env,
                                                                                         jclass cls,
                                                                                         jintArray idsJ,
@@ -267,6 +293,22 @@ JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexWithSt
     return NULL;
 }
 
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexForMerge(JNIEnv * env,
+                                                                                   jclass cls,
+                                                                                   jobject readStream,
+                                                                                   jintArray newIdsJ)
+{
+    try {
+        knn_jni::stream::NativeEngineIndexInputMediator mediator {&jniUtil, env, readStream};
+        knn_jni::stream::FaissOpenSearchIOReader faissOpenSearchIOReader {&mediator};
+        return knn_jni::faiss_wrapper::LoadIndexForMerge(&jniUtil, env, &faissOpenSearchIOReader, newIdsJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+
+    return NULL;
+}
+
 JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadBinaryIndex(JNIEnv * env, jclass cls, jstring indexPathJ)
 {
     try {
@@ -6,6 +6,7 @@
 
 #include "simd_similarity_function_common.cpp"
 #include "faiss_score_to_lucene_transform.cpp"
+#include "generic_similarity_function.cpp"
 #include "parameter_utils.h"
 
 //
@@ -25,10 +26,16 @@ struct DefaultFP16SimilarityFunction final : BaseSimilarityFunction<BulkScoreTra
         knn_jni::util::ParameterCheck::require_non_null(
             func, "Unexpected distance function acquired. Expected SQDistanceComputer, but it was something else");
 
-        for (int32_t i = 0 ; i < numVectors ; ++i) {
-            // Calculate distance
-            auto vector = reinterpret_cast<uint8_t*>(srchContext->getVectorPointer(internalVectorIds[i]));
-            scores[i] = func->query_to_code(vector);
+        uint8_t* vectors[GENERIC_SIMIL_FUNC_BATCH_SIZE];
+        for (int32_t base = 0 ; base < numVectors ; base += GENERIC_SIMIL_FUNC_BATCH_SIZE) {
+            // Acquire vectors and prefetch them together before decoding any of them
+            const int32_t batchSize = std::min(GENERIC_SIMIL_FUNC_BATCH_SIZE, numVectors - base);
+            getVectorPointersAndPrefetch(srchContext, vectors, &internalVectorIds[base], batchSize);
+
+            for (int32_t i = 0 ; i < batchSize ; ++i) {
+                // Calculate distance
+                scores[base + i] = func->query_to_code(vectors[i]);
+            }
         }
 
         // Transform score values if it needs to
@@ -46,6 +53,10 @@ DefaultFP16SimilarityFunction<FaissScoreToLuceneScoreTransform::l2TransformBulk,
 
 #ifndef __NO_SELECT_FUNCTION
 SimilarityFunction* SimilarityFunction::selectSimilarityFunction(const NativeSimilarityFunctionType nativeFunctionType) {
+    if (auto genericFunction = selectGenericSimilarityFunction(nativeFunctionType)) {
+        return genericFunction;
+    }
+
     if (nativeFunctionType == NativeSimilarityFunctionType::FP16_MAXIMUM_INNER_PRODUCT) {
         return &DEFAULT_FP16_MAX_INNER_PRODUCT_SIMIL_FUNC;
     } else if (nativeFunctionType == NativeSimilarityFunctionType::FP16_L2) {
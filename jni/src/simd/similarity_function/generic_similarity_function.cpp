@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+// Similarity functions shared by all platforms.
+// This must be included after `simd_similarity_function_common.cpp` and `faiss_score_to_lucene_transform.cpp`.
+
+#include <algorithm>
+#include <cstdint>
+
+#include "faiss/utils/distances.h"
+
+using knn_jni::simd::similarity_function::NativeSimilarityFunctionType;
+
+// The number of vectors whose pointers are acquired and prefetched together.
+// Lucene passes all unvisited neighbors of a node at once, which is bounded by M0, so most bulk calls fit into one batch.
+constexpr int32_t GENERIC_SIMIL_FUNC_BATCH_SIZE = MAX_VECTORS_PER_BULK_LOOKUP;
+
+//
+// FP32
+//
+template <BulkScoreTransform BulkScoreTransformFunc, ScoreTransform ScoreTransformFunc, bool IsL2>
+struct FP32SimilarityFunction final : SimilarityFunction {
+    void calculateSimilarityInBulk(SimdVectorSearchContext* srchContext,
+                                   int32_t* internalVectorIds,
+                                   float* scores,
+                                   const int32_t numVectors) final {
+        const auto* queryPtr = reinterpret_cast<const float*>(srchContext->queryVectorSimdAligned);
+        const auto dim = static_cast<size_t>(srchContext->dimension);
+        uint8_t* vectors[GENERIC_SIMIL_FUNC_BATCH_SIZE];
+
+        for (int32_t base = 0 ; base < numVectors ; base += GENERIC_SIMIL_FUNC_BATCH_SIZE) {
+            const int32_t batchSize = std::min(GENERIC_SIMIL_FUNC_BATCH_SIZE, numVectors - base);
+            getVectorPointersAndPrefetch(srchContext, vectors, &internalVectorIds[base], batchSize);
+
+            // Faiss computes four distances at once, sharing query loads across them.
+            int32_t i = 0;
+            for (; (i + 4) <= batchSize ; i += 4) {
+                float* out = &scores[base + i];
+                if constexpr (IsL2) {
+                    faiss::fvec_L2sqr_batch_4(queryPtr,
+                                              reinterpret_cast<const float*>(vectors[i]),
+                                              reinterpret_cast<const float*>(vectors[i + 1]),
+                                              reinterpret_cast<const float*>(vectors[i + 2]),
+                                              reinterpret_cast<const float*>(vectors[i + 3]),
+                                              dim, out[0], out[1], out[2], out[3]);
+                } else {
+                    faiss::fvec_inner_product_batch_4(queryPtr,
+                                                      reinterpret_cast<const float*>(vectors[i]),
+                                                      reinterpret_cast<const float*>(vectors[i + 1]),
+                                                      reinterpret_cast<const float*>(vectors[i + 2]),
+                                                      reinterpret_cast<const float*>(vectors[i + 3]),
+                                                      dim, out[0], out[1], out[2], out[3]);
+                }
+            }
+
+            // Tail loop for remaining vectors
+            for (; i < batchSize ; ++i) {
+                scores[base + i] = distance(queryPtr, reinterpret_cast<const float*>(vectors[i]), dim);
+            }
+        }
+
+        // Transform score values to Lucene's score scheme
+        BulkScoreTransformFunc(scores, numVectors);
+    }
+
+    float calculateSimilarity(SimdVectorSearchContext* srchContext, const int32_t internalVectorId) final {
+        const auto* vector = reinterpret_cast<const float*>(srchContext->getVectorPointer(internalVectorId));
+        knn_jni::util::ParameterCheck::require_non_null(vector, "vector from getVectorPointer");
+        const auto* queryPtr = reinterpret_cast<const float*>(srchContext->queryVectorSimdAligned);
+        return ScoreTransformFunc(distance(queryPtr, vector, static_cast<size_t>(srchContext->dimension)));
+    }
+
+  private:
+    static float distance(const float* query, const float* vector, const size_t dim) {
+        if constexpr (IsL2) {
+            return faiss::fvec_L2sqr(query, vector, dim);
+        } else {
+            return faiss::fvec_inner_product(query, vector, dim);
+        }
+    }
+};
+
+//
+// Scalar quantized vectors decoded by Faiss SQDistanceComputer (e.g. SQ8 direct signed)
+//
+template <BulkScoreTransform BulkScoreTransformFunc, ScoreTransform ScoreTransformFunc>
+struct SQSimilarityFunction final : BaseSimilarityFunction<BulkScoreTransformFunc, ScoreTransformFunc> {
+    void calculateSimilarityInBulk(SimdVectorSearchContext* srchContext,
+                                   int32_t* internalVectorIds,
+                                   float* scores,
+                                   const int32_t numVectors) final {
+        // Prepare similarity calculation
+        auto func = dynamic_cast<faiss::ScalarQuantizer::SQDistanceComputer*>(srchContext->faissFunction.get());
+        knn_jni::util::ParameterCheck::require_non_null(
+            func, "Unexpected distance function acquired. Expected SQDistanceComputer, but it was something else");
+        uint8_t* vectors[GENERIC_SIMIL_FUNC_BATCH_SIZE];
+
+        for (int32_t base = 0 ; base < numVectors ; base += GENERIC_SIMIL_FUNC_BATCH_SIZE) {
+            const int32_t batchSize = std::min(GENERIC_SIMIL_FUNC_BATCH_SIZE, numVectors - base);
+            getVectorPointersAndPrefetch(srchContext, vectors, &internalVectorIds[base], batchSize);
+            for (int32_t i = 0 ; i < batchSize ; ++i) {
+                scores[base + i] = func->query_to_code(vectors[i]);
+            }
+        }
+
+        // Transform score values to Lucene's score scheme
+        BulkScoreTransformFunc(scores, numVectors);
+    }
+};
+
+//
+// FP32
+//
+// 1. Max IP
+FP32SimilarityFunction<FaissScoreToLuceneScoreTransform::ipToMaxIpTransformBulk, FaissScoreToLuceneScoreTransform::ipToMaxIpTransform, false> FP32_MAX_INNER_PRODUCT_SIMIL_FUNC;
+// 2. L2
+FP32SimilarityFunction<FaissScoreToLuceneScoreTransform::l2TransformBulk, FaissScoreToLuceneScoreTransform::l2Transform, true> FP32_L2_SIMIL_FUNC;
+
+//
+// SQ8 direct signed
+//
+// 1. Max IP
+SQSimilarityFunction<FaissScoreToLuceneScoreTransform::ipToMaxIpTransformBulk, FaissScoreToLuceneScoreTransform::ipToMaxIpTransform> SQ8_DIRECT_SIGNED_MAX_INNER_PRODUCT_SIMIL_FUNC;
+// 2. L2
+SQSimilarityFunction<FaissScoreToLuceneScoreTransform::l2TransformBulk, FaissScoreToLuceneScoreTransform::l2Transform> SQ8_DIRECT_SIGNED_L2_SIMIL_FUNC;
+
+// Returns a platform independent similarity function for the given type, or nullptr if the platform has to provide it.
+inline SimilarityFunction* selectGenericSimilarityFunction(const NativeSimilarityFunctionType nativeFunctionType) {
+    switch (nativeFunctionType) {
+        case NativeSimilarityFunctionType::FP32_MAXIMUM_INNER_PRODUCT:
+            return &FP32_MAX_INNER_PRODUCT_SIMIL_FUNC;
+        case NativeSimilarityFunctionType::FP32_L2:
+            return &FP32_L2_SIMIL_FUNC;
+        case NativeSimilarityFunctionType::SQ8_DIRECT_SIGNED_MAXIMUM_INNER_PRODUCT:
+            return &SQ8_DIRECT_SIGNED_MAX_INNER_PRODUCT_SIMIL_FUNC;
+        case NativeSimilarityFunctionType::SQ8_DIRECT_SIGNED_L2:
+            return &SQ8_DIRECT_SIGNED_L2_SIMIL_FUNC;
+        default:
+            return nullptr;
+    }
+}
@@ -1,3 +1,4 @@
+#include <algorithm>
 #include <cstdlib>
 #include <cstring>
 #include <stdexcept>
@@ -38,6 +39,10 @@ inline void free_aligned_memory(void* ptr) {
 //
 // SimdVectorSearchContext
 //
+
+// The largest number of vectors looked up at once by the similarity functions.
+constexpr int32_t MAX_VECTORS_PER_BULK_LOOKUP = 64;
+
 void SimdVectorSearchContext::getVectorPointersInBulk(uint8_t* vectors[], int32_t* internalVectorIds, int32_t numVectors) {
     if (LIKELY(mmapPages.size() == 1)) {
         // Fast case, there's only one mmap area.
@@ -56,8 +61,9 @@ void SimdVectorSearchContext::getVectorPointersInBulk(uint8_t* vectors[], int32_
 
     // There are multiple mapped regions.
     if (mmapPages.empty() == false) {
+        resetTmpBuffer(numVectors);
         for (int32_t i = 0 ; i < numVectors ; ++i) {
-            vectors[i] = getVectorPointer(internalVectorIds[i]);
+            vectors[i] = locateVectorPointer(internalVectorIds[i]);
         }
         return;
     }  // End if
@@ -72,83 +78,99 @@ uint8_t* SimdVectorSearchContext::getVectorPointer(const int32_t internalVectorI
     }
 
     if (mmapPages.empty() == false) {
-        // Acquire offsets
-        const uint64_t startOffset = oneVectorByteSize * internalVectorId;
-        const uint64_t endOffsetInclusive = startOffset + oneVectorByteSize - 1;
-
-        // Find region having the vector.
-        uint64_t regionStartOffset = 0;
-        for (int32_t j = 0 ; j < mmapPageSizes.size() ; ++j) {
-            // Note that mmapPageSizes[j] is the endOffset (exclusive) of a region.
-            // Therefore, in turn, mmapPageSizes[j - 1] is the starting offset of mmapPageSizes[j] where
-            // j > 0, if j == 0, 0 would be the start offset.
-            if (startOffset < mmapPageSizes[j]) {
-                // Found the first region having the vector.
-                // At the worst case, one vector can span across two mapped regions.
-
-                const uint64_t relativeOffsetInFirstRegion = (startOffset - regionStartOffset);
-
-                if (endOffsetInclusive < mmapPageSizes[j]) {
-                    // Nice! This region has the entire vector intact.
-                    return reinterpret_cast<uint8_t*>(mmapPages[j]) + relativeOffsetInFirstRegion;
-                } else {
-                    // Prevent seg-fault, this should not happen but it's better to throw an exception than
-                    // halting a process.
-                    if (UNLIKELY((j + 1) >= mmapPageSizes.size() || (j + 1) >= mmapPages.size())) {
-                        throw std::runtime_error(
+        resetTmpBuffer(1);
+        return locateVectorPointer(internalVectorId);
+    }
+
+    throw std::runtime_error("Search context has not been initialized, mmapPages was empty.");
+}
+
+void SimdVectorSearchContext::resetTmpBuffer(const int32_t numVectors) {
+    // Vectors copied by a previous lookup are no longer in use. Make sure there is enough room for every vector of this lookup
+    // to straddle two regions, so that growing the buffer never invalidates pointers acquired earlier in the same lookup.
+    // This only allocates if the lookup is larger than what `saveSearchContext` reserved.
+    tmpBuffer.clear();
+    const size_t requiredSize = static_cast<size_t>(numVectors) * (oneVectorByteSize + 1);
+    if (UNLIKELY(tmpBuffer.capacity() < requiredSize)) {
+        tmpBuffer.reserve(requiredSize);
+    }
+}
+
+uint8_t* SimdVectorSearchContext::locateVectorPointer(const int32_t internalVectorId) {
+    // Acquire offsets
+    const uint64_t startOffset = oneVectorByteSize * internalVectorId;
+    const uint64_t endOffsetInclusive = startOffset + oneVectorByteSize - 1;
+
+    // Find region having the vector.
+    uint64_t regionStartOffset = 0;
+    for (int32_t j = 0 ; j < mmapPageSizes.size() ; ++j) {
+        // Note that mmapPageSizes[j] is the endOffset (exclusive) of a region.
+        // Therefore, in turn, mmapPageSizes[j - 1] is the starting offset of mmapPageSizes[j] where
+        // j > 0, if j == 0, 0 would be the start offset.
+        if (startOffset < mmapPageSizes[j]) {
+            // Found the first region having the vector.
+            // At the worst case, one vector can span across two mapped regions.
+
+            const uint64_t relativeOffsetInFirstRegion = (startOffset - regionStartOffset);
+
+            if (endOffsetInclusive < mmapPageSizes[j]) {
+                // Nice! This region has the entire vector intact.
+                return reinterpret_cast<uint8_t*>(mmapPages[j]) + relativeOffsetInFirstRegion;
+            } else {
+                // Prevent seg-fault, this should not happen but it's better to throw an exception than
+                // halting a process.
+                if (UNLIKELY((j + 1) >= mmapPageSizes.size() || (j + 1) >= mmapPages.size())) {
+                    throw std::runtime_error(
+                    std::string("One vector[vid=") + std::to_string(internalVectorId)
+                    + "] straddle two regions(" + std::to_string(j) + "th and " + std::to_string(j + 1)
+                    + "th), but there was no next region. We had " + std::to_string(mmapPageSizes.size()) + " regions.");
+                }
+
+                // No luck, one vector spans across two mapped regions.
+                // We need to copy vectors into a temp buffer having continuous space.
+                // Make sure the vector to have an even address.
+                const int32_t padding = tmpBuffer.size() & 1;
+                const int32_t copyDestIndex = tmpBuffer.size() + padding;
+                tmpBuffer.resize(tmpBuffer.size() + padding + oneVectorByteSize);
+
+                // Copy the first part
+                const int32_t firstPartSize = mmapPageSizes[j] - startOffset;
+                std::memcpy(&tmpBuffer[copyDestIndex],
+                            reinterpret_cast<uint8_t*>(mmapPages[j]) + relativeOffsetInFirstRegion, firstPartSize);
+
+                // Copy the second part
+                const int32_t secondPartSize = oneVectorByteSize - firstPartSize;
+                if (UNLIKELY(secondPartSize > mmapPageSizes[j + 1])) {
+                    throw std::runtime_error(
                         std::string("One vector[vid=") + std::to_string(internalVectorId)
                         + "] straddle two regions(" + std::to_string(j) + "th and " + std::to_string(j + 1)
-                        + "th), but there was no next region. We had " + std::to_string(mmapPageSizes.size()) + " regions.");
-                    }
-
-                    // No luck, one vector spans across two mapped regions.
-                    // We need to copy vectors into a temp buffer having continuous space.
-                    // Make sure the vector to have an even address.
-                    const int32_t padding = tmpBuffer.size() & 1;
-                    const int32_t copyDestIndex = tmpBuffer.size() + padding;
-                    tmpBuffer.resize(tmpBuffer.size() + padding + oneVectorByteSize);
-
-                    // Copy the first part
-                    const int32_t firstPartSize = mmapPageSizes[j] - startOffset;
-                    std::memcpy(&tmpBuffer[copyDestIndex],
-                                reinterpret_cast<uint8_t*>(mmapPages[j]) + relativeOffsetInFirstRegion, firstPartSize);
-
-                    // Copy the second part
-                    const int32_t secondPartSize = oneVectorByteSize - firstPartSize;
-                    if (UNLIKELY(secondPartSize > mmapPageSizes[j + 1])) {
-                        throw std::runtime_error(
-                            std::string("One vector[vid=") + std::to_string(internalVectorId)
-                            + "] straddle two regions(" + std::to_string(j) + "th and " + std::to_string(j + 1)
-                            + "th), but the second part of the vector size=" + std::to_string(secondPartSize)
-                            + " exceeds the second region size=" + std::to_string(mmapPageSizes[j + 1]));
-                    }
-                    std::memcpy(&tmpBuffer[copyDestIndex + firstPartSize],
-                                reinterpret_cast<uint8_t*>(mmapPages[j + 1]), secondPartSize);
-
-                    // Set the pointer pointing temp buffer.
-                    return &tmpBuffer[copyDestIndex];
-                }  // End if
+                        + "th), but the second part of the vector size=" + std::to_string(secondPartSize)
+                        + " exceeds the second region size=" + std::to_string(mmapPageSizes[j + 1]));
+                }
+                std::memcpy(&tmpBuffer[copyDestIndex + firstPartSize],
+                            reinterpret_cast<uint8_t*>(mmapPages[j + 1]), secondPartSize);
+
+                // Set the pointer pointing temp buffer.
+                return &tmpBuffer[copyDestIndex];
             }  // End if
+        }  // End if
 
-            // mmapPageSizes[j] is the starting offset of mmapPageSizes[j + 1]
-            regionStartOffset = mmapPageSizes[j];
-        }  // End for
+        // mmapPageSizes[j] is the starting offset of mmapPageSizes[j + 1]
+        regionStartOffset = mmapPageSizes[j];
+    }  // End for
 
-        // Should not happen, region must be found
-        std::string errorMsg = std::string("Mapped region for vector(vid=") + std::to_string(internalVectorId) + ") was not found. ";
-        errorMsg += "#mmapPageSizes=" + std::to_string(mmapPageSizes.size()) + ", [";
-        for (auto pageSize : mmapPageSizes) {
-            errorMsg += std::to_string(pageSize) + ", ";
-        }
-        errorMsg += "], #mmapPages=" + std::to_string(mmapPages.size()) + ", [";
-        for (auto pagePtr : mmapPages) {
-            errorMsg += std::to_string(reinterpret_cast<uint64_t>(pagePtr)) + ", ";
-        }
-        errorMsg += "]";
-        throw std::runtime_error(std::move(errorMsg));
-    }  // End if
-
-    throw std::runtime_error("Search context has not been initialized, mmapPages was empty.");
+    // Should not happen, region must be found
+    std::string errorMsg = std::string("Mapped region for vector(vid=") + std::to_string(internalVectorId) + ") was not found. ";
+    errorMsg += "#mmapPageSizes=" + std::to_string(mmapPageSizes.size()) + ", [";
+    for (auto pageSize : mmapPageSizes) {
+        errorMsg += std::to_string(pageSize) + ", ";
+    }
+    errorMsg += "], #mmapPages=" + std::to_string(mmapPages.size()) + ", [";
+    for (auto pagePtr : mmapPages) {
+        errorMsg += std::to_string(reinterpret_cast<uint64_t>(pagePtr)) + ", ";
+    }
+    errorMsg += "]";
+    throw std::runtime_error(std::move(errorMsg));
 }
 
 SimdVectorSearchContext::~SimdVectorSearchContext() {
@@ -172,9 +194,6 @@ SimdVectorSearchContext* SimilarityFunction::saveSearchContext(
            int64_t* mmapAddressAndSize,
            int32_t numAddressAndSize,
            int32_t nativeFunctionTypeOrd) {
-    // Free tmp buffer
-    THREAD_LOCAL_SIMD_VEC_SRCH_CTX.tmpBuffer = {};
-
     // Allocate query vector space
     if (THREAD_LOCAL_SIMD_VEC_SRCH_CTX.queryVectorByteSize < queryByteSize) {
         // We need to allocate or re-allocate the space.
@@ -201,43 +220,58 @@ SimdVectorSearchContext* SimilarityFunction::saveSearchContext(
     std::memcpy(THREAD_LOCAL_SIMD_VEC_SRCH_CTX.queryVectorSimdAligned, queryPtr, queryByteSize);
 
     // Set similarity function
-    if (nativeFunctionTypeOrd == static_cast<int32_t>(NativeSimilarityFunctionType::FP16_MAXIMUM_INNER_PRODUCT)) {
-        // Set similarity function to offload similarity calculation
-        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.similarityFunction = selectSimilarityFunction(
-            NativeSimilarityFunctionType::FP16_MAXIMUM_INNER_PRODUCT);
-
-        // FP16 vector bytes = 2bytes * dimension
-        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.oneVectorByteSize = 2 * dimension;
-
-        // Reset Faiss function for single vector similarity calculation
-        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.faissFunction.reset(
-             faiss::ScalarQuantizer {static_cast<size_t>(dimension), faiss::ScalarQuantizer::QuantizerType::QT_fp16}
-                                    .get_distance_computer(faiss::MetricType::METRIC_INNER_PRODUCT));
-
-        // Assign query to Faiss function
-        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.faissFunction->set_query(
-            reinterpret_cast<float*>(THREAD_LOCAL_SIMD_VEC_SRCH_CTX.queryVectorSimdAligned));
-    } else if (nativeFunctionTypeOrd == static_cast<int32_t>(NativeSimilarityFunctionType::FP16_L2)) {
-        // Set similarity function to offload similarity calculation
-        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.similarityFunction = selectSimilarityFunction(
-            NativeSimilarityFunctionType::FP16_L2);
-
-        // FP16 vector bytes = 2bytes * dimension
-        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.oneVectorByteSize = 2 * dimension;
-
-        // Reset Faiss function for single vector similarity calculation
-        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.faissFunction.reset(
-            faiss::ScalarQuantizer {static_cast<size_t>(dimension), faiss::ScalarQuantizer::QuantizerType::QT_fp16}
-                                   .get_distance_computer(faiss::MetricType::METRIC_L2));
-
-        // Assign query to Faiss function
-        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.faissFunction->set_query(
-            reinterpret_cast<float*>(THREAD_LOCAL_SIMD_VEC_SRCH_CTX.queryVectorSimdAligned));
-    } else {
+    if (nativeFunctionTypeOrd < static_cast<int32_t>(NativeSimilarityFunctionType::FP16_MAXIMUM_INNER_PRODUCT)
+        || nativeFunctionTypeOrd > static_cast<int32_t>(NativeSimilarityFunctionType::SQ8_DIRECT_SIGNED_L2)) {
         throw std::runtime_error(
             std::string("Invalid native similarity function type was given, nativeFunctionTypeOrd=")
             + std::to_string(nativeFunctionTypeOrd));
     }
+    const auto nativeFunctionType = static_cast<NativeSimilarityFunctionType>(nativeFunctionTypeOrd);
+
+    // Set similarity function to offload similarity calculation
+    THREAD_LOCAL_SIMD_VEC_SRCH_CTX.similarityFunction = selectSimilarityFunction(nativeFunctionType);
+
+    switch (nativeFunctionType) {
+        case NativeSimilarityFunctionType::FP16_MAXIMUM_INNER_PRODUCT:
+        case NativeSimilarityFunctionType::FP16_L2:
+            // FP16 vector bytes = 2bytes * dimension
+            THREAD_LOCAL_SIMD_VEC_SRCH_CTX.oneVectorByteSize = 2 * dimension;
+
+            // Reset Faiss function for single vector similarity calculation
+            THREAD_LOCAL_SIMD_VEC_SRCH_CTX.faissFunction.reset(
+                faiss::ScalarQuantizer {static_cast<size_t>(dimension), faiss::ScalarQuantizer::QuantizerType::QT_fp16}
+                    .get_distance_computer(
+                        nativeFunctionType == NativeSimilarityFunctionType::FP16_L2
+                            ? faiss::MetricType::METRIC_L2 : faiss::MetricType::METRIC_INNER_PRODUCT));
+            break;
+        case NativeSimilarityFunctionType::FP32_MAXIMUM_INNER_PRODUCT:
+        case NativeSimilarityFunctionType::FP32_L2:
+            // FP32 vector bytes = 4bytes * dimension
+            THREAD_LOCAL_SIMD_VEC_SRCH_CTX.oneVectorByteSize = 4 * dimension;
+
+            // FP32 vectors are compared with the query as is, no Faiss decoding function is required.
+            THREAD_LOCAL_SIMD_VEC_SRCH_CTX.faissFunction.reset();
+            break;
+        case NativeSimilarityFunctionType::SQ8_DIRECT_SIGNED_MAXIMUM_INNER_PRODUCT:
+        case NativeSimilarityFunctionType::SQ8_DIRECT_SIGNED_L2:
+            // One byte per element
+            THREAD_LOCAL_SIMD_VEC_SRCH_CTX.oneVectorByteSize = dimension;
+
+            // Reset Faiss function for single vector similarity calculation
+            THREAD_LOCAL_SIMD_VEC_SRCH_CTX.faissFunction.reset(
+                faiss::ScalarQuantizer {static_cast<size_t>(dimension),
+                                        faiss::ScalarQuantizer::QuantizerType::QT_8bit_direct_signed}
+                    .get_distance_computer(
+                        nativeFunctionType == NativeSimilarityFunctionType::SQ8_DIRECT_SIGNED_L2
+                            ? faiss::MetricType::METRIC_L2 : faiss::MetricType::METRIC_INNER_PRODUCT));
+            break;
+    }
+
+    // Assign query to Faiss function
+    if (THREAD_LOCAL_SIMD_VEC_SRCH_CTX.faissFunction) {
+        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.faissFunction->set_query(
+            reinterpret_cast<float*>(THREAD_LOCAL_SIMD_VEC_SRCH_CTX.queryVectorSimdAligned));
+    }
 
     // Assign native function ord number
     THREAD_LOCAL_SIMD_VEC_SRCH_CTX.nativeFunctionTypeOrd = nativeFunctionTypeOrd;
@@ -261,6 +295,16 @@ SimdVectorSearchContext* SimilarityFunction::saveSearchContext(
         THREAD_LOCAL_SIMD_VEC_SRCH_CTX.mmapPageSizes[i] += THREAD_LOCAL_SIMD_VEC_SRCH_CTX.mmapPageSizes[i - 1];
     }
 
+    // Size tmp buffer once for the largest bulk lookup, it is reused by every lookup of this search.
+    if (THREAD_LOCAL_SIMD_VEC_SRCH_CTX.mmapPages.size() > 1) {
+        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.tmpBuffer.clear();
+        THREAD_LOCAL_SIMD_VEC_SRCH_CTX.tmpBuffer.reserve(
+            static_cast<size_t>(MAX_VECTORS_PER_BULK_LOOKUP) * (THREAD_LOCAL_SIMD_VEC_SRCH_CTX.oneVectorByteSize + 1));
+    } else {
+        // Vectors are never copied, free the buffer a previous search may have left behind.
+        std::vector<uint8_t>().swap(THREAD_LOCAL_SIMD_VEC_SRCH_CTX.tmpBuffer);
+    }
+
     // Return thread_local object
     return &THREAD_LOCAL_SIMD_VEC_SRCH_CTX;
 }
@@ -269,6 +313,26 @@ SimdVectorSearchContext* SimilarityFunction::getSearchContext() {
     return &THREAD_LOCAL_SIMD_VEC_SRCH_CTX;
 }
 
+// Acquire pointers of the given vectors, then issue prefetches for the leading cache lines of all of them before any
+// similarity is computed. This keeps the loads of all vectors in flight together instead of stalling on them one by one,
+// which matters once the mmapped vectors are not in CPU caches.
+inline void getVectorPointersAndPrefetch(SimdVectorSearchContext* srchContext,
+                                         uint8_t* vectors[],
+                                         int32_t* internalVectorIds,
+                                         const int32_t numVectors) {
+    srchContext->getVectorPointersInBulk(vectors, internalVectorIds, numVectors);
+
+    // Hardware prefetcher will pick up the rest of the vector once the first few lines were touched.
+    constexpr int64_t kCacheLineSize = 64;
+    constexpr int64_t kMaxPrefetchBytes = 4 * kCacheLineSize;
+    const int64_t prefetchBytes = std::min(srchContext->oneVectorByteSize, kMaxPrefetchBytes);
+    for (int32_t i = 0 ; i < numVectors ; ++i) {
+        for (int64_t offset = 0 ; offset < prefetchBytes ; offset += kCacheLineSize) {
+            KNN_PREFETCH_READ(vectors[i] + offset);
+        }
+    }
+}
+
 //
 // Similarity function base
 //
@@ -11,9 +11,12 @@
 
 
 #include "faiss_index_service.h"
+#include "faiss/IndexHNSW.h"
+#include "faiss/IndexIDMap.h"
 #include "mocks/faiss_methods_mock.h"
 #include "mocks/faiss_index_mock.h"
 #include "test_util.h"
+#include <algorithm>
 #include <vector>
 #include "gmock/gmock.h"
 #include "gtest/gtest.h"
@@ -160,4 +163,43 @@ TEST(CreateByteIndexTest, BasicAssertions) {
     long indexAddress = indexService.initIndex(&mockJNIUtil, jniEnv, metricType, indexDescription, dim, numIds, threadCount, parametersMap);
     indexService.insertToIndex(dim, numIds, threadCount, (int64_t) &vectors, ids, indexAddress);
     indexService.writeIndex(&fileIOWriter, indexAddress);
-}
\ No newline at end of file
+}
+TEST(ReorderIndexTest, BasicAssertions) {
+    // Define the data
+    faiss::idx_t numIds = 200;
+    std::vector<faiss::idx_t> ids;
+    std::vector<float> vectors;
+    int dim = 4;
+    vectors.reserve(dim * numIds);
+    for (int64_t i = 0; i < numIds; ++i) {
+        ids.push_back(i * 3);
+        for (int j = 0; j < dim; ++j) {
+            vectors.push_back(test_util::RandomFloat(-500.0, 500.0));
+        }
+    }
+
+    faiss::IndexHNSWFlat* index = new faiss::IndexHNSWFlat(dim, 8);
+    faiss::IndexIDMap idMap(index);
+    idMap.own_fields = true;
+    idMap.add_with_ids(numIds, vectors.data(), ids.data());
+
+    // Search every vector before and after reordering, doc ids must not change.
+    int k = 5;
+    std::vector<float> distancesBefore(k * numIds), distancesAfter(k * numIds);
+    std::vector<faiss::idx_t> labelsBefore(k * numIds), labelsAfter(k * numIds);
+    idMap.search(numIds, vectors.data(), k, distancesBefore.data(), labelsBefore.data());
+
+    std::unique_ptr<MockFaissMethods> mockFaissMethods(new MockFaissMethods());
+    knn_jni::faiss_wrapper::IndexService indexService(std::move(mockFaissMethods));
+    indexService.reorderIndex((jlong) &idMap);
+
+    // Entry point is renumbered to 0, and the id map follows the permutation.
+    ASSERT_EQ(0, index->hnsw.entry_point);
+    std::vector<faiss::idx_t> sortedIds(idMap.id_map.begin(), idMap.id_map.end());
+    std::sort(sortedIds.begin(), sortedIds.end());
+    ASSERT_EQ(ids, sortedIds);
+
+    idMap.search(numIds, vectors.data(), k, distancesAfter.data(), labelsAfter.data());
+    ASSERT_EQ(labelsBefore, labelsAfter);
+    ASSERT_EQ(distancesBefore, distancesAfter);
+}
@@ -996,6 +996,82 @@ TEST(FaissTrainIndexTest, BasicAssertions) {
     ASSERT_TRUE(trainedIndex->is_trained);
 }
 
+TEST(FaissTrainIndexTest, WithIVFCentroids) {
+    // Define the index configuration
+    int dim = 2;
+    std::string spaceType = knn_jni::L2;
+    std::string index_description = "IVF4,Flat";
+    std::vector<std::vector<float>> centroids = {{0, 0}, {0, 1}, {1, 0}, {1, 1}};
+
+    std::unordered_map<std::string, jobject> parametersMap;
+    parametersMap[knn_jni::SPACE_TYPE] = (jobject) &spaceType;
+    parametersMap[knn_jni::INDEX_DESCRIPTION] = (jobject) &index_description;
+    parametersMap[knn_jni::IVF_CENTROIDS] = (jobject) &centroids;
+
+    // Define training data
+    int numTrainingVectors = 256;
+    std::vector<float> trainingVectors = test_util::RandomVectors(dim, numTrainingVectors, randomDataMin, randomDataMax);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    // Perform training
+    std::unique_ptr<std::vector<uint8_t>> trainedIndexSerialization(
+            reinterpret_cast<std::vector<uint8_t> *>(
+                    knn_jni::faiss_wrapper::TrainIndex(
+                            &mockJNIUtil, &jniEnv, (jobject) &parametersMap, dim,
+                            reinterpret_cast<jlong>(&trainingVectors))));
+
+    std::unique_ptr<faiss::Index> trainedIndex(
+            test_util::FaissLoadFromSerializedIndex(trainedIndexSerialization.get()));
+
+    // Confirm that the given centroids were kept instead of being trained again
+    ASSERT_TRUE(trainedIndex->is_trained);
+    auto * indexIvf = dynamic_cast<faiss::IndexIVF*>(trainedIndex.get());
+    ASSERT_NE(nullptr, indexIvf);
+    ASSERT_EQ(centroids.size(), indexIvf->quantizer->ntotal);
+    std::vector<float> centroid(dim);
+    for (int i = 0; i < centroids.size(); i++) {
+        indexIvf->quantizer->reconstruct(i, centroid.data());
+        ASSERT_EQ(centroids[i], centroid);
+    }
+}
+
+TEST(FaissTrainIndexTest, WithIVFCentroidsAndNoTrainingVectors) {
+    // Define the index configuration. The flat encoder has nothing to train once the coarse quantizer is seeded.
+    int dim = 2;
+    std::string spaceType = knn_jni::L2;
+    std::string index_description = "IVF4,Flat";
+    std::vector<std::vector<float>> centroids = {{0, 0}, {0, 1}, {1, 0}, {1, 1}};
+
+    std::unordered_map<std::string, jobject> parametersMap;
+    parametersMap[knn_jni::SPACE_TYPE] = (jobject) &spaceType;
+    parametersMap[knn_jni::INDEX_DESCRIPTION] = (jobject) &index_description;
+    parametersMap[knn_jni::IVF_CENTROIDS] = (jobject) &centroids;
+
+    std::vector<float> trainingVectors;
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    // Perform training
+    std::unique_ptr<std::vector<uint8_t>> trainedIndexSerialization(
+            reinterpret_cast<std::vector<uint8_t> *>(
+                    knn_jni::faiss_wrapper::TrainIndex(
+                            &mockJNIUtil, &jniEnv, (jobject) &parametersMap, dim,
+                            reinterpret_cast<jlong>(&trainingVectors))));
+
+    std::unique_ptr<faiss::Index> trainedIndex(
+            test_util::FaissLoadFromSerializedIndex(trainedIndexSerialization.get()));
+
+    ASSERT_TRUE(trainedIndex->is_trained);
+    auto * indexIvf = dynamic_cast<faiss::IndexIVF*>(trainedIndex.get());
+    ASSERT_NE(nullptr, indexIvf);
+    ASSERT_EQ(centroids.size(), indexIvf->quantizer->ntotal);
+}
+
 TEST(FaissTrainByteIndexTest, BasicAssertions) {
     // Define the index configuration
     int dim = 2;
@@ -1443,6 +1519,82 @@ TEST(FaissRangeSearchQueryIndexTestWithParentFilterTest, BasicAssertions) {
         }
     }
 }
+TEST(FaissLoadIndexForMergeTest, RenumbersIdsAndAcceptsNewVectors) {
+    int dim = 2;
+    faiss::idx_t numIds = 20;
+    std::vector<faiss::idx_t> ids;
+    for (int64_t i = 0; i < numIds; ++i) {
+        ids.push_back(i);
+    }
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    std::unique_ptr<faiss::Index> createdIndex(test_util::FaissCreateIndex(dim, "HNSW16,Flat", faiss::METRIC_L2));
+    auto createdIndexWithData = test_util::FaissAddData(createdIndex.get(), ids, vectors);
+    auto serializedIndex = test_util::FaissGetSerializedIndex(&createdIndexWithData);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    // Ids are shifted as if the segment was merged after another one
+    std::vector<int64_t> newIds;
+    for (int64_t i = 0; i < numIds; ++i) {
+        newIds.push_back(i + 100);
+    }
+    faiss::VectorIOReader vectorIoReader;
+    vectorIoReader.data = serializedIndex.data;
+    std::unique_ptr<faiss::IndexIDMap> loadedIndex(reinterpret_cast<faiss::IndexIDMap *>(
+        knn_jni::faiss_wrapper::LoadIndexForMerge(&mockJNIUtil, &jniEnv, &vectorIoReader, reinterpret_cast<jintArray>(&newIds))));
+
+    ASSERT_EQ(numIds, loadedIndex->ntotal);
+    for (int64_t i = 0; i < numIds; ++i) {
+        ASSERT_EQ(i + 100, loadedIndex->id_map[i]);
+    }
+
+    // Vectors of the other segments are added to the loaded graph
+    std::vector<faiss::idx_t> otherIds = {0, 1};
+    std::vector<float> otherVectors = test_util::RandomVectors(dim, otherIds.size(), randomDataMin, randomDataMax);
+    loadedIndex->add_with_ids(otherIds.size(), otherVectors.data(), otherIds.data());
+    ASSERT_EQ(numIds + otherIds.size(), loadedIndex->ntotal);
+
+    // An id without new id, like a deleted doc, is rejected
+    newIds[3] = -1;
+    faiss::VectorIOReader otherVectorIoReader;
+    otherVectorIoReader.data = serializedIndex.data;
+    ASSERT_THROW(
+        knn_jni::faiss_wrapper::LoadIndexForMerge(&mockJNIUtil, &jniEnv, &otherVectorIoReader, reinterpret_cast<jintArray>(&newIds)),
+        std::runtime_error);
+}
+
+TEST(FaissLoadIndexForMergeTest, RejectsCagraIndex) {
+    int dim = 2;
+    faiss::idx_t numIds = 20;
+    std::vector<faiss::idx_t> ids;
+    for (int64_t i = 0; i < numIds; ++i) {
+        ids.push_back(i);
+    }
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    std::unique_ptr<faiss::Index> createdIndex(test_util::FaissCreateIndex(dim, "HNSW16,Cagra", faiss::METRIC_L2));
+    auto createdIndexWithData = test_util::FaissAddData(createdIndex.get(), ids, vectors);
+    dynamic_cast<faiss::IndexHNSWCagra *>(createdIndexWithData.index)->base_level_only = true;
+    auto serializedIndex = test_util::FaissGetSerializedIndex(&createdIndexWithData);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    std::vector<int64_t> newIds;
+    for (int64_t i = 0; i < numIds; ++i) {
+        newIds.push_back(i);
+    }
+    faiss::VectorIOReader vectorIoReader;
+    vectorIoReader.data = serializedIndex.data;
+    ASSERT_THROW(
+        knn_jni::faiss_wrapper::LoadIndexForMerge(&mockJNIUtil, &jniEnv, &vectorIoReader, reinterpret_cast<jintArray>(&newIds)),
+        std::runtime_error);
+}
+
 TEST(FaissLoadIndexWithStreamADCTest, HandlesCorruptedBinaryIndex) {
     // Create invalid/corrupted data
     std::vector<uint8_t> corruptedData = {0x00, 0x01, 0x02, 0x03, 0x04};
@@ -64,6 +64,9 @@ public class KNNConstants {
 
     public static final String KNN_THREAD_POOL_PREFIX = "knn";
     public static final String TRAIN_THREAD_POOL = "training";
+    public static final String GRAPH_LOAD_THREAD_POOL = "graph_load";
+    public static final String INDEX_BUILD_THREAD_POOL = "index_build";
+    public static final String VECTOR_TRANSFER_THREAD_POOL = "vector_transfer";
 
     public static final String TRAINING_JOB_COUNT_FIELD_NAME = "training_job_count";
     public static final String NODES_KEY = "nodes";
@@ -120,6 +123,7 @@ public class KNNConstants {
     public static final String INDEX_DESCRIPTION_PARAMETER = "index_description";
     public static final String METHOD_ENCODER_PARAMETER = "encoder";
     public static final String METHOD_PARAMETER_NPROBES = "nprobes";
+    public static final String IVF_CENTROIDS = "ivf_centroids";
     public static final String ENCODER_FLAT = "flat";
     public static final String ENCODER_PQ = "pq";
     public static final String ENCODER_BINARY = "binary";
@@ -206,6 +210,7 @@ public class KNNConstants {
     public static final String VECTOR_FIELD_DATA_TYPE = "vector_field_data_type";
     public static final String VECTOR_FIELD_SPACE_TYPE = "vector_field_space_type";
     public static final String MMR_RERANK_CONTEXT = "mmr.rerank_context";
+    public static final String MMR_VECTOR_DOC_VALUES_FEATURE = "mmr_vector_doc_values_feature";
 
     // Bit manipulation constants for quantization
     public static final int BYTE_ALIGNMENT_MASK = 7; // Used for rounding up to nearest byte (Byte.SIZE - 1)
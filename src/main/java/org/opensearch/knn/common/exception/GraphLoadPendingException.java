@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.common.exception;
+
+/**
+ * Thrown when a graph is still being loaded into the native memory cache after the configured wait budget elapsed.
+ * Search falls back to exact search for the segment when this is thrown.
+ */
+public class GraphLoadPendingException extends RuntimeException {
+
+    /**
+     * Constructor
+     *
+     * @param message Exception message to be appended.
+     */
+    public GraphLoadPendingException(String message) {
+        super(message);
+    }
+}
@@ -103,6 +103,8 @@ public class KNNSettings {
     public static final String KNN_FAISS_AVX512_DISABLED = "knn.faiss.avx512.disabled";
     public static final String KNN_FAISS_AVX512_SPR_DISABLED = "knn.faiss.avx512_spr.disabled";
     public static final String KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED = "index.knn.disk.vector.shard_level_rescoring_disabled";
+    public static final String KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED = "index.knn.disk.vector.pipelined_rescoring_enabled";
+    public static final String KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED = "index.knn.disk.vector.adaptive_oversampling_enabled";
     public static final String KNN_DERIVED_SOURCE_ENABLED = "index.knn.derived_source.enabled";
     // Remote index build index settings
     public static final String KNN_INDEX_REMOTE_VECTOR_BUILD = "index.knn.remote_index_build.enabled";
@@ -124,6 +126,24 @@ public class KNNSettings {
      */
     public static final String MEMORY_OPTIMIZED_KNN_SEARCH_MODE = "index.knn.memory_optimized_search";
     public static final boolean DEFAULT_MEMORY_OPTIMIZED_KNN_SEARCH_MODE = false;
+    public static final String MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT = "knn.memory_optimized_search.neighbor_cache.limit";
+    public static final String KNN_GRAPH_LOAD_WAIT_BUDGET = "knn.graph_load.wait_budget";
+    public static final String KNN_CACHE_TIERING_ENABLED = "knn.cache.tiering.enabled";
+    public static final String KNN_CACHE_TIERING_PROMOTION_THRESHOLD = "knn.cache.tiering.promotion_threshold";
+    public static final String KNN_CACHE_TIERING_PROMOTION_WINDOW = "knn.cache.tiering.promotion_window";
+    public static final String INDEX_KNN_MEMORY_QUOTA = "index.knn.memory_quota";
+    public static final String KNN_CACHE_FAIR_EVICTION_ENABLED = "knn.cache.fair_eviction.enabled";
+    public static final String INDEX_KNN_GRAPH_REORDER_ENABLED = "index.knn.graph_reorder.enabled";
+    public static final String MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED = "knn.memory_optimized_search.prefetch.enabled";
+    public static final String MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED =
+        "knn.memory_optimized_search.random_access_hint.enabled";
+    public static final String KNN_EXACT_SEARCH_PARTITION_MIN_DOCS = "knn.exact_search.partition.min_docs";
+    public static final String KNN_TRAINING_SHARD_SAMPLING_ENABLED = "knn.training.shard_sampling.enabled";
+    public static final String KNN_TRAINING_DISTRIBUTED_IVF_ENABLED = "knn.training.distributed_ivf.enabled";
+    public static final String KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED = "knn.merge.segment_vector_values.enabled";
+    public static final String KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED = "knn.index_build.pipelined_transfer.enabled";
+    public static final String KNN_MERGE_INCREMENTAL_GRAPH_ENABLED = "knn.merge.incremental_graph.enabled";
+    public static final String KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED = "knn.index_build.concurrent_fields.enabled";
 
     /**
      * Default setting values
@@ -154,6 +174,8 @@ public class KNNSettings {
     // 10% of the JVM heap
     public static final Integer KNN_DEFAULT_QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES = 60;
     public static final boolean KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_VALUE = false;
+    public static final boolean KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED_DEFAULT_VALUE = false;
+    public static final boolean KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_DEFAULT_VALUE = false;
     public static final ByteSizeValue KNN_REMOTE_VECTOR_BUILD_SIZE_LIMIT_DEFAULT_VALUE = new ByteSizeValue(0, ByteSizeUnit.MB);
     // TODO: Tune this default value based on benchmarking
     public static final ByteSizeValue KNN_INDEX_REMOTE_VECTOR_BUILD_THRESHOLD_DEFAULT_VALUE = new ByteSizeValue(50, ByteSizeUnit.MB);
@@ -161,6 +183,26 @@ public class KNNSettings {
     // TODO: Tune these default values based on benchmarking
     public static final Integer KNN_DEFAULT_REMOTE_BUILD_CLIENT_TIMEOUT_MINUTES = 60;
     public static final Integer KNN_DEFAULT_REMOTE_BUILD_CLIENT_POLL_INTERVAL_SECONDS = 5;
+    public static final ByteSizeValue MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT_DEFAULT_VALUE = new ByteSizeValue(
+        0,
+        ByteSizeUnit.MB
+    );
+    public static final TimeValue KNN_GRAPH_LOAD_WAIT_BUDGET_DEFAULT_VALUE = TimeValue.MINUS_ONE;
+    public static final boolean KNN_CACHE_TIERING_ENABLED_DEFAULT_VALUE = false;
+    public static final int KNN_CACHE_TIERING_PROMOTION_THRESHOLD_DEFAULT_VALUE = 3;
+    public static final TimeValue KNN_CACHE_TIERING_PROMOTION_WINDOW_DEFAULT_VALUE = TimeValue.timeValueMinutes(1);
+    public static final ByteSizeValue INDEX_KNN_MEMORY_QUOTA_DEFAULT_VALUE = new ByteSizeValue(-1);
+    public static final boolean KNN_CACHE_FAIR_EVICTION_ENABLED_DEFAULT_VALUE = false;
+    public static final boolean INDEX_KNN_GRAPH_REORDER_ENABLED_DEFAULT_VALUE = false;
+    public static final boolean MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED_DEFAULT_VALUE = false;
+    public static final boolean MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED_DEFAULT_VALUE = true;
+    public static final int KNN_EXACT_SEARCH_PARTITION_MIN_DOCS_DEFAULT_VALUE = 100_000;
+    public static final boolean KNN_TRAINING_SHARD_SAMPLING_ENABLED_DEFAULT_VALUE = false;
+    public static final boolean KNN_TRAINING_DISTRIBUTED_IVF_ENABLED_DEFAULT_VALUE = false;
+    public static final boolean KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED_DEFAULT_VALUE = false;
+    public static final boolean KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_DEFAULT_VALUE = false;
+    public static final boolean KNN_MERGE_INCREMENTAL_GRAPH_ENABLED_DEFAULT_VALUE = false;
+    public static final boolean KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED_DEFAULT_VALUE = false;
 
     /**
      * Settings Definition
@@ -185,6 +227,30 @@ public class KNNSettings {
         Dynamic
     );
 
+    /**
+     * This setting controls whether disk-based vectors are rescored segment by segment, as soon as the first pass search of a segment
+     * is done, rather than once the first pass search of all segments is done. Rescoring then overlaps with the first pass search of
+     * other segments.
+     */
+    public static final Setting<Boolean> KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED_SETTING = Setting.boolSetting(
+        KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED,
+        KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED_DEFAULT_VALUE,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * This setting controls whether the first pass k of disk-based vectors is chosen per segment. Segments are first searched with a
+     * small oversample factor, which is only raised up to the configured one while the quantized scores of the last candidates are too
+     * close to the k-th best one to tell them apart.
+     */
+    public static final Setting<Boolean> KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_SETTING = Setting.boolSetting(
+        KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED,
+        KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_DEFAULT_VALUE,
+        IndexScope,
+        Dynamic
+    );
+
     // This setting controls how much memory should be used to transfer vectors from Java to JNI Layer. The default
     // 1% of the JVM heap
     public static final Setting<ByteSizeValue> KNN_VECTOR_STREAMING_MEMORY_LIMIT_PCT_SETTING = Setting.memorySizeSetting(
@@ -316,6 +382,207 @@ public class KNNSettings {
         IndexScope
     );
 
+    /**
+     * Maximum off-heap size of the decoded level-0 neighbor list caches of all FAISS HNSW graphs searched in memory optimized mode on a
+     * node. Caches are charged to the native memory cache and count against the k-NN circuit breaker. Defaults to 0, which disables the
+     * caches.
+     */
+    public static final Setting<ByteSizeValue> MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT_SETTING = Setting.byteSizeSetting(
+        MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT,
+        MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT_DEFAULT_VALUE,
+        NodeScope
+    );
+
+    /**
+     * How long a search waits for a graph that is not in the native memory cache to be loaded. Loads are done asynchronously on a
+     * dedicated thread pool and concurrent requests for the same graph share a single load. If the graph is not loaded within the budget,
+     * the segment is served with exact search while the load keeps going in the background. Defaults to -1, which loads the graph on the
+     * search thread and blocks until it is loaded.
+     */
+    public static final Setting<TimeValue> KNN_GRAPH_LOAD_WAIT_BUDGET_SETTING = Setting.timeSetting(
+        KNN_GRAPH_LOAD_WAIT_BUDGET,
+        KNN_GRAPH_LOAD_WAIT_BUDGET_DEFAULT_VALUE,
+        TimeValue.MINUS_ONE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, graphs evicted from the native memory cache because of weight pressure are not reloaded on the next search.
+     * Instead, the segment is searched through the memory optimized searcher on top of the mapped index file, as long as the field
+     * supports memory optimized search. The graph is promoted back into the cache once it has been searched
+     * {@link #KNN_CACHE_TIERING_PROMOTION_THRESHOLD} times within {@link #KNN_CACHE_TIERING_PROMOTION_WINDOW}.
+     */
+    public static final Setting<Boolean> KNN_CACHE_TIERING_ENABLED_SETTING = Setting.boolSetting(
+        KNN_CACHE_TIERING_ENABLED,
+        KNN_CACHE_TIERING_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Number of searches served memory optimized after which an evicted graph is loaded back into the native memory cache.
+     */
+    public static final Setting<Integer> KNN_CACHE_TIERING_PROMOTION_THRESHOLD_SETTING = Setting.intSetting(
+        KNN_CACHE_TIERING_PROMOTION_THRESHOLD,
+        KNN_CACHE_TIERING_PROMOTION_THRESHOLD_DEFAULT_VALUE,
+        1,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Time window in which an evicted graph has to reach {@link #KNN_CACHE_TIERING_PROMOTION_THRESHOLD} searches to be promoted. The
+     * count starts over once a window has passed, so that a graph searched only now and then stays in the warm tier.
+     */
+    public static final Setting<TimeValue> KNN_CACHE_TIERING_PROMOTION_WINDOW_SETTING = Setting.timeSetting(
+        KNN_CACHE_TIERING_PROMOTION_WINDOW,
+        KNN_CACHE_TIERING_PROMOTION_WINDOW_DEFAULT_VALUE,
+        TimeValue.timeValueMillis(1),
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Maximum size of native memory the graphs of an index can occupy in the cache of a node. When loading a graph would exceed the
+     * quota, the least recently used graphs of the same index are evicted first, so that the index does not push out graphs of other
+     * indices. The quota is soft, a graph larger than the quota is still loaded on its own. Defaults to -1, which means no quota.
+     */
+    public static final Setting<ByteSizeValue> INDEX_KNN_MEMORY_QUOTA_SETTING = Setting.byteSizeSetting(
+        INDEX_KNN_MEMORY_QUOTA,
+        INDEX_KNN_MEMORY_QUOTA_DEFAULT_VALUE,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, the native memory cache evicts graphs of the index using the largest fraction of its fair share first when it is
+     * full, instead of evicting in plain least recently used order. The fair share of an index is its
+     * {@link #INDEX_KNN_MEMORY_QUOTA} if set, while indices without a quota split the rest of the cache equally.
+     */
+    public static final Setting<Boolean> KNN_CACHE_FAIR_EVICTION_ENABLED_SETTING = Setting.boolSetting(
+        KNN_CACHE_FAIR_EVICTION_ENABLED,
+        KNN_CACHE_FAIR_EVICTION_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, FAISS HNSW graphs built on flush and merge renumber their vectors in breadth first order of the level-0 graph before
+     * being written, so that neighbors are stored close to each other in the file. This reduces the number of pages memory optimized
+     * search touches per hop, which matters when the page cache is much smaller than the vectors. Search results are not affected.
+     */
+    public static final Setting<Boolean> INDEX_KNN_GRAPH_REORDER_ENABLED_SETTING = Setting.boolSetting(
+        INDEX_KNN_GRAPH_REORDER_ENABLED,
+        INDEX_KNN_GRAPH_REORDER_ENABLED_DEFAULT_VALUE,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, memory optimized search asks the OS to read ahead the vectors and level-0 neighbor lists of every neighbor it is
+     * about to score during the graph traversal, so page faults of a cold graph are served concurrently instead of one by one.
+     * Changes apply to newly opened segments.
+     */
+    public static final Setting<Boolean> MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED_SETTING = Setting.boolSetting(
+        MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED,
+        MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, FAISS index files searched in memory optimized mode are opened with a random access hint, which disables the
+     * kernel read-ahead (madvise RANDOM) on mapped files. Disable it for storage where read-ahead pays off, e.g. graphs that mostly fit in
+     * the page cache. Changes apply to newly opened segments.
+     */
+    public static final Setting<Boolean> MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED_SETTING = Setting.boolSetting(
+        MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED,
+        MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Minimum number of docs each partition of a concurrent exact search scores. Exact search over a segment with at least twice as many
+     * candidate docs is split into doc id partitions that are scored on the search executor and merged afterwards. 0 disables it.
+     */
+    public static final Setting<Integer> KNN_EXACT_SEARCH_PARTITION_MIN_DOCS_SETTING = Setting.intSetting(
+        KNN_EXACT_SEARCH_PARTITION_MIN_DOCS,
+        KNN_EXACT_SEARCH_PARTITION_MIN_DOCS_DEFAULT_VALUE,
+        0,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, training jobs sample their training vectors on the shards of the training index straight from the vector values, and
+     * receive them shard by shard as primitive arrays, instead of reading them from the _source with scroll searches.
+     */
+    public static final Setting<Boolean> KNN_TRAINING_SHARD_SAMPLING_ENABLED_SETTING = Setting.boolSetting(
+        KNN_TRAINING_SHARD_SAMPLING_ENABLED,
+        KNN_TRAINING_SHARD_SAMPLING_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, faiss IVF models with the flat encoder are trained on the shards of the training index: the k-means iterations
+     * training their coarse centroids run on the shards, which only send back the partial sums of their vectors per centroid, and the
+     * training data is never loaded on the training node. Other models are trained on the training node as before.
+     */
+    public static final Setting<Boolean> KNN_TRAINING_DISTRIBUTED_IVF_ENABLED_SETTING = Setting.boolSetting(
+        KNN_TRAINING_DISTRIBUTED_IVF_ENABLED,
+        KNN_TRAINING_DISTRIBUTED_IVF_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, merges of native engine fields count the live vectors from the segments being merged and train quantization on
+     * vectors read by ordinal from their segment, so that the merged vector values are only iterated once, to build the index.
+     */
+    public static final Setting<Boolean> KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED_SETTING = Setting.boolSetting(
+        KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED,
+        KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, memory optimized native index builds read the vectors into one of two off heap buffers on a separate thread
+     * while the previous batch is inserted into the index. Each buffer is bounded by {@link #KNN_VECTOR_STREAMING_MEMORY_LIMIT_IN_MB},
+     * so a build may use up to twice that memory.
+     */
+    public static final Setting<Boolean> KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_SETTING = Setting.boolSetting(
+        KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED,
+        KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, merges of faiss HNSW fields load the graph of the largest segment being merged without deleted docs, and only
+     * insert the vectors of the other segments into it, instead of building the merged graph from scratch.
+     */
+    public static final Setting<Boolean> KNN_MERGE_INCREMENTAL_GRAPH_ENABLED_SETTING = Setting.boolSetting(
+        KNN_MERGE_INCREMENTAL_GRAPH_ENABLED,
+        KNN_MERGE_INCREMENTAL_GRAPH_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, the native indices of the fields of a segment are built concurrently on the index_build thread pool, during
+     * flush and merge. Builds run one field after the other while the native memory circuit breaker is triggered.
+     */
+    public static final Setting<Boolean> KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED_SETTING = Setting.boolSetting(
+        KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED,
+        KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
     /**
      * index_thread_quantity - the parameter specifies how many threads the nms library should use to create the graph.
      * By default, the nms library sets this value to NUM_CORES. However, because ES can spawn NUM_CORES threads for
@@ -679,6 +946,12 @@ public class KNNSettings {
         if (KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED.equals(key)) {
             return KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_SETTING;
         }
+        if (KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED.equals(key)) {
+            return KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED_SETTING;
+        }
+        if (KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED.equals(key)) {
+            return KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_SETTING;
+        }
         if (KNN_DERIVED_SOURCE_ENABLED.equals(key)) {
             return KNN_DERIVED_SOURCE_ENABLED_SETTING;
         }
@@ -727,6 +1000,66 @@ public class KNNSettings {
             return INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING;
         }
 
+        if (MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT.equals(key)) {
+            return MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT_SETTING;
+        }
+
+        if (KNN_GRAPH_LOAD_WAIT_BUDGET.equals(key)) {
+            return KNN_GRAPH_LOAD_WAIT_BUDGET_SETTING;
+        }
+
+        if (KNN_CACHE_TIERING_ENABLED.equals(key)) {
+            return KNN_CACHE_TIERING_ENABLED_SETTING;
+        }
+
+        if (KNN_CACHE_TIERING_PROMOTION_THRESHOLD.equals(key)) {
+            return KNN_CACHE_TIERING_PROMOTION_THRESHOLD_SETTING;
+        }
+
+        if (KNN_CACHE_TIERING_PROMOTION_WINDOW.equals(key)) {
+            return KNN_CACHE_TIERING_PROMOTION_WINDOW_SETTING;
+        }
+
+        if (KNN_CACHE_FAIR_EVICTION_ENABLED.equals(key)) {
+            return KNN_CACHE_FAIR_EVICTION_ENABLED_SETTING;
+        }
+
+        if (MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED.equals(key)) {
+            return MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED_SETTING;
+        }
+
+        if (MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED.equals(key)) {
+            return MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED_SETTING;
+        }
+
+        if (KNN_EXACT_SEARCH_PARTITION_MIN_DOCS.equals(key)) {
+            return KNN_EXACT_SEARCH_PARTITION_MIN_DOCS_SETTING;
+        }
+
+        if (KNN_TRAINING_SHARD_SAMPLING_ENABLED.equals(key)) {
+            return KNN_TRAINING_SHARD_SAMPLING_ENABLED_SETTING;
+        }
+
+        if (KNN_TRAINING_DISTRIBUTED_IVF_ENABLED.equals(key)) {
+            return KNN_TRAINING_DISTRIBUTED_IVF_ENABLED_SETTING;
+        }
+
+        if (KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED.equals(key)) {
+            return KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED_SETTING;
+        }
+
+        if (KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED.equals(key)) {
+            return KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_SETTING;
+        }
+
+        if (KNN_MERGE_INCREMENTAL_GRAPH_ENABLED.equals(key)) {
+            return KNN_MERGE_INCREMENTAL_GRAPH_ENABLED_SETTING;
+        }
+
+        if (KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED.equals(key)) {
+            return KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED_SETTING;
+        }
+
         throw new IllegalArgumentException("Cannot find setting by key [" + key + "]");
     }
 
@@ -749,6 +1082,8 @@ public class KNNSettings {
             QUANTIZATION_STATE_CACHE_SIZE_LIMIT_SETTING,
             QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES_SETTING,
             KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_SETTING,
+            KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED_SETTING,
+            KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_SETTING,
             KNN_DERIVED_SOURCE_ENABLED_SETTING,
             MEMORY_OPTIMIZED_KNN_SEARCH_MODE_SETTING,
             // Index level remote vector build settings
@@ -763,7 +1098,24 @@ public class KNNSettings {
             KNN_REMOTE_BUILD_CLIENT_TIMEOUT_SETTING,
             KNN_REMOTE_BUILD_SERVER_USERNAME_SETTING,
             KNN_REMOTE_BUILD_SERVER_PASSWORD_SETTING,
-            INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING
+            INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING,
+            MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT_SETTING,
+            KNN_GRAPH_LOAD_WAIT_BUDGET_SETTING,
+            KNN_CACHE_TIERING_ENABLED_SETTING,
+            KNN_CACHE_TIERING_PROMOTION_THRESHOLD_SETTING,
+            KNN_CACHE_TIERING_PROMOTION_WINDOW_SETTING,
+            INDEX_KNN_MEMORY_QUOTA_SETTING,
+            KNN_CACHE_FAIR_EVICTION_ENABLED_SETTING,
+            INDEX_KNN_GRAPH_REORDER_ENABLED_SETTING,
+            MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED_SETTING,
+            MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED_SETTING,
+            KNN_EXACT_SEARCH_PARTITION_MIN_DOCS_SETTING,
+            KNN_TRAINING_SHARD_SAMPLING_ENABLED_SETTING,
+            KNN_TRAINING_DISTRIBUTED_IVF_ENABLED_SETTING,
+            KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED_SETTING,
+            KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_SETTING,
+            KNN_MERGE_INCREMENTAL_GRAPH_ENABLED_SETTING,
+            KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED_SETTING
         );
         return Stream.concat(settings.stream(), Stream.concat(getFeatureFlags().stream(), dynamicCacheSettings.values().stream()))
             .collect(Collectors.toList());
@@ -969,6 +1321,34 @@ public class KNNSettings {
         return getIndexSettings(indexName).getAsBoolean(KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED, false);
     }
 
+    /**
+     * Whether disk-based vectors of the index are rescored segment by segment, see
+     * {@link #KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED_SETTING}.
+     *
+     * @param indexName Name of the index.
+     * @return True when rescoring is pipelined with the first pass search.
+     */
+    public static boolean isPipelinedRescoringEnabledForDiskBasedVector(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(
+            KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED,
+            KNN_DISK_VECTOR_PIPELINED_RESCORING_ENABLED_DEFAULT_VALUE
+        );
+    }
+
+    /**
+     * Whether the first pass k of disk-based vectors of the index is chosen per segment, see
+     * {@link #KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_SETTING}.
+     *
+     * @param indexName Name of the index.
+     * @return True when oversampling is adaptive.
+     */
+    public static boolean isAdaptiveOversamplingEnabledForDiskBasedVector(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(
+            KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED,
+            KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_DEFAULT_VALUE
+        );
+    }
+
     public void initialize(Client client, ClusterService clusterService) {
         this.client = client;
         this.clusterService = clusterService;
@@ -1061,6 +1441,332 @@ public class KNNSettings {
         return getIndexSettings(indexName).getAsBoolean(MEMORY_OPTIMIZED_KNN_SEARCH_MODE, DEFAULT_MEMORY_OPTIMIZED_KNN_SEARCH_MODE);
     }
 
+    /**
+     * Return the node-wide limit of the decoded neighbor list caches used by memory optimized search.
+     *
+     * @return Cache limit, or {@link #MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static ByteSizeValue getMemoryOptimizedSearchNeighborCacheLimit() {
+        try {
+            return KNNSettings.state().getSettingValue(MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT);
+        } catch (Exception e) {
+            // Cluster settings may not be initialized, e.g. when a searcher is opened in UTs.
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT,
+                MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT_DEFAULT_VALUE
+            );
+            return MEMORY_OPTIMIZED_KNN_SEARCH_NEIGHBOR_CACHE_LIMIT_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return how long a search waits for a graph to be loaded into the native memory cache.
+     *
+     * @return Wait budget, negative if graphs are loaded on the search thread.
+     *         {@link #KNN_GRAPH_LOAD_WAIT_BUDGET_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static TimeValue getGraphLoadWaitBudget() {
+        try {
+            final TimeValue waitBudget = KNNSettings.state().getSettingValue(KNN_GRAPH_LOAD_WAIT_BUDGET);
+            return waitBudget != null ? waitBudget : KNN_GRAPH_LOAD_WAIT_BUDGET_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_GRAPH_LOAD_WAIT_BUDGET,
+                KNN_GRAPH_LOAD_WAIT_BUDGET_DEFAULT_VALUE
+            );
+            return KNN_GRAPH_LOAD_WAIT_BUDGET_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return whether graphs evicted from the native memory cache are served memory optimized until they are promoted back.
+     *
+     * @return True if cache tiering is enabled, {@link #KNN_CACHE_TIERING_ENABLED_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static boolean isCacheTieringEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(KNN_CACHE_TIERING_ENABLED);
+            return enabled != null ? enabled : KNN_CACHE_TIERING_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_CACHE_TIERING_ENABLED,
+                KNN_CACHE_TIERING_ENABLED_DEFAULT_VALUE
+            );
+            return KNN_CACHE_TIERING_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return the number of memory optimized searches after which an evicted graph is loaded back into the native memory cache.
+     *
+     * @return Promotion threshold, {@link #KNN_CACHE_TIERING_PROMOTION_THRESHOLD_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static int getCacheTieringPromotionThreshold() {
+        try {
+            final Integer threshold = KNNSettings.state().getSettingValue(KNN_CACHE_TIERING_PROMOTION_THRESHOLD);
+            return threshold != null ? threshold : KNN_CACHE_TIERING_PROMOTION_THRESHOLD_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_CACHE_TIERING_PROMOTION_THRESHOLD,
+                KNN_CACHE_TIERING_PROMOTION_THRESHOLD_DEFAULT_VALUE
+            );
+            return KNN_CACHE_TIERING_PROMOTION_THRESHOLD_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return the time window in which an evicted graph has to reach the promotion threshold.
+     *
+     * @return Promotion window, {@link #KNN_CACHE_TIERING_PROMOTION_WINDOW_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static TimeValue getCacheTieringPromotionWindow() {
+        try {
+            final TimeValue window = KNNSettings.state().getSettingValue(KNN_CACHE_TIERING_PROMOTION_WINDOW);
+            return window != null ? window : KNN_CACHE_TIERING_PROMOTION_WINDOW_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_CACHE_TIERING_PROMOTION_WINDOW,
+                KNN_CACHE_TIERING_PROMOTION_WINDOW_DEFAULT_VALUE
+            );
+            return KNN_CACHE_TIERING_PROMOTION_WINDOW_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return whether the force eviction of the native memory cache evicts graphs by fair share rather than in LRU order.
+     *
+     * @return True if fair eviction is enabled, {@link #KNN_CACHE_FAIR_EVICTION_ENABLED_DEFAULT_VALUE} if cluster settings are
+     *         unavailable.
+     */
+    public static boolean isCacheFairEvictionEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(KNN_CACHE_FAIR_EVICTION_ENABLED);
+            return enabled != null ? enabled : KNN_CACHE_FAIR_EVICTION_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_CACHE_FAIR_EVICTION_ENABLED,
+                KNN_CACHE_FAIR_EVICTION_ENABLED_DEFAULT_VALUE
+            );
+            return KNN_CACHE_FAIR_EVICTION_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return whether memory optimized search prefetches the pages of level-0 neighbors during graph traversal.
+     *
+     * @return True if enabled, {@link #MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static boolean isMemoryOptimizedSearchPrefetchEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED);
+            return enabled != null ? enabled : MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED,
+                MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED_DEFAULT_VALUE
+            );
+            return MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return whether FAISS index files searched in memory optimized mode are opened with a random access hint.
+     *
+     * @return True if enabled, {@link #MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED_DEFAULT_VALUE} if cluster settings are
+     *         unavailable.
+     */
+    public static boolean isMemoryOptimizedSearchRandomAccessHintEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED);
+            return enabled != null ? enabled : MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED,
+                MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED_DEFAULT_VALUE
+            );
+            return MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return the minimum number of docs each partition of a concurrent exact search scores.
+     *
+     * @return 0 if concurrent exact search is disabled, {@link #KNN_EXACT_SEARCH_PARTITION_MIN_DOCS_DEFAULT_VALUE} if cluster settings
+     *         are unavailable.
+     */
+    public static int getExactSearchPartitionMinDocs() {
+        try {
+            final Integer minDocs = KNNSettings.state().getSettingValue(KNN_EXACT_SEARCH_PARTITION_MIN_DOCS);
+            return minDocs != null ? minDocs : KNN_EXACT_SEARCH_PARTITION_MIN_DOCS_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_EXACT_SEARCH_PARTITION_MIN_DOCS,
+                KNN_EXACT_SEARCH_PARTITION_MIN_DOCS_DEFAULT_VALUE
+            );
+            return KNN_EXACT_SEARCH_PARTITION_MIN_DOCS_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return the number of processors allocated to the node, which bounds the number of partitions a segment is split into by a
+     * concurrent exact search, like it bounds the size of the search thread pools.
+     *
+     * @return Allocated processors of the node, 1 if node settings are unavailable.
+     */
+    public static int getAllocatedProcessors() {
+        try {
+            return OpenSearchExecutors.allocatedProcessors(KNNSettings.state().clusterService.getSettings());
+        } catch (Exception e) {
+            log.debug("Unable to get the allocated processors from node settings. Using 1", e);
+            return 1;
+        }
+    }
+
+    /**
+     * Return whether training vectors are sampled on the shards of the training index.
+     *
+     * @return True if shard sampling is enabled, {@link #KNN_TRAINING_SHARD_SAMPLING_ENABLED_DEFAULT_VALUE} if cluster settings are
+     *         unavailable.
+     */
+    public static boolean isTrainingShardSamplingEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(KNN_TRAINING_SHARD_SAMPLING_ENABLED);
+            return enabled != null ? enabled : KNN_TRAINING_SHARD_SAMPLING_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_TRAINING_SHARD_SAMPLING_ENABLED,
+                KNN_TRAINING_SHARD_SAMPLING_ENABLED_DEFAULT_VALUE
+            );
+            return KNN_TRAINING_SHARD_SAMPLING_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Check whether the coarse centroids of IVF models are trained on the shards of the training index.
+     *
+     * @return True if distributed IVF training is enabled, {@link #KNN_TRAINING_DISTRIBUTED_IVF_ENABLED_DEFAULT_VALUE} if cluster
+     *         settings are unavailable.
+     */
+    public static boolean isTrainingDistributedIVFEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(KNN_TRAINING_DISTRIBUTED_IVF_ENABLED);
+            return enabled != null ? enabled : KNN_TRAINING_DISTRIBUTED_IVF_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_TRAINING_DISTRIBUTED_IVF_ENABLED,
+                KNN_TRAINING_DISTRIBUTED_IVF_ENABLED_DEFAULT_VALUE
+            );
+            return KNN_TRAINING_DISTRIBUTED_IVF_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Check whether merges read the live vector count and the quantization training vectors from the segments being merged.
+     *
+     * @return True if merges use the vector values of the segments being merged,
+     *         {@link #KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static boolean isMergeSegmentVectorValuesEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED);
+            return enabled != null ? enabled : KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED,
+                KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED_DEFAULT_VALUE
+            );
+            return KNN_MERGE_SEGMENT_VECTOR_VALUES_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Check whether memory optimized native index builds read the next batch of vectors while the previous one is inserted.
+     *
+     * @return True if the pipelined transfer is enabled,
+     *         {@link #KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static boolean isIndexBuildPipelinedTransferEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED);
+            return enabled != null ? enabled : KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED,
+                KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_DEFAULT_VALUE
+            );
+            return KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Check whether merges seed the merged graph with the graph of a segment being merged.
+     *
+     * @return True if incremental graph merge is enabled,
+     *         {@link #KNN_MERGE_INCREMENTAL_GRAPH_ENABLED_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static boolean isMergeIncrementalGraphEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(KNN_MERGE_INCREMENTAL_GRAPH_ENABLED);
+            return enabled != null ? enabled : KNN_MERGE_INCREMENTAL_GRAPH_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_MERGE_INCREMENTAL_GRAPH_ENABLED,
+                KNN_MERGE_INCREMENTAL_GRAPH_ENABLED_DEFAULT_VALUE
+            );
+            return KNN_MERGE_INCREMENTAL_GRAPH_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Check whether the native indices of the fields of a segment are built concurrently.
+     *
+     * @return True if concurrent field builds are enabled,
+     *         {@link #KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED_DEFAULT_VALUE} if cluster settings are unavailable.
+     */
+    public static boolean isIndexBuildConcurrentFieldsEnabled() {
+        try {
+            final Boolean enabled = KNNSettings.state().getSettingValue(KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED);
+            return enabled != null ? enabled : KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED_DEFAULT_VALUE;
+        } catch (Exception e) {
+            log.debug(
+                "Unable to get setting value {} from cluster settings. Using default value as {}",
+                KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED,
+                KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED_DEFAULT_VALUE
+            );
+            return KNN_INDEX_BUILD_CONCURRENT_FIELDS_ENABLED_DEFAULT_VALUE;
+        }
+    }
+
+    /**
+     * Return the native memory quota of the given index in kilobytes.
+     *
+     * @param indexName Name of the index
+     * @return Quota in kilobytes, negative if the index has no quota or its settings are unavailable.
+     */
+    public static long getIndexMemoryQuotaInKB(@NonNull final String indexName) {
+        try {
+            final ByteSizeValue quota = INDEX_KNN_MEMORY_QUOTA_SETTING.get(getIndexSettings(indexName));
+            return quota.getBytes() < 0 ? -1 : quota.getKb();
+        } catch (Exception e) {
+            log.debug("Unable to get setting value {} of index {}. Assuming no quota", INDEX_KNN_MEMORY_QUOTA, indexName);
+            return -1;
+        }
+    }
+
     public static Settings getIndexSettings(@NonNull final String indexName) {
         return KNNSettings.state().clusterService.state().getMetadata().index(indexName).getSettings();
     }
@@ -13,7 +13,11 @@ import org.apache.lucene.search.DocIdSetIterator;
 import org.opensearch.index.fielddata.LeafFieldData;
 import org.opensearch.index.fielddata.ScriptDocValues;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
+import org.opensearch.index.mapper.DocValueFetcher;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.search.DocValueFormat;
 
 import java.io.IOException;
 
@@ -67,6 +71,43 @@ public class KNNVectorDVLeafFieldData implements LeafFieldData {
         }
     }
 
+    /**
+     * Fetch the vector of a doc as a float[] or a byte[] from the vector values of the segment, so that vectors can be returned with
+     * docvalue_fields without parsing the _source. Docs are expected to be fetched in increasing doc id order within a segment.
+     */
+    @Override
+    public DocValueFetcher.Leaf getLeafValueFetcher(DocValueFormat format) {
+        final KNNVectorValues<?> vectorValues;
+        try {
+            FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(reader, fieldName);
+            vectorValues = fieldInfo == null ? null : KNNVectorValuesFactory.getVectorValues(fieldInfo, reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot load values for knn vector field: " + fieldName, e);
+        }
+        return new DocValueFetcher.Leaf() {
+            @Override
+            public boolean advanceExact(int docId) throws IOException {
+                if (vectorValues == null) {
+                    return false;
+                }
+                if (vectorValues.docId() < docId) {
+                    vectorValues.advance(docId);
+                }
+                return vectorValues.docId() == docId;
+            }
+
+            @Override
+            public int docValueCount() {
+                return 1;
+            }
+
+            @Override
+            public Object nextValue() throws IOException {
+                return vectorValues.conditionalCloneVector();
+            }
+        };
+    }
+
     @Override
     public SortedBinaryDocValues getBytesValues() {
         throw new UnsupportedOperationException("knn vector field '" + fieldName + "' doesn't support sorting");
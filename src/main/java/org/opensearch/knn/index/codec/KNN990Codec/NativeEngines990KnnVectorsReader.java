@@ -29,11 +29,13 @@ import org.apache.lucene.store.DataAccessHint;
 import org.apache.lucene.store.FileDataHint;
 import org.apache.lucene.store.FileTypeHint;
 import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.IOSupplier;
 import org.apache.lucene.util.IOUtils;
 import org.opensearch.common.UUIDs;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
 import org.opensearch.knn.index.engine.KNNEngine;
@@ -77,7 +79,9 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
         this.flatVectorsReader = flatVectorsReader;
         this.segmentReadState = state;
         this.cacheKeys = getVectorCacheKeysFromSegmentReaderState(state);
-        ioContext = state.context.withHints(FileTypeHint.DATA, FileDataHint.KNN_VECTORS, DataAccessHint.RANDOM);
+        ioContext = KNNSettings.isMemoryOptimizedSearchRandomAccessHintEnabled()
+            ? state.context.withHints(FileTypeHint.DATA, FileDataHint.KNN_VECTORS, DataAccessHint.RANDOM)
+            : state.context.withHints(FileTypeHint.DATA, FileDataHint.KNN_VECTORS);
         loadCacheKeyMap();
         vectorSearcherHolder = new VectorSearcherHolder();
         vectorSearcherHolderLockObject = new Object();
@@ -244,6 +248,25 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
         }
     }
 
+    /**
+     * Open the native engine file of a field, for a merge to seed the merged index with the index of this segment.
+     *
+     * @param field name of the field
+     * @return {@link IndexInput} of the native engine file, null if the native engine file was not built for this segment
+     * @throws IOException if the file cannot be opened
+     */
+    public IndexInput openNativeEngineFile(final String field) throws IOException {
+        final FieldInfo fieldInfo = segmentReadState.fieldInfos.fieldInfo(field);
+        if (fieldInfo == null) {
+            return null;
+        }
+        final String fileName = KNNCodecUtil.getNativeEngineFileFromFieldInfo(fieldInfo, segmentReadState.segmentInfo);
+        if (fileName == null) {
+            return null;
+        }
+        return segmentReadState.directory.openInput(fileName, IOContext.READONCE);
+    }
+
     private boolean trySearchWithMemoryOptimizedSearch(
         final String field,
         final Object target,
@@ -269,6 +292,36 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
         return false;
     }
 
+    /**
+     * Return the quantized codes persisted in the native engine file of the given field, so that exact search can score them directly
+     * instead of re-quantizing every full precision vector.
+     * <p>
+     * The codes are read through the memory optimized searcher of the field, which is loaded if it is not yet. Callers should only ask
+     * for them when the field is searched memory optimized, otherwise this maps the native engine file for nothing but exact search.
+     *
+     * @param field Name of the vector field.
+     * @return Null if the field is not quantized or its codes can't be read from the native engine file.
+     */
+    public ByteVectorValues getQuantizedVectorValues(final String field) throws IOException {
+        final FieldInfo fieldInfo = segmentReadState.fieldInfos.fieldInfo(field);
+        if (fieldInfo == null || QuantizationService.getInstance().getQuantizationParams(fieldInfo) == null) {
+            return null;
+        }
+        if (KNNCodecUtil.getNativeEngineFileFromFieldInfo(fieldInfo, segmentReadState.segmentInfo) == null) {
+            // Native engine file was not built for this segment, e.g. it is below the build threshold.
+            return null;
+        }
+        final VectorSearcher vectorSearcher;
+        try {
+            vectorSearcher = loadMemoryOptimizedSearcherIfRequired(field);
+        } catch (RuntimeException e) {
+            // Exact search falls back to re-quantizing full precision vectors.
+            log.debug("Unable to read quantized vectors of field [{}] from native engine file", field, e);
+            return null;
+        }
+        return vectorSearcher != null ? vectorSearcher.getStoredByteVectorValues() : null;
+    }
+
     private void loadCacheKeyMap() {
         quantizationStateCacheKeyPerField = new HashMap<>();
         for (FieldInfo fieldInfo : segmentReadState.fieldInfos) {
@@ -11,6 +11,7 @@
 
 package org.opensearch.knn.index.codec.KNN990Codec;
 
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.codecs.KnnFieldVectorsWriter;
 import org.apache.lucene.codecs.KnnVectorsWriter;
@@ -23,21 +24,29 @@ import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.IOUtils;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.StopWatch;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexWriter;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.MergeSegmentVectorValues;
 import org.opensearch.knn.plugin.stats.KNNGraphValue;
 import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 
 import static org.opensearch.knn.common.FieldInfoExtractor.extractVectorDataType;
+import static org.opensearch.knn.common.KNNConstants.INDEX_BUILD_THREAD_POOL;
 import static org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory.getKNNVectorValuesSupplierForMerge;
 import static org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory.getVectorValuesSupplier;
 
@@ -48,6 +57,9 @@ import static org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory.getVe
 public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
     private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(NativeEngines990KnnVectorsWriter.class);
 
+    @Setter
+    private static ThreadPool threadPool;
+
     private final SegmentWriteState segmentWriteState;
     private final FlatVectorsWriter flatVectorsWriter;
     private KNN990QuantizationStateWriter quantizationStateWriter;
@@ -55,6 +67,8 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
     private boolean finished;
     private final Integer approximateThreshold;
     private final NativeIndexBuildStrategyFactory nativeIndexBuildStrategyFactory;
+    // Index builds of the merged fields, run together once all fields are merged
+    private final List<IndexBuild> pendingMergeBuilds = new ArrayList<>();
 
     public NativeEngines990KnnVectorsWriter(
         SegmentWriteState segmentWriteState,
@@ -93,6 +107,8 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
     public void flush(int maxDoc, final Sorter.DocMap sortMap) throws IOException {
         flatVectorsWriter.flush(maxDoc, sortMap);
 
+        // Quantization states are trained and written one field after the other, only the index builds may run concurrently
+        final List<IndexBuild> builds = new ArrayList<>(fields.size());
         for (final NativeEngineFieldVectorsWriter<?> field : fields) {
             final FieldInfo fieldInfo = field.getFieldInfo();
             final VectorDataType vectorDataType = extractVectorDataType(fieldInfo);
@@ -124,12 +140,15 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
                 nativeIndexBuildStrategyFactory
             );
 
-            StopWatch stopWatch = new StopWatch().start();
-            writer.flushIndex(knnVectorValuesSupplier, totalLiveDocs);
-            long time_in_millis = stopWatch.stop().totalTime().millis();
-            KNNGraphValue.REFRESH_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
-            log.debug("Flush took {} ms for vector field [{}]", time_in_millis, fieldInfo.getName());
+            builds.add(() -> {
+                StopWatch stopWatch = new StopWatch().start();
+                writer.flushIndex(knnVectorValuesSupplier, totalLiveDocs);
+                long time_in_millis = stopWatch.stop().totalTime().millis();
+                KNNGraphValue.REFRESH_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
+                log.debug("Flush took {} ms for vector field [{}]", time_in_millis, fieldInfo.getName());
+            });
         }
+        buildIndices(builds);
     }
 
     @Override
@@ -143,13 +162,22 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
             fieldInfo,
             mergeState
         );
-        int totalLiveDocs = getLiveDocs(knnVectorValuesSupplier.get());
+        // Count the live vectors and train on the vectors of the segments being merged, so that the merged vector values are only
+        // iterated once, to build the index
+        final MergeSegmentVectorValues segmentVectorValues = KNNSettings.isMergeSegmentVectorValuesEnabled()
+            ? MergeSegmentVectorValues.create(fieldInfo, mergeState)
+            : null;
+        int totalLiveDocs = segmentVectorValues != null
+            ? segmentVectorValues.getTotalLiveVectors()
+            : getLiveDocs(knnVectorValuesSupplier.get());
         if (totalLiveDocs == 0) {
             log.debug("[Merge] No live docs for field {}", fieldInfo.getName());
             return;
         }
 
-        final QuantizationState quantizationState = train(fieldInfo, knnVectorValuesSupplier, totalLiveDocs);
+        final QuantizationState quantizationState = segmentVectorValues != null && vectorDataType == VectorDataType.FLOAT
+            ? train(fieldInfo, segmentVectorValues)
+            : train(fieldInfo, knnVectorValuesSupplier, totalLiveDocs);
         // should skip graph building only for non quantization use case and if threshold is met
         if (quantizationState == null && shouldSkipBuildingVectorDataStructure(totalLiveDocs)) {
             log.debug(
@@ -167,13 +195,27 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
             nativeIndexBuildStrategyFactory
         );
 
-        StopWatch stopWatch = new StopWatch().start();
+        final boolean incrementalGraph = KNNSettings.isMergeIncrementalGraphEnabled();
+        final IndexBuild build = () -> {
+            StopWatch stopWatch = new StopWatch().start();
 
-        writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs);
+            if (incrementalGraph) {
+                writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs, mergeState);
+            } else {
+                writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs);
+            }
 
-        long time_in_millis = stopWatch.stop().totalTime().millis();
-        KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
-        log.debug("Merge took {} ms for vector field [{}]", time_in_millis, fieldInfo.getName());
+            long time_in_millis = stopWatch.stop().totalTime().millis();
+            KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
+            log.debug("Merge took {} ms for vector field [{}]", time_in_millis, fieldInfo.getName());
+        };
+        // Lucene merges one field at a time, so the builds of the merged fields are deferred to finish() to run them concurrently.
+        // The vector values of the segments being merged stay readable until the merge is finished.
+        if (getIndexBuildExecutor() != null) {
+            pendingMergeBuilds.add(build);
+        } else {
+            build.run();
+        }
     }
 
     /**
@@ -185,6 +227,8 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
             throw new IllegalStateException("NativeEnginesKNNVectorsWriter is already finished");
         }
         finished = true;
+        buildIndices(pendingMergeBuilds);
+        pendingMergeBuilds.clear();
         if (quantizationStateWriter != null) {
             quantizationStateWriter.writeFooter();
         }
@@ -240,6 +284,19 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
         return quantizationState;
     }
 
+    private QuantizationState train(final FieldInfo fieldInfo, final MergeSegmentVectorValues segmentVectorValues) throws IOException {
+        final QuantizationService quantizationService = QuantizationService.getInstance();
+        final QuantizationParams quantizationParams = quantizationService.getQuantizationParams(fieldInfo);
+        QuantizationState quantizationState = null;
+        if (quantizationParams != null && segmentVectorValues.getTotalLiveVectors() > 0) {
+            initQuantizationStateWriterIfNecessary();
+            quantizationState = quantizationService.train(quantizationParams, segmentVectorValues);
+            quantizationStateWriter.writeState(fieldInfo.getFieldNumber(), quantizationState);
+        }
+
+        return quantizationState;
+    }
+
     /**
      * The {@link KNNVectorValues} will be exhausted after this function run. So make sure that you are not sending the
      * vectorsValues object which you plan to use later
@@ -262,10 +319,113 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
         }
     }
 
+    /**
+     * Run the index builds of the fields of a segment. Builds run concurrently on the index build thread pool when concurrent field
+     * builds are enabled, and one after the other while the native memory circuit breaker is triggered, so that concurrent builds
+     * do not add to the native memory pressure. All builds are awaited before the first failure is thrown.
+     */
+    private static void buildIndices(final List<IndexBuild> builds) throws IOException {
+        final Executor executor = builds.size() > 1 ? getIndexBuildExecutor() : null;
+        if (executor == null || KNNSettings.isCircuitBreakerTriggered()) {
+            for (IndexBuild build : builds) {
+                build.run();
+            }
+            return;
+        }
+
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(builds.size() - 1);
+        for (IndexBuild build : builds.subList(1, builds.size())) {
+            futures.add(submit(build, executor));
+        }
+        // The calling thread builds the first index instead of waiting idle
+        Throwable failure = null;
+        try {
+            builds.get(0).run();
+        } catch (IOException | RuntimeException | Error e) {
+            failure = e;
+        }
+        boolean interrupted = false;
+        for (CompletableFuture<Void> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // Native builds cannot be cancelled, wait for them to complete before the segment files are released
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    failure = addFailure(failure, e.getCause());
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure != null) {
+            throw new IOException(failure);
+        }
+    }
+
+    private static CompletableFuture<Void> submit(final IndexBuild build, final Executor executor) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final Runnable task = () -> {
+            try {
+                build.run();
+                future.complete(null);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // The thread pool is shutting down, build on the calling thread instead
+            task.run();
+        }
+        return future;
+    }
+
+    private static Throwable addFailure(final Throwable failure, final Throwable newFailure) {
+        if (failure == null) {
+            return newFailure;
+        }
+        failure.addSuppressed(newFailure);
+        return failure;
+    }
+
+    // Executor of concurrent index builds, null if the builds of the fields of a segment run one after the other
+    private static Executor getIndexBuildExecutor() {
+        if (threadPool == null || KNNSettings.isIndexBuildConcurrentFieldsEnabled() == false) {
+            return null;
+        }
+        try {
+            return threadPool.executor(INDEX_BUILD_THREAD_POOL);
+        } catch (IllegalArgumentException e) {
+            // Index build thread pool is not registered, e.g. in UTs.
+            return null;
+        }
+    }
+
     private boolean shouldSkipBuildingVectorDataStructure(final long docCount) {
         if (approximateThreshold < 0) {
             return true;
         }
         return docCount < approximateThreshold;
     }
+
+    // Build of the native index of one field
+    @FunctionalInterface
+    private interface IndexBuild {
+        void run() throws IOException;
+    }
 }
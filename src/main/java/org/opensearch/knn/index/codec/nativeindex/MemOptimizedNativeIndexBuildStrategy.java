@@ -7,6 +7,9 @@ package org.opensearch.knn.index.codec.nativeindex;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.util.Bits;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
 import org.opensearch.knn.index.engine.KNNEngine;
@@ -16,12 +19,19 @@ import org.opensearch.knn.jni.JNIService;
 import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
-import static org.opensearch.knn.common.KNNVectorUtil.intListToArray;
 import static org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory.getVectorTransfer;
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
 
@@ -30,10 +40,13 @@ import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorV
  * to be transferred. It transfers vectors in small batches, builds index and can clear the offheap space where
  * the vectors were transferred
  */
+@Log4j2
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStrategy {
 
     private static MemOptimizedNativeIndexBuildStrategy INSTANCE = new MemOptimizedNativeIndexBuildStrategy();
+    // Marks the end of the vectors read by the transfer task
+    private static final TransferBatch END_OF_VECTORS = new TransferBatch(null, 0);
 
     public static MemOptimizedNativeIndexBuildStrategy getInstance() {
         return INSTANCE;
@@ -58,16 +71,59 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
         Map<String, Object> indexParameters = indexInfo.getParameters();
         IndexBuildSetup indexBuildSetup = QuantizationIndexUtils.prepareIndexBuild(knnVectorValues, indexInfo);
 
-        // Initialize the index
-        long indexMemoryAddress = AccessController.doPrivileged(
-            (PrivilegedAction<Long>) () -> JNIService.initIndex(
-                indexInfo.getTotalLiveDocs(),
-                indexBuildSetup.getDimensions(),
-                indexParameters,
-                engine
-            )
-        );
+        // Seed the index of a merge with the graph of a segment being merged, or initialize an empty index
+        final MergeIndexSeed mergeIndexSeed = MergeIndexSeed.load(indexInfo);
+        final Bits seededDocs = mergeIndexSeed != null ? mergeIndexSeed.getSeededDocs() : null;
+        long indexMemoryAddress = mergeIndexSeed != null
+            ? mergeIndexSeed.getIndexMemoryAddress()
+            : AccessController.doPrivileged(
+                (PrivilegedAction<Long>) () -> JNIService.initIndex(
+                    indexInfo.getTotalLiveDocs(),
+                    indexBuildSetup.getDimensions(),
+                    indexParameters,
+                    engine
+                )
+            );
+
+        try {
+            final ExecutorService transferExecutor = KNNSettings.isIndexBuildPipelinedTransferEnabled()
+                ? NativeIndexBuildStrategyFactory.getVectorTransferExecutor()
+                : null;
+            if (transferExecutor != null) {
+                insertVectorsPipelined(knnVectorValues, indexInfo, indexBuildSetup, indexMemoryAddress, seededDocs, transferExecutor);
+            } else {
+                insertVectors(knnVectorValues, indexInfo, indexBuildSetup, indexMemoryAddress, seededDocs);
+            }
+
+            if (indexInfo.isGraphReorderEnabled()) {
+                // Renumber vectors so that graph neighbors are close to each other in the written file.
+                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                    JNIService.reorderIndex(indexMemoryAddress, engine, indexParameters);
+                    return null;
+                });
+            }
+
+            // Write vector
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                JNIService.writeIndex(indexInfo.getIndexOutputWithBuffer(), indexMemoryAddress, engine, indexParameters);
+                return null;
+            });
+
+        } catch (Exception exception) {
+            throw new RuntimeException(
+                "Failed to build index, field name [" + indexInfo.getFieldName() + "], parameters " + indexInfo,
+                exception
+            );
+        }
+    }
 
+    private void insertVectors(
+        final KNNVectorValues<?> knnVectorValues,
+        final BuildIndexParams indexInfo,
+        final IndexBuildSetup indexBuildSetup,
+        final long indexMemoryAddress,
+        final Bits seededDocs
+    ) throws IOException {
         try (
             final OffHeapVectorTransfer vectorTransfer = getVectorTransfer(
                 indexInfo.getVectorDataType(),
@@ -75,29 +131,20 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
                 indexInfo.getTotalLiveDocs()
             )
         ) {
-
-            final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
+            final TransferBatch batch = new TransferBatch(vectorTransfer, vectorTransfer.getTransferLimit());
 
             while (knnVectorValues.docId() != NO_MORE_DOCS) {
+                if (isSeeded(seededDocs, knnVectorValues.docId())) {
+                    knnVectorValues.nextDoc();
+                    continue;
+                }
                 Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+                batch.docIds[batch.count++] = knnVectorValues.docId();
                 // append is false to be able to reuse the memory location
                 boolean transferred = vectorTransfer.transfer(vector, false);
-                transferredDocIds.add(knnVectorValues.docId());
                 if (transferred) {
                     // Insert vectors
-                    long vectorAddress = vectorTransfer.getVectorAddress();
-                    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                        JNIService.insertToIndex(
-                            intListToArray(transferredDocIds),
-                            vectorAddress,
-                            indexBuildSetup.getDimensions(),
-                            indexParameters,
-                            indexMemoryAddress,
-                            engine
-                        );
-                        return null;
-                    });
-                    transferredDocIds.clear();
+                    insertToIndex(batch, vectorTransfer.getVectorAddress(), indexInfo, indexBuildSetup, indexMemoryAddress);
                 }
                 knnVectorValues.nextDoc();
             }
@@ -105,32 +152,159 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
             boolean flush = vectorTransfer.flush(false);
             // Need to make sure that the flushed vectors are indexed
             if (flush) {
-                long vectorAddress = vectorTransfer.getVectorAddress();
-                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                    JNIService.insertToIndex(
-                        intListToArray(transferredDocIds),
-                        vectorAddress,
-                        indexBuildSetup.getDimensions(),
-                        indexParameters,
-                        indexMemoryAddress,
-                        engine
-                    );
-                    return null;
-                });
-                transferredDocIds.clear();
+                insertToIndex(batch, vectorTransfer.getVectorAddress(), indexInfo, indexBuildSetup, indexMemoryAddress);
             }
+        }
+    }
 
-            // Write vector
-            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                JNIService.writeIndex(indexInfo.getIndexOutputWithBuffer(), indexMemoryAddress, engine, indexParameters);
+    /**
+     * Inserts the vectors with two off heap buffers: a transfer task reads the vectors into one buffer while the previous batch,
+     * held by the other buffer, is inserted into the index from this thread. The graph build is CPU bound in the native engine, so
+     * it no longer waits for the vectors of the next batch to be read.
+     */
+    private void insertVectorsPipelined(
+        final KNNVectorValues<?> knnVectorValues,
+        final BuildIndexParams indexInfo,
+        final IndexBuildSetup indexBuildSetup,
+        final long indexMemoryAddress,
+        final Bits seededDocs,
+        final ExecutorService transferExecutor
+    ) throws Exception {
+        try (
+            final OffHeapVectorTransfer firstVectorTransfer = getVectorTransfer(
+                indexInfo.getVectorDataType(),
+                indexBuildSetup.getBytesPerVector(),
+                indexInfo.getTotalLiveDocs()
+            );
+            final OffHeapVectorTransfer secondVectorTransfer = getVectorTransfer(
+                indexInfo.getVectorDataType(),
+                indexBuildSetup.getBytesPerVector(),
+                indexInfo.getTotalLiveDocs()
+            )
+        ) {
+            final BlockingQueue<TransferBatch> freeBatches = new ArrayBlockingQueue<>(2);
+            // Room for both batches and the end marker, so that the transfer task never blocks on adding a batch
+            final BlockingQueue<TransferBatch> filledBatches = new ArrayBlockingQueue<>(3);
+            freeBatches.add(new TransferBatch(firstVectorTransfer, firstVectorTransfer.getTransferLimit()));
+            freeBatches.add(new TransferBatch(secondVectorTransfer, secondVectorTransfer.getTransferLimit()));
+
+            // The transfer task runs on a pooled thread, so it is stopped with this flag rather than by interrupting the thread
+            final AtomicBoolean cancelled = new AtomicBoolean();
+            final Future<Void> transfer = transferExecutor.submit(() -> {
+                fillBatches(knnVectorValues, indexBuildSetup, seededDocs, freeBatches, filledBatches, cancelled);
                 return null;
             });
+            try {
+                for (TransferBatch batch = filledBatches.take(); batch != END_OF_VECTORS; batch = filledBatches.take()) {
+                    insertToIndex(batch, batch.vectorAddress, indexInfo, indexBuildSetup, indexMemoryAddress);
+                    freeBatches.put(batch);
+                }
+                // Surfaces the failure of the transfer task, if any
+                transfer.get();
+            } finally {
+                cancelled.set(true);
+                // The buffers are freed on close, so wait for the transfer task to stop writing into them
+                awaitTransfer(transfer, indexInfo.getFieldName());
+            }
+        }
+    }
 
-        } catch (Exception exception) {
-            throw new RuntimeException(
-                "Failed to build index, field name [" + indexInfo.getFieldName() + "], parameters " + indexInfo,
-                exception
+    private static void awaitTransfer(final Future<Void> transfer, final String fieldName) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                transfer.get(1, TimeUnit.SECONDS);
+                break;
+            } catch (TimeoutException e) {
+                log.debug("Waiting for the vector transfer of field [{}] to stop", fieldName);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException | CancellationException e) {
+                // The task has stopped, its failure is surfaced by the caller
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void fillBatches(
+        final KNNVectorValues<?> knnVectorValues,
+        final IndexBuildSetup indexBuildSetup,
+        final Bits seededDocs,
+        final BlockingQueue<TransferBatch> freeBatches,
+        final BlockingQueue<TransferBatch> filledBatches,
+        final AtomicBoolean cancelled
+    ) throws IOException, InterruptedException {
+        try {
+            while (cancelled.get() == false && knnVectorValues.docId() != NO_MORE_DOCS) {
+                // Polls so that the cancellation is seen when the inserting thread fails and gives no buffer back
+                final TransferBatch batch = freeBatches.poll(100, TimeUnit.MILLISECONDS);
+                if (batch == null) {
+                    continue;
+                }
+                boolean transferred = false;
+                while (transferred == false && knnVectorValues.docId() != NO_MORE_DOCS) {
+                    if (isSeeded(seededDocs, knnVectorValues.docId())) {
+                        knnVectorValues.nextDoc();
+                        continue;
+                    }
+                    Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+                    batch.docIds[batch.count++] = knnVectorValues.docId();
+                    // append is false to be able to reuse the memory location
+                    transferred = batch.vectorTransfer.transfer(vector, false);
+                    knnVectorValues.nextDoc();
+                }
+                if (transferred || batch.vectorTransfer.flush(false)) {
+                    batch.vectorAddress = batch.vectorTransfer.getVectorAddress();
+                    filledBatches.put(batch);
+                }
+            }
+        } finally {
+            filledBatches.offer(END_OF_VECTORS);
+        }
+    }
+
+    // Whether the vector of a doc is already in the index seeded by a merge
+    private static boolean isSeeded(final Bits seededDocs, final int docId) {
+        return seededDocs != null && seededDocs.get(docId);
+    }
+
+    private static void insertToIndex(
+        final TransferBatch batch,
+        final long vectorAddress,
+        final BuildIndexParams indexInfo,
+        final IndexBuildSetup indexBuildSetup,
+        final long indexMemoryAddress
+    ) {
+        final int[] docIds = Arrays.copyOf(batch.docIds, batch.count);
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            JNIService.insertToIndex(
+                docIds,
+                vectorAddress,
+                indexBuildSetup.getDimensions(),
+                indexInfo.getParameters(),
+                indexMemoryAddress,
+                indexInfo.getKnnEngine()
             );
+            return null;
+        });
+        batch.count = 0;
+    }
+
+    /**
+     * Off heap buffer of a batch of vectors, with the doc ids of its vectors.
+     */
+    private static final class TransferBatch {
+        private final OffHeapVectorTransfer vectorTransfer;
+        private final int[] docIds;
+        private int count;
+        private long vectorAddress;
+
+        private TransferBatch(final OffHeapVectorTransfer vectorTransfer, final int transferLimit) {
+            this.vectorTransfer = vectorTransfer;
+            this.docIds = new int[transferLimit];
         }
     }
 }
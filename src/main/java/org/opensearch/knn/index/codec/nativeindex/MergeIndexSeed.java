@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.perfield.PerFieldKnnVectorsFormat;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.KNN990Codec.NativeEngines990KnnVectorsReader;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.store.IndexInputWithBuffer;
+import org.opensearch.knn.jni.JNIService;
+
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+import static org.opensearch.knn.common.KNNConstants.FAISS_HNSW_DESCRIPTION;
+import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER;
+
+/**
+ * Graph of a segment being merged, loaded to seed the graph of the merged segment, so that a merge only inserts the vectors of the
+ * other segments instead of building the merged graph from scratch.
+ * <p>
+ * The largest segment without deleted docs is used: HNSW graphs cannot drop nodes without repairing the neighbor lists pointing to
+ * them, so segments with deleted docs are always re-inserted. Only faiss HNSW indices of float vectors without quantization are
+ * seeded, as the graph of a segment is then built from the same vectors as the merged one.
+ */
+@Log4j2
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class MergeIndexSeed {
+    // Address of the loaded index, with the doc ids of the merged segment
+    private final long indexMemoryAddress;
+    // Doc ids of the merged segment whose vectors are already in the loaded index
+    private final Bits seededDocs;
+
+    /**
+     * Load the graph of a segment being merged to seed the graph of the merged segment.
+     *
+     * @param indexInfo {@link BuildIndexParams} of the merged index
+     * @return {@link MergeIndexSeed}, null if the index is not built by a merge, or no segment being merged can seed it
+     */
+    static MergeIndexSeed load(final BuildIndexParams indexInfo) {
+        final MergeState mergeState = indexInfo.getMergeState();
+        if (mergeState == null || isSupported(indexInfo) == false) {
+            return null;
+        }
+        try {
+            return load(mergeState, indexInfo.getFieldName(), indexInfo.getKnnEngine());
+        } catch (Exception e) {
+            // The merged graph is built from scratch instead
+            log.warn("Unable to seed the merged index of field [{}] with a segment being merged", indexInfo.getFieldName(), e);
+            return null;
+        }
+    }
+
+    private static boolean isSupported(final BuildIndexParams indexInfo) {
+        final Object indexDescription = indexInfo.getParameters().get(INDEX_DESCRIPTION_PARAMETER);
+        return indexInfo.getKnnEngine() == KNNEngine.FAISS
+            && indexInfo.getVectorDataType() == VectorDataType.FLOAT
+            && indexInfo.getQuantizationState() == null
+            && indexDescription != null
+            && indexDescription.toString().startsWith(FAISS_HNSW_DESCRIPTION);
+    }
+
+    private static MergeIndexSeed load(final MergeState mergeState, final String fieldName, final KNNEngine knnEngine)
+        throws IOException {
+        int seedSegment = -1;
+        int seedSize = 0;
+        for (int i = 0; i < mergeState.knnVectorsReaders.length; ++i) {
+            if (mergeState.liveDocs[i] != null || getNativeEnginesReader(mergeState, i, fieldName) == null) {
+                continue;
+            }
+            final FloatVectorValues values = mergeState.knnVectorsReaders[i].getFloatVectorValues(fieldName);
+            if (values != null && values.size() > seedSize) {
+                seedSegment = i;
+                seedSize = values.size();
+            }
+        }
+        if (seedSegment == -1) {
+            return null;
+        }
+
+        final MergeState.DocMap docMap = mergeState.docMaps[seedSegment];
+        final int[] newDocIds = new int[mergeState.maxDocs[seedSegment]];
+        for (int docId = 0; docId < newDocIds.length; ++docId) {
+            newDocIds[docId] = docMap.get(docId);
+        }
+        final FixedBitSet seededDocs = new FixedBitSet(mergeState.segmentInfo.maxDoc());
+        final KnnVectorValues.DocIndexIterator iterator = mergeState.knnVectorsReaders[seedSegment].getFloatVectorValues(fieldName)
+            .iterator();
+        for (int docId = iterator.nextDoc(); docId != DocIdSetIterator.NO_MORE_DOCS; docId = iterator.nextDoc()) {
+            seededDocs.set(newDocIds[docId]);
+        }
+
+        try (IndexInput indexInput = getNativeEnginesReader(mergeState, seedSegment, fieldName).openNativeEngineFile(fieldName)) {
+            if (indexInput == null) {
+                // The graph of the segment was not built, e.g. it is below the build threshold
+                return null;
+            }
+            final IndexInputWithBuffer indexInputWithBuffer = new IndexInputWithBuffer(indexInput);
+            final long indexMemoryAddress = AccessController.doPrivileged(
+                (PrivilegedAction<Long>) () -> JNIService.loadIndexForMerge(indexInputWithBuffer, newDocIds, knnEngine)
+            );
+            log.debug("Seeded the merged index of field [{}] with the {} vectors of segment {}", fieldName, seedSize, seedSegment);
+            return new MergeIndexSeed(indexMemoryAddress, seededDocs);
+        }
+    }
+
+    // Native engines reader of the field in a segment being merged, null if the segment has no vectors of the field
+    private static NativeEngines990KnnVectorsReader getNativeEnginesReader(
+        final MergeState mergeState,
+        final int segment,
+        final String fieldName
+    ) {
+        KnnVectorsReader reader = mergeState.knnVectorsReaders[segment];
+        final FieldInfo fieldInfo = mergeState.fieldInfos[segment].fieldInfo(fieldName);
+        if (reader == null || fieldInfo == null || fieldInfo.hasVectorValues() == false) {
+            return null;
+        }
+        if (reader instanceof PerFieldKnnVectorsFormat.FieldsReader fieldsReader) {
+            reader = fieldsReader.getFieldReader(fieldName);
+        }
+        return reader instanceof NativeEngines990KnnVectorsReader nativeEnginesReader ? nativeEnginesReader : null;
+    }
+}
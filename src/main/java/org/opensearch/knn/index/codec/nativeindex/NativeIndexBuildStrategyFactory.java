@@ -8,18 +8,22 @@ package org.opensearch.knn.index.codec.nativeindex;
 import lombok.Setter;
 import org.apache.lucene.index.FieldInfo;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.nativeindex.remote.RemoteIndexBuildStrategy;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.KNNLibraryIndexingContext;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import static org.opensearch.knn.common.FieldInfoExtractor.extractKNNEngine;
 import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_TRANSFER_THREAD_POOL;
 import static org.opensearch.knn.index.KNNSettings.isKNNRemoteVectorBuildEnabled;
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
 
@@ -28,6 +32,9 @@ import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorV
  */
 public final class NativeIndexBuildStrategyFactory {
 
+    @Setter
+    private static ThreadPool threadPool;
+
     private final Supplier<RepositoriesService> repositoriesServiceSupplier;
     private final IndexSettings indexSettings;
     @Setter
@@ -42,6 +49,28 @@ public final class NativeIndexBuildStrategyFactory {
         this.indexSettings = indexSettings;
     }
 
+    /**
+     * @return True if built graphs should be reordered for page locality, see {@link KNNSettings#INDEX_KNN_GRAPH_REORDER_ENABLED}.
+     */
+    public boolean isGraphReorderEnabled() {
+        return indexSettings != null && indexSettings.getValue(KNNSettings.INDEX_KNN_GRAPH_REORDER_ENABLED_SETTING);
+    }
+
+    /**
+     * @return Executor reading the vectors of pipelined transfers, or null if the thread pool is not available, e.g. in UTs.
+     */
+    static ExecutorService getVectorTransferExecutor() {
+        if (threadPool == null) {
+            return null;
+        }
+        try {
+            return threadPool.executor(VECTOR_TRANSFER_THREAD_POOL);
+        } catch (IllegalArgumentException e) {
+            // Vector transfer thread pool is not registered, e.g. in UTs.
+            return null;
+        }
+    }
+
     /**
      * @param fieldInfo         Field related attributes/info
      * @param totalLiveDocs     Number of documents with the vector field. This values comes from {@link org.opensearch.knn.index.codec.KNN990Codec.NativeEngines990KnnVectorsWriter#flush}
@@ -8,6 +8,7 @@ package org.opensearch.knn.index.codec.nativeindex.model;
 import lombok.Builder;
 import lombok.ToString;
 import lombok.Value;
+import org.apache.lucene.index.MergeState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.opensearch.common.Nullable;
 import org.opensearch.knn.index.VectorDataType;
@@ -37,4 +38,13 @@ public class BuildIndexParams {
     int totalLiveDocs;
     SegmentWriteState segmentWriteState;
     boolean isFlush;
+    /**
+     * Whether to renumber graph vectors for page locality before writing the index
+     */
+    boolean graphReorderEnabled;
+    /**
+     * State of the merge building the index, null for flushes. Used to seed the index with the graph of a segment being merged
+     */
+    @Nullable
+    MergeState mergeState;
 }
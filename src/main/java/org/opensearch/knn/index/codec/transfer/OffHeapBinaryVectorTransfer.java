@@ -8,7 +8,6 @@ package org.opensearch.knn.index.codec.transfer;
 import org.opensearch.knn.jni.JNICommons;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Transfer quantized binary vectors to off heap memory
@@ -21,17 +20,22 @@ public final class OffHeapBinaryVectorTransfer extends OffHeapVectorTransfer<byt
         super(bytesPerVector, totalVectorsToTransfer);
     }
 
+    @Override
+    protected byte[][] createBatch(int size) {
+        return new byte[size][];
+    }
+
     @Override
     public void deallocate() {
         JNICommons.freeBinaryVectorData(getVectorAddress());
     }
 
     @Override
-    protected long transfer(List<byte[]> batch, boolean append) throws IOException {
+    protected long transfer(byte[][] batch, boolean append) throws IOException {
         return JNICommons.storeBinaryVectorData(
             getVectorAddress(),
-            batch.toArray(new byte[][] {}),
-            (long) batch.get(0).length * transferLimit,
+            batch,
+            (long) batch[0].length * transferLimit,
             append
         );
     }
@@ -8,7 +8,6 @@ package org.opensearch.knn.index.codec.transfer;
 import org.opensearch.knn.jni.JNICommons;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Transfer quantized byte vectors to off heap memory.
@@ -22,15 +21,20 @@ public final class OffHeapByteVectorTransfer extends OffHeapVectorTransfer<byte[
     }
 
     @Override
-    protected long transfer(List<byte[]> batch, boolean append) throws IOException {
+    protected long transfer(byte[][] batch, boolean append) throws IOException {
         return JNICommons.storeByteVectorData(
             getVectorAddress(),
-            batch.toArray(new byte[][] {}),
-            (long) batch.get(0).length * transferLimit,
+            batch,
+            (long) batch[0].length * transferLimit,
             append
         );
     }
 
+    @Override
+    protected byte[][] createBatch(int size) {
+        return new byte[size][];
+    }
+
     @Override
     public void deallocate() {
         JNICommons.freeByteVectorData(getVectorAddress());
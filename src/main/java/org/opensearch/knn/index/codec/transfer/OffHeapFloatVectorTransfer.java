@@ -8,7 +8,6 @@ package org.opensearch.knn.index.codec.transfer;
 import org.opensearch.knn.jni.JNICommons;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Transfer float vectors to off heap memory.
@@ -20,15 +19,20 @@ public final class OffHeapFloatVectorTransfer extends OffHeapVectorTransfer<floa
     }
 
     @Override
-    protected long transfer(final List<float[]> vectorsToTransfer, boolean append) throws IOException {
+    protected long transfer(final float[][] vectorsToTransfer, boolean append) throws IOException {
         return JNICommons.storeVectorData(
             getVectorAddress(),
-            vectorsToTransfer.toArray(new float[][] {}),
-            (long) vectorsToTransfer.get(0).length * this.transferLimit,
+            vectorsToTransfer,
+            (long) vectorsToTransfer[0].length * this.transferLimit,
             append
         );
     }
 
+    @Override
+    protected float[][] createBatch(int size) {
+        return new float[size][];
+    }
+
     @Override
     public void deallocate() {
         JNICommons.freeVectorData(getVectorAddress());
@@ -11,8 +11,7 @@ import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * <p>
@@ -31,11 +30,13 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
     @Getter
     protected final int transferLimit;
 
-    private List<T> vectorsToTransfer;
+    // Preallocated batch handed as is to the native side once full, so that no list has to be copied into an array per batch
+    private T[] vectorsToTransfer;
+    private int vectorsToTransferCount;
 
     public OffHeapVectorTransfer(int bytesPerVector, int totalVectorsToTransfer) {
         this.transferLimit = computeTransferLimit(bytesPerVector, totalVectorsToTransfer);
-        this.vectorsToTransfer = new ArrayList<>(this.transferLimit);
+        this.vectorsToTransfer = createBatch(this.transferLimit);
         this.vectorAddress = 0;
     }
 
@@ -52,10 +53,10 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
      * @throws IOException
      */
     public boolean transfer(T vector, boolean append) throws IOException {
-        vectorsToTransfer.add(vector);
-        if (vectorsToTransfer.size() == this.transferLimit) {
+        vectorsToTransfer[vectorsToTransferCount++] = vector;
+        if (vectorsToTransferCount == this.transferLimit) {
             vectorAddress = transfer(vectorsToTransfer, append);
-            vectorsToTransfer.clear();
+            clearVectorsToTransfer();
             return true;
         }
         return false;
@@ -71,14 +72,20 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
      */
     public boolean flush(boolean append) throws IOException {
         // flush before closing
-        if (!vectorsToTransfer.isEmpty()) {
-            vectorAddress = transfer(vectorsToTransfer, append);
-            vectorsToTransfer.clear();
+        if (vectorsToTransferCount != 0) {
+            vectorAddress = transfer(Arrays.copyOf(vectorsToTransfer, vectorsToTransferCount), append);
+            clearVectorsToTransfer();
             return true;
         }
         return false;
     }
 
+    private void clearVectorsToTransfer() {
+        // Release the references to the transferred vectors
+        Arrays.fill(vectorsToTransfer, 0, vectorsToTransferCount, null);
+        vectorsToTransferCount = 0;
+    }
+
     @Override
     public void close() {
         // Remove this if condition once create and write index is separated for nmslib
@@ -98,9 +105,16 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
     public void reset() {
         vectorAddress = 0;
         vectorsToTransfer = null;
+        vectorsToTransferCount = 0;
     }
 
     protected abstract void deallocate();
 
-    protected abstract long transfer(final List<T> vectorsToTransfer, boolean append) throws IOException;
+    /**
+     * @param size number of vectors of a batch
+     * @return empty batch of vectors
+     */
+    protected abstract T[] createBatch(int size);
+
+    protected abstract long transfer(final T[] vectorsToTransfer, boolean append) throws IOException;
 }
@@ -74,6 +74,19 @@ public class MemoryOptimizedSearchSupportSpec {
         return false;
     }
 
+    /**
+     * Determines whether segments of the field can be searched memory optimized when their graph was evicted from the native memory
+     * cache, while memory optimized search is not enabled for the field.
+     *
+     * @param fieldType Field type
+     * @return True if evicted graphs of the field can be served memory optimized, otherwise False.
+     */
+    public static boolean isSupportedForCacheTiering(final KNNVectorFieldType fieldType) {
+        return fieldType.isMemoryOptimizedSearchAvailable()
+            && fieldType.getIndexCreatedVersion() != null
+            && fieldType.getIndexCreatedVersion().onOrAfter(MIN_VERSION_SUPPORTS_MEM_OPT_SEARCH);
+    }
+
     /**
      * Determine whether if a KNN field supports memory-optimized-search.
      * If it is supported, then the field can perform memory-optimized search via {@link VectorSearcher}.
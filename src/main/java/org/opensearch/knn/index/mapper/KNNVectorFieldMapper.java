@@ -6,6 +6,9 @@
 package org.opensearch.knn.index.mapper;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -808,13 +811,16 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
 
     // Returns an optional array of byte values where each value in the vector is parsed as a float and validated
     // if it is a finite number without any decimals and within the byte range of [-128 to 127].
+    // The vector is either an array of numbers or a base64 encoded string of the bytes of the vector.
     Optional<byte[]> getBytesFromContext(ParseContext context, int dimension, VectorDataType dataType) throws IOException {
         context.path().add(simpleName());
 
         PerDimensionValidator perDimensionValidator = getPerDimensionValidator();
         PerDimensionProcessor perDimensionProcessor = getPerDimensionProcessor();
 
-        ArrayList<Byte> vector = new ArrayList<>();
+        // Values are written in place into a vector of the mapped dimension, values beyond it are only counted
+        final byte[] vector = new byte[getExpectedVectorLength(dimension, dataType)];
+        int size = 0;
         XContentParser.Token token = context.parser().currentToken();
 
         if (token == XContentParser.Token.START_ARRAY) {
@@ -822,34 +828,49 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
             while (token != XContentParser.Token.END_ARRAY) {
                 float value = perDimensionProcessor.processByte(context.parser().floatValue());
                 perDimensionValidator.validateByte(value);
-                vector.add((byte) value);
+                if (size < vector.length) {
+                    vector[size] = (byte) value;
+                }
+                size++;
                 token = context.parser().nextToken();
             }
         } else if (token == XContentParser.Token.VALUE_NUMBER) {
             float value = perDimensionProcessor.processByte(context.parser().floatValue());
             perDimensionValidator.validateByte(value);
-            vector.add((byte) value);
+            if (vector.length > 0) {
+                vector[0] = (byte) value;
+            }
+            size = 1;
+            context.parser().nextToken();
+        } else if (isEncodedVector(token)) {
+            final byte[] encodedVector = context.parser().binaryValue();
+            validateVectorDimension(dimension, encodedVector.length, dataType);
+            for (int i = 0; i < encodedVector.length; i++) {
+                float value = perDimensionProcessor.processByte(encodedVector[i]);
+                perDimensionValidator.validateByte(value);
+                vector[i] = (byte) value;
+            }
+            size = encodedVector.length;
             context.parser().nextToken();
         } else if (token == XContentParser.Token.VALUE_NULL) {
             context.path().remove();
             return Optional.empty();
         }
-        validateVectorDimension(dimension, vector.size(), dataType);
-        byte[] array = new byte[vector.size()];
-        int i = 0;
-        for (Byte f : vector) {
-            array[i++] = f;
-        }
-        return Optional.of(array);
+        validateVectorDimension(dimension, size, dataType);
+        return Optional.of(vector);
     }
 
+    // Returns an optional array of float values. The vector is either an array of numbers or a base64 encoded string of the
+    // little-endian IEEE 754 bytes of the vector, which skips parsing every value as a JSON number.
     Optional<float[]> getFloatsFromContext(ParseContext context, int dimension) throws IOException {
         context.path().add(simpleName());
 
         PerDimensionValidator perDimensionValidator = getPerDimensionValidator();
         PerDimensionProcessor perDimensionProcessor = getPerDimensionProcessor();
 
-        ArrayList<Float> vector = new ArrayList<>();
+        // Values are written in place into a vector of the mapped dimension, values beyond it are only counted
+        final float[] vector = new float[getExpectedVectorLength(dimension, vectorDataType)];
+        int size = 0;
         XContentParser.Token token = context.parser().currentToken();
         float value;
         if (token == XContentParser.Token.START_ARRAY) {
@@ -857,26 +878,57 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
             while (token != XContentParser.Token.END_ARRAY) {
                 value = perDimensionProcessor.process(context.parser().floatValue());
                 perDimensionValidator.validate(value);
-                vector.add(value);
+                if (size < vector.length) {
+                    vector[size] = value;
+                }
+                size++;
                 token = context.parser().nextToken();
             }
         } else if (token == XContentParser.Token.VALUE_NUMBER) {
             value = perDimensionProcessor.process(context.parser().floatValue());
             perDimensionValidator.validate(value);
-            vector.add(value);
+            if (vector.length > 0) {
+                vector[0] = value;
+            }
+            size = 1;
+            context.parser().nextToken();
+        } else if (isEncodedVector(token)) {
+            final byte[] encodedVector = context.parser().binaryValue();
+            if (encodedVector.length % Float.BYTES != 0) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "The length of the encoded vector must be a multiple of %d bytes. Given: %d",
+                        Float.BYTES,
+                        encodedVector.length
+                    )
+                );
+            }
+            size = encodedVector.length / Float.BYTES;
+            validateVectorDimension(dimension, size, vectorDataType);
+            final FloatBuffer encodedValues = ByteBuffer.wrap(encodedVector).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            for (int i = 0; i < size; i++) {
+                value = perDimensionProcessor.process(encodedValues.get(i));
+                perDimensionValidator.validate(value);
+                vector[i] = value;
+            }
             context.parser().nextToken();
         } else if (token == XContentParser.Token.VALUE_NULL) {
             context.path().remove();
             return Optional.empty();
         }
-        validateVectorDimension(dimension, vector.size(), vectorDataType);
+        validateVectorDimension(dimension, size, vectorDataType);
+        return Optional.of(vector);
+    }
 
-        float[] array = new float[vector.size()];
-        int i = 0;
-        for (Float f : vector) {
-            array[i++] = f;
-        }
-        return Optional.of(array);
+    // A string holds the base64 encoded bytes of a vector, binary formats like CBOR and SMILE hold the raw bytes
+    private static boolean isEncodedVector(final XContentParser.Token token) {
+        return token == XContentParser.Token.VALUE_STRING || token == XContentParser.Token.VALUE_EMBEDDED_OBJECT;
+    }
+
+    // Number of values of a vector of the given dimension, binary vectors pack 8 dimensions into each byte
+    private static int getExpectedVectorLength(final int dimension, final VectorDataType dataType) {
+        return Math.max(0, VectorDataType.BINARY == dataType ? dimension / Byte.SIZE : dimension);
     }
 
     @Override
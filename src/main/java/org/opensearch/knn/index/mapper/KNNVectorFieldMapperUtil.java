@@ -30,7 +30,11 @@ import org.opensearch.knn.index.engine.KNNMethodContext;
 import org.opensearch.knn.index.engine.MethodComponentContext;
 import org.opensearch.knn.index.util.IndexHyperParametersUtil;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
 import java.util.Map;
 
 import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
@@ -107,6 +111,52 @@ public class KNNVectorFieldMapperUtil {
         return VectorDataType.BINARY == knnVectorFieldType.getVectorDataType() ? expectedDimensions / 8 : expectedDimensions;
     }
 
+    /**
+     * Decodes a float vector given in the _source as a base64 encoded string, or as raw bytes for binary formats like CBOR and
+     * SMILE, holding the little-endian IEEE 754 bytes of the vector.
+     *
+     * @param sourceValue value of the vector field in the _source
+     * @return decoded vector, or null if the value is not an encoded vector
+     * @throws IllegalArgumentException if the value is not valid base64 or its length is not a multiple of 4 bytes
+     */
+    public static float[] decodeFloatVector(final Object sourceValue) {
+        final byte[] encodedVector = decodeByteVector(sourceValue);
+        if (encodedVector == null) {
+            return null;
+        }
+        if (encodedVector.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "The length of the encoded vector must be a multiple of %d bytes. Given: %d",
+                    Float.BYTES,
+                    encodedVector.length
+                )
+            );
+        }
+        final float[] vector = new float[encodedVector.length / Float.BYTES];
+        ByteBuffer.wrap(encodedVector).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    /**
+     * Decodes a byte or binary vector given in the _source as a base64 encoded string, or as raw bytes for binary formats like
+     * CBOR and SMILE.
+     *
+     * @param sourceValue value of the vector field in the _source
+     * @return decoded vector, or null if the value is not an encoded vector
+     * @throws IllegalArgumentException if the value is not valid base64
+     */
+    public static byte[] decodeByteVector(final Object sourceValue) {
+        if (sourceValue instanceof String encodedVector) {
+            return Base64.getDecoder().decode(encodedVector);
+        }
+        if (sourceValue instanceof byte[] encodedVector) {
+            return encodedVector;
+        }
+        return null;
+    }
+
     /**
      * Validate if the circuit breaker is triggered
      */
@@ -14,7 +14,6 @@ package org.opensearch.knn.index.memory;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheStats;
-import com.google.common.cache.RemovalCause;
 import com.google.common.cache.RemovalNotification;
 import lombok.Getter;
 import lombok.Setter;
@@ -29,20 +28,28 @@ import org.opensearch.knn.plugin.stats.StatNames;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.threadpool.Scheduler.Cancellable;
 
+import static org.opensearch.knn.common.KNNConstants.GRAPH_LOAD_THREAD_POOL;
+
 import java.io.Closeable;
-import java.util.Deque;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongPredicate;
 
 /**
  * Manages native memory allocations made by JNI.
@@ -50,18 +57,35 @@ import java.util.concurrent.locks.ReentrantLock;
 public class NativeMemoryCacheManager implements Closeable {
 
     public static String GRAPH_COUNT = "graph_count";
+    public static String GRAPH_MEMORY_QUOTA = "graph_memory_quota";
 
     private static final Logger logger = LogManager.getLogger(NativeMemoryCacheManager.class);
     private static NativeMemoryCacheManager INSTANCE;
+    // The weight limit is enforced by the manager rather than by the cache, so the cache does not need a single segment.
+    private static final int CACHE_CONCURRENCY_LEVEL = 16;
     @Setter
     private static ThreadPool threadPool;
 
     private Cache<String, NativeMemoryAllocation> cache;
-    private Deque<String> accessRecencyQueue;
+    private NativeMemoryRecencyTracker recencyTracker;
+    // Indices seen with a quota on their last load. Without a weight limit, only their hits need to be recorded.
+    private final Set<String> indicesWithQuota = ConcurrentHashMap.newKeySet();
+    // Serializes evictions under weight pressure. Loads run outside of it, having reserved their size.
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong reservedSizeInKB = new AtomicLong();
+    // The cache only counts its own evictions, which no longer include the ones under weight pressure.
+    private final LongAdder weightEvictionCount = new LongAdder();
     private final ConcurrentHashMap<String, ReentrantLock> indexLocks = new ConcurrentHashMap<>();
+    // In-flight asynchronous loads, so that concurrent requests for the same key share a single load.
+    private final ConcurrentHashMap<String, CompletableFuture<NativeMemoryAllocation>> pendingLoads = new ConcurrentHashMap<>();
+    // In-flight asynchronous loads whose key was invalidated, their result must not stay in the cache.
+    private final Set<CompletableFuture<NativeMemoryAllocation>> invalidatedLoads = ConcurrentHashMap.newKeySet();
+    // Graphs evicted under weight pressure, mapped to the searches served memory optimized in the current promotion window.
+    private final ConcurrentHashMap<String, WarmTierAccessCount> warmTierAccessCounts = new ConcurrentHashMap<>();
     private final ExecutorService executor;
     private AtomicBoolean cacheCapacityReached;
     private long maxWeight;
+    private boolean isWeightLimited;
     @Getter
     private Cancellable maintenanceTask;
 
@@ -107,14 +131,16 @@ public class NativeMemoryCacheManager implements Closeable {
     }
 
     private void initialize(NativeMemoryCacheManagerDto nativeMemoryCacheDTO) {
+        // Guava splits a maximum weight evenly across segments, and would need a single segment to enforce it globally. The manager
+        // evicts in its own recency order instead, see evictUnderWeightPressure, so the cache is not weight limited.
         CacheBuilder<String, NativeMemoryAllocation> cacheBuilder = CacheBuilder.newBuilder()
             .recordStats()
-            .concurrencyLevel(1)
+            .concurrencyLevel(CACHE_CONCURRENCY_LEVEL)
             .removalListener(this::onRemoval);
 
-        if (nativeMemoryCacheDTO.isWeightLimited()) {
+        this.isWeightLimited = nativeMemoryCacheDTO.isWeightLimited();
+        if (this.isWeightLimited) {
             this.maxWeight = nativeMemoryCacheDTO.getMaxWeight();
-            cacheBuilder.maximumWeight(this.maxWeight).weigher((k, v) -> v.getSizeInKB());
         }
 
         if (nativeMemoryCacheDTO.isExpirationLimited()) {
@@ -122,8 +148,8 @@ public class NativeMemoryCacheManager implements Closeable {
         }
 
         cacheCapacityReached = new AtomicBoolean(false);
-        accessRecencyQueue = new ConcurrentLinkedDeque<>();
         cache = cacheBuilder.build();
+        recencyTracker = new NativeMemoryRecencyTracker(cache.asMap());
 
         if (threadPool != null) {
             startMaintenance(cache);
@@ -161,6 +187,7 @@ public class NativeMemoryCacheManager implements Closeable {
             // Explicitly invalidate all so that we do not have to wait for garbage collection to be invoked to
             // free up native memory
             cache.invalidateAll();
+            warmTierAccessCounts.clear();
             initialize(nativeMemoryCacheDTO);
         });
     }
@@ -306,7 +333,7 @@ public class NativeMemoryCacheManager implements Closeable {
      * @return cache stats
      */
     public CacheStats getCacheStats() {
-        return cache.stats();
+        return cache.stats().plus(new CacheStats(0, 0, 0, 0, 0, weightEvictionCount.sum()));
     }
 
     /**
@@ -332,7 +359,7 @@ public class NativeMemoryCacheManager implements Closeable {
 
     /**
      * Retrieves an entry from the cache and updates its access recency if found.
-     * This method combines cache access with recency queue management to maintain
+     * This method combines cache access with recency tracking to maintain
      * the least recently used (LRU) order of cached entries.
      *
      * @param key the unique identifier for the cached entry
@@ -341,21 +368,158 @@ public class NativeMemoryCacheManager implements Closeable {
     private NativeMemoryAllocation getFromCacheAndUpdateRecency(String key) {
         NativeMemoryAllocation result = cache.getIfPresent(key);
         if (result != null) {
-            updateAccessRecency(key);
+            updateAccessRecency(key, result);
         }
         return result;
     }
 
     /**
-     * Updates the access recency of a cached entry by moving it to the end of the queue.
-     * This method maintains the least recently used (LRU) order by removing the entry
-     * from its current position and adding it to the end of the queue.
+     * Marks a cached entry as the most recently used one. This is O(1) and never blocks, see {@link NativeMemoryRecencyTracker}.
      *
      * @param key the unique identifier for the cached entry whose recency needs to be updated
+     * @param nativeMemoryAllocation the allocation the entry maps to
+     */
+    private void updateAccessRecency(String key, NativeMemoryAllocation nativeMemoryAllocation) {
+        recencyTracker.recordAccess(getOpenSearchIndexName(nativeMemoryAllocation), key, nativeMemoryAllocation);
+    }
+
+    /**
+     * Registers an entry that was just loaded into the cache as the most recently used one, so that it can be picked for eviction.
+     */
+    private void trackLoadedEntry(String key, NativeMemoryAllocation nativeMemoryAllocation) {
+        recencyTracker.add(getOpenSearchIndexName(nativeMemoryAllocation), key, nativeMemoryAllocation);
+    }
+
+    /**
+     * Evicts cached entries until the given size fits next to the cache content and the loads in flight, the entry being loaded
+     * excluded. Entries are evicted in least recently used order, unless fair eviction is enabled, in which case the least recently
+     * used entry of the index using the largest fraction of its fair share goes first.
+     * <p>
+     * Must be called holding the eviction lock.
+     *
+     * @param entrySizeInKB Size of the entry that needs room, 0 if it is already in the cache
+     * @param keyToKeep Key of the entry that needs room
+     * @param hasRoom Tells, given the size of the cache, whether there is enough room
+     * @return Number of evicted entries
+     */
+    private int evictUntilRoom(final long entrySizeInKB, final String keyToKeep, final LongPredicate hasRoom) {
+        long cacheSizeInKB = getCacheSizeInKilobytes() + reservedSizeInKB.get() + entrySizeInKB;
+        if (hasRoom.test(cacheSizeInKB)) {
+            return 0;
+        }
+
+        final Map<String, Long> sharePerIndex = KNNSettings.isCacheFairEvictionEnabled()
+            ? getFairSharePerIndex(recencyTracker.getIndexNames())
+            : null;
+        int evicted = 0;
+        while (hasRoom.test(cacheSizeInKB) == false) {
+            final NativeMemoryRecencyTracker.Entry victim = sharePerIndex == null
+                ? recencyTracker.eldest()
+                : getFairShareVictim(sharePerIndex);
+            if (victim == null || victim.getKey().equals(keyToKeep)) {
+                break;
+            }
+            if (cache.asMap().remove(victim.getKey(), victim.getAllocation())) {
+                cacheSizeInKB -= victim.getSizeInKB();
+                weightEvictionCount.increment();
+                demoteToWarmTier(victim.getKey(), victim.getAllocation());
+                ++evicted;
+            } else {
+                // The cache already dropped the entry, its removal notification is yet to be processed.
+                recencyTracker.remove(victim.getIndexName(), victim.getKey(), victim.getAllocation());
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the least recently used entry of the index using the largest fraction of its fair share.
+     */
+    private NativeMemoryRecencyTracker.Entry getFairShareVictim(final Map<String, Long> sharePerIndex) {
+        String victimIndex = null;
+        double maxShareUsage = -1;
+        for (Map.Entry<String, Long> share : sharePerIndex.entrySet()) {
+            final double shareUsage = (double) recencyTracker.getSizeInKB(share.getKey()) / share.getValue();
+            if (recencyTracker.eldest(share.getKey()) != null && shareUsage > maxShareUsage) {
+                maxShareUsage = shareUsage;
+                victimIndex = share.getKey();
+            }
+        }
+        // Indices that showed up after the shares were computed are only evicted once the others are empty.
+        return victimIndex == null ? recencyTracker.eldest() : recencyTracker.eldest(victimIndex);
+    }
+
+    /**
+     * Computes the fair share in kilobytes of each index. Indices with a quota get their quota, and the other indices evenly split
+     * what remains of the cache.
+     */
+    private Map<String, Long> getFairSharePerIndex(final Set<String> indexNames) {
+        final Map<String, Long> sharePerIndex = new HashMap<>();
+        long totalQuotaInKB = 0;
+        int numIndicesWithoutQuota = 0;
+        for (String indexName : indexNames) {
+            final long quotaInKB = indexName.isEmpty() ? -1 : KNNSettings.getIndexMemoryQuotaInKB(indexName);
+            if (quotaInKB >= 0) {
+                sharePerIndex.put(indexName, Math.max(1, quotaInKB));
+                totalQuotaInKB += quotaInKB;
+            } else {
+                ++numIndicesWithoutQuota;
+            }
+        }
+        final long remainingShareInKB = Math.max(1, (maxWeight - totalQuotaInKB) / Math.max(1, numIndicesWithoutQuota));
+        for (String indexName : indexNames) {
+            sharePerIndex.putIfAbsent(indexName, remainingShareInKB);
+        }
+        return sharePerIndex;
+    }
+
+    /**
+     * Returns the least recently used graphs of the index the entry belongs to that must be evicted for the entry to fit within the
+     * index quota. The quota is soft, if the entry does not fit even after evicting every other graph of the index, it is loaded
+     * regardless.
+     * <p>
+     * This only reads the cache and the cluster state, so it must be called neither under the eviction lock nor from within
+     * a cache loader, otherwise loads of unrelated keys would serialize on it.
+     *
+     * @param nativeMemoryEntryContext Context of the entry about to be loaded
+     * @param entrySizeInKB Size of the entry about to be loaded
+     * @return Keys to evict, in eviction order
+     */
+    private List<String> getKeysOverIndexQuota(final NativeMemoryEntryContext<?> nativeMemoryEntryContext, final long entrySizeInKB) {
+        if ((nativeMemoryEntryContext instanceof NativeMemoryEntryContext.IndexEntryContext) == false) {
+            return Collections.emptyList();
+        }
+        final String indexName = ((NativeMemoryEntryContext.IndexEntryContext) nativeMemoryEntryContext).getOpenSearchIndexName();
+        if (indexName == null) {
+            return Collections.emptyList();
+        }
+        final long quotaInKB = KNNSettings.getIndexMemoryQuotaInKB(indexName);
+        if (quotaInKB < 0) {
+            indicesWithQuota.remove(indexName);
+            return Collections.emptyList();
+        }
+        indicesWithQuota.add(indexName);
+
+        final long sizeToFreeInKB = recencyTracker.getSizeInKB(indexName) + entrySizeInKB - quotaInKB;
+        return recencyTracker.getEldestEntries(indexName, sizeToFreeInKB).stream().map(NativeMemoryRecencyTracker.Entry::getKey).toList();
+    }
+
+    /**
+     * Evicts the given graphs of an index over its quota. Unlike graphs evicted under weight pressure, they are not demoted to the warm
+     * tier, the index is expected to stay within its quota.
      */
-    private void updateAccessRecency(String key) {
-        accessRecencyQueue.remove(key);
-        accessRecencyQueue.addLast(key);
+    private void evictKeysOverIndexQuota(final List<String> keysToRemove) {
+        for (String keyToRemove : keysToRemove) {
+            cache.invalidate(keyToRemove);
+        }
+    }
+
+    private static String getOpenSearchIndexName(final NativeMemoryAllocation nativeMemoryAllocation) {
+        if (nativeMemoryAllocation instanceof NativeMemoryAllocation.IndexAllocation indexAllocation
+            && indexAllocation.getOpenSearchIndexName() != null) {
+            return indexAllocation.getOpenSearchIndexName();
+        }
+        return "";
     }
 
     /**
@@ -386,17 +550,14 @@ public class NativeMemoryCacheManager implements Closeable {
 
         if (KNNFeatureFlags.isForceEvictCacheEnabled()) {
             // Utilizes a force eviction mechanism to free up memory before the entry can be added to the cache
-            // In case of a cache hit, the operation just updates the locally maintained recency list
+            // In case of a cache hit, the operation just updates the locally maintained recency order
             // In case of a cache miss, least recently accessed entries are evicted in a blocking manner
             // before the new entry can be added to the cache.
             String key = nativeMemoryEntryContext.getKey();
 
             // Cache Hit
-            // In case of a cache hit, moving the item to the end of the recency queue adds
-            // some overhead to the get operation. This can be optimized further to make this operation
-            // as lightweight as possible. Multiple approaches and their outcomes were documented
-            // before moving forward with the current solution.
-            // The details are outlined here: https://github.com/opensearch-project/k-NN/pull/2015#issuecomment-2327064680
+            // Recording the access is O(1) and never waits, see NativeMemoryRecencyTracker. Earlier approaches are outlined here:
+            // https://github.com/opensearch-project/k-NN/pull/2015#issuecomment-2327064680
             NativeMemoryAllocation result = getFromCacheAndUpdateRecency(key);
             if (result != null) {
                 return result;
@@ -406,31 +567,37 @@ public class NativeMemoryCacheManager implements Closeable {
             // Evict before put
             // open the graph file before proceeding to load the graph into memory
             open(key, nativeMemoryEntryContext);
-            synchronized (this) {
+            final long entrySizeInKB = nativeMemoryEntryContext.calculateSizeInKB();
+            evictKeysOverIndexQuota(getKeysOverIndexQuota(nativeMemoryEntryContext, entrySizeInKB));
+            evictionLock.lock();
+            try {
                 // recheck if another thread already loaded this entry into the cache
                 result = getFromCacheAndUpdateRecency(key);
                 if (result != null) {
                     return result;
                 }
-                if (getCacheSizeInKilobytes() + nativeMemoryEntryContext.calculateSizeInKB() >= maxWeight) {
-                    Iterator<String> lruIterator = accessRecencyQueue.iterator();
-                    while (lruIterator.hasNext()
-                        && (getCacheSizeInKilobytes() + nativeMemoryEntryContext.calculateSizeInKB() >= maxWeight)) {
-
-                        String keyToRemove = lruIterator.next();
-                        NativeMemoryAllocation allocationToRemove = cache.getIfPresent(keyToRemove);
-                        if (allocationToRemove != null) {
-                            allocationToRemove.close();
-                            cache.invalidate(keyToRemove);
-                        }
-                        lruIterator.remove();
-                    }
-                }
-
-                result = cache.get(key, nativeMemoryEntryContext::load);
-                accessRecencyQueue.addLast(key);
+                evictUntilRoom(entrySizeInKB, key, cacheSizeInKB -> cacheSizeInKB < maxWeight);
+                // Reserve the room, so that concurrent loads of other keys do not take it while this one loads without the lock.
+                reservedSizeInKB.addAndGet(entrySizeInKB);
+            } finally {
+                evictionLock.unlock();
+            }
 
+            try {
+                final AtomicBoolean loaded = new AtomicBoolean();
+                result = cache.get(key, () -> {
+                    final NativeMemoryAllocation allocation = nativeMemoryEntryContext.load();
+                    loaded.set(true);
+                    return allocation;
+                });
+                if (loaded.get()) {
+                    trackLoadedEntry(key, result);
+                } else {
+                    updateAccessRecency(key, result);
+                }
                 return result;
+            } finally {
+                reservedSizeInKB.addAndGet(-entrySizeInKB);
             }
         } else {
             try (nativeMemoryEntryContext) {
@@ -438,15 +605,150 @@ public class NativeMemoryCacheManager implements Closeable {
                 // if we already have the allocation we should not open file again as this will cause slowdown in
                 // heavy throughput cases, since open() function do locking while opening and mapping the graph file to
                 // memory.
-                return cache.get(key, () -> {
+                // Graphs of the index over its quota are picked before loading and evicted once the load returns, so that the loader
+                // never touches other keys.
+                final List<String> keysOverIndexQuota = isAbleToTriggerEviction && cache.asMap().containsKey(key) == false
+                    ? getKeysOverIndexQuota(nativeMemoryEntryContext, nativeMemoryEntryContext.calculateSizeInKB())
+                    : Collections.emptyList();
+                final AtomicBoolean loaded = new AtomicBoolean();
+                final NativeMemoryAllocation result = cache.get(key, () -> {
                     // open graphFile before load
                     open(key, nativeMemoryEntryContext);
-                    return nativeMemoryEntryContext.load();
+                    final NativeMemoryAllocation allocation = nativeMemoryEntryContext.load();
+                    loaded.set(true);
+                    return allocation;
                 });
+                if (loaded.get() == false) {
+                    // Without a weight limit, the order of the entries only matters to evict graphs of an index over its quota.
+                    if (isWeightLimited || indicesWithQuota.contains(getOpenSearchIndexName(result))) {
+                        updateAccessRecency(key, result);
+                    }
+                    return result;
+                }
+                trackLoadedEntry(key, result);
+                evictKeysOverIndexQuota(keysOverIndexQuota);
+                evictUnderWeightPressure(key);
+                return result;
             }
         }
     }
 
+    /**
+     * Evicts least recently used entries once a load made the cache exceed its maximum weight, with the side effects the cache used to
+     * have when evicting under weight pressure: the circuit breaker is tripped and evicted graphs are demoted to the warm tier.
+     *
+     * @param loadedKey Key of the entry that was just loaded, which is not evicted
+     */
+    private void evictUnderWeightPressure(final String loadedKey) {
+        if (isWeightLimited == false) {
+            return;
+        }
+        final int evicted;
+        evictionLock.lock();
+        try {
+            evicted = evictUntilRoom(0, loadedKey, cacheSizeInKB -> cacheSizeInKB <= maxWeight);
+        } finally {
+            evictionLock.unlock();
+        }
+        if (evicted == 0) {
+            return;
+        }
+        setCacheCapacityReached(true);
+        try {
+            KNNSettings.state().updateCircuitBreakerSettings(true);
+        } catch (Exception e) {
+            // Same as when the cache evicted on its own, a failure to trip the breaker does not fail the load.
+            logger.error("[KNN] Failed to update the circuit breaker after evicting under weight pressure", e);
+        }
+    }
+
+    /**
+     * Asynchronously retrieves NativeMemoryAllocation associated with the nativeMemoryEntryContext.
+     * <p>
+     * A cache hit returns a completed future. On a cache miss, the entry is loaded on the graph load thread pool, including any eviction
+     * needed to make room for it, so the calling thread is never blocked. Concurrent requests for the same key while it is being loaded
+     * share the same future, and only the context of the first request is used for loading. The contexts of the other requests are
+     * closed right away.
+     * <p>
+     * If the key is invalidated while it is being loaded, e.g. because its segment was deleted after the searches waiting on it timed
+     * out, the load is skipped if it has not started yet, otherwise the loaded entry is dropped from the cache so that its native memory
+     * is freed. Either way, the future completes exceptionally.
+     *
+     * @param nativeMemoryEntryContext Context from which to get NativeMemoryAllocation
+     * @return Future completed with the NativeMemoryAllocation associated with nativeMemoryEntryContext
+     */
+    public CompletableFuture<NativeMemoryAllocation> getAsync(NativeMemoryEntryContext<?> nativeMemoryEntryContext) {
+        final String key = nativeMemoryEntryContext.getKey();
+        final NativeMemoryAllocation cached = getFromCacheAndUpdateRecency(key);
+        if (cached != null) {
+            nativeMemoryEntryContext.close();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        final CompletableFuture<NativeMemoryAllocation> future = new CompletableFuture<>();
+        final CompletableFuture<NativeMemoryAllocation> inFlight = pendingLoads.putIfAbsent(key, future);
+        if (inFlight != null) {
+            nativeMemoryEntryContext.close();
+            return inFlight;
+        }
+
+        try {
+            getGraphLoadExecutor().execute(() -> {
+                try {
+                    if (invalidatedLoads.contains(future)) {
+                        nativeMemoryEntryContext.close();
+                        future.completeExceptionally(new IllegalStateException("Graph [" + key + "] was invalidated before it was loaded"));
+                        return;
+                    }
+                    final NativeMemoryAllocation allocation = get(nativeMemoryEntryContext, true);
+                    if (invalidatedLoads.contains(future)) {
+                        // The cache keeps the result of a load that was in flight when the key was invalidated, drop it.
+                        cache.asMap().remove(key, allocation);
+                        future.completeExceptionally(new IllegalStateException("Graph [" + key + "] was invalidated while it was loaded"));
+                        return;
+                    }
+                    future.complete(allocation);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    pendingLoads.remove(key, future);
+                    invalidatedLoads.remove(future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingLoads.remove(key, future);
+            nativeMemoryEntryContext.close();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Marks the in-flight asynchronous load of the given key, if any, as invalidated. A new request for the key starts a new load.
+     */
+    private void invalidatePendingLoad(final String key) {
+        final CompletableFuture<NativeMemoryAllocation> pendingLoad = pendingLoads.remove(key);
+        if (pendingLoad == null) {
+            return;
+        }
+        invalidatedLoads.add(pendingLoad);
+        if (pendingLoad.isDone()) {
+            // The load already finished and checked for invalidation, the cache entry is invalidated by the caller.
+            invalidatedLoads.remove(pendingLoad);
+        }
+    }
+
+    private Executor getGraphLoadExecutor() {
+        if (threadPool != null) {
+            try {
+                return threadPool.executor(GRAPH_LOAD_THREAD_POOL);
+            } catch (IllegalArgumentException e) {
+                // Graph load thread pool is not registered, e.g. in UTs.
+            }
+        }
+        return executor;
+    }
+
     /**
      * Returns the NativeMemoryAllocation associated with given index
      * @param indexName name of OpenSearch index
@@ -470,14 +772,66 @@ public class NativeMemoryCacheManager implements Closeable {
      * @param key Identifier of entry to invalidate
      */
     public void invalidate(String key) {
+        // Mark the pending load first, a load finishing after this check is dropped from the cache by the invalidation below.
+        invalidatePendingLoad(key);
         cache.invalidate(key);
+        warmTierAccessCounts.remove(key);
     }
 
     /**
      * Invalidate all entries in the cache.
      */
     public void invalidateAll() {
+        pendingLoads.keySet().forEach(this::invalidatePendingLoad);
         cache.invalidateAll();
+        warmTierAccessCounts.clear();
+    }
+
+    /**
+     * Decides whether a search on the given graph should be served by the memory optimized searcher instead of loading the graph.
+     * <p>
+     * This is the case when cache tiering is enabled, and the graph was evicted because of weight pressure and has not been
+     * promoted back yet. Every call counts as an access, and once the graph was accessed
+     * {@link KNNSettings#getCacheTieringPromotionThreshold()} times within {@link KNNSettings#getCacheTieringPromotionWindow()}, it
+     * is promoted, meaning false is returned so that the caller loads it back into the cache. The count starts over with every window.
+     *
+     * @param key Identifier of the graph
+     * @return True if the graph should be searched memory optimized, false if it should be loaded into the cache.
+     */
+    public boolean shouldServeFromWarmTier(String key) {
+        if (KNNSettings.isCacheTieringEnabled() == false) {
+            return false;
+        }
+
+        final WarmTierAccessCount accessCount = warmTierAccessCounts.get(key);
+        if (accessCount == null || cache.asMap().containsKey(key)) {
+            return false;
+        }
+
+        final long windowInNanos = KNNSettings.getCacheTieringPromotionWindow().nanos();
+        if (accessCount.increment(System.nanoTime(), windowInNanos) < KNNSettings.getCacheTieringPromotionThreshold()) {
+            return true;
+        }
+
+        // Promote, the caller is going to load the graph back into the cache.
+        warmTierAccessCounts.remove(key, accessCount);
+        return false;
+    }
+
+    /**
+     * Returns the number of graphs that were evicted under weight pressure and are served memory optimized.
+     *
+     * @return Number of graphs in the warm tier
+     */
+    public int getWarmTierGraphCount() {
+        return warmTierAccessCounts.size();
+    }
+
+    private void demoteToWarmTier(String key, NativeMemoryAllocation nativeMemoryAllocation) {
+        // Only vector indices can be searched memory optimized.
+        if (nativeMemoryAllocation instanceof NativeMemoryAllocation.IndexAllocation && KNNSettings.isCacheTieringEnabled()) {
+            warmTierAccessCounts.put(key, new WarmTierAccessCount());
+        }
     }
 
     /**
@@ -517,6 +871,12 @@ public class NativeMemoryCacheManager implements Closeable {
                 indexMap.computeIfAbsent(GRAPH_COUNT, key -> getIndexGraphCount(indexName));
                 indexMap.computeIfAbsent(StatNames.GRAPH_MEMORY_USAGE.getName(), key -> getIndexSizeInKilobytes(indexName));
                 indexMap.computeIfAbsent(StatNames.GRAPH_MEMORY_USAGE_PERCENTAGE.getName(), key -> getIndexSizeAsPercentage(indexName));
+                if (indexMap.containsKey(GRAPH_MEMORY_QUOTA) == false) {
+                    final long quotaInKB = KNNSettings.getIndexMemoryQuotaInKB(indexName);
+                    if (quotaInKB >= 0) {
+                        indexMap.put(GRAPH_MEMORY_QUOTA, quotaInKB);
+                    }
+                }
             }
         }
 
@@ -526,11 +886,8 @@ public class NativeMemoryCacheManager implements Closeable {
     private void onRemoval(RemovalNotification<String, NativeMemoryAllocation> removalNotification) {
         NativeMemoryAllocation nativeMemoryAllocation = removalNotification.getValue();
         nativeMemoryAllocation.close();
-
-        if (RemovalCause.SIZE == removalNotification.getCause()) {
-            KNNSettings.state().updateCircuitBreakerSettings(true);
-            setCacheCapacityReached(true);
-        }
+        // Entries evicted under weight pressure are handled by evictUntilRoom, the cache itself is not weight limited.
+        recencyTracker.remove(getOpenSearchIndexName(nativeMemoryAllocation), removalNotification.getKey(), nativeMemoryAllocation);
 
         logger.debug("[KNN] Cache evicted. Key {}, Reason: {}", removalNotification.getKey(), removalNotification.getCause());
     }
@@ -567,4 +924,25 @@ public class NativeMemoryCacheManager implements Closeable {
 
         maintenanceTask = threadPool.scheduleWithFixedDelay(cleanUp, interval, ThreadPool.Names.MANAGEMENT);
     }
+
+    /**
+     * Number of accesses to a warm tier graph within the current promotion window.
+     */
+    private static final class WarmTierAccessCount {
+        private long windowStartInNanos;
+        private int count;
+
+        /**
+         * Counts an access, starting a new window if the current one has passed.
+         *
+         * @return The number of accesses in the current window, including this one.
+         */
+        synchronized int increment(final long nowInNanos, final long windowInNanos) {
+            if (count == 0 || nowInNanos - windowStartInNanos > windowInNanos) {
+                windowStartInNanos = nowInNanos;
+                count = 0;
+            }
+            return ++count;
+        }
+    }
 }
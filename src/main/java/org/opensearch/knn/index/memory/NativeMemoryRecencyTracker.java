@@ -0,0 +1,261 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.knn.index.memory;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the entries of the native memory cache in access order, so that the cache manager can pick the entries to evict without
+ * sorting them.
+ * <p>
+ * Entries are grouped per OpenSearch index, allocations not tied to an index, e.g. training data, being grouped under the empty name.
+ * Each group is guarded by its own lock. Registering a loaded entry waits for the lock of its index, while recording a cache hit only
+ * tries to take it and drops the access if another thread holds it, so that hits never block and stay O(1), at the cost of a slightly
+ * approximate order under contention. Within an index the order is exact, across indices the least recently used entries are compared
+ * by the time of their last recorded access.
+ * <p>
+ * An entry is only ever added by the thread that loaded it, which checks that the cache still maps it after adding it, and it is removed
+ * when the cache drops it. A hit racing with the removal of its entry thus cannot bring the entry back.
+ */
+final class NativeMemoryRecencyTracker {
+
+    private final Map<String, NativeMemoryAllocation> cacheMap;
+    private final ConcurrentHashMap<String, IndexEntries> entriesPerIndex = new ConcurrentHashMap<>();
+
+    /**
+     * @param cacheMap View of the cache whose entries are tracked
+     */
+    NativeMemoryRecencyTracker(final Map<String, NativeMemoryAllocation> cacheMap) {
+        this.cacheMap = cacheMap;
+    }
+
+    /**
+     * Registers an entry that was just loaded into the cache as the most recently used one of its index.
+     *
+     * @param indexName Name of the OpenSearch index of the entry, empty if it does not belong to an index
+     * @param key Key of the entry
+     * @param allocation Allocation the cache maps the key to
+     */
+    void add(final String indexName, final String key, final NativeMemoryAllocation allocation) {
+        while (true) {
+            final IndexEntries indexEntries = entriesPerIndex.computeIfAbsent(indexName, name -> new IndexEntries());
+            indexEntries.lock.lock();
+            try {
+                if (indexEntries.dropped) {
+                    // The group was emptied and dropped concurrently, retry with a new one.
+                    continue;
+                }
+                indexEntries.put(new Entry(indexName, key, allocation));
+            } finally {
+                indexEntries.lock.unlock();
+            }
+            break;
+        }
+        // The cache drops an entry before notifying its removal, so either the entry is gone here, or its removal is yet to come.
+        if (cacheMap.get(key) != allocation) {
+            remove(indexName, key, allocation);
+        }
+    }
+
+    /**
+     * Marks an entry as the most recently used one of its index, unless another thread is updating the same index.
+     *
+     * @param indexName Name of the OpenSearch index of the entry, empty if it does not belong to an index
+     * @param key Key of the entry
+     * @param allocation Allocation the cache maps the key to
+     */
+    void recordAccess(final String indexName, final String key, final NativeMemoryAllocation allocation) {
+        final IndexEntries indexEntries = entriesPerIndex.get(indexName);
+        if (indexEntries == null || indexEntries.lock.tryLock() == false) {
+            return;
+        }
+        try {
+            final Entry entry = indexEntries.entries.get(key);
+            if (entry != null && entry.allocation == allocation) {
+                indexEntries.entries.remove(key);
+                entry.lastAccessNanos = System.nanoTime();
+                indexEntries.entries.put(key, entry);
+            }
+        } finally {
+            indexEntries.lock.unlock();
+        }
+    }
+
+    /**
+     * Unregisters an entry, if it is still registered with the given allocation.
+     *
+     * @param indexName Name of the OpenSearch index of the entry, empty if it does not belong to an index
+     * @param key Key of the entry
+     * @param allocation Allocation the cache mapped the key to
+     */
+    void remove(final String indexName, final String key, final NativeMemoryAllocation allocation) {
+        final IndexEntries indexEntries = entriesPerIndex.get(indexName);
+        if (indexEntries == null) {
+            return;
+        }
+        indexEntries.lock.lock();
+        try {
+            final Entry entry = indexEntries.entries.get(key);
+            if (entry == null || entry.allocation != allocation) {
+                return;
+            }
+            indexEntries.entries.remove(key);
+            indexEntries.sizeInKB -= entry.sizeInKB;
+            if (indexEntries.entries.isEmpty()) {
+                indexEntries.dropped = true;
+                entriesPerIndex.remove(indexName, indexEntries);
+            }
+        } finally {
+            indexEntries.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the least recently used entry across all indices.
+     *
+     * @return Least recently used entry, null if there is none
+     */
+    Entry eldest() {
+        Entry eldest = null;
+        for (IndexEntries indexEntries : entriesPerIndex.values()) {
+            final Entry candidate = indexEntries.eldest();
+            if (candidate != null && (eldest == null || candidate.lastAccessNanos - eldest.lastAccessNanos < 0)) {
+                eldest = candidate;
+            }
+        }
+        return eldest;
+    }
+
+    /**
+     * Returns the least recently used entry of an index.
+     *
+     * @param indexName Name of the OpenSearch index, empty for allocations that do not belong to an index
+     * @return Least recently used entry of the index, null if there is none
+     */
+    Entry eldest(final String indexName) {
+        final IndexEntries indexEntries = entriesPerIndex.get(indexName);
+        return indexEntries == null ? null : indexEntries.eldest();
+    }
+
+    /**
+     * Returns the least recently used entries of an index, just enough of them to free the given size.
+     *
+     * @param indexName Name of the OpenSearch index, empty for allocations that do not belong to an index
+     * @param sizeToFreeInKB Size the returned entries must add up to, unless the index is smaller
+     * @return Entries of the index in access order
+     */
+    List<Entry> getEldestEntries(final String indexName, final long sizeToFreeInKB) {
+        final IndexEntries indexEntries = entriesPerIndex.get(indexName);
+        if (indexEntries == null || sizeToFreeInKB <= 0) {
+            return List.of();
+        }
+        final List<Entry> eldestEntries = new ArrayList<>();
+        long freedSizeInKB = 0;
+        indexEntries.lock.lock();
+        try {
+            for (Entry entry : indexEntries.entries.values()) {
+                if (freedSizeInKB >= sizeToFreeInKB) {
+                    break;
+                }
+                eldestEntries.add(entry);
+                freedSizeInKB += entry.sizeInKB;
+            }
+        } finally {
+            indexEntries.lock.unlock();
+        }
+        return eldestEntries;
+    }
+
+    /**
+     * Returns the total size of the registered entries of an index.
+     *
+     * @param indexName Name of the OpenSearch index, empty for allocations that do not belong to an index
+     * @return Size in kilobytes
+     */
+    long getSizeInKB(final String indexName) {
+        final IndexEntries indexEntries = entriesPerIndex.get(indexName);
+        if (indexEntries == null) {
+            return 0;
+        }
+        indexEntries.lock.lock();
+        try {
+            return indexEntries.sizeInKB;
+        } finally {
+            indexEntries.lock.unlock();
+        }
+    }
+
+    /**
+     * @return Names of the indices with at least one registered entry
+     */
+    Set<String> getIndexNames() {
+        return Set.copyOf(entriesPerIndex.keySet());
+    }
+
+    /**
+     * Registered cache entry.
+     */
+    @Getter
+    static final class Entry {
+        private final String indexName;
+        private final String key;
+        private final NativeMemoryAllocation allocation;
+        private final int sizeInKB;
+        private volatile long lastAccessNanos;
+
+        private Entry(final String indexName, final String key, final NativeMemoryAllocation allocation) {
+            this.indexName = indexName;
+            this.key = key;
+            this.allocation = allocation;
+            this.sizeInKB = allocation.getSizeInKB();
+            this.lastAccessNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Entries of one index in access order, guarded by the lock.
+     */
+    private static final class IndexEntries {
+        private final ReentrantLock lock = new ReentrantLock();
+        // Insertion ordered, an access moves its entry to the end by removing and putting it back.
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+        private long sizeInKB;
+        // Set once the group is empty and removed from the map, it must not be added to anymore.
+        private boolean dropped;
+
+        private void put(final Entry entry) {
+            final Entry previous = entries.remove(entry.key);
+            if (previous != null) {
+                sizeInKB -= previous.sizeInKB;
+            }
+            entries.put(entry.key, entry);
+            sizeInKB += entry.sizeInKB;
+        }
+
+        private Entry eldest() {
+            lock.lock();
+            try {
+                return entries.isEmpty() ? null : entries.firstEntry().getValue();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
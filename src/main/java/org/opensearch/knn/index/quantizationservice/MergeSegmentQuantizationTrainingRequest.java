@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.quantizationservice;
+
+import org.opensearch.knn.index.vectorvalues.MergeSegmentVectorValues;
+import org.opensearch.knn.quantization.models.requests.TrainingRequest;
+
+import java.io.IOException;
+
+/**
+ * Training request reading the sampled float vectors of a merge straight from the segments being merged, so that training does not
+ * iterate the merged vector values up to every sampled vector.
+ */
+final class MergeSegmentQuantizationTrainingRequest extends TrainingRequest<float[]> {
+    private final MergeSegmentVectorValues segmentVectorValues;
+
+    /**
+     * @param segmentVectorValues vector values of the segments being merged
+     * @param doRandomRotation whether random rotation is enabled
+     */
+    MergeSegmentQuantizationTrainingRequest(MergeSegmentVectorValues segmentVectorValues, boolean doRandomRotation) {
+        super(segmentVectorValues.getTotalLiveVectors(), doRandomRotation);
+        this.segmentVectorValues = segmentVectorValues;
+    }
+
+    @Override
+    public float[] getVectorAtThePosition(int position) throws IOException {
+        return segmentVectorValues.floatVectorAtPosition(position);
+    }
+
+    @Override
+    public void resetVectorValues() {
+        // No-op since vectors are read by position from the segments being merged
+    }
+}
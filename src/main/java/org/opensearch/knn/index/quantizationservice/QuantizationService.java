@@ -10,14 +10,17 @@ import lombok.NoArgsConstructor;
 import org.apache.lucene.index.FieldInfo;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.engine.faiss.QFrameBitEncoder;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.MergeSegmentVectorValues;
 import org.opensearch.knn.quantization.factory.QuantizerFactory;
 import org.opensearch.knn.quantization.models.quantizationOutput.BinaryQuantizationOutput;
 import org.opensearch.knn.quantization.models.quantizationOutput.QuantizationOutput;
 import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.requests.TrainingRequest;
 import org.opensearch.knn.quantization.quantizer.Quantizer;
 import java.io.IOException;
 import java.util.function.Supplier;
@@ -81,6 +84,29 @@ public final class QuantizationService<T, R> {
         return quantizer.train(trainingRequest);
     }
 
+    /**
+     * Trains a quantizer on the float vectors of the segments being merged. Sampled vectors are read by position from the segment
+     * they come from, instead of iterating the merged vector values up to each of them.
+     *
+     * @param quantizationParams The {@link QuantizationParams} containing the parameters for quantization.
+     * @param segmentVectorValues The {@link MergeSegmentVectorValues} of the segments being merged.
+     * @return The {@link QuantizationState} containing the state of the trained quantizer.
+     * @throws IOException If an I/O error occurs during the training process.
+     */
+    @SuppressWarnings("unchecked")
+    public QuantizationState train(final QuantizationParams quantizationParams, final MergeSegmentVectorValues segmentVectorValues)
+        throws IOException {
+        Quantizer<T, R> quantizer = QuantizerFactory.getQuantizer(quantizationParams);
+        boolean doRandomRotation = quantizationParams instanceof ScalarQuantizationParams scalarQuantizationParams
+            ? scalarQuantizationParams.isEnableRandomRotation()
+            : QFrameBitEncoder.DEFAULT_ENABLE_RANDOM_ROTATION;
+        TrainingRequest<T> trainingRequest = (TrainingRequest<T>) (TrainingRequest<?>) new MergeSegmentQuantizationTrainingRequest(
+            segmentVectorValues,
+            doRandomRotation
+        );
+        return quantizer.train(trainingRequest);
+    }
+
     /**
      * Applies quantization to the given vector using the specified {@link QuantizationState} and
      * {@link QuantizationOutput}.
@@ -59,6 +59,7 @@ public abstract class BaseQueryFactory {
         private RescoreContext rescoreContext;
         private boolean expandNested;
         private boolean memoryOptimizedSearchEnabled;
+        private boolean memoryOptimizedSearchAvailable;
 
         public Optional<QueryBuilder> getFilter() {
             return Optional.ofNullable(filter);
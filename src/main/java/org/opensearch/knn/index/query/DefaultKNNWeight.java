@@ -5,13 +5,22 @@
 
 package org.opensearch.knn.index.query;
 
+import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.DiversifyingNearestChildrenKnnCollectorManager;
+import org.apache.lucene.search.knn.KnnCollectorManager;
+import org.apache.lucene.search.knn.TopKnnCollectorManager;
 import org.apache.lucene.util.Version;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.knn.common.exception.GraphLoadPendingException;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.util.KNNCodecUtil;
@@ -20,12 +29,17 @@ import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
 import org.opensearch.knn.index.memory.NativeMemoryLoadStrategy;
+import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
 import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.lucene.util.BitSet;
 
@@ -39,10 +53,29 @@ import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ERRORS;
 @Log4j2
 public class DefaultKNNWeight extends KNNWeight {
     private final NativeMemoryCacheManager nativeMemoryCacheManager;
+    private final float boost;
+    private final IndexSearcher searcher;
+    // Searches segments whose graph is in the warm tier of the cache, created on first use for each k. The k of a segment depends on
+    // its filter and rescoring, and the collector manager of a weight is bound to the k it was created with.
+    private final Map<Integer, KNNWeight> warmTierWeights = new ConcurrentHashMap<>();
 
     public DefaultKNNWeight(KNNQuery query, float boost, Weight filterWeight) {
+        this(query, boost, filterWeight, null);
+    }
+
+    /**
+     * @param searcher Searcher executing the query. When null, segments are never served from the warm tier of the cache.
+     */
+    public DefaultKNNWeight(KNNQuery query, float boost, Weight filterWeight, IndexSearcher searcher) {
         super(query, boost, filterWeight);
         this.nativeMemoryCacheManager = NativeMemoryCacheManager.getInstance();
+        this.boost = boost;
+        this.searcher = searcher;
+    }
+
+    @Override
+    protected TaskExecutor getExactSearchTaskExecutor() {
+        return searcher != null ? searcher.getTaskExecutor() : null;
     }
 
     @Override
@@ -68,6 +101,24 @@ public class DefaultKNNWeight extends KNNWeight {
         final String vectorIndexFileName = engineFiles.get(0);
         final String cacheKey = NativeMemoryCacheKeyHelper.constructCacheKey(vectorIndexFileName, reader.getSegmentInfo().info);
 
+        if (canServeFromWarmTier(vectorDataType, k) && nativeMemoryCacheManager.shouldServeFromWarmTier(cacheKey)) {
+            // The graph was evicted under weight pressure, search the mapped index file rather than loading it back.
+            return getWarmTierWeight(k).doANNSearch(
+                context,
+                reader,
+                fieldInfo,
+                spaceType,
+                knnEngine,
+                vectorDataType,
+                quantizedVector,
+                transformedVector,
+                modelId,
+                filterIdsBitSet,
+                cardinality,
+                k
+            );
+        }
+
         final Version segmentLuceneVersion = reader.getSegmentInfo().info.getVersion();
         final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo = SegmentLevelQuantizationInfo.build(
             reader,
@@ -175,6 +226,26 @@ public class DefaultKNNWeight extends KNNWeight {
         return topDocs;
     }
 
+    private boolean canServeFromWarmTier(final VectorDataType vectorDataType, final int k) {
+        // Radial search thresholds and byte query vectors are prepared for the native engine, which is not what memory optimized
+        // search expects.
+        return searcher != null
+            && knnQuery.isMemoryOptimizedSearchAvailable()
+            && k > 0
+            && (vectorDataType == VectorDataType.FLOAT || vectorDataType == VectorDataType.BINARY);
+    }
+
+    @VisibleForTesting
+    KNNWeight getWarmTierWeight(final int k) {
+        return warmTierWeights.computeIfAbsent(k, key -> {
+            // Unlike the memory optimized weight, collect k results per segment to match what the native engine returns.
+            final KnnCollectorManager knnCollectorManager = knnQuery.getParentsFilter() == null
+                ? new TopKnnCollectorManager(key, searcher)
+                : new DiversifyingNearestChildrenKnnCollectorManager(key, knnQuery.getParentsFilter(), searcher);
+            return new MemoryOptimizedKNNWeight(knnQuery, boost, getFilterWeight(), knnCollectorManager);
+        });
+    }
+
     /**
      * Loads the graph from native memory.
      */
@@ -190,23 +261,35 @@ public class DefaultKNNWeight extends KNNWeight {
         final String modelId,
         LeafReaderContext context
     ) throws ExecutionException, IOException {
-        return nativeMemoryCacheManager.get(
-            new NativeMemoryEntryContext.IndexEntryContext(
-                reader.directory(),
-                cacheKey,
-                NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
-                getParametersAtLoading(
-                    spaceType,
-                    knnEngine,
-                    knnQuery.getIndexName(),
-                    // TODO: In the future, more vector data types will be supported with quantization
-                    quantizedVector == null ? vectorDataType : VectorDataType.BINARY,
-                    segmentLevelQuantizationInfo
-                ),
+        final NativeMemoryEntryContext.IndexEntryContext indexEntryContext = new NativeMemoryEntryContext.IndexEntryContext(
+            reader.directory(),
+            cacheKey,
+            NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+            getParametersAtLoading(
+                spaceType,
+                knnEngine,
                 knnQuery.getIndexName(),
-                modelId
+                // TODO: In the future, more vector data types will be supported with quantization
+                quantizedVector == null ? vectorDataType : VectorDataType.BINARY,
+                segmentLevelQuantizationInfo
             ),
-            true
+            knnQuery.getIndexName(),
+            modelId
         );
+
+        final TimeValue waitBudget = KNNSettings.getGraphLoadWaitBudget();
+        if (waitBudget.nanos() < 0) {
+            // Load on the search thread.
+            return nativeMemoryCacheManager.get(indexEntryContext, true);
+        }
+
+        try {
+            return nativeMemoryCacheManager.getAsync(indexEntryContext).get(waitBudget.nanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new GraphLoadPendingException("Graph [" + cacheKey + "] was not loaded within " + waitBudget);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
     }
 }
@@ -64,6 +64,8 @@ public class KNNQuery extends Query {
     @Getter
     private boolean explain;
     private boolean isMemoryOptimizedSearch;
+    // Whether the field can be searched memory optimized, which allows serving evicted graphs from the warm tier of the cache.
+    private boolean isMemoryOptimizedSearchAvailable;
 
     // Note: ideally query should not have to deal with shard level information. Adding it for logging purposes only
     // TODO: ThreadContext does not work with logger, remove this from here once its figured out
@@ -263,7 +265,7 @@ public class KNNQuery extends Query {
         }
 
         // Using native library to perform search on index.
-        return new DefaultKNNWeight(this, boost, filterWeight);
+        return new DefaultKNNWeight(this, boost, filterWeight, searcher);
     }
 
     private Weight getFilterWeight(IndexSearcher searcher) throws IOException {
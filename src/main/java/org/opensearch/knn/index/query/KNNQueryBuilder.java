@@ -582,6 +582,7 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
                 .rescoreContext(processedRescoreContext)
                 .expandNested(expandNested == null ? false : expandNested)
                 .memoryOptimizedSearchEnabled(memoryOptimizedSearchEnabled)
+                .memoryOptimizedSearchAvailable(MemoryOptimizedSearchSupportSpec.isSupportedForCacheTiering(knnVectorFieldType))
                 .build();
             return KNNQueryFactory.create(createQueryRequest);
         }
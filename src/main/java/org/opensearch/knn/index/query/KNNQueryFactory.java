@@ -52,6 +52,7 @@ public class KNNQueryFactory extends BaseQueryFactory {
         final RescoreContext rescoreContext = createQueryRequest.getRescoreContext().orElse(null);
         final boolean expandNested = createQueryRequest.isExpandNested();
         final boolean memoryOptimizedSearchEnabled = createQueryRequest.isMemoryOptimizedSearchEnabled();
+        final boolean memoryOptimizedSearchAvailable = createQueryRequest.isMemoryOptimizedSearchAvailable();
 
         BitSetProducer parentFilter = null;
         int shardId = -1;
@@ -99,6 +100,7 @@ public class KNNQueryFactory extends BaseQueryFactory {
                         .rescoreContext(rescoreContext)
                         .shardId(shardId)
                         .isMemoryOptimizedSearch(memoryOptimizedSearchEnabled)
+                        .isMemoryOptimizedSearchAvailable(memoryOptimizedSearchAvailable)
                         .build();
                     break;
                 default:
@@ -116,6 +118,7 @@ public class KNNQueryFactory extends BaseQueryFactory {
                         .rescoreContext(rescoreContext)
                         .shardId(shardId)
                         .isMemoryOptimizedSearch(memoryOptimizedSearchEnabled)
+                        .isMemoryOptimizedSearchAvailable(memoryOptimizedSearchAvailable)
                         .build();
             }
 
@@ -7,6 +7,7 @@ package org.opensearch.knn.index.query;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReaderContext;
@@ -17,6 +18,7 @@ import org.apache.lucene.search.FilteredDocIdSetIterator;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
@@ -24,16 +26,19 @@ import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.StopWatch;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.common.exception.GraphLoadPendingException;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
+import org.opensearch.knn.index.query.common.SharedMinCompetitiveScore;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher.ExactSearcherContext.ExactSearcherContextBuilder;
 import org.opensearch.knn.index.query.explain.KnnExplanation;
@@ -88,6 +93,13 @@ public abstract class KNNWeight extends Weight {
 
     protected final QuantizationService quantizationService;
     private final KnnExplanation knnExplanation;
+    /**
+     * Minimum score shared by all segments, set while {@link org.opensearch.knn.index.query.nativelib.NativeEngineKnnVectorQuery}
+     * searches segments for the top k of the shard. Exact search skips docs scoring below it.
+     */
+    @Setter
+    @Nullable
+    private volatile SharedMinCompetitiveScore minCompetitiveScore;
 
     public KNNWeight(KNNQuery query, float boost) {
         this(query, boost, null);
@@ -315,6 +327,28 @@ public abstract class KNNWeight extends Weight {
 
         // Save its cardinality, as the cardinality calculation is expensive.
         final int filterCardinality = filterBitSet.cardinality();
+        return searchLeaf(context, k, filterBitSet, filterCardinality);
+    }
+
+    /**
+     * Executes k nearest neighbor search for a segment that was already searched, reusing the filter computed by the previous search
+     * instead of evaluating the filter query again. This is used to search a segment again with a larger k.
+     *
+     * @param context LeafReaderContext
+     * @param k Number of results to return
+     * @param previousResult Result of a previous search of the same segment with this weight
+     * @return A Map of docId to scores for top k results
+     */
+    public PerLeafResult searchLeaf(LeafReaderContext context, int k, PerLeafResult previousResult) throws IOException {
+        if (filterWeight == null) {
+            return searchLeaf(context, k, new FixedBitSet(0), 0);
+        }
+        return searchLeaf(context, k, previousResult.getFilterBits(), previousResult.getFilterBitsCardinality());
+    }
+
+    private PerLeafResult searchLeaf(LeafReaderContext context, int k, BitSet filterBitSet, int filterCardinality) throws IOException {
+        final SegmentReader reader = Lucene.segmentReader(context.reader());
+        final String segmentName = reader.getSegmentName();
 
         // We don't need to go to JNI layer if no documents are found which satisfy the filters
         // We should give this condition a deeper look that where it should be placed. For now I feel this is a good
@@ -342,7 +376,21 @@ public abstract class KNNWeight extends Weight {
         }
 
         final StopWatch annStopWatch = startStopWatch(log);
-        final TopDocs topDocs = approximateSearch(context, filterBitSet, filterCardinality, k);
+        final TopDocs topDocs;
+        try {
+            topDocs = approximateSearch(context, filterBitSet, filterCardinality, k);
+        } catch (GraphLoadPendingException e) {
+            // The graph keeps loading in the background, serve this segment with exact search rather than stalling the search thread.
+            log.debug("Falling back to exact search for segment {}. {}", segmentName, e.getMessage());
+            final BitSetIterator docs = filterWeight != null ? new BitSetIterator(filterBitSet, filterCardinality) : null;
+            final TopDocs result = doExactSearch(context, docs, filterCardinality, k);
+            return new PerLeafResult(
+                filterWeight == null ? null : filterBitSet,
+                filterCardinality,
+                result,
+                PerLeafResult.SearchMode.EXACT_SEARCH
+            );
+        }
         stopStopWatchAndLog(log, annStopWatch, "ANN search", knnQuery.getShardId(), segmentName, knnQuery.getField());
 
         if (knnQuery.isExplain()) {
@@ -419,7 +467,9 @@ public abstract class KNNWeight extends Weight {
             .numberOfMatchedDocs(numberOfAcceptedDocs)
             .floatQueryVector(knnQuery.getQueryVector())
             .byteQueryVector(knnQuery.getByteQueryVector())
-            .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch());
+            .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch())
+            .taskExecutor(getExactSearchTaskExecutor())
+            .minCompetitiveScore(minCompetitiveScore);
 
         if (knnQuery.getContext() != null) {
             exactSearcherContextBuilder.maxResultWindow(knnQuery.getContext().getMaxResultWindow());
@@ -428,6 +478,15 @@ public abstract class KNNWeight extends Weight {
         return exactSearch(context, exactSearcherContextBuilder.build());
     }
 
+    /**
+     * Return the executor exact search splits large segments across, see {@link ExactSearcher.ExactSearcherContext#getTaskExecutor()}.
+     *
+     * @return Null to exact search every segment on the calling thread.
+     */
+    protected TaskExecutor getExactSearchTaskExecutor() {
+        return null;
+    }
+
     /**
      * Performs an approximate nearest neighbor (ANN) search on the provided index segment.
      * <p>
@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.common;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.IntroSelector;
+import org.apache.lucene.util.IntroSorter;
+
+/**
+ * Growable buffer of scored docs, kept in parallel primitive arrays so that collecting a hit allocates nothing. {@link ScoreDoc}s are
+ * only created for the hits returned in the end.
+ * <p>
+ * Used by radial search, which can match tens of thousands of docs per segment, and by exact search scoring every matched doc.
+ * Hits are ranked by decreasing score, ties are broken by increasing doc id.
+ */
+public class ScoreDocBuffer {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private int[] docIds;
+    private float[] scores;
+    private int size;
+
+    public ScoreDocBuffer() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity Number of hits the buffer holds before growing.
+     */
+    public ScoreDocBuffer(final int initialCapacity) {
+        this.docIds = new int[Math.max(1, initialCapacity)];
+        this.scores = new float[docIds.length];
+        this.size = 0;
+    }
+
+    /**
+     * Add a hit to the buffer.
+     *
+     * @param docId Doc id of the hit.
+     * @param score Score of the hit.
+     */
+    public void add(final int docId, final float score) {
+        if (size == docIds.length) {
+            docIds = ArrayUtil.grow(docIds, size + 1);
+            scores = ArrayUtil.growExact(scores, docIds.length);
+        }
+        docIds[size] = docId;
+        scores[size] = score;
+        ++size;
+    }
+
+    /**
+     * @return Number of buffered hits.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return buffered hits in the order they were added.
+     *
+     * @return All buffered hits.
+     */
+    public ScoreDoc[] toScoreDocs() {
+        final ScoreDoc[] scoreDocs = new ScoreDoc[size];
+        for (int i = 0; i < size; ++i) {
+            scoreDocs[i] = new ScoreDoc(docIds[i], scores[i]);
+        }
+        return scoreDocs;
+    }
+
+    /**
+     * Return the best hits sorted by decreasing score. The best hits are partially selected first, so only the returned hits are sorted.
+     * Buffered hits are reordered in place.
+     *
+     * @param limit Maximum number of hits to return.
+     * @return At most limit best hits.
+     */
+    public ScoreDoc[] topScoreDocs(final int limit) {
+        final int numHits = Math.min(limit, size);
+        if (numHits <= 0) {
+            return new ScoreDoc[0];
+        }
+        if (numHits < size) {
+            new HitSelector().select(0, size, numHits - 1);
+        }
+        new HitSorter().sort(0, numHits);
+        final ScoreDoc[] scoreDocs = new ScoreDoc[numHits];
+        for (int i = 0; i < numHits; ++i) {
+            scoreDocs[i] = new ScoreDoc(docIds[i], scores[i]);
+        }
+        return scoreDocs;
+    }
+
+    private void swap(final int i, final int j) {
+        final int docId = docIds[i];
+        docIds[i] = docIds[j];
+        docIds[j] = docId;
+        final float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+
+    // Negative when the first hit ranks before the second one.
+    private static int compare(final int docId1, final float score1, final int docId2, final float score2) {
+        final int cmp = Float.compare(score2, score1);
+        return cmp != 0 ? cmp : Integer.compare(docId1, docId2);
+    }
+
+    private class HitSelector extends IntroSelector {
+        private int pivotDocId;
+        private float pivotScore;
+
+        @Override
+        protected void setPivot(final int i) {
+            pivotDocId = docIds[i];
+            pivotScore = scores[i];
+        }
+
+        @Override
+        protected int comparePivot(final int j) {
+            return compare(pivotDocId, pivotScore, docIds[j], scores[j]);
+        }
+
+        @Override
+        protected void swap(final int i, final int j) {
+            ScoreDocBuffer.this.swap(i, j);
+        }
+    }
+
+    private class HitSorter extends IntroSorter {
+        private int pivotDocId;
+        private float pivotScore;
+
+        @Override
+        protected void setPivot(final int i) {
+            pivotDocId = docIds[i];
+            pivotScore = scores[i];
+        }
+
+        @Override
+        protected int comparePivot(final int j) {
+            return compare(pivotDocId, pivotScore, docIds[j], scores[j]);
+        }
+
+        @Override
+        protected void swap(final int i, final int j) {
+            ScoreDocBuffer.this.swap(i, j);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.common;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.NumericUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimum score a doc needs to make it into the top k of a query across all segments of a shard, shared by segments searched
+ * concurrently. Every segment that found k hits raises it to its own k-th best score, which is a lower bound of the k-th best score
+ * of the shard, so segments searched later can skip any doc scoring below it.
+ * <p>
+ * The score is kept as a sortable int, so it is read with a volatile load and raised with a compare-and-set loop without locking.
+ */
+public class SharedMinCompetitiveScore {
+    private final int k;
+    private final AtomicInteger sortableScore;
+
+    /**
+     * @param k Number of hits the query returns per shard.
+     */
+    public SharedMinCompetitiveScore(final int k) {
+        this.k = k;
+        this.sortableScore = new AtomicInteger(NumericUtils.floatToSortableInt(Float.NEGATIVE_INFINITY));
+    }
+
+    /**
+     * @return Minimum competitive score, negative infinity until a segment found k hits.
+     */
+    public float get() {
+        return NumericUtils.sortableIntToFloat(sortableScore.get());
+    }
+
+    /**
+     * Raise the minimum competitive score to the given score if it is higher.
+     *
+     * @param score k-th best score found by a segment.
+     */
+    public void update(final float score) {
+        final int sortableUpdate = NumericUtils.floatToSortableInt(score);
+        int current = sortableScore.get();
+        while (sortableUpdate > current && sortableScore.compareAndSet(current, sortableUpdate) == false) {
+            current = sortableScore.get();
+        }
+    }
+
+    /**
+     * Raise the minimum competitive score with the final hits of a segment. Segments with fewer than k hits don't bound the k-th best
+     * score of the shard and are ignored.
+     *
+     * @param topDocs Hits of a segment, only live docs.
+     */
+    public void update(final TopDocs topDocs) {
+        final ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        if (k <= 0 || scoreDocs.length < k) {
+            return;
+        }
+        // Hits are not necessarily sorted by score.
+        final float[] scores = new float[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; ++i) {
+            scores[i] = scoreDocs[i].score;
+        }
+        Arrays.sort(scores);
+        update(scores[scores.length - k]);
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.knn.index.query.exactsearch;
 
 import org.apache.lucene.search.DocIdSetIterator;
 import org.opensearch.common.Nullable;
+import org.opensearch.knn.index.KNNVectorSimilarityFunction;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.vectorvalues.KNNBinaryVectorValues;
 
@@ -25,6 +26,8 @@ class BinaryVectorIdsExactKNNIterator implements ExactKNNIterator {
     protected final SpaceType spaceType;
     protected float currentScore = Float.NEGATIVE_INFINITY;
     protected int docId;
+    // Vectors gathered for the block being scored.
+    private byte[][] blockVectors = new byte[0][];
 
     public BinaryVectorIdsExactKNNIterator(
         @Nullable final DocIdSetIterator docIdSetIterator,
@@ -72,6 +75,28 @@ class BinaryVectorIdsExactKNNIterator implements ExactKNNIterator {
         return currentScore;
     }
 
+    /**
+     * Score the next block of docs in two passes: the vectors of the whole block are gathered first, then scored in a single tight loop.
+     */
+    @Override
+    public int nextBlock(final int[] docIds, final float[] scores) throws IOException {
+        if (blockVectors.length < docIds.length) {
+            blockVectors = new byte[docIds.length][];
+        }
+        int size = 0;
+        while (size < docIds.length && docId != DocIdSetIterator.NO_MORE_DOCS) {
+            docIds[size] = docId;
+            blockVectors[size] = ExactKNNIterator.copyVector(blockVectors[size], binaryVectorValues.getVector());
+            docId = getNextDocId();
+            ++size;
+        }
+        final KNNVectorSimilarityFunction similarityFunction = spaceType.getKnnVectorSimilarityFunction();
+        for (int i = 0; i < size; i++) {
+            scores[i] = similarityFunction.compare(queryVector, blockVectors[i]);
+        }
+        return size;
+    }
+
     protected float computeScore() throws IOException {
         final byte[] vector = binaryVectorValues.getVector();
         // Calculates a similarity score between the two vectors with a specified function. Higher similarity
@@ -7,6 +7,7 @@ package org.opensearch.knn.index.query.exactsearch;
 
 import org.apache.lucene.search.DocIdSetIterator;
 import org.opensearch.common.Nullable;
+import org.opensearch.knn.index.KNNVectorSimilarityFunction;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.vectorvalues.KNNByteVectorValues;
 
@@ -25,6 +26,9 @@ class ByteVectorIdsExactKNNIterator implements ExactKNNIterator {
     protected final SpaceType spaceType;
     protected float currentScore = Float.NEGATIVE_INFINITY;
     protected int docId;
+    private final byte[] byteQueryVector;
+    // Vectors gathered for the block being scored.
+    private byte[][] blockVectors = new byte[0][];
 
     public ByteVectorIdsExactKNNIterator(
         @Nullable final DocIdSetIterator filterIdsIterator,
@@ -36,6 +40,15 @@ class ByteVectorIdsExactKNNIterator implements ExactKNNIterator {
         this.queryVector = queryVector;
         this.byteVectorValues = byteVectorValues;
         this.spaceType = spaceType;
+        // The query vector of Faiss byte vector is a Float array because ScalarQuantizer accepts it as float array.
+        // To compute the score between this query vector and each vector in KNNByteVectorValues we are casting this query vector into byte
+        // array directly.
+        // This is safe to do so because float query vector already has validated byte values. Do not reuse this direct cast at any other
+        // place.
+        this.byteQueryVector = new byte[queryVector.length];
+        for (int i = 0; i < queryVector.length; i++) {
+            byteQueryVector[i] = (byte) queryVector[i];
+        }
         // This cannot be moved inside nextDoc() method since it will break when we have nested field, where
         // nextDoc should already be referring to next knnVectorValues
         this.docId = getNextDocId();
@@ -69,20 +82,32 @@ class ByteVectorIdsExactKNNIterator implements ExactKNNIterator {
         return currentScore;
     }
 
+    /**
+     * Score the next block of docs in two passes: the vectors of the whole block are gathered first, then scored in a single tight loop.
+     */
+    @Override
+    public int nextBlock(final int[] docIds, final float[] scores) throws IOException {
+        if (blockVectors.length < docIds.length) {
+            blockVectors = new byte[docIds.length][];
+        }
+        int size = 0;
+        while (size < docIds.length && docId != DocIdSetIterator.NO_MORE_DOCS) {
+            docIds[size] = docId;
+            blockVectors[size] = ExactKNNIterator.copyVector(blockVectors[size], byteVectorValues.getVector());
+            docId = getNextDocId();
+            ++size;
+        }
+        final KNNVectorSimilarityFunction similarityFunction = spaceType.getKnnVectorSimilarityFunction();
+        for (int i = 0; i < size; i++) {
+            scores[i] = similarityFunction.compare(byteQueryVector, blockVectors[i]);
+        }
+        return size;
+    }
+
     protected float computeScore() throws IOException {
         final byte[] vector = byteVectorValues.getVector();
         // Calculates a similarity score between the two vectors with a specified function. Higher similarity
         // scores correspond to closer vectors.
-
-        // The query vector of Faiss byte vector is a Float array because ScalarQuantizer accepts it as float array.
-        // To compute the score between this query vector and each vector in KNNByteVectorValues we are casting this query vector into byte
-        // array directly.
-        // This is safe to do so because float query vector already has validated byte values. Do not reuse this direct cast at any other
-        // place.
-        final byte[] byteQueryVector = new byte[queryVector.length];
-        for (int i = 0; i < queryVector.length; i++) {
-            byteQueryVector[i] = (byte) queryVector[i];
-        }
         return spaceType.getKnnVectorSimilarityFunction().compare(byteQueryVector, vector);
     }
 
@@ -5,10 +5,70 @@
 
 package org.opensearch.knn.index.query.exactsearch;
 
+import org.apache.lucene.search.DocIdSetIterator;
+
 import java.io.IOException;
 
 interface ExactKNNIterator {
     int nextDoc() throws IOException;
 
     float score();
+
+    /**
+     * Score the next block of docs, filling docIds and scores up to the length of docIds.
+     *
+     * @param docIds Destination of doc ids.
+     * @param scores Destination of scores, at least as long as docIds.
+     * @return Number of scored docs, less than docIds.length only once the iterator is exhausted.
+     */
+    default int nextBlock(final int[] docIds, final float[] scores) throws IOException {
+        return nextBlockDocByDoc(this, docIds, scores);
+    }
+
+    /**
+     * Fill a block by scoring one doc at a time through {@link #nextDoc()} and {@link #score()}. Used by iterators that cannot score
+     * a block at once, e.g. nested ones that keep the best child of every parent.
+     *
+     * @param iterator Iterator to score the docs of.
+     * @param docIds Destination of doc ids.
+     * @param scores Destination of scores, at least as long as docIds.
+     * @return Number of scored docs, less than docIds.length only once the iterator is exhausted.
+     */
+    static int nextBlockDocByDoc(final ExactKNNIterator iterator, final int[] docIds, final float[] scores) throws IOException {
+        int size = 0;
+        int docId;
+        while (size < docIds.length && (docId = iterator.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+            docIds[size] = docId;
+            scores[size] = iterator.score();
+            ++size;
+        }
+        return size;
+    }
+
+    /**
+     * Copy a vector into the given destination, which is reused when it has the right length. Vector values return a buffer that is
+     * overwritten by the next read, so the vectors of a block must be copied before being scored.
+     *
+     * @param destination Array to reuse, may be null.
+     * @param vector Vector to copy.
+     * @return Copy of the vector.
+     */
+    static float[] copyVector(final float[] destination, final float[] vector) {
+        final float[] copy = destination != null && destination.length == vector.length ? destination : new float[vector.length];
+        System.arraycopy(vector, 0, copy, 0, vector.length);
+        return copy;
+    }
+
+    /**
+     * Byte counterpart of {@link #copyVector(float[], float[])}.
+     *
+     * @param destination Array to reuse, may be null.
+     * @param vector Vector to copy.
+     * @return Copy of the vector.
+     */
+    static byte[] copyVector(final byte[] destination, final byte[] vector) {
+        final byte[] copy = destination != null && destination.length == vector.length ? destination : new byte[vector.length];
+        System.arraycopy(vector, 0, copy, 0, vector.length);
+        return copy;
+    }
 }
@@ -5,12 +5,12 @@
 
 package org.opensearch.knn.index.query.exactsearch;
 
-import com.google.common.base.Predicates;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.NonNull;
 import lombok.Value;
 import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.codecs.perfield.PerFieldKnnVectorsFormat;
+import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
@@ -20,16 +20,23 @@ import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.HitQueue;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.KNN990Codec.NativeEngines990KnnVectorsReader;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationUtil;
+import org.opensearch.knn.index.query.common.ScoreDocBuffer;
+import org.opensearch.knn.index.query.common.SharedMinCompetitiveScore;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.vectorvalues.KNNBinaryVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNByteVectorValues;
@@ -40,16 +47,16 @@ import org.opensearch.knn.indices.ModelDao;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.function.Predicate;
+import java.util.concurrent.Callable;
 
 @Log4j2
 @AllArgsConstructor
 public class ExactSearcher {
+    // Number of docs scored per block before they are offered to the top candidates heap.
+    private static final int EXACT_SEARCH_BLOCK_SIZE = 128;
 
     private final ModelDao modelDao;
 
@@ -62,6 +69,10 @@ public class ExactSearcher {
      * @throws IOException exception during execution of exact search
      */
     public TopDocs searchLeaf(final LeafReaderContext leafReaderContext, final ExactSearcherContext context) throws IOException {
+        final int numberOfPartitions = getNumberOfPartitions(leafReaderContext, context);
+        if (numberOfPartitions > 1) {
+            return searchPartitions(leafReaderContext, context, numberOfPartitions);
+        }
         final ExactKNNIterator iterator = getKNNIterator(leafReaderContext, context);
         // because of any reason if we are not able to get ExactKNNIterator, return empty top docss
         if (iterator == null) {
@@ -71,9 +82,120 @@ public class ExactSearcher {
             return doRadialSearch(leafReaderContext, context, iterator);
         }
         if (context.getMatchedDocsIterator() != null && context.numberOfMatchedDocs <= context.getK()) {
-            return scoreAllDocs(iterator);
+            return scoreAllDocs(iterator, getMinCompetitiveScore(context));
         }
-        return searchTopCandidates(iterator, context.getK(), Predicates.alwaysTrue());
+        return searchTopCandidates(iterator, context.getK(), context.getMinCompetitiveScore());
+    }
+
+    /**
+     * Decide how many doc id partitions a top k search over the leaf is split into. Radial and nested searches are never split, as
+     * they depend on every candidate of the leaf, and so are searches with fewer than
+     * {@link KNNSettings#KNN_EXACT_SEARCH_PARTITION_MIN_DOCS} candidates per partition. A leaf is never split into more partitions than
+     * the processors allocated to the node.
+     *
+     * @param leafReaderContext {@link LeafReaderContext}
+     * @param context {@link ExactSearcherContext}
+     * @return Number of partitions, 1 if the leaf is searched on the calling thread.
+     * @throws IOException exception while counting candidates
+     */
+    private int getNumberOfPartitions(final LeafReaderContext leafReaderContext, final ExactSearcherContext context) throws IOException {
+        if (context.getTaskExecutor() == null || context.getRadius() != null || context.getParentsFilter() != null) {
+            return 1;
+        }
+        final int minDocsPerPartition = KNNSettings.getExactSearchPartitionMinDocs();
+        if (minDocsPerPartition <= 0) {
+            return 1;
+        }
+        final long numberOfCandidates;
+        if (context.getMatchedDocsIterator() != null) {
+            numberOfCandidates = context.getNumberOfMatchedDocs();
+        } else {
+            final SegmentReader reader = Lucene.segmentReader(leafReaderContext.reader());
+            final FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(reader, context.getField());
+            if (fieldInfo == null) {
+                return 1;
+            }
+            numberOfCandidates = KNNVectorValuesFactory.getVectorValues(fieldInfo, reader)
+                .getVectorValuesIterator()
+                .getDocIdSetIterator()
+                .cost();
+        }
+        if (numberOfCandidates <= context.getK()) {
+            return 1;
+        }
+        return (int) Math.min(numberOfCandidates / minDocsPerPartition, KNNSettings.getAllocatedProcessors());
+    }
+
+    /**
+     * Split the candidates of the leaf into contiguous doc id partitions holding about the same number of candidates, search top k of
+     * every partition on the task executor, then merge per partition results.
+     *
+     * @param leafReaderContext {@link LeafReaderContext}
+     * @param context {@link ExactSearcherContext}
+     * @param numberOfPartitions Number of partitions to split candidates into.
+     * @return TopDocs containing the results of the search
+     * @throws IOException exception during execution of exact search
+     */
+    private TopDocs searchPartitions(
+        final LeafReaderContext leafReaderContext,
+        final ExactSearcherContext context,
+        final int numberOfPartitions
+    ) throws IOException {
+        final int maxDoc = leafReaderContext.reader().maxDoc();
+        final int[] boundaries = new int[numberOfPartitions + 1];
+        Arrays.fill(boundaries, maxDoc);
+        boundaries[0] = 0;
+        final BitSet matchedDocs;
+        if (context.getMatchedDocsIterator() == null) {
+            matchedDocs = null;
+            for (int i = 1; i < numberOfPartitions; ++i) {
+                boundaries[i] = (int) ((long) maxDoc * i / numberOfPartitions);
+            }
+        } else {
+            // Partitions are scored concurrently, so they can't share the given iterator. Share its bit set instead.
+            matchedDocs = context.getMatchedDocsIterator() instanceof BitSetIterator bitSetIterator
+                ? bitSetIterator.getBitSet()
+                : BitSet.of(context.getMatchedDocsIterator(), maxDoc);
+            final int cardinality = matchedDocs.cardinality();
+            final BitSetIterator docs = new BitSetIterator(matchedDocs, cardinality);
+            int partition = 1;
+            int rank = 0;
+            int docId;
+            while (partition < numberOfPartitions && (docId = docs.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+                if (rank == (int) ((long) cardinality * partition / numberOfPartitions)) {
+                    boundaries[partition++] = docId;
+                }
+                ++rank;
+            }
+        }
+
+        final List<Callable<TopDocs>> tasks = new ArrayList<>(numberOfPartitions);
+        for (int i = 0; i < numberOfPartitions; ++i) {
+            if (boundaries[i] >= boundaries[i + 1]) {
+                continue;
+            }
+            final DocIdSetIterator range = DocIdSetIterator.range(boundaries[i], boundaries[i + 1]);
+            final DocIdSetIterator partitionDocs = matchedDocs == null
+                ? range
+                : ConjunctionUtils.intersectIterators(List.of(new BitSetIterator(matchedDocs, range.cost()), range));
+            final ExactSearcherContext partitionContext = context.toBuilder()
+                .matchedDocsIterator(partitionDocs)
+                .numberOfMatchedDocs(partitionDocs.cost())
+                // Quantized search with ADC transforms the query vector in place, so every partition needs its own copy.
+                .floatQueryVector(context.getFloatQueryVector() != null ? context.getFloatQueryVector().clone() : null)
+                .taskExecutor(null)
+                .build();
+            tasks.add(() -> {
+                final ExactKNNIterator iterator = getKNNIterator(leafReaderContext, partitionContext);
+                if (iterator == null) {
+                    return TopDocsCollector.EMPTY_TOPDOCS;
+                }
+                return searchTopCandidates(iterator, context.getK(), context.getMinCompetitiveScore());
+            });
+        }
+
+        final TopDocs merged = TopDocs.merge(context.getK(), context.getTaskExecutor().invokeAll(tasks).toArray(TopDocs[]::new));
+        return new TopDocs(new TotalHits(merged.scoreDocs.length, TotalHits.Relation.EQUAL_TO), merged.scoreDocs);
     }
 
     /**
@@ -111,32 +233,62 @@ public class ExactSearcher {
         return filterDocsByMinScore(context, iterator, minScore);
     }
 
-    private TopDocs scoreAllDocs(ExactKNNIterator iterator) throws IOException {
-        final List<ScoreDoc> scoreDocList = new ArrayList<>();
-        int docId;
-        while ((docId = iterator.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-            scoreDocList.add(new ScoreDoc(docId, iterator.score()));
-        }
-        scoreDocList.sort(Comparator.comparing(scoreDoc -> scoreDoc.score, Comparator.reverseOrder()));
-        return new TopDocs(new TotalHits(scoreDocList.size(), TotalHits.Relation.EQUAL_TO), scoreDocList.toArray(ScoreDoc[]::new));
+    private static float getMinCompetitiveScore(final ExactSearcherContext context) {
+        return context.getMinCompetitiveScore() != null ? context.getMinCompetitiveScore().get() : Float.NEGATIVE_INFINITY;
+    }
+
+    private TopDocs scoreAllDocs(ExactKNNIterator iterator, float minScore) throws IOException {
+        final ScoreDocBuffer hits = new ScoreDocBuffer();
+        collectHits(iterator, minScore, hits);
+        return new TopDocs(new TotalHits(hits.size(), TotalHits.Relation.EQUAL_TO), hits.topScoreDocs(hits.size()));
+    }
+
+    /**
+     * Collect every doc of the iterator scoring at least minScore.
+     */
+    private void collectHits(ExactKNNIterator iterator, float minScore, ScoreDocBuffer hits) throws IOException {
+        final int[] docIds = new int[EXACT_SEARCH_BLOCK_SIZE];
+        final float[] scores = new float[EXACT_SEARCH_BLOCK_SIZE];
+        int size;
+        do {
+            size = iterator.nextBlock(docIds, scores);
+            for (int i = 0; i < size; ++i) {
+                if (scores[i] >= minScore) {
+                    hits.add(docIds[i], scores[i]);
+                }
+            }
+        } while (size == EXACT_SEARCH_BLOCK_SIZE);
     }
 
-    private TopDocs searchTopCandidates(ExactKNNIterator iterator, int limit, @NonNull Predicate<Float> filterScore) throws IOException {
+    private TopDocs searchTopCandidates(
+        ExactKNNIterator iterator,
+        int limit,
+        @Nullable SharedMinCompetitiveScore sharedMinCompetitiveScore
+    ) throws IOException {
         // Creating min heap and init with MAX DocID and Score as -INF.
         final HitQueue queue = new HitQueue(limit, true);
         ScoreDoc topDoc = queue.top();
-        final Map<Integer, Float> docToScore = new HashMap<>();
-        int docId;
-        while ((docId = iterator.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-            final float currentScore = iterator.score();
-            if (filterScore.test(currentScore) && currentScore > topDoc.score) {
-                topDoc.score = currentScore;
-                topDoc.doc = docId;
-                // As the HitQueue is min heap, updating top will bring the doc with -INF score or worst score we
-                // have seen till now on top.
-                topDoc = queue.updateTop();
+        // Docs are scored a block at a time, then the block is offered to the heap in a tight loop.
+        final int[] docIds = new int[EXACT_SEARCH_BLOCK_SIZE];
+        final float[] scores = new float[EXACT_SEARCH_BLOCK_SIZE];
+        int size;
+        do {
+            size = iterator.nextBlock(docIds, scores);
+            // Docs scoring below the k-th best score other segments already found can't make it into the top k of the shard.
+            final float minCompetitiveScore = sharedMinCompetitiveScore != null
+                ? sharedMinCompetitiveScore.get()
+                : Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < size; ++i) {
+                final float currentScore = scores[i];
+                if (currentScore > topDoc.score && currentScore >= minCompetitiveScore) {
+                    topDoc.score = currentScore;
+                    topDoc.doc = docIds[i];
+                    // As the HitQueue is min heap, updating top will bring the doc with -INF score or worst score we
+                    // have seen till now on top.
+                    topDoc = queue.updateTop();
+                }
             }
-        }
+        } while (size == EXACT_SEARCH_BLOCK_SIZE);
 
         // If scores are negative we will remove them.
         // This is done, because there can be negative values in the Heap as we init the heap with Score as -INF.
@@ -155,9 +307,12 @@ public class ExactSearcher {
     }
 
     private TopDocs filterDocsByMinScore(ExactSearcherContext context, ExactKNNIterator iterator, float minScore) throws IOException {
-        int maxResultWindow = context.getMaxResultWindow();
-        Predicate<Float> scoreGreaterThanOrEqualToMinScore = score -> score >= minScore;
-        return searchTopCandidates(iterator, maxResultWindow, scoreGreaterThanOrEqualToMinScore);
+        final int maxResultWindow = context.getMaxResultWindow();
+        // Radial search can match a large part of the segment, collect hits in primitive arrays and only keep the best ones at the end.
+        final ScoreDocBuffer hits = new ScoreDocBuffer();
+        collectHits(iterator, minScore, hits);
+        final ScoreDoc[] topScoreDocs = hits.topScoreDocs(maxResultWindow);
+        return new TopDocs(new TotalHits(topScoreDocs.length, TotalHits.Relation.EQUAL_TO), topScoreDocs);
     }
 
     private ExactKNNIterator getKNNIterator(LeafReaderContext leafReaderContext, ExactSearcherContext exactSearcherContext)
@@ -251,6 +406,23 @@ public class ExactSearcher {
                 segmentLevelQuantizationInfo
             );
         }
+        // Reading the persisted codes goes through the memory optimized searcher, which is only worth loading when the index is
+        // searched memory optimized anyway.
+        if (exactSearcherContext.isUseQuantizedVectorsForSearch()
+            && Boolean.TRUE.equals(exactSearcherContext.isMemoryOptimizedSearchEnabled)) {
+            final ByteVectorValues quantizedVectorValues = getPersistedQuantizedVectorValues(reader, fieldInfo);
+            if (quantizedVectorValues != null) {
+                return new QuantizedVectorIdsExactKNNIterator(
+                    matchedDocs,
+                    exactSearcherContext.getFloatQueryVector(),
+                    (KNNFloatVectorValues) vectorValues,
+                    spaceType,
+                    quantizedQueryVector,
+                    segmentLevelQuantizationInfo,
+                    quantizedVectorValues
+                );
+            }
+        }
         return new VectorIdsExactKNNIterator(
             matchedDocs,
             exactSearcherContext.getFloatQueryVector(),
@@ -261,6 +433,22 @@ public class ExactSearcher {
         );
     }
 
+    /**
+     * Look up quantized codes the native engine already persisted for the segment, so that docs don't need to be re-quantized.
+     *
+     * @param reader {@link SegmentReader}
+     * @param fieldInfo {@link FieldInfo} of the vector field
+     * @return Null if the codes are not available, in which case full precision vectors are quantized on the fly.
+     */
+    private static ByteVectorValues getPersistedQuantizedVectorValues(final SegmentReader reader, final FieldInfo fieldInfo)
+        throws IOException {
+        if (reader.getVectorReader() instanceof PerFieldKnnVectorsFormat.FieldsReader fieldsReader
+            && fieldsReader.getFieldReader(fieldInfo.getName()) instanceof NativeEngines990KnnVectorsReader nativeEnginesReader) {
+            return nativeEnginesReader.getQuantizedVectorValues(fieldInfo.getName());
+        }
+        return null;
+    }
+
     /**
     * Creates a {@link DocIdSetIterator} which is an intersection of the iterators passed as arguments.
     * This is used to get the intersection of the matched docs and the vector values docIds.
@@ -287,7 +475,7 @@ public class ExactSearcher {
      * for doing exact search.
      */
     @Value
-    @Builder
+    @Builder(toBuilder = true)
     public static class ExactSearcherContext {
         /**
          * controls whether we should use Quantized vectors during exact search or not. This is useful because when we do
@@ -311,5 +499,16 @@ public class ExactSearcher {
         Integer maxResultWindow;
         VectorSimilarityFunction similarityFunction;
         Boolean isMemoryOptimizedSearchEnabled;
+        /**
+         * Executor that large segments are searched concurrently on, split into doc id partitions. When null, every segment is searched
+         * on the calling thread.
+         */
+        @Nullable
+        TaskExecutor taskExecutor;
+        /**
+         * Minimum score shared by all segments of a top k search, docs scoring below it are skipped. When null, every doc competes.
+         */
+        @Nullable
+        SharedMinCompetitiveScore minCompetitiveScore;
     }
 }
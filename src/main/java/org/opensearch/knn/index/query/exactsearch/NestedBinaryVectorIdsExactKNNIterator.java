@@ -74,4 +74,12 @@ class NestedBinaryVectorIdsExactKNNIterator extends BinaryVectorIdsExactKNNItera
 
         return bestChild;
     }
+
+    /**
+     * Blocks are filled one parent at a time, since the best child of a parent is only known once all its children are scored.
+     */
+    @Override
+    public int nextBlock(final int[] docIds, final float[] scores) throws IOException {
+        return ExactKNNIterator.nextBlockDocByDoc(this, docIds, scores);
+    }
 }
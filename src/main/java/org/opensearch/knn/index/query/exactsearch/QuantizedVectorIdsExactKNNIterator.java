@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.exactsearch;
+
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.opensearch.common.Nullable;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
+import org.opensearch.knn.index.vectorvalues.KNNFloatVectorValues;
+
+import java.io.IOException;
+
+/**
+ * Scores docs against the quantized codes already persisted for the segment, rather than reading and re-quantizing the full precision
+ * vector of every doc. Docs are iterated the same way as {@link VectorIdsExactKNNIterator}, and scores are identical to it: Hamming
+ * similarity against the quantized query, or ADC against the transformed query when quantizedQueryVector is null.
+ * <p>
+ * Codes must be ordered by doc id, which lets the iterator keep a single forward moving cursor over the ordinals. A doc without a
+ * code, e.g. because the native engine file only covers part of the docs with a vector, is scored by re-quantizing its full precision
+ * vector instead.
+ */
+class QuantizedVectorIdsExactKNNIterator extends VectorIdsExactKNNIterator {
+    private final byte[] quantizedQueryVector;
+    private final ByteVectorValues quantizedVectorValues;
+    private int ordinal;
+
+    public QuantizedVectorIdsExactKNNIterator(
+        @Nullable final DocIdSetIterator filterIdsIterator,
+        final float[] queryVector,
+        final KNNFloatVectorValues knnFloatVectorValues,
+        final SpaceType spaceType,
+        @Nullable final byte[] quantizedQueryVector,
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo,
+        final ByteVectorValues quantizedVectorValues
+    ) throws IOException {
+        super(filterIdsIterator, queryVector, knnFloatVectorValues, spaceType, quantizedQueryVector, segmentLevelQuantizationInfo);
+        this.quantizedQueryVector = quantizedQueryVector;
+        this.quantizedVectorValues = quantizedVectorValues;
+        this.ordinal = 0;
+    }
+
+    @Override
+    protected float computeScore() throws IOException {
+        final int docOrdinal = advanceOrdinal(docId);
+        if (docOrdinal < 0) {
+            return super.computeScore();
+        }
+        final byte[] quantizedVector = quantizedVectorValues.vectorValue(docOrdinal);
+        if (quantizedQueryVector == null) {
+            // in ExactSearcher::getKnnIterator we don't set quantizedQueryVector if adc is enabled. So at this point adc is enabled.
+            return scoreWithADC(queryVector, quantizedVector, spaceType);
+        }
+        return SpaceType.HAMMING.getKnnVectorSimilarityFunction().compare(quantizedQueryVector, quantizedVector);
+    }
+
+    @Override
+    protected void gatherVector(final int index) throws IOException {
+        final int docOrdinal = advanceOrdinal(docId);
+        if (docOrdinal < 0) {
+            super.gatherVector(index);
+            return;
+        }
+        blockCodes[index] = ExactKNNIterator.copyVector(blockCodes[index], quantizedVectorValues.vectorValue(docOrdinal));
+    }
+
+    /**
+     * Move the cursor to the ordinal of the given doc. Docs are visited in increasing order, so the next ordinal is checked first and
+     * a binary search over the remaining ordinals is only needed when docs were skipped by a filter.
+     *
+     * @return Ordinal of the doc, -1 if it has no code.
+     */
+    private int advanceOrdinal(final int targetDocId) {
+        int low = ordinal;
+        int high = quantizedVectorValues.size() - 1;
+        if (low <= high && quantizedVectorValues.ordToDoc(low) == targetDocId) {
+            ordinal = low + 1;
+            return low;
+        }
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midDocId = quantizedVectorValues.ordToDoc(mid);
+            if (midDocId < targetDocId) {
+                low = mid + 1;
+            } else if (midDocId > targetDocId) {
+                high = mid - 1;
+            } else {
+                ordinal = mid + 1;
+                return mid;
+            }
+        }
+        // The cursor stays on the first ordinal after the doc.
+        ordinal = low;
+        return -1;
+    }
+}
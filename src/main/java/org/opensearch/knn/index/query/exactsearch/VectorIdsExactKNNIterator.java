@@ -7,6 +7,7 @@ package org.opensearch.knn.index.query.exactsearch;
 
 import org.apache.lucene.search.DocIdSetIterator;
 import org.opensearch.common.Nullable;
+import org.opensearch.knn.index.KNNVectorSimilarityFunction;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationUtil;
@@ -32,6 +33,9 @@ class VectorIdsExactKNNIterator implements ExactKNNIterator {
     protected float currentScore = Float.NEGATIVE_INFINITY;
     protected int docId;
     private final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo;
+    // Vectors, or quantized codes when scoring against segment level quantization, gathered for the block being scored.
+    private float[][] blockVectors = new float[0][];
+    protected byte[][] blockCodes = new byte[0][];
 
     public VectorIdsExactKNNIterator(
         @Nullable final DocIdSetIterator filterIdsIterator,
@@ -89,6 +93,58 @@ class VectorIdsExactKNNIterator implements ExactKNNIterator {
         return currentScore;
     }
 
+    /**
+     * Score the next block of docs in two passes: the vectors of the whole block are gathered first, then scored in a single tight loop,
+     * so that the similarity function and the query stay hot rather than alternating with the reads of every doc.
+     */
+    @Override
+    public int nextBlock(final int[] docIds, final float[] scores) throws IOException {
+        if (blockVectors.length < docIds.length) {
+            blockVectors = new float[docIds.length][];
+            blockCodes = new byte[docIds.length][];
+        }
+        int size = 0;
+        while (size < docIds.length && docId != DocIdSetIterator.NO_MORE_DOCS) {
+            docIds[size] = docId;
+            gatherVector(size);
+            docId = getNextDocId();
+            ++size;
+        }
+        scoreBlock(scores, size);
+        return size;
+    }
+
+    /**
+     * Store the vector of the current doc, or its quantized code, at the given position of the block.
+     */
+    protected void gatherVector(final int index) throws IOException {
+        final float[] vector = knnFloatVectorValues.getVector();
+        if (segmentLevelQuantizationInfo == null) {
+            blockVectors[index] = ExactKNNIterator.copyVector(blockVectors[index], vector);
+        } else {
+            blockCodes[index] = SegmentLevelQuantizationUtil.quantizeVector(vector, segmentLevelQuantizationInfo);
+        }
+    }
+
+    private void scoreBlock(final float[] scores, final int size) {
+        if (segmentLevelQuantizationInfo == null) {
+            final KNNVectorSimilarityFunction similarityFunction = spaceType.getKnnVectorSimilarityFunction();
+            for (int i = 0; i < size; i++) {
+                scores[i] = similarityFunction.compare(queryVector, blockVectors[i]);
+            }
+        } else if (quantizedQueryVector == null) {
+            // in ExactSearcher::getKnnIterator we don't set quantizedQueryVector if adc is enabled. So at this point adc is enabled.
+            for (int i = 0; i < size; i++) {
+                scores[i] = scoreWithADC(queryVector, blockCodes[i], spaceType);
+            }
+        } else {
+            final KNNVectorSimilarityFunction similarityFunction = SpaceType.HAMMING.getKnnVectorSimilarityFunction();
+            for (int i = 0; i < size; i++) {
+                scores[i] = similarityFunction.compare(quantizedQueryVector, blockCodes[i]);
+            }
+        }
+    }
+
     protected float computeScore() throws IOException {
         final float[] vector = knnFloatVectorValues.getVector();
         if (segmentLevelQuantizationInfo == null) {
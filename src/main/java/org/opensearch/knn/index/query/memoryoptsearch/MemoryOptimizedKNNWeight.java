@@ -14,6 +14,7 @@ import org.apache.lucene.search.AcceptDocs;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
@@ -51,11 +52,13 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
     private static final KnnSearchStrategy.Hnsw DEFAULT_HNSW_SEARCH_STRATEGY = new KnnSearchStrategy.Hnsw(60);
 
     private final KnnCollectorManager knnCollectorManager;
+    private final TaskExecutor exactSearchTaskExecutor;
     @Setter
     private ReentrantKnnCollectorManager reentrantKNNCollectorManager;
 
     public MemoryOptimizedKNNWeight(KNNQuery query, float boost, final Weight filterWeight, IndexSearcher searcher, Integer k) {
         super(query, boost, filterWeight);
+        this.exactSearchTaskExecutor = searcher != null ? searcher.getTaskExecutor() : null;
 
         if (k != null && k > 0) {
             // ANN Search
@@ -76,6 +79,22 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
         }
     }
 
+    /**
+     * Creates a weight collecting results per segment with the given collector manager.
+     *
+     * @param knnCollectorManager Collector manager creating a collector per segment.
+     */
+    public MemoryOptimizedKNNWeight(KNNQuery query, float boost, final Weight filterWeight, final KnnCollectorManager knnCollectorManager) {
+        super(query, boost, filterWeight);
+        this.knnCollectorManager = knnCollectorManager;
+        this.exactSearchTaskExecutor = null;
+    }
+
+    @Override
+    protected TaskExecutor getExactSearchTaskExecutor() {
+        return exactSearchTaskExecutor;
+    }
+
     @Override
     protected TopDocs doANNSearch(
         final LeafReaderContext context,
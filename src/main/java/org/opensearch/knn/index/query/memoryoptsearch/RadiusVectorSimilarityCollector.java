@@ -6,13 +6,10 @@
 package org.opensearch.knn.index.query.memoryoptsearch;
 
 import org.apache.lucene.search.AbstractKnnCollector;
-import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.knn.KnnSearchStrategy;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.opensearch.knn.index.query.common.ScoreDocBuffer;
 
 /**
  * Clone of Lucene's VectorSimilarityCollector, which cannot be used directly due to its package-private visibility.
@@ -22,7 +19,7 @@ public class RadiusVectorSimilarityCollector extends AbstractKnnCollector {
 
     private final float traversalSimilarity, resultSimilarity;
     private float maxSimilarity;
-    private final List<ScoreDoc> scoreDocList;
+    private final ScoreDocBuffer hits;
 
     /**
      * Perform a similarity-based graph search. The graph is traversed till better scoring nodes are
@@ -42,14 +39,14 @@ public class RadiusVectorSimilarityCollector extends AbstractKnnCollector {
         this.traversalSimilarity = traversalSimilarity;
         this.resultSimilarity = resultSimilarity;
         this.maxSimilarity = Float.NEGATIVE_INFINITY;
-        this.scoreDocList = new ArrayList<>();
+        this.hits = new ScoreDocBuffer();
     }
 
     @Override
     public boolean collect(int docId, float similarity) {
         maxSimilarity = Math.max(maxSimilarity, similarity);
         if (similarity >= resultSimilarity) {
-            scoreDocList.add(new ScoreDoc(docId, similarity));
+            hits.add(docId, similarity);
         }
         return true;
     }
@@ -64,11 +61,11 @@ public class RadiusVectorSimilarityCollector extends AbstractKnnCollector {
         // Results are not returned in a sorted order to prevent unnecessary calculations (because we do
         // not need to maintain the topK)
         TotalHits.Relation relation = earlyTerminated() ? TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO : TotalHits.Relation.EQUAL_TO;
-        return new TopDocs(new TotalHits(visitedCount(), relation), scoreDocList.toArray(ScoreDoc[]::new));
+        return new TopDocs(new TotalHits(visitedCount(), relation), hits.toScoreDocs());
     }
 
     @Override
     public int numCollected() {
-        return scoreDocList.size();
+        return hits.size();
     }
 }
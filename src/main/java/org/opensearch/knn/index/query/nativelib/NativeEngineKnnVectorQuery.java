@@ -23,6 +23,7 @@ import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.knn.TopKnnCollectorManager;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.IOSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.StopWatch;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
@@ -32,6 +33,7 @@ import org.opensearch.knn.index.query.PerLeafResult;
 import org.opensearch.knn.index.query.ResultUtil;
 import org.opensearch.knn.index.query.TopDocsDISI;
 import org.opensearch.knn.index.query.common.QueryUtils;
+import org.opensearch.knn.index.query.common.SharedMinCompetitiveScore;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
 import org.opensearch.knn.index.query.memoryoptsearch.optimistic.OptimisticSearchStrategyUtils;
@@ -109,10 +111,39 @@ public class NativeEngineKnnVectorQuery extends Query {
         List<LeafReaderContext> leafReaderContexts = reader.leaves();
         List<PerLeafResult> perLeafResults;
         final int finalK = knnQuery.getK();
+        // Segments can only skip docs below the k-th best score found so far when nothing but the top k of the shard is kept.
+        final boolean isMinCompetitiveScoreShared = knnQuery.isMemoryOptimizedSearch() == false
+            && knnQuery.getParentsFilter() == null
+            && knnQuery.getRadius() == null;
         if (isRescoreRequired(firstPassKFor2PhaseSearch) == false) {
-            perLeafResults = doSearch(indexSearcher, leafReaderContexts, knnWeight, finalK);
+            perLeafResults = doSearch(indexSearcher, leafReaderContexts, knnWeight, finalK, isMinCompetitiveScoreShared, false);
+        } else if (isPipelinedRescoringEnabled()) {
+            StopWatch stopWatch = new StopWatch().start();
+            perLeafResults = doPipelinedSearchAndRescore(
+                indexSearcher,
+                leafReaderContexts,
+                knnWeight,
+                firstPassKFor2PhaseSearch,
+                finalK,
+                isMinCompetitiveScoreShared,
+                isShardLevelRescoringDisabled,
+                isAdaptiveOversamplingEnabled()
+            );
+            log.debug(
+                "Pipelined search and rescoring took {} ms. oversampled k:{}, segments:{}",
+                stopWatch.stop().totalTime().millis(),
+                firstPassKFor2PhaseSearch,
+                leafReaderContexts.size()
+            );
         } else {
-            perLeafResults = doSearch(indexSearcher, leafReaderContexts, knnWeight, firstPassKFor2PhaseSearch);
+            perLeafResults = doSearch(
+                indexSearcher,
+                leafReaderContexts,
+                knnWeight,
+                firstPassKFor2PhaseSearch,
+                isMinCompetitiveScoreShared && isShardLevelRescoringDisabled == false,
+                isAdaptiveOversamplingEnabled()
+            );
             if (isShardLevelRescoringDisabled == false) {
                 ResultUtil.reduceToTopK(perLeafResults, firstPassKFor2PhaseSearch);
             }
@@ -171,6 +202,18 @@ public class NativeEngineKnnVectorQuery extends Query {
         return queryUtils.createDocAndScoreQuery(reader, topK, knnWeight).createWeight(indexSearcher, scoreMode, boost);
     }
 
+    private boolean isPipelinedRescoringEnabled() {
+        // Memory optimized search needs the first pass results of all segments before its second optimistic search.
+        return knnQuery.isMemoryOptimizedSearch() == false
+            && KNNSettings.isPipelinedRescoringEnabledForDiskBasedVector(knnQuery.getIndexName());
+    }
+
+    private boolean isAdaptiveOversamplingEnabled() {
+        // Memory optimized search searches all segments again with the same k in its second optimistic search.
+        return knnQuery.isMemoryOptimizedSearch() == false
+            && KNNSettings.isAdaptiveOversamplingEnabledForDiskBasedVector(knnQuery.getIndexName());
+    }
+
     private boolean isRescoreRequired(Integer firstPassKFor2PhaseSearch) {
         // `firstPassKFor2PhaseSearch` is non-null value when rescoring is needed, which has an expanded `k` value.
         return firstPassKFor2PhaseSearch != null;
@@ -320,16 +363,34 @@ public class NativeEngineKnnVectorQuery extends Query {
         final IndexSearcher indexSearcher,
         List<LeafReaderContext> leafReaderContexts,
         KNNWeight knnWeight,
-        int k
+        int k,
+        boolean isMinCompetitiveScoreShared,
+        boolean isAdaptiveOversampling
     ) throws IOException {
+        // Segments raise the shared min competitive score once they are done, so that the ones searched later skip more docs.
+        // Memory optimized search already shares it through Lucene's collectors.
+        final SharedMinCompetitiveScore minCompetitiveScore = isMinCompetitiveScoreShared && leafReaderContexts.size() > 1
+            ? new SharedMinCompetitiveScore(k)
+            : null;
+
         // Collect search tasks
         List<Callable<PerLeafResult>> tasks = new ArrayList<>(leafReaderContexts.size());
         for (LeafReaderContext leafReaderContext : leafReaderContexts) {
-            tasks.add(() -> searchLeaf(leafReaderContext, knnWeight, k));
+            tasks.add(
+                () -> isAdaptiveOversampling
+                    ? searchLeafAdaptively(indexSearcher, leafReaderContext, knnWeight, k, minCompetitiveScore)
+                    : searchLeaf(leafReaderContext, knnWeight, k, minCompetitiveScore)
+            );
         }
 
         // Execute search tasks
-        final List<PerLeafResult> perLeafResults = indexSearcher.getTaskExecutor().invokeAll(tasks);
+        final List<PerLeafResult> perLeafResults;
+        knnWeight.setMinCompetitiveScore(minCompetitiveScore);
+        try {
+            perLeafResults = indexSearcher.getTaskExecutor().invokeAll(tasks);
+        } finally {
+            knnWeight.setMinCompetitiveScore(null);
+        }
 
         // For memory optimized search, it should kick off 2nd search if optimistic
         if (knnQuery.isMemoryOptimizedSearch() && perLeafResults.size() > 1) {
@@ -435,6 +496,71 @@ public class NativeEngineKnnVectorQuery extends Query {
         }
     }
 
+    /**
+     * Search and rescore every segment in a single task, so that the full precision vectors of a segment are read while other segments
+     * are still searched, instead of waiting for the first pass search of all segments.
+     * <p>
+     * When only the oversampled top k of the shard is rescored, segments share the k-th best first pass score found so far and drop
+     * candidates below it before rescoring. This rescores a superset of the candidates rescored once all segments are searched.
+     * Rescored segments share the k-th best full precision score found so far, so that rescoring skips candidates below it.
+     */
+    private List<PerLeafResult> doPipelinedSearchAndRescore(
+        final IndexSearcher indexSearcher,
+        final List<LeafReaderContext> leafReaderContexts,
+        final KNNWeight knnWeight,
+        final int firstPassK,
+        final int k,
+        final boolean isMinCompetitiveScoreShared,
+        final boolean isShardLevelRescoringDisabled,
+        final boolean isAdaptiveOversampling
+    ) throws IOException {
+        final boolean isShared = isMinCompetitiveScoreShared && leafReaderContexts.size() > 1;
+        final SharedMinCompetitiveScore firstPassMinCompetitiveScore = isShared && isShardLevelRescoringDisabled == false
+            ? new SharedMinCompetitiveScore(firstPassK)
+            : null;
+        final SharedMinCompetitiveScore rescoreMinCompetitiveScore = isShared ? new SharedMinCompetitiveScore(k) : null;
+
+        final List<Callable<PerLeafResult>> tasks = new ArrayList<>(leafReaderContexts.size());
+        for (LeafReaderContext leafReaderContext : leafReaderContexts) {
+            tasks.add(() -> {
+                final PerLeafResult perLeafResult = isAdaptiveOversampling
+                    ? searchLeafAdaptively(indexSearcher, leafReaderContext, knnWeight, firstPassK, firstPassMinCompetitiveScore)
+                    : searchLeaf(leafReaderContext, knnWeight, firstPassK, firstPassMinCompetitiveScore);
+                if (firstPassMinCompetitiveScore != null) {
+                    perLeafResult.setResult(filterByMinScore(perLeafResult.getResult(), firstPassMinCompetitiveScore.get()));
+                }
+                final PerLeafResult rescoredResult = rescoreLeaf(
+                    leafReaderContext,
+                    knnWeight,
+                    perLeafResult,
+                    k,
+                    rescoreMinCompetitiveScore
+                );
+                if (rescoreMinCompetitiveScore != null) {
+                    rescoreMinCompetitiveScore.update(rescoredResult.getResult());
+                }
+                return rescoredResult;
+            });
+        }
+
+        knnWeight.setMinCompetitiveScore(firstPassMinCompetitiveScore);
+        try {
+            return indexSearcher.getTaskExecutor().invokeAll(tasks);
+        } finally {
+            knnWeight.setMinCompetitiveScore(null);
+        }
+    }
+
+    private static TopDocs filterByMinScore(final TopDocs topDocs, final float minScore) {
+        final ScoreDoc[] scoreDocs = Arrays.stream(topDocs.scoreDocs)
+            .filter(scoreDoc -> scoreDoc.score >= minScore)
+            .toArray(ScoreDoc[]::new);
+        if (scoreDocs.length == topDocs.scoreDocs.length) {
+            return topDocs;
+        }
+        return new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
     private List<PerLeafResult> doRescore(
         final IndexSearcher indexSearcher,
         List<LeafReaderContext> leafReaderContexts,
@@ -446,52 +572,118 @@ public class NativeEngineKnnVectorQuery extends Query {
         for (int i = 0; i < perLeafResults.size(); i++) {
             LeafReaderContext leafReaderContext = leafReaderContexts.get(i);
             int finalI = i;
-            rescoreTasks.add(() -> {
-                PerLeafResult perLeafeResult = perLeafResults.get(finalI);
-                if (perLeafeResult.getResult().scoreDocs.length == 0) {
-                    return perLeafeResult;
-                }
-                final Set<Integer> docIds = Arrays.stream(perLeafeResult.getResult().scoreDocs)
-                    .map(scoreDoc -> scoreDoc.doc)
-                    .collect(Collectors.toSet());
-                DocIdSetIterator matchedDocs;
-                if (knnQuery.getParentsFilter() != null) {
-                    matchedDocs = queryUtils.getAllSiblings(
-                        leafReaderContext,
-                        docIds,
-                        knnQuery.getParentsFilter(),
-                        perLeafeResult.getFilterBits()
-                    );
-                } else {
-                    matchedDocs = new TopDocsDISI(perLeafeResult.getResult());
-                }
-                final ExactSearcher.ExactSearcherContext exactSearcherContext = ExactSearcher.ExactSearcherContext.builder()
-                    .matchedDocsIterator(matchedDocs)
-                    .numberOfMatchedDocs(matchedDocs.cost())
-                    // setting to false because in re-scoring we want to do exact search on full precision vectors
-                    .useQuantizedVectorsForSearch(false)
-                    .k(k)
-                    .radius(knnQuery.getRadius())
-                    .field(knnQuery.getField())
-                    .floatQueryVector(knnQuery.getQueryVector())
-                    .byteQueryVector(knnQuery.getByteQueryVector())
-                    .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch())
-                    .parentsFilter(knnQuery.getParentsFilter())
-                    .build();
-                TopDocs rescoreResult = knnWeight.exactSearch(leafReaderContext, exactSearcherContext);
-                return new PerLeafResult(
-                    perLeafeResult.getFilterBits(),
-                    perLeafeResult.getFilterBitsCardinality(),
-                    rescoreResult,
-                    PerLeafResult.SearchMode.EXACT_SEARCH
-                );
-            });
+            rescoreTasks.add(() -> rescoreLeaf(leafReaderContext, knnWeight, perLeafResults.get(finalI), k, null));
         }
         return indexSearcher.getTaskExecutor().invokeAll(rescoreTasks);
     }
 
-    private PerLeafResult searchLeaf(LeafReaderContext ctx, KNNWeight queryWeight, int k) throws IOException {
-        final PerLeafResult perLeafResult = queryWeight.searchLeaf(ctx, k);
+    /**
+     * Rescore first pass candidates of a segment with full precision vectors.
+     *
+     * @param minCompetitiveScore Minimum full precision score shared by all segments, null when every candidate competes
+     */
+    private PerLeafResult rescoreLeaf(
+        final LeafReaderContext leafReaderContext,
+        final KNNWeight knnWeight,
+        final PerLeafResult perLeafResult,
+        final int k,
+        @Nullable final SharedMinCompetitiveScore minCompetitiveScore
+    ) throws IOException {
+        if (perLeafResult.getResult().scoreDocs.length == 0) {
+            return perLeafResult;
+        }
+        final Set<Integer> docIds = Arrays.stream(perLeafResult.getResult().scoreDocs)
+            .map(scoreDoc -> scoreDoc.doc)
+            .collect(Collectors.toSet());
+        DocIdSetIterator matchedDocs;
+        if (knnQuery.getParentsFilter() != null) {
+            matchedDocs = queryUtils.getAllSiblings(leafReaderContext, docIds, knnQuery.getParentsFilter(), perLeafResult.getFilterBits());
+        } else {
+            matchedDocs = new TopDocsDISI(perLeafResult.getResult());
+        }
+        final ExactSearcher.ExactSearcherContext exactSearcherContext = ExactSearcher.ExactSearcherContext.builder()
+            .matchedDocsIterator(matchedDocs)
+            .numberOfMatchedDocs(matchedDocs.cost())
+            // setting to false because in re-scoring we want to do exact search on full precision vectors
+            .useQuantizedVectorsForSearch(false)
+            .k(k)
+            .radius(knnQuery.getRadius())
+            .field(knnQuery.getField())
+            .floatQueryVector(knnQuery.getQueryVector())
+            .byteQueryVector(knnQuery.getByteQueryVector())
+            .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch())
+            .parentsFilter(knnQuery.getParentsFilter())
+            .minCompetitiveScore(minCompetitiveScore)
+            .build();
+        TopDocs rescoreResult = knnWeight.exactSearch(leafReaderContext, exactSearcherContext);
+        return new PerLeafResult(
+            perLeafResult.getFilterBits(),
+            perLeafResult.getFilterBitsCardinality(),
+            rescoreResult,
+            PerLeafResult.SearchMode.EXACT_SEARCH
+        );
+    }
+
+    /**
+     * Search a segment for candidates to rescore, starting with a small first pass k. The first pass k is doubled, up to the configured
+     * first pass k, for as long as the quantized scores of the last candidates are too close to the k-th best one to tell them apart,
+     * see {@link RescoreContext#isFirstPassExpansionRequired}. The chosen first pass k is reported in the profile of the segment.
+     * <p>
+     * Searches after the first one reuse its filter. If the segment was served with exact search, every search scans the whole segment,
+     * so the first pass k goes straight to the configured one instead of being doubled.
+     */
+    private PerLeafResult searchLeafAdaptively(
+        final IndexSearcher indexSearcher,
+        final LeafReaderContext leafReaderContext,
+        final KNNWeight knnWeight,
+        final int maxFirstPassK,
+        @Nullable final SharedMinCompetitiveScore minCompetitiveScore
+    ) throws IOException {
+        final int finalK = knnQuery.getK();
+        int firstPassK = RescoreContext.getAdaptiveInitialFirstPassK(finalK, maxFirstPassK);
+        PerLeafResult perLeafResult = knnWeight.searchLeaf(leafReaderContext, firstPassK);
+        // Whether the segment ran out of candidates is told by the hits before deleted docs are dropped from them.
+        int numberOfHits = perLeafResult.getResult().scoreDocs.length;
+        perLeafResult = filterLiveDocs(leafReaderContext, perLeafResult, minCompetitiveScore);
+        while (firstPassK < maxFirstPassK
+            && RescoreContext.isFirstPassExpansionRequired(perLeafResult.getResult(), numberOfHits, finalK, firstPassK)) {
+            firstPassK = perLeafResult.getSearchMode() == PerLeafResult.SearchMode.EXACT_SEARCH
+                ? maxFirstPassK
+                : Math.min(maxFirstPassK, firstPassK * 2);
+            perLeafResult = knnWeight.searchLeaf(leafReaderContext, firstPassK, perLeafResult);
+            numberOfHits = perLeafResult.getResult().scoreDocs.length;
+            perLeafResult = filterLiveDocs(leafReaderContext, perLeafResult, minCompetitiveScore);
+        }
+        log.debug(
+            "Adaptive oversampling searched segment {} with first pass k:{}, oversample factor:{}",
+            leafReaderContext.ord,
+            firstPassK,
+            (float) firstPassK / finalK
+        );
+
+        final QueryProfiler profiler = KNNProfileUtil.getProfiler(indexSearcher);
+        if (profiler != null) {
+            AbstractProfileBreakdown profile = ((ContextualProfileBreakdown) profiler.getProfileBreakdown(this)).context(leafReaderContext);
+            LongMetric metric = (LongMetric) profile.getMetric(KNNMetrics.FIRST_PASS_K);
+            metric.setValue((long) firstPassK);
+        }
+        return perLeafResult;
+    }
+
+    private PerLeafResult searchLeaf(
+        LeafReaderContext ctx,
+        KNNWeight queryWeight,
+        int k,
+        @Nullable SharedMinCompetitiveScore minCompetitiveScore
+    ) throws IOException {
+        return filterLiveDocs(ctx, queryWeight.searchLeaf(ctx, k), minCompetitiveScore);
+    }
+
+    private PerLeafResult filterLiveDocs(
+        LeafReaderContext ctx,
+        PerLeafResult perLeafResult,
+        @Nullable SharedMinCompetitiveScore minCompetitiveScore
+    ) {
         final Bits liveDocs = ctx.reader().getLiveDocs();
         if (liveDocs != null) {
             List<ScoreDoc> list = new ArrayList<>();
@@ -504,6 +696,10 @@ public class NativeEngineKnnVectorQuery extends Query {
             TotalHits totalHits = new TotalHits(filteredScoreDoc.length, TotalHits.Relation.EQUAL_TO);
             perLeafResult.setResult(new TopDocs(totalHits, filteredScoreDoc));
         }
+        if (minCompetitiveScore != null) {
+            // Only live docs bound the k-th best score of the shard.
+            minCompetitiveScore.update(perLeafResult.getResult());
+        }
         return perLeafResult;
     }
 
@@ -9,6 +9,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+
+import java.util.Arrays;
 
 @Getter
 @AllArgsConstructor
@@ -36,6 +40,9 @@ public final class RescoreContext {
     // Todo:- We will improve this in upcoming releases
     public static final int MIN_FIRST_PASS_RESULTS = 100;
 
+    // Oversample factor segments are first searched with when oversampling is adaptive
+    public static final float ADAPTIVE_INITIAL_OVERSAMPLE_FACTOR = 1.5f;
+
     @Builder.Default
     private float oversampleFactor = DEFAULT_OVERSAMPLE_FACTOR;
 
@@ -96,4 +103,50 @@ public final class RescoreContext {
         return Math.min(MAX_FIRST_PASS_RESULTS, Math.max(MIN_FIRST_PASS_RESULTS, (int) Math.ceil(finalK * oversampleFactor)));
     }
 
+    /**
+     * Calculates the first pass k a segment is first searched with when oversampling is adaptive. It keeps at least one candidate
+     * beyond finalK, so that the score gap at the boundary can be measured.
+     *
+     * @param finalK The final number of results to return for the entire shard.
+     * @param maxFirstPassK The first pass k from {@link #getFirstPassK(int, boolean, int)}, never exceeded.
+     * @return The initial first pass k of a segment.
+     */
+    public static int getAdaptiveInitialFirstPassK(int finalK, int maxFirstPassK) {
+        return Math.min(maxFirstPassK, Math.max(finalK + 1, (int) Math.ceil(finalK * ADAPTIVE_INITIAL_OVERSAMPLE_FACTOR)));
+    }
+
+    /**
+     * Decides whether the first pass of a segment should be searched again with a larger k. Quantized scores are coarse: when the score
+     * drop from the k-th best candidate to the last one is no larger than the spread of the top k, the first pass can't tell the
+     * boundary candidates apart from the top k, and true neighbors may be ranked beyond the boundary. Deleted docs returned by the first
+     * pass take the place of live candidates, so a first pass left with fewer than firstPassK live candidates is searched again as well.
+     *
+     * @param firstPassResults Live first pass results of the segment.
+     * @param numberOfFirstPassHits Number of hits of the first pass, deleted docs included.
+     * @param finalK The final number of results to return for the entire shard.
+     * @param firstPassK The first pass k the segment was searched with.
+     * @return True if the segment may be missing true neighbors. False when the segment has no more candidates.
+     */
+    public static boolean isFirstPassExpansionRequired(TopDocs firstPassResults, int numberOfFirstPassHits, int finalK, int firstPassK) {
+        if (finalK <= 0 || numberOfFirstPassHits < firstPassK) {
+            return false;
+        }
+        final ScoreDoc[] scoreDocs = firstPassResults.scoreDocs;
+        if (scoreDocs.length < firstPassK) {
+            return true;
+        }
+        if (scoreDocs.length <= finalK) {
+            return false;
+        }
+        final float[] scores = new float[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            scores[i] = scoreDocs[i].score;
+        }
+        Arrays.sort(scores);
+        final float topScore = scores[scores.length - 1];
+        final float kthScore = scores[scores.length - finalK];
+        final float boundaryScore = scores[0];
+        return kthScore - boundaryScore <= topScore - kthScore;
+    }
+
 }
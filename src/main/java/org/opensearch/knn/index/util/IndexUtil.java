@@ -71,6 +71,7 @@ public class IndexUtil {
     private static final Version MINIMAL_EXPAND_NESTED_FEATURE = Version.V_2_19_0;
     private static final Version MINIMAL_TOP_LEVEL_ENGINE_FEATURE = Version.V_3_2_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_FOR_NULL_K = Version.V_3_3_0;
+    private static final Version MINIMAL_MMR_VECTOR_DOC_VALUES_FEATURE = Version.V_3_5_0;
     // public so neural search can access it
     public static final Map<String, Version> minimalRequiredVersionMap = initializeMinimalRequiredVersionMap();
     public static final Set<VectorDataType> VECTOR_DATA_TYPES_NOT_SUPPORTING_ENCODERS = Set.of(VectorDataType.BINARY, VectorDataType.BYTE);
@@ -438,6 +439,7 @@ public class IndexUtil {
                 put(EXPAND_NESTED, MINIMAL_EXPAND_NESTED_FEATURE);
                 put(KNNConstants.TOP_LEVEL_ENGINE_FEATURE, MINIMAL_TOP_LEVEL_ENGINE_FEATURE);
                 put(KNNConstants.NULL_K, MINIMAL_SUPPORTED_VERSION_FOR_NULL_K);
+                put(KNNConstants.MMR_VECTOR_DOC_VALUES_FEATURE, MINIMAL_MMR_VECTOR_DOC_VALUES_FEATURE);
             }
         };
 
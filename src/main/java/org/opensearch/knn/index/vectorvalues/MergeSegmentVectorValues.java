@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.vectorvalues;
+
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Bits;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vector values of a field in each of the segments being merged. Live vectors are numbered segment after segment, so that the merge
+ * can count them from the live docs of the segments, and read any of them by ordinal from its own segment, instead of iterating the
+ * merged vector values up to it.
+ * <p>
+ * Counting only iterates the doc ids of segments with deleted docs. Reading a vector from a segment without deleted docs is a direct
+ * ordinal lookup, reading from a segment with deleted docs moves a cursor forward over its doc ids.
+ */
+public final class MergeSegmentVectorValues {
+
+    private final List<KnnVectorValues> segmentValues;
+    private final List<Bits> segmentLiveDocs;
+    // Position of the first live vector of each segment, followed by the total number of live vectors
+    private final int[] segmentStarts;
+    private final SegmentCursor cursor;
+
+    MergeSegmentVectorValues(final List<KnnVectorValues> segmentValues, final List<Bits> segmentLiveDocs) throws IOException {
+        this.segmentValues = segmentValues;
+        this.segmentLiveDocs = segmentLiveDocs;
+        this.segmentStarts = new int[segmentValues.size() + 1];
+        for (int i = 0; i < segmentValues.size(); ++i) {
+            segmentStarts[i + 1] = segmentStarts[i] + countLiveVectors(segmentValues.get(i), segmentLiveDocs.get(i));
+        }
+        this.cursor = new SegmentCursor();
+    }
+
+    /**
+     * Collect the vector values of a field from the segments being merged.
+     *
+     * @param fieldInfo {@link FieldInfo} of the merged field
+     * @param mergeState {@link MergeState} of the merge
+     * @return {@link MergeSegmentVectorValues}
+     * @throws IOException if the vector values of a segment cannot be read
+     */
+    public static MergeSegmentVectorValues create(final FieldInfo fieldInfo, final MergeState mergeState) throws IOException {
+        final List<KnnVectorValues> segmentValues = new ArrayList<>(mergeState.knnVectorsReaders.length);
+        final List<Bits> segmentLiveDocs = new ArrayList<>(mergeState.knnVectorsReaders.length);
+        for (int i = 0; i < mergeState.knnVectorsReaders.length; ++i) {
+            final KnnVectorsReader reader = mergeState.knnVectorsReaders[i];
+            final FieldInfo segmentFieldInfo = mergeState.fieldInfos[i].fieldInfo(fieldInfo.getName());
+            if (reader == null || segmentFieldInfo == null || segmentFieldInfo.hasVectorValues() == false) {
+                continue;
+            }
+            final KnnVectorValues values = fieldInfo.getVectorEncoding() == VectorEncoding.FLOAT32
+                ? reader.getFloatVectorValues(fieldInfo.getName())
+                : reader.getByteVectorValues(fieldInfo.getName());
+            if (values != null) {
+                segmentValues.add(values);
+                segmentLiveDocs.add(mergeState.liveDocs[i]);
+            }
+        }
+        return new MergeSegmentVectorValues(segmentValues, segmentLiveDocs);
+    }
+
+    /**
+     * @return Number of live vectors over all segments being merged.
+     */
+    public int getTotalLiveVectors() {
+        return segmentStarts[segmentStarts.length - 1];
+    }
+
+    /**
+     * Read the float vector of the live vector at a position. The returned array may be reused by the next call.
+     *
+     * @param position Position of a live vector, in [0, {@link #getTotalLiveVectors()}).
+     * @return float vector at the position
+     * @throws IOException if the vector cannot be read
+     */
+    public float[] floatVectorAtPosition(final int position) throws IOException {
+        if (position < 0 || position >= getTotalLiveVectors()) {
+            throw new IndexOutOfBoundsException("Position [" + position + "] is out of [0, " + getTotalLiveVectors() + ")");
+        }
+        int segment = 0;
+        while (segmentStarts[segment + 1] <= position) {
+            ++segment;
+        }
+        final KnnVectorValues values = segmentValues.get(segment);
+        if (values instanceof FloatVectorValues == false) {
+            throw new IllegalStateException("Merged field does not contain float vectors");
+        }
+        final int rank = position - segmentStarts[segment];
+        final Bits liveDocs = segmentLiveDocs.get(segment);
+        final int ord = liveDocs == null ? rank : cursor.ordOfLiveRank(segment, rank);
+        return ((FloatVectorValues) values).vectorValue(ord);
+    }
+
+    private static int countLiveVectors(final KnnVectorValues values, final Bits liveDocs) throws IOException {
+        if (liveDocs == null) {
+            return values.size();
+        }
+        int count = 0;
+        final KnnVectorValues.DocIndexIterator iterator = values.iterator();
+        for (int docId = iterator.nextDoc(); docId != DocIdSetIterator.NO_MORE_DOCS; docId = iterator.nextDoc()) {
+            if (liveDocs.get(docId)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    // Forward cursor over the live vectors of a segment with deleted docs, restarted when a lower rank or another segment is read
+    private final class SegmentCursor {
+        private int segment = -1;
+        private int rank = -1;
+        private KnnVectorValues.DocIndexIterator iterator;
+
+        int ordOfLiveRank(final int targetSegment, final int targetRank) throws IOException {
+            if (targetSegment != segment || targetRank < rank) {
+                segment = targetSegment;
+                rank = -1;
+                iterator = segmentValues.get(segment).iterator();
+            }
+            final Bits liveDocs = segmentLiveDocs.get(segment);
+            while (rank < targetRank) {
+                final int docId = iterator.nextDoc();
+                if (docId == DocIdSetIterator.NO_MORE_DOCS) {
+                    throw new IllegalStateException("Live vector [" + targetRank + "] not found in segment being merged");
+                }
+                if (liveDocs.get(docId)) {
+                    ++rank;
+                }
+            }
+            return iterator.index();
+        }
+    }
+}
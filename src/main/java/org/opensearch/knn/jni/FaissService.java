@@ -133,6 +133,21 @@ class FaissService {
      */
     public static native void writeByteIndex(long indexAddress, IndexOutputWithBuffer output);
 
+    /**
+     * Renumbers vectors of a faiss index under construction in breadth first order of its level-0 graph, so that neighbors are
+     * stored close to each other in the index file. The id map is permuted accordingly. Indices other than HNSW are left as is.
+     *
+     * @param indexAddress address of native memory where index is stored
+     */
+    public static native void reorderIndex(long indexAddress);
+
+    /**
+     * Renumbers vectors of a faiss binary index under construction in breadth first order of its level-0 graph.
+     *
+     * @param indexAddress address of native memory where index is stored
+     */
+    public static native void reorderBinaryIndex(long indexAddress);
+
     /**
      * Create an index for the native library with a provided template index
      *
@@ -207,6 +222,16 @@ class FaissService {
      */
     public static native long loadIndexWithStream(IndexInputWithBuffer readStream);
 
+    /**
+     * Load an HNSW index into memory via a wrapping having Lucene's IndexInput, for a merge to add the vectors of the other
+     * segments to it. The ids of the index are renumbered on load.
+     *
+     * @param readStream IndexInput wrapper having a Lucene's IndexInput reference.
+     * @param newIds new id of every id of the index, indexed by id. Ids mapped to a negative value are rejected.
+     * @return pointer to location in memory the index resides in
+     */
+    public static native long loadIndexForMerge(IndexInputWithBuffer readStream, int[] newIds);
+
     /**
       * Load an index into memory via a wrapping having Lucene's IndexInput with ADC
       *
@@ -115,6 +115,29 @@ public class JNIService {
         );
     }
 
+    /**
+     * Renumbers vectors of an index under construction so that graph neighbors are stored close to each other, which improves page
+     * locality of memory optimized search. Must be called before {@link #writeIndex}.
+     *
+     * @param indexAddress address of native memory where index is stored
+     * @param knnEngine    knn engine
+     * @param parameters   parameters to build index
+     */
+    public static void reorderIndex(long indexAddress, KNNEngine knnEngine, Map<String, Object> parameters) {
+        if (KNNEngine.FAISS == knnEngine) {
+            if (IndexUtil.isBinaryIndex(knnEngine, parameters)) {
+                FaissService.reorderBinaryIndex(indexAddress);
+            } else {
+                FaissService.reorderIndex(indexAddress);
+            }
+            return;
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "reorderIndex not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Create an index for the native library. The memory occupied by the vectorsAddress will be freed up during the
      * function call. So Java layer doesn't need to free up the memory. This is not an ideal behavior because Java layer
@@ -213,6 +236,25 @@ public class JNIService {
         );
     }
 
+    /**
+     * Load an HNSW index via Lucene's IndexInput for a merge to insert the vectors of the other segments into it. The ids of
+     * the index are renumbered on load, so that they are doc ids of the merged segment.
+     *
+     * @param readStream A wrapper having Lucene's IndexInput to load bytes from a file.
+     * @param newIds     New id of every id of the index, indexed by id.
+     * @param knnEngine  Engine to load index
+     * @return Pointer to location in memory the index resides in
+     */
+    public static long loadIndexForMerge(IndexInputWithBuffer readStream, int[] newIds, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.loadIndexForMerge(readStream, newIds);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "loadIndexForMerge not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Determine if index contains shared state. Currently, we cannot do this in the plugin because we do not store the
      * model definition anywhere. Only faiss supports indices that have shared state. So for all other engines it will
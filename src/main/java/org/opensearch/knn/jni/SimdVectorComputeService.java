@@ -24,6 +24,16 @@ public class SimdVectorComputeService {
         FP16_MAXIMUM_INNER_PRODUCT,
         // FP16 Maximum Inner Product. The result will be the same as we acquired from VectorSimilarityFunction.EUCLIDEAN.
         FP16_L2,
+        // FP32 Maximum Inner Product. The result will be the same as we acquired from VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT.
+        FP32_MAXIMUM_INNER_PRODUCT,
+        // FP32 L2. The result will be the same as we acquired from VectorSimilarityFunction.EUCLIDEAN.
+        FP32_L2,
+        // 8 bits direct signed SQ Maximum Inner Product. The result will be the same as we acquired from
+        // VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT with byte vectors.
+        SQ8_DIRECT_SIGNED_MAXIMUM_INNER_PRODUCT,
+        // 8 bits direct signed SQ L2. The result will be the same as we acquired from VectorSimilarityFunction.EUCLIDEAN with byte
+        // vectors.
+        SQ8_DIRECT_SIGNED_L2,
     }
 
     /**
@@ -5,6 +5,7 @@
 
 package org.opensearch.knn.memoryoptsearch;
 
+import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.search.AcceptDocs;
 import org.apache.lucene.search.KnnCollector;
 import org.apache.lucene.util.Bits;
@@ -52,4 +53,14 @@ public interface VectorSearcher extends Closeable {
      *     if they are all allowed to match.
      */
     void search(byte[] target, KnnCollector knnCollector, AcceptDocs acceptDocs) throws IOException;
+
+    /**
+     * Return the byte codes persisted in the underlying index, for example the binary codes of a quantized FAISS index. Ordinals must
+     * be assigned in increasing document id order so that callers can walk codes alongside a doc id iterator.
+     *
+     * @return Null if the index does not store byte codes or its ordinals are not in document id order.
+     */
+    default ByteVectorValues getStoredByteVectorValues() throws IOException {
+        return null;
+    }
 }
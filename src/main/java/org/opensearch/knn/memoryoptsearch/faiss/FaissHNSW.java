@@ -5,8 +5,10 @@
 
 package org.opensearch.knn.memoryoptsearch.faiss;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.packed.DirectMonotonicReader;
 
 import java.io.IOException;
@@ -41,6 +43,10 @@ public class FaissHNSW {
     private int efSearch = 16;
     // Total number of vectors stored in graph.
     private long totalNumberOfVectors;
+    // nodesPerUpperLevel[i] = sorted vector ids existing at level `i`, for i >= 1. Level-0 contains all vectors, so it is never stored.
+    // This is lazily materialized on the first upper level iteration, see getNodesOnUpperLevel.
+    @Getter(AccessLevel.NONE)
+    private volatile int[][] nodesPerUpperLevel;
 
     /**
      * Partially loads the FAISS HNSW graph from the provided index input stream.
@@ -94,6 +100,73 @@ public class FaissHNSW {
         input.readInt();
     }
 
+    /**
+     * Returns sorted vector ids existing at the given upper level (i.e. level >= 1).
+     * On the first call, the `levels` section is scanned once to build per level node lists, and subsequent calls return them directly.
+     * Since every upper level holds roughly 1/M of the vectors of the level below, the lists are a small fraction of the graph size.
+     *
+     * @param level Upper level in HNSW graph, must be greater than zero.
+     * @param indexInput Input stream to the FAISS index file, used to read the `levels` section.
+     * @return Sorted vector ids at `level`, an empty array if no vector exists at the level.
+     * @throws IOException
+     */
+    public int[] getNodesOnUpperLevel(final int level, final IndexInput indexInput) throws IOException {
+        if (level <= 0) {
+            throw new IllegalArgumentException("Level must be greater than zero, got " + level);
+        }
+
+        int[][] nodesPerLevel = nodesPerUpperLevel;
+        if (nodesPerLevel == null) {
+            synchronized (this) {
+                nodesPerLevel = nodesPerUpperLevel;
+                if (nodesPerLevel == null) {
+                    nodesPerLevel = nodesPerUpperLevel = buildNodesPerUpperLevel(indexInput);
+                }
+            }
+        }
+
+        return level < nodesPerLevel.length ? nodesPerLevel[level] : new int[0];
+    }
+
+    private int[][] buildNodesPerUpperLevel(final IndexInput indexInput) throws IOException {
+        final IndexInput levelIndexInput = indexInput.clone();
+        levelIndexInput.seek(levels.getBaseOffset());
+
+        // Scan `levels` section in chunks, appending each vector to every upper level it belongs to.
+        // Note that maxLevel=3 indicates that a vector exists level-0 (bottom), level-1 and level-2.
+        int[][] nodesPerLevel = new int[1][];
+        int[] numNodesPerLevel = new int[1];
+        final int[] buffer = new int[1024];
+        final int numVectors = Math.toIntExact(totalNumberOfVectors);
+        for (int base = 0; base < numVectors; base += buffer.length) {
+            final int chunkSize = Math.min(buffer.length, numVectors - base);
+            levelIndexInput.readInts(buffer, 0, chunkSize);
+            for (int i = 0; i < chunkSize; ++i) {
+                final int numLevels = buffer[i];
+                if (numLevels > nodesPerLevel.length) {
+                    nodesPerLevel = ArrayUtil.growExact(nodesPerLevel, numLevels);
+                    numNodesPerLevel = ArrayUtil.growExact(numNodesPerLevel, numLevels);
+                }
+                for (int level = 1; level < numLevels; ++level) {
+                    if (nodesPerLevel[level] == null) {
+                        nodesPerLevel[level] = new int[16];
+                    } else if (numNodesPerLevel[level] == nodesPerLevel[level].length) {
+                        nodesPerLevel[level] = ArrayUtil.grow(nodesPerLevel[level]);
+                    }
+                    nodesPerLevel[level][numNodesPerLevel[level]++] = base + i;
+                }
+            }
+        }
+
+        // Trim to compact arrays.
+        for (int level = 1; level < nodesPerLevel.length; ++level) {
+            nodesPerLevel[level] = nodesPerLevel[level] == null
+                ? new int[0]
+                : ArrayUtil.copyOfSubArray(nodesPerLevel[level], 0, numNodesPerLevel[level]);
+        }
+        return nodesPerLevel;
+    }
+
     public int getMaxNumNeighbors() {
         if (cumNumberNeighborPerLevel != null && cumNumberNeighborPerLevel.length >= 1) {
             // Faiss uses a prefix-sum table to track the number of neighbors per level (commonly referred to as "connections" in Lucene
@@ -10,7 +10,6 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.hnsw.HnswGraph;
 
 import java.io.IOException;
-import java.util.NoSuchElementException;
 import java.util.Objects;
 
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
@@ -28,12 +27,40 @@ public class FaissHnswGraph extends HnswGraph {
     private final FaissHNSW faissHnsw;
     private final IndexInput indexInput;
     private final int numVectors;
+    private final FaissHnswNeighborCache neighborCache;
+    private final FaissHnswPrefetcher prefetcher;
     private int[] neighborIdList;
     private int numNeighbors;
     private int nextNeighborIndex;
 
     public FaissHnswGraph(final FaissHNSW faissHNSW, final IndexInput indexInput) {
+        this(faissHNSW, indexInput, null);
+    }
+
+    /**
+     * @param faissHNSW FAISS HNSW graph.
+     * @param indexInput Input stream to the FAISS index file.
+     * @param neighborCache Optional cache of decoded level-0 neighbor lists. Null if caching is disabled.
+     */
+    public FaissHnswGraph(final FaissHNSW faissHNSW, final IndexInput indexInput, final FaissHnswNeighborCache neighborCache) {
+        this(faissHNSW, indexInput, neighborCache, null);
+    }
+
+    /**
+     * @param faissHNSW FAISS HNSW graph.
+     * @param indexInput Input stream to the FAISS index file.
+     * @param neighborCache Optional cache of decoded level-0 neighbor lists. Null if caching is disabled.
+     * @param prefetcher Optional prefetcher issuing read-ahead hints for level-0 neighbors. Null if prefetching is disabled.
+     */
+    public FaissHnswGraph(
+        final FaissHNSW faissHNSW,
+        final IndexInput indexInput,
+        final FaissHnswNeighborCache neighborCache,
+        final FaissHnswPrefetcher prefetcher
+    ) {
         this.faissHnsw = faissHNSW;
+        this.neighborCache = neighborCache;
+        this.prefetcher = prefetcher;
         // Offset readers MUST non null.
         Objects.requireNonNull(faissHNSW.getOffsetsReader());
         this.indexInput = indexInput;
@@ -56,15 +83,42 @@ public class FaissHnswGraph extends HnswGraph {
         // Ex: [1, 5, 20, 100, -1, -1, ..., -1]
         final long begin = o + faissHnsw.getCumNumberNeighborPerLevel()[level];
         final long end = o + faissHnsw.getCumNumberNeighborPerLevel()[level + 1];
-        loadNeighborIdList(begin, end);
+
+        if (level == 0 && neighborCache != null) {
+            // Make sure we have sufficient space for the cached neighbor list
+            ensureNeighborIdListCapacity(end - begin);
+            final int numCachedNeighbors = neighborCache.get(internalVectorId, neighborIdList);
+            if (numCachedNeighbors >= 0) {
+                numNeighbors = numCachedNeighbors;
+                nextNeighborIndex = 0;
+            } else {
+                loadNeighborIdList(begin, end);
+                neighborCache.put(internalVectorId, neighborIdList, numNeighbors);
+            }
+        } else {
+            loadNeighborIdList(begin, end);
+        }
+
+        if (level == 0 && prefetcher != null) {
+            // All neighbors are about to be scored, let the storage fetch their pages concurrently.
+            try {
+                prefetcher.prefetch(indexInput, neighborIdList, numNeighbors);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
-    private void loadNeighborIdList(final long begin, final long end) {
-        // Make sure we have sufficient space for neighbor list
-        final long maxLength = end - begin;
+    private void ensureNeighborIdListCapacity(final long maxLength) {
         if (neighborIdList == null || neighborIdList.length < maxLength) {
             neighborIdList = new int[(int) (maxLength)];
         }
+    }
+
+    private void loadNeighborIdList(final long begin, final long end) {
+        // Make sure we have sufficient space for neighbor list
+        final long maxLength = end - begin;
+        ensureNeighborIdListCapacity(maxLength);
 
         // Seek to the first offset of neighbor list
         try {
@@ -73,19 +127,17 @@ public class FaissHnswGraph extends HnswGraph {
             throw new RuntimeException(e);
         }
 
-        // Fill the array with neighbor ids
+        // Fill the array with neighbor ids, decoding the whole fixed size list in one bulk read.
         int index = 0;
         try {
-            for (long i = begin; i < end; i++) {
-                final int neighborId = indexInput.readInt();
+            indexInput.readInts(neighborIdList, 0, (int) maxLength);
+            for (; index < maxLength; index++) {
                 // The idea is that a vector does not always have a complete list of neighbor vectors.
                 // FAISS assigns a fixed size to the neighbor list and uses -1 to indicate missing entries.
                 // Therefore, we can safely stop once hit -1.
                 // For example, if the neighbor list size is 16 and a vector has only 8 neighbors, the list would appear as:
                 // [1, 4, 6, 8, 13, 17, 60, 88, -1, -1, ..., -1].
-                if (neighborId >= 0) {
-                    neighborIdList[index++] = neighborId;
-                } else {
+                if (neighborIdList[index] < 0) {
                     break;
                 }
             }
@@ -125,64 +177,14 @@ public class FaissHnswGraph extends HnswGraph {
 
     @Override
     public NodesIterator getNodesOnLevel(final int level) {
-        try {
-            // Prepare input stream to `level` section.
-            final FaissSection levelsSection = faissHnsw.getLevels();
-            final IndexInput levelIndexInput = indexInput.clone();
-            levelIndexInput.seek(levelsSection.getBaseOffset());
-
-            // Count the number of vectors at the level.
-            int numVectorsAtLevel = 0;
-            for (int i = 0; i < numVectors; ++i) {
-                final int maxLevel = levelIndexInput.readInt();
-                // Note that maxLevel=3 indicates that a vector exists level-0 (bottom), level-1 and level-2.
-                if (maxLevel > level) {
-                    ++numVectorsAtLevel;
-                }
-            }
-
-            // Return iterator
-            levelIndexInput.seek(levelsSection.getBaseOffset());
-            return new NodesIterator(numVectorsAtLevel) {
-                int vectorNo = -1;
-                int numVisitedVectors = 0;
-
-                @Override
-                public boolean hasNext() {
-                    return numVisitedVectors < size;
-                }
-
-                @Override
-                public int nextInt() {
-                    while (true) {
-                        try {
-                            // Advance
-                            ++vectorNo;
-                            final int maxLevel = levelIndexInput.readInt();
-
-                            // Check the level
-                            if (maxLevel > level) {
-                                ++numVisitedVectors;
-                                return vectorNo;
-                            }
-                        } catch (IOException e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-                }
+        if (level == 0) {
+            // All vectors exist at level-0.
+            return new ArrayNodesIterator(numVectors);
+        }
 
-                @Override
-                public int consume(int[] ints) {
-                    if (hasNext() == false) {
-                        throw new NoSuchElementException();
-                    }
-                    final int copySize = Math.min(size - numVisitedVectors, ints.length);
-                    for (int i = 0; i < copySize; ++i) {
-                        ints[i] = nextInt();
-                    }
-                    return copySize;
-                }
-            };
+        try {
+            final int[] nodes = faissHnsw.getNodesOnUpperLevel(level, indexInput);
+            return new ArrayNodesIterator(nodes, nodes.length);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.Getter;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, off-heap cache of decoded level-0 neighbor lists for a single FAISS HNSW graph (e.g. one segment).
+ * <p>
+ * Without the cache, every hop in {@link FaissHnswGraph} re-reads the neighbor ids from the index file. With the cache, a neighbor list
+ * is decoded once into a fixed size slot of a packed int block, and subsequent visits copy it out in one bulk read.
+ * <p>
+ * The cache is direct-mapped: a vector id is hashed to exactly one slot, and inserting a vector evicts whichever vector occupied that
+ * slot. Each slot is laid out as [numNeighbors, neighbor_0, ..., neighbor_(maxConn - 1)].
+ * <p>
+ * The cache is shared by all concurrent searches on the same graph. Each slot is guarded by a stamp (version in the high 32 bits,
+ * vector id + 1 in the low 32 bits). Writers take a slot by bumping the version to an odd value, and readers validate that the stamp did
+ * not change while they were copying. A writer that loses the race simply skips caching, as this is a best-effort cache.
+ */
+public class FaissHnswNeighborCache {
+    // Max bytes per off-heap block, a single direct buffer can't exceed 2GB.
+    private static final int MAX_BLOCK_SIZE_IN_BYTES = 1 << 30;
+
+    private final int maxConn;
+    private final int slotSizeInInts;
+    private final int slotsPerBlock;
+    @Getter
+    private final int numSlots;
+    private final IntBuffer[] blocks;
+    private final AtomicLongArray stamps;
+
+    private FaissHnswNeighborCache(final int maxConn, final int numSlots) {
+        this.maxConn = maxConn;
+        this.slotSizeInInts = 1 + maxConn;
+        this.numSlots = numSlots;
+        this.slotsPerBlock = Math.max(1, MAX_BLOCK_SIZE_IN_BYTES / Integer.BYTES / slotSizeInInts);
+        final int numBlocks = (numSlots + slotsPerBlock - 1) / slotsPerBlock;
+        this.blocks = new IntBuffer[numBlocks];
+        for (int i = 0; i < numBlocks; ++i) {
+            final int slotsInBlock = Math.min(slotsPerBlock, numSlots - i * slotsPerBlock);
+            blocks[i] = ByteBuffer.allocateDirect(slotsInBlock * slotSizeInInts * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+        }
+        this.stamps = new AtomicLongArray(numSlots);
+    }
+
+    /**
+     * Create a neighbor cache for the given HNSW graph.
+     *
+     * @param faissHnsw HNSW graph whose level-0 neighbor lists will be cached.
+     * @param limitInBytes Maximum number of bytes the cache can occupy off-heap.
+     * @return Null if the cache is disabled or the limit is too small to hold a single neighbor list, otherwise a new cache.
+     */
+    public static FaissHnswNeighborCache create(final FaissHNSW faissHnsw, final long limitInBytes) {
+        final int maxConn = faissHnsw.getMaxNumNeighbors();
+        if (limitInBytes <= 0 || maxConn <= 0 || faissHnsw.getTotalNumberOfVectors() <= 0) {
+            return null;
+        }
+
+        final long slotSizeInBytes = (long) (1 + maxConn) * Integer.BYTES;
+        final long numSlots = Math.min(limitInBytes / slotSizeInBytes, faissHnsw.getTotalNumberOfVectors());
+        if (numSlots <= 0) {
+            return null;
+        }
+
+        return new FaissHnswNeighborCache(maxConn, Math.toIntExact(numSlots));
+    }
+
+    /**
+     * Copy the cached level-0 neighbor list of the given vector into `neighborIds`.
+     *
+     * @param internalVectorId An internal vector id.
+     * @param neighborIds Destination buffer, must have at least `maxConn` elements.
+     * @return The number of neighbors copied, or -1 if the list is not cached.
+     */
+    public int get(final int internalVectorId, final int[] neighborIds) {
+        final int slot = slotOf(internalVectorId);
+        final long stamp = stamps.get(slot);
+        if (isLocked(stamp) || (int) stamp != internalVectorId + 1) {
+            return -1;
+        }
+
+        final IntBuffer block = blocks[slot / slotsPerBlock];
+        final int offset = (slot % slotsPerBlock) * slotSizeInInts;
+        final int numNeighbors = block.get(offset);
+        if (numNeighbors < 0 || numNeighbors > maxConn) {
+            // Torn read of a slot being overwritten.
+            return -1;
+        }
+        block.get(offset + 1, neighborIds, 0, numNeighbors);
+
+        // Make sure the copy above is not reordered after the validation below.
+        VarHandle.acquireFence();
+        return stamps.get(slot) == stamp ? numNeighbors : -1;
+    }
+
+    /**
+     * Cache the level-0 neighbor list of the given vector, evicting the vector currently occupying its slot.
+     *
+     * @param internalVectorId An internal vector id.
+     * @param neighborIds Decoded neighbor ids.
+     * @param numNeighbors The number of valid neighbor ids in `neighborIds`.
+     */
+    public void put(final int internalVectorId, final int[] neighborIds, final int numNeighbors) {
+        if (numNeighbors > maxConn) {
+            return;
+        }
+
+        final int slot = slotOf(internalVectorId);
+        final long stamp = stamps.get(slot);
+        if (isLocked(stamp) || (int) stamp == internalVectorId + 1) {
+            // Either someone else is writing this slot, or it is already cached.
+            return;
+        }
+
+        final long version = stamp >>> 32;
+        if (stamps.compareAndSet(slot, stamp, ((version + 1) << 32) | (stamp & 0xFFFFFFFFL)) == false) {
+            return;
+        }
+
+        final IntBuffer block = blocks[slot / slotsPerBlock];
+        final int offset = (slot % slotsPerBlock) * slotSizeInInts;
+        block.put(offset, numNeighbors);
+        block.put(offset + 1, neighborIds, 0, numNeighbors);
+
+        // Release the slot, publishing the new neighbor list.
+        stamps.set(slot, ((version + 2) << 32) | ((internalVectorId + 1) & 0xFFFFFFFFL));
+    }
+
+    private int slotOf(final int internalVectorId) {
+        return Integer.remainderUnsigned(internalVectorId * 0x9E3779B9, numSlots);
+    }
+
+    private static boolean isLocked(final long stamp) {
+        return ((stamp >>> 32) & 1) != 0;
+    }
+}
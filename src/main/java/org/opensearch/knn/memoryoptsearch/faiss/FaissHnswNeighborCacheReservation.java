@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.memory.NativeMemoryAllocation;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
+import org.opensearch.knn.index.memory.NativeMemoryLoadStrategy;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link FaissHnswNeighborCache} accounted for in the node-wide neighbor cache budget.
+ * <p>
+ * All neighbor caches on a node share a single limit, so the total off-heap memory they hold is bounded no matter how many graphs are
+ * searched. Each cache is also charged to the native memory cache as an anonymous entry, so it counts against the k-NN circuit breaker
+ * like a loaded graph. If that entry is evicted, the reservation stops handing out its cache and gives its share of the budget back.
+ */
+@Log4j2
+final class FaissHnswNeighborCacheReservation implements Closeable {
+    // Bytes reserved by all neighbor caches on this node.
+    private static final AtomicLong RESERVED_BYTES = new AtomicLong();
+
+    private final long sizeInBytes;
+    private final String entryKey;
+    private final NativeMemoryAllocation allocation;
+    private final AtomicBoolean closed;
+    private volatile FaissHnswNeighborCache neighborCache;
+
+    private FaissHnswNeighborCacheReservation(
+        final long sizeInBytes,
+        final String entryKey,
+        final NativeMemoryAllocation allocation,
+        final FaissHnswNeighborCache neighborCache
+    ) {
+        this.sizeInBytes = sizeInBytes;
+        this.entryKey = entryKey;
+        this.allocation = allocation;
+        this.closed = new AtomicBoolean(false);
+        this.neighborCache = neighborCache;
+    }
+
+    /**
+     * Reserve a neighbor cache for the given HNSW graph out of the node-wide budget.
+     *
+     * @param faissHnsw HNSW graph whose level-0 neighbor lists will be cached.
+     * @param nodeLimitInBytes Maximum number of bytes all neighbor caches on this node can occupy off-heap.
+     * @return Null if the cache is disabled, the budget is exhausted or the native memory cache has no room, otherwise a new reservation.
+     */
+    static FaissHnswNeighborCacheReservation reserve(final FaissHNSW faissHnsw, final long nodeLimitInBytes) {
+        final int maxConn = faissHnsw.getMaxNumNeighbors();
+        if (nodeLimitInBytes <= 0 || maxConn <= 0 || faissHnsw.getTotalNumberOfVectors() <= 0) {
+            return null;
+        }
+
+        // Never reserve more than what is needed to cache every vector of the graph.
+        final long slotSizeInBytes = (long) (1 + maxConn) * Integer.BYTES;
+        final long neededBytes = slotSizeInBytes * faissHnsw.getTotalNumberOfVectors();
+        long grantedBytes;
+        while (true) {
+            final long reservedBytes = RESERVED_BYTES.get();
+            grantedBytes = Math.min(neededBytes, nodeLimitInBytes - reservedBytes) / slotSizeInBytes * slotSizeInBytes;
+            if (grantedBytes <= 0) {
+                return null;
+            }
+            if (RESERVED_BYTES.compareAndSet(reservedBytes, reservedBytes + grantedBytes)) {
+                break;
+            }
+        }
+
+        final NativeMemoryEntryContext.AnonymousEntryContext entryContext = new NativeMemoryEntryContext.AnonymousEntryContext(
+            Math.toIntExact((grantedBytes + 1023) / 1024),
+            NativeMemoryLoadStrategy.AnonymousLoadStrategy.getInstance()
+        );
+        final NativeMemoryAllocation allocation;
+        try {
+            if (KNNSettings.isCircuitBreakerTriggered()) {
+                RESERVED_BYTES.addAndGet(-grantedBytes);
+                return null;
+            }
+            // Never evict graphs to make room for a cache, searching without it is always an option.
+            allocation = NativeMemoryCacheManager.getInstance().get(entryContext, false);
+        } catch (Exception e) {
+            log.debug("Unable to charge {} bytes of neighbor cache to the native memory cache, searching without it.", grantedBytes, e);
+            RESERVED_BYTES.addAndGet(-grantedBytes);
+            return null;
+        }
+
+        return new FaissHnswNeighborCacheReservation(
+            grantedBytes,
+            entryContext.getKey(),
+            allocation,
+            FaissHnswNeighborCache.create(faissHnsw, grantedBytes)
+        );
+    }
+
+    /**
+     * @return The reserved cache, or null if the reservation was closed or evicted from the native memory cache.
+     */
+    FaissHnswNeighborCache getNeighborCache() {
+        final FaissHnswNeighborCache cache = neighborCache;
+        if (cache != null && allocation.isClosed()) {
+            // Evicted, drop the cache so that its buffers are reclaimed along with the searchers still holding it.
+            close();
+            return null;
+        }
+        return cache;
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true) == false) {
+            return;
+        }
+        neighborCache = null;
+        RESERVED_BYTES.addAndGet(-sizeInBytes);
+        NativeMemoryCacheManager.getInstance().invalidate(entryKey);
+    }
+
+    /**
+     * @return Bytes reserved by all neighbor caches on this node.
+     */
+    static long getReservedBytes() {
+        return RESERVED_BYTES.get();
+    }
+}
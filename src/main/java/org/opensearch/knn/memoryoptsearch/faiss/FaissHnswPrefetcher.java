@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.store.IndexInput;
+
+import java.io.IOException;
+
+/**
+ * Hints the OS to read ahead the pages a level-0 hop of {@link FaissHnswGraph} is about to touch.
+ * <p>
+ * Right after a neighbor list is loaded, Lucene's graph searcher scores every unvisited neighbor, and the next hop expands one of them.
+ * Without hints, each of those reads faults a page in on its own, so a cold graph pays one I/O round trip per neighbor. Prefetching the
+ * vector of every neighbor (and its level-0 neighbor list) lets the storage serve the whole batch concurrently.
+ * <p>
+ * Hints are issued with {@link IndexInput#prefetch(long, long)}, which is a no-op for non mapped inputs and backs off by itself once the
+ * pages are found to be resident.
+ */
+public class FaissHnswPrefetcher {
+    private final FaissHNSW faissHnsw;
+    private final long vectorBaseOffset;
+    private final long oneVectorByteSize;
+    private final long neighborListByteSize;
+
+    /**
+     * @param faissHnsw HNSW graph whose level-0 neighbor lists are prefetched.
+     * @param vectorBaseOffset File offset of the first vector in the flat vectors section.
+     * @param oneVectorByteSize Number of bytes a single vector occupies.
+     */
+    public FaissHnswPrefetcher(final FaissHNSW faissHnsw, final long vectorBaseOffset, final long oneVectorByteSize) {
+        this.faissHnsw = faissHnsw;
+        this.vectorBaseOffset = vectorBaseOffset;
+        this.oneVectorByteSize = oneVectorByteSize;
+        final int[] cumNumberNeighborPerLevel = faissHnsw.getCumNumberNeighborPerLevel();
+        this.neighborListByteSize = (long) Integer.BYTES * (cumNumberNeighborPerLevel[1] - cumNumberNeighborPerLevel[0]);
+    }
+
+    /**
+     * Create a prefetcher for the given flat vector storage.
+     *
+     * @param faissHnsw HNSW graph to search.
+     * @param bottomVectorValues Unwrapped vector values of the flat storage.
+     * @return Null if the storage is not memory mapped, otherwise a new prefetcher.
+     */
+    public static FaissHnswPrefetcher create(final FaissHNSW faissHnsw, final KnnVectorValues bottomVectorValues) {
+        if (bottomVectorValues instanceof MMapVectorValues mmapVectorValues) {
+            return new FaissHnswPrefetcher(faissHnsw, mmapVectorValues.getBaseOffset(), mmapVectorValues.getOneVectorByteSize());
+        }
+        return null;
+    }
+
+    /**
+     * Issue read-ahead hints for the vectors and level-0 neighbor lists of the given neighbors.
+     *
+     * @param indexInput Input stream to the FAISS index file.
+     * @param neighborIds Neighbor ids of the current hop.
+     * @param numNeighbors Number of valid ids in `neighborIds`.
+     */
+    public void prefetch(final IndexInput indexInput, final int[] neighborIds, final int numNeighbors) throws IOException {
+        final long neighborsBaseOffset = faissHnsw.getNeighbors().getBaseOffset();
+        final long level0Offset = faissHnsw.getCumNumberNeighborPerLevel()[0];
+        for (int i = 0; i < numNeighbors; ++i) {
+            final int neighborId = neighborIds[i];
+            indexInput.prefetch(vectorBaseOffset + (long) neighborId * oneVectorByteSize, oneVectorByteSize);
+            final long begin = faissHnsw.getOffsetsReader().get(neighborId) + level0Offset;
+            indexInput.prefetch(neighborsBaseOffset + (long) Integer.BYTES * begin, neighborListByteSize);
+        }
+    }
+}
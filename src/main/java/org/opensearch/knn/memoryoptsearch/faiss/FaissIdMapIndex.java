@@ -6,13 +6,14 @@
 package org.opensearch.knn.memoryoptsearch.faiss;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
-import org.apache.lucene.util.packed.DirectMonotonicReader;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.PackedInts;
+import org.apache.lucene.util.packed.PackedLongValues;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryHnswIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryIndex;
 
@@ -27,6 +28,7 @@ import java.io.IOException;
  * However, these IDs only cover the sparse 30% of Lucene documents, so an ID mapping is needed to convert the internal physical vector ID
  * into the corresponding Lucene document ID.
  * If the mapping is an identity mapping, where each `i` is mapped to itself, we omit storing it to save memory.
+ * The mapping is usually increasing, but it is not when vectors were renumbered for page locality at build time.
  */
 public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvider {
     public static final String IXMP = "IxMp";
@@ -35,7 +37,10 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
     @Getter
     private FaissIndex nestedIndex;
     private FaissHNSWProvider hnswGetter;
-    private DirectMonotonicReader idMappingReader;
+    private LongValues idMappingReader;
+    // True if vectors were renumbered at build time, internal vector ids then no longer follow document order.
+    @Getter
+    private boolean reordered;
 
     public FaissIdMapIndex(final String indexType) {
         super(indexType);
@@ -72,7 +77,35 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
         // Lucene document id.
         // Another case is parent-child nested case. In which, this mapping table will map internal vector id to parent document id.
         // NOTE : If the mapping is an identity function that maps `i` to `i`, then the reader will be null.
-        idMappingReader = MonotonicIntegerSequenceEncoder.encode(numElements, input);
+        final long idMappingOffset = input.getFilePointer();
+        reordered = isMonotonic(numElements, input) == false;
+        input.seek(idMappingOffset);
+        if (reordered == false) {
+            idMappingReader = MonotonicIntegerSequenceEncoder.encode(numElements, input);
+        } else {
+            // Vectors were renumbered at build time (see FaissService.reorderIndex), fall back to packed encoding.
+            idMappingReader = encodeUnordered(numElements, input);
+        }
+    }
+
+    private static boolean isMonotonic(final int numElements, final IndexInput input) throws IOException {
+        long prev = Long.MIN_VALUE;
+        for (int i = 0; i < numElements; ++i) {
+            final long value = input.readLong();
+            if (value < prev) {
+                return false;
+            }
+            prev = value;
+        }
+        return true;
+    }
+
+    private static LongValues encodeUnordered(final int numElements, final IndexInput input) throws IOException {
+        final PackedLongValues.Builder builder = PackedLongValues.packedBuilder(PackedInts.COMPACT);
+        for (int i = 0; i < numElements; ++i) {
+            builder.add(Math.toIntExact(input.readLong()));
+        }
+        return builder.build();
     }
 
     @Override
@@ -115,18 +148,19 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
     private ByteVectorValues sparseByteValues(IndexInput indexInput) throws IOException {
         final ByteVectorValues vectorValues = nestedIndex.getByteValues(indexInput);
 
-        @RequiredArgsConstructor
-        class SparseByteVectorValuesImpl extends ByteVectorValues {
-            private final ByteVectorValues vectorValues;
+        class SparseByteVectorValuesImpl extends WrappedByteVectorValues {
+            public SparseByteVectorValuesImpl(final ByteVectorValues vectorValues) {
+                super(vectorValues);
+            }
 
             @Override
             public byte[] vectorValue(int internalVectorId) throws IOException {
-                return vectorValues.vectorValue(internalVectorId);
+                return byteVectorValues.vectorValue(internalVectorId);
             }
 
             @Override
             public int dimension() {
-                return vectorValues.dimension();
+                return byteVectorValues.dimension();
             }
 
             @Override
@@ -138,7 +172,7 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
             @Override
             public Bits getAcceptOrds(final Bits acceptDocs) {
                 if (acceptDocs != null) {
-                    final Bits internalBits = vectorValues.getAcceptOrds(acceptDocs);
+                    final Bits internalBits = byteVectorValues.getAcceptOrds(acceptDocs);
 
                     return new Bits() {
                         @Override
@@ -160,12 +194,12 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
             @Override
             public int size() {
                 // The number of vectors
-                return vectorValues.size();
+                return byteVectorValues.size();
             }
 
             @Override
             public ByteVectorValues copy() throws IOException {
-                return new SparseByteVectorValuesImpl(vectorValues.copy());
+                return new SparseByteVectorValuesImpl(byteVectorValues.copy());
             }
         }
 
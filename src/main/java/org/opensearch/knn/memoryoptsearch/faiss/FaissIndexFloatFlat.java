@@ -7,11 +7,13 @@ package org.opensearch.knn.memoryoptsearch.faiss;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.knn.index.KNNVectorSimilarityFunction;
+import org.opensearch.knn.memoryoptsearch.MemorySegmentAddressExtractorUtil;
 
 import java.io.IOException;
 import java.util.Map;
@@ -23,6 +25,7 @@ import java.util.function.Supplier;
  * The total storage size is calculated as `4 * dimension * number_of_vectors`, where `4` is the size of a float.
  * Please refer to IndexFlatL2 and IndexFlatIp in <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/IndexFlat.h">...</a>.
  */
+@Log4j2
 public class FaissIndexFloatFlat extends FaissIndex {
     // Flat format for L2 metric
     public static final String IXF2 = "IxF2";
@@ -109,6 +112,25 @@ public class FaissIndexFloatFlat extends FaissIndex {
             }
         }
 
+        final long[] addressAndSize = MemorySegmentAddressExtractorUtil.tryExtractAddressAndSize(
+            indexInput,
+            floatVectors.getBaseOffset(),
+            floatVectors.getSectionSize()
+        );
+        if (addressAndSize != null) {
+            // Return MMapFloatVectorValues having pointers pointing to mmap regions, so that scoring can be done natively.
+            return new MMapFloatVectorValues(
+                indexInput,
+                oneVectorByteSize,
+                floatVectors.getBaseOffset(),
+                dimension,
+                totalNumberOfVectors,
+                addressAndSize,
+                null
+            );
+        }
+        log.debug("Failed to extract mapped pointers from IndexInput, falling back to FloatVectorValuesImpl.");
+
         return new FloatVectorValuesImpl(indexInput);
     }
 
@@ -128,7 +128,7 @@ public class FaissIndexScalarQuantizedFlat extends FaissIndex {
         }
 
         if (quantizerType == FaissQuantizerType.QT_FP16) {
-            // Faiss SIMD bulk only supported for FP16 for now.
+            // Faiss SIMD bulk for float values is only supported for FP16.
             final long[] addressAndSize = MemorySegmentAddressExtractorUtil.tryExtractAddressAndSize(
                 indexInput,
                 flatVectors.getBaseOffset(),
@@ -184,6 +184,28 @@ public class FaissIndexScalarQuantizedFlat extends FaissIndex {
             }
         }
 
+        if (quantizerType == FaissQuantizerType.QT_8BIT_DIRECT_SIGNED) {
+            final long[] addressAndSize = MemorySegmentAddressExtractorUtil.tryExtractAddressAndSize(
+                indexInput,
+                flatVectors.getBaseOffset(),
+                flatVectors.getSectionSize()
+            );
+            if (addressAndSize != null) {
+                // Return MMapByteVectorValues having pointers pointing to mmap regions.
+                return new MMapByteVectorValues(
+                    indexInput,
+                    oneVectorByteSize,
+                    flatVectors.getBaseOffset(),
+                    dimension,
+                    totalNumberOfVectors,
+                    addressAndSize,
+                    reconstructor
+                );
+            } else {
+                log.debug("Failed to extract mapped pointers from IndexInput, falling back to ByteVectorValuesImpl.");
+            }
+        }
+
         // Return default implementation
         return new ByteVectorValuesImpl(indexInput);
     }
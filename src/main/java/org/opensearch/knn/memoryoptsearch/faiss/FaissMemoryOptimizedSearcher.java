@@ -6,6 +6,7 @@
 package org.opensearch.knn.memoryoptsearch.faiss;
 
 import org.apache.lucene.codecs.hnsw.FlatVectorsScorer;
+import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.KnnVectorValues;
@@ -55,11 +56,40 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
     private final FaissHNSW hnsw;
     private final VectorSimilarityFunction vectorSimilarityFunction;
     private final long fileSize;
+    private final FaissHnswNeighborCacheReservation neighborCacheReservation;
+    private final boolean prefetchEnabled;
     private boolean isAdc;
-    private SimdVectorComputeService.SimilarityFunctionType nativeSimilarityFunctionType;
 
     public FaissMemoryOptimizedSearcher(final IndexInput indexInput, final FieldInfo fieldInfo) throws IOException {
+        this(indexInput, fieldInfo, 0);
+    }
+
+    /**
+     * @param indexInput Input stream to the FAISS index file.
+     * @param fieldInfo Field info containing metadata for ADC extraction
+     * @param neighborCacheLimitInBytes Node-wide maximum off-heap bytes to cache decoded level-0 neighbor lists. 0 disables the cache.
+     * @throws IOException
+     */
+    public FaissMemoryOptimizedSearcher(final IndexInput indexInput, final FieldInfo fieldInfo, final long neighborCacheLimitInBytes)
+        throws IOException {
+        this(indexInput, fieldInfo, neighborCacheLimitInBytes, false);
+    }
+
+    /**
+     * @param indexInput Input stream to the FAISS index file.
+     * @param fieldInfo Field info containing metadata for ADC extraction
+     * @param neighborCacheLimitInBytes Node-wide maximum off-heap bytes to cache decoded level-0 neighbor lists. 0 disables the cache.
+     * @param prefetchEnabled Whether to prefetch vectors and neighbor lists of level-0 neighbors during graph traversal.
+     * @throws IOException
+     */
+    public FaissMemoryOptimizedSearcher(
+        final IndexInput indexInput,
+        final FieldInfo fieldInfo,
+        final long neighborCacheLimitInBytes,
+        final boolean prefetchEnabled
+    ) throws IOException {
         this.indexInput = indexInput;
+        this.prefetchEnabled = prefetchEnabled;
         this.fileSize = indexInput.length();
         this.faissIndex = FaissIndex.load(indexInput);
         final KNNVectorSimilarityFunction knnVectorSimilarityFunction = faissIndex.getVectorSimilarityFunction();
@@ -82,7 +112,7 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
         this.flatVectorsScorer = FlatVectorsScorerProvider.getFlatVectorsScorer(knnVectorSimilarityFunction, isAdc, spaceType);
 
         this.hnsw = extractFaissHnsw(faissIndex);
-        this.nativeSimilarityFunctionType = determineNativeFunctionType();
+        this.neighborCacheReservation = FaissHnswNeighborCacheReservation.reserve(hnsw, neighborCacheLimitInBytes);
     }
 
     private static FaissHNSW extractFaissHnsw(final FaissIndex faissIndex) {
@@ -99,58 +129,111 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
             ? faissIndex.getByteValues(getSlicedIndexInput())
             : faissIndex.getFloatValues(getSlicedIndexInput());
         final FloatVectorValues bottomKnnVectorValues = WrappedFloatVectorValues.getBottomFloatVectorValues(knnVectorValues);
-        final boolean useNativeScoring = bottomKnnVectorValues instanceof MMapVectorValues;
+        final SimdVectorComputeService.SimilarityFunctionType nativeFunctionType = determineNativeFunctionType(bottomKnnVectorValues);
         final IOSupplier<RandomVectorScorer> scorerSupplier;
 
-        if (useNativeScoring) {
-            // We can use native scoring.
+        if (nativeFunctionType != null) {
+            // We can use native scoring. Lucene's graph searcher gathers all unvisited neighbors of a node and scores them at once via
+            // bulkScore, so each hop costs a single JNI call.
             scorerSupplier = () -> new NativeRandomVectorScorer(
                 target,
                 knnVectorValues,
                 (MMapVectorValues) bottomKnnVectorValues,
-                nativeSimilarityFunctionType
+                nativeFunctionType
             );
         } else {
             // Falling back to default scoring using pure Java.
             scorerSupplier = () -> flatVectorsScorer.getRandomVectorScorer(vectorSimilarityFunction, knnVectorValues, target);
         }
 
-        search(VectorEncoding.FLOAT32, scorerSupplier, knnCollector, acceptDocs);
+        search(VectorEncoding.FLOAT32, scorerSupplier, bottomKnnVectorValues, knnCollector, acceptDocs);
     }
 
-    private SimdVectorComputeService.SimilarityFunctionType determineNativeFunctionType() {
-        if (vectorSimilarityFunction == VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT) {
-            return SimdVectorComputeService.SimilarityFunctionType.FP16_MAXIMUM_INNER_PRODUCT;
-        } else if (vectorSimilarityFunction == VectorSimilarityFunction.EUCLIDEAN) {
-            return SimdVectorComputeService.SimilarityFunctionType.FP16_L2;
+    /**
+     * Determine native similarity function type for the given bottom vector values.
+     *
+     * @param bottomKnnVectorValues Unwrapped vector values of the flat storage.
+     * @return Null if native scoring is not supported for the storage or the similarity function, otherwise native function type.
+     */
+    private SimdVectorComputeService.SimilarityFunctionType determineNativeFunctionType(final KnnVectorValues bottomKnnVectorValues) {
+        final boolean isMaxInnerProduct = vectorSimilarityFunction == VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT;
+        if (isMaxInnerProduct == false && vectorSimilarityFunction != VectorSimilarityFunction.EUCLIDEAN) {
+            return null;
+        }
+
+        if (bottomKnnVectorValues instanceof MMapFloatVectorValues mmapFloatVectorValues) {
+            // Only FP16 storage has a reconstructor among mapped float vectors, FP32 vectors are read as is.
+            if (mmapFloatVectorValues.isQuantized()) {
+                return isMaxInnerProduct
+                    ? SimdVectorComputeService.SimilarityFunctionType.FP16_MAXIMUM_INNER_PRODUCT
+                    : SimdVectorComputeService.SimilarityFunctionType.FP16_L2;
+            }
+            return isMaxInnerProduct
+                ? SimdVectorComputeService.SimilarityFunctionType.FP32_MAXIMUM_INNER_PRODUCT
+                : SimdVectorComputeService.SimilarityFunctionType.FP32_L2;
+        } else if (bottomKnnVectorValues instanceof MMapByteVectorValues mmapByteVectorValues && mmapByteVectorValues.isQuantized()) {
+            // Only 8 bits direct signed SQ storage has a reconstructor among mapped byte vectors.
+            return isMaxInnerProduct
+                ? SimdVectorComputeService.SimilarityFunctionType.SQ8_DIRECT_SIGNED_MAXIMUM_INNER_PRODUCT
+                : SimdVectorComputeService.SimilarityFunctionType.SQ8_DIRECT_SIGNED_L2;
         }
 
-        // At the moment, we only support FP16, it's fine to return null.
         return null;
     }
 
     @Override
     public void search(byte[] target, KnnCollector knnCollector, AcceptDocs acceptDocs) throws IOException {
-        search(
-            VectorEncoding.BYTE,
-            () -> flatVectorsScorer.getRandomVectorScorer(
-                vectorSimilarityFunction,
-                faissIndex.getByteValues(getSlicedIndexInput()),
-                target
-            ),
-            knnCollector,
-            acceptDocs
-        );
+        final ByteVectorValues byteVectorValues = faissIndex.getByteValues(getSlicedIndexInput());
+        final ByteVectorValues bottomByteVectorValues = WrappedByteVectorValues.getBottomByteVectorValues(byteVectorValues);
+        final SimdVectorComputeService.SimilarityFunctionType nativeFunctionType = determineNativeFunctionType(bottomByteVectorValues);
+        final IOSupplier<RandomVectorScorer> scorerSupplier;
+
+        if (nativeFunctionType != null) {
+            // Native SQ decoding takes the query as floats.
+            final float[] floatTarget = new float[target.length];
+            for (int i = 0; i < target.length; ++i) {
+                floatTarget[i] = target[i];
+            }
+            scorerSupplier = () -> new NativeRandomVectorScorer(
+                floatTarget,
+                byteVectorValues,
+                (MMapVectorValues) bottomByteVectorValues,
+                nativeFunctionType
+            );
+        } else {
+            scorerSupplier = () -> flatVectorsScorer.getRandomVectorScorer(vectorSimilarityFunction, byteVectorValues, target);
+        }
+
+        search(VectorEncoding.BYTE, scorerSupplier, bottomByteVectorValues, knnCollector, acceptDocs);
+    }
+
+    @Override
+    public ByteVectorValues getStoredByteVectorValues() throws IOException {
+        if (faissIndex.getVectorEncoding() != VectorEncoding.BYTE) {
+            return null;
+        }
+        if (faissIndex instanceof FaissIdMapIndex idMapIndex && idMapIndex.isReordered()) {
+            // Internal ids no longer follow document id order.
+            return null;
+        }
+        return faissIndex.getByteValues(getSlicedIndexInput());
     }
 
     @Override
     public void close() throws IOException {
-        indexInput.close();
+        try {
+            if (neighborCacheReservation != null) {
+                neighborCacheReservation.close();
+            }
+        } finally {
+            indexInput.close();
+        }
     }
 
     private void search(
         final VectorEncoding vectorEncoding,
         final IOSupplier<RandomVectorScorer> scorerSupplier,
+        final KnnVectorValues bottomVectorValues,
         final KnnCollector knnCollector,
         final AcceptDocs acceptDocs
     ) throws IOException {
@@ -176,7 +259,12 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
 
         if (knnCollector.k() < scorer.maxOrd()) {
             // Do ANN search with Lucene's HNSW graph searcher.
-            HnswGraphSearcher.search(scorer, collector, new FaissHnswGraph(hnsw, getSlicedIndexInput()), acceptedOrds);
+            final FaissHnswPrefetcher prefetcher = prefetchEnabled ? FaissHnswPrefetcher.create(hnsw, bottomVectorValues) : null;
+            final FaissHnswNeighborCache neighborCache = neighborCacheReservation != null
+                ? neighborCacheReservation.getNeighborCache()
+                : null;
+            final FaissHnswGraph graph = new FaissHnswGraph(hnsw, getSlicedIndexInput(), neighborCache, prefetcher);
+            HnswGraphSearcher.search(scorer, collector, graph, acceptedOrds);
         } else {
             // If k is larger than the number of vectors, we can just iterate over all vectors
             // and collect them.
@@ -211,6 +299,16 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
                     );
                 }
             };
+        } else if (faissIndex instanceof FaissIdMapIndex idMapIndex
+            && idMapIndex.isReordered()
+            && knnCollector.getSearchStrategy() instanceof KnnSearchStrategy.Seeded seeded) {
+            // Seeds are ordinals of Lucene's flat vectors, which do not match internal ids of a graph renumbered at build time.
+            return new KnnCollector.Decorator(ordinalTranslatedKnnCollector) {
+                @Override
+                public KnnSearchStrategy getSearchStrategy() {
+                    return seeded.originalStrategy();
+                }
+            };
         } else {
             return ordinalTranslatedKnnCollector;
         }
@@ -11,6 +11,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.IOUtils;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
 import org.opensearch.knn.memoryoptsearch.VectorSearcherFactory;
 
@@ -20,7 +21,9 @@ import java.io.IOException;
  * This factory returns {@link VectorSearcher} that performs vector search directly on FAISS index.
  * Note that we pass `RANDOM` as advice to prevent the underlying storage from performing read-ahead. Since vector search naturally accesses
  * random vector locations, read-ahead does not improve performance. By passing the `RANDOM` context, we explicitly indicate that
- * this searcher will access vectors randomly.
+ * this searcher will access vectors randomly. The hint can be turned off with
+ * {@link KNNSettings#MEMORY_OPTIMIZED_KNN_SEARCH_RANDOM_ACCESS_HINT_ENABLED}, and explicit read-ahead of the neighbors about to be scored
+ * can be turned on with {@link KNNSettings#MEMORY_OPTIMIZED_KNN_SEARCH_PREFETCH_ENABLED}.
  */
 @Log4j2
 public class FaissMemoryOptimizedSearcherFactory implements VectorSearcherFactory {
@@ -36,7 +39,12 @@ public class FaissMemoryOptimizedSearcherFactory implements VectorSearcherFactor
 
         try {
             // Try load it. Not all FAISS index types are currently supported at the moment.
-            return new FaissMemoryOptimizedSearcher(indexInput, fieldInfo);
+            return new FaissMemoryOptimizedSearcher(
+                indexInput,
+                fieldInfo,
+                KNNSettings.getMemoryOptimizedSearchNeighborCacheLimit().getBytes(),
+                KNNSettings.isMemoryOptimizedSearchPrefetchEnabled()
+            );
         } catch (UnsupportedFaissIndexException e) {
             // Clean up input stream.
             try {
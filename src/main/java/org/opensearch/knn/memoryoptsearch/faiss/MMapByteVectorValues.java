@@ -8,6 +8,8 @@ package org.opensearch.knn.memoryoptsearch.faiss;
 import lombok.Getter;
 import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.Nullable;
+import org.opensearch.knn.memoryoptsearch.faiss.reconstruct.FaissQuantizedValueReconstructor;
 
 import java.io.IOException;
 
@@ -23,8 +25,10 @@ import java.io.IOException;
 public class MMapByteVectorValues extends ByteVectorValues implements MMapVectorValues {
     private final IndexInput indexInput;
     // oneVectorByteSize == Float.BYTES * Dimension. Ex: 3072 bytes for 768 dimensions.
+    @Getter
     private final long oneVectorByteSize;
     // Start offset pointing to flat vectors section in Faiss index.
+    @Getter
     private final long baseOffset;
     // Vector dimension
     private final int dimension;
@@ -39,6 +43,8 @@ public class MMapByteVectorValues extends ByteVectorValues implements MMapVector
     private final long[] addressAndSize;
     // Internal buffer that lazily created.
     private byte[] buffer;
+    @Nullable
+    private final FaissQuantizedValueReconstructor reconstructor;
 
     public MMapByteVectorValues(
         final IndexInput indexInput,
@@ -47,6 +53,18 @@ public class MMapByteVectorValues extends ByteVectorValues implements MMapVector
         final int dimension,
         final int totalNumberOfVectors,
         final long[] addressAndSize
+    ) {
+        this(indexInput, oneVectorByteSize, baseOffset, dimension, totalNumberOfVectors, addressAndSize, null);
+    }
+
+    public MMapByteVectorValues(
+        final IndexInput indexInput,
+        final long oneVectorByteSize,
+        final long baseOffset,
+        final int dimension,
+        final int totalNumberOfVectors,
+        final long[] addressAndSize,
+        final FaissQuantizedValueReconstructor reconstructor
     ) {
         this.indexInput = indexInput;
         this.oneVectorByteSize = oneVectorByteSize;
@@ -62,6 +80,7 @@ public class MMapByteVectorValues extends ByteVectorValues implements MMapVector
             );
         }
         this.addressAndSize = addressAndSize;
+        this.reconstructor = reconstructor;
     }
 
     @Override
@@ -73,9 +92,20 @@ public class MMapByteVectorValues extends ByteVectorValues implements MMapVector
             buffer = new byte[(int) oneVectorByteSize];
         }
         indexInput.readBytes(buffer, 0, buffer.length);
+        if (reconstructor != null) {
+            // Decode quantized bytes in place. Ex: 8 bits direct signed codes are shifted back to signed bytes.
+            reconstructor.reconstruct(buffer, buffer);
+        }
         return buffer;
     }
 
+    /**
+     * @return True if stored codes are quantized (e.g. 8 bits direct signed) and decoded on read, False if bytes are returned as is.
+     */
+    public boolean isQuantized() {
+        return reconstructor != null;
+    }
+
     @Override
     public int dimension() {
         return dimension;
@@ -88,6 +118,14 @@ public class MMapByteVectorValues extends ByteVectorValues implements MMapVector
 
     @Override
     public ByteVectorValues copy() throws IOException {
-        return new MMapByteVectorValues(indexInput.clone(), oneVectorByteSize, baseOffset, dimension, totalNumberOfVectors, addressAndSize);
+        return new MMapByteVectorValues(
+            indexInput.clone(),
+            oneVectorByteSize,
+            baseOffset,
+            dimension,
+            totalNumberOfVectors,
+            addressAndSize,
+            reconstructor
+        );
     }
 }
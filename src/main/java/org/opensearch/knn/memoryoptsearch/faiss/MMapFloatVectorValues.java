@@ -25,8 +25,10 @@ import java.io.IOException;
 public class MMapFloatVectorValues extends FloatVectorValues implements MMapVectorValues {
     private final IndexInput indexInput;
     // oneVectorByteSize == Float.BYTES * Dimension. Ex: 3072 bytes for 768 dimensions.
+    @Getter
     private final long oneVectorByteSize;
     // Start offset pointing to flat vectors section in Faiss index.
+    @Getter
     private final long baseOffset;
     // Vector dimension
     private final int dimension;
@@ -96,6 +98,13 @@ public class MMapFloatVectorValues extends FloatVectorValues implements MMapVect
         return floatBuffer;
     }
 
+    /**
+     * @return True if stored vectors are quantized (e.g. FP16) and reconstructed into floats, False if they are stored as FP32.
+     */
+    public boolean isQuantized() {
+        return reconstructor != null;
+    }
+
     @Override
     public int dimension() {
         return dimension;
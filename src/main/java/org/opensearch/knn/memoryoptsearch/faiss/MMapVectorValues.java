@@ -33,4 +33,18 @@ public interface MMapVectorValues {
      * @return a {@code long[]} array containing address–size pairs for each memory chunk
      */
     long[] getAddressAndSize();
+
+    /**
+     * Returns the number of bytes a single vector occupies in the mapped regions.
+     *
+     * @return the size of one vector in bytes
+     */
+    long getOneVectorByteSize();
+
+    /**
+     * Returns the file offset of the first vector in the flat vectors section.
+     *
+     * @return the starting offset of the flat vectors
+     */
+    long getBaseOffset();
 }
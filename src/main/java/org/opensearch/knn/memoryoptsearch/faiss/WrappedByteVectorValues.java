@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.KnnVectorValues;
+
+/**
+ * An abstract wrapper around a {@link ByteVectorValues} instance, the byte counterpart of {@link WrappedFloatVectorValues}.
+ */
+@RequiredArgsConstructor
+public abstract class WrappedByteVectorValues extends ByteVectorValues {
+
+    // The wrapped (nested) {@link ByteVectorValues} instance.
+    protected final ByteVectorValues byteVectorValues;
+
+    /**
+     * Extracts the bottom-level {@link ByteVectorValues} from a possibly wrapped {@link KnnVectorValues} instance.
+     *
+     * @param knnVectorValues the {@link KnnVectorValues} to unwrap
+     * @return the innermost {@link ByteVectorValues}, or {@code null} if not applicable
+     */
+    public static ByteVectorValues getBottomByteVectorValues(KnnVectorValues knnVectorValues) {
+        if (knnVectorValues instanceof ByteVectorValues byteVectorValues) {
+            if (byteVectorValues instanceof WrappedByteVectorValues wrappedByteVectorValues) {
+                return wrappedByteVectorValues.byteVectorValues;
+            }
+            return byteVectorValues;
+        }
+
+        return null;
+    }
+}
@@ -18,6 +18,7 @@ import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
@@ -35,6 +36,7 @@ import org.opensearch.index.shard.IndexSettingProvider;
 import org.opensearch.indices.SystemIndexDescriptor;
 import org.opensearch.knn.index.KNNCircuitBreaker;
 import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.codec.KNN990Codec.NativeEngines990KnnVectorsWriter;
 import org.opensearch.knn.index.codec.KNNCodecService;
 import org.opensearch.knn.index.codec.derivedsource.DerivedSourceIndexOperationListener;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
@@ -76,10 +78,14 @@ import org.opensearch.knn.plugin.transport.RemoveModelFromCacheAction;
 import org.opensearch.knn.plugin.transport.RemoveModelFromCacheTransportAction;
 import org.opensearch.knn.plugin.transport.SearchModelAction;
 import org.opensearch.knn.plugin.transport.SearchModelTransportAction;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleAction;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleTransportAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouteDecisionInfoAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouteDecisionInfoTransportAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouterAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouterTransportAction;
+import org.opensearch.knn.plugin.transport.TrainingKMeansStepAction;
+import org.opensearch.knn.plugin.transport.TrainingKMeansStepTransportAction;
 import org.opensearch.knn.plugin.transport.TrainingModelAction;
 import org.opensearch.knn.plugin.transport.TrainingModelRequest;
 import org.opensearch.knn.plugin.transport.TrainingModelTransportAction;
@@ -95,6 +101,8 @@ import org.opensearch.knn.search.processor.mmr.MMRKnnQueryTransformer;
 import org.opensearch.knn.search.processor.mmr.MMROverSampleProcessor;
 import org.opensearch.knn.search.processor.mmr.MMRQueryTransformer;
 import org.opensearch.knn.search.processor.mmr.MMRRerankProcessor;
+import org.opensearch.knn.training.DistributedIVFTrainer;
+import org.opensearch.knn.training.ShardTrainingDataSampleContexts;
 import org.opensearch.knn.training.TrainingJobClusterStateListener;
 import org.opensearch.knn.training.TrainingJobRunner;
 import org.opensearch.knn.training.VectorReader;
@@ -143,6 +151,9 @@ import static java.util.Collections.singletonList;
 import static org.opensearch.knn.common.KNNConstants.KNN_THREAD_POOL_PREFIX;
 import static org.opensearch.knn.common.KNNConstants.MODEL_INDEX_NAME;
 import static org.opensearch.knn.common.KNNConstants.TRAIN_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.GRAPH_LOAD_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.INDEX_BUILD_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_TRANSFER_THREAD_POOL;
 import static org.opensearch.knn.index.KNNCircuitBreaker.KNN_CIRCUIT_BREAKER_TIER;
 import static org.opensearch.knn.index.KNNSettings.KNN_DERIVED_SOURCE_ENABLED;
 
@@ -248,6 +259,8 @@ public class KNNPlugin extends Plugin
         // Initialize Native Memory loading strategies
         VectorReader vectorReader = new VectorReader(client);
         NativeMemoryLoadStrategy.TrainingLoadStrategy.initialize(vectorReader);
+        DistributedIVFTrainer.initialize(client);
+        ShardTrainingDataSampleContexts.initialize(threadPool);
 
         KNNSettings.state().initialize(client, clusterService);
         KNNClusterUtil.instance().initialize(clusterService, indexNameExpressionResolver);
@@ -257,6 +270,8 @@ public class KNNPlugin extends Plugin
         TrainingJobClusterStateListener.initialize(threadPool, ModelDao.OpenSearchKNNModelDao.getInstance(), clusterService);
         QuantizationStateCache.setThreadPool(threadPool);
         NativeMemoryCacheManager.setThreadPool(threadPool);
+        NativeEngines990KnnVectorsWriter.setThreadPool(threadPool);
+        NativeIndexBuildStrategyFactory.setThreadPool(threadPool);
         KNNCircuitBreaker.getInstance().initialize(threadPool, clusterService, client);
         KNNQueryBuilder.initialize(ModelDao.OpenSearchKNNModelDao.getInstance());
         KNNWeight.initialize(ModelDao.OpenSearchKNNModelDao.getInstance());
@@ -342,7 +357,9 @@ public class KNNPlugin extends Plugin
             new ActionHandler<>(RemoveModelFromCacheAction.INSTANCE, RemoveModelFromCacheTransportAction.class),
             new ActionHandler<>(SearchModelAction.INSTANCE, SearchModelTransportAction.class),
             new ActionHandler<>(UpdateModelGraveyardAction.INSTANCE, UpdateModelGraveyardTransportAction.class),
-            new ActionHandler<>(ClearCacheAction.INSTANCE, ClearCacheTransportAction.class)
+            new ActionHandler<>(ClearCacheAction.INSTANCE, ClearCacheTransportAction.class),
+            new ActionHandler<>(TrainingDataSampleAction.INSTANCE, TrainingDataSampleTransportAction.class),
+            new ActionHandler<>(TrainingKMeansStepAction.INSTANCE, TrainingKMeansStepTransportAction.class)
         );
     }
 
@@ -424,7 +441,38 @@ public class KNNPlugin extends Plugin
 
     @Override
     public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
-        return ImmutableList.of(new FixedExecutorBuilder(settings, TRAIN_THREAD_POOL, 1, 1, KNN_THREAD_POOL_PREFIX, false));
+        return ImmutableList.of(
+            new FixedExecutorBuilder(settings, TRAIN_THREAD_POOL, 1, 1, KNN_THREAD_POOL_PREFIX, false),
+            // Concurrent loads of the same graph are coalesced, so the queue is bounded by the number of distinct graphs.
+            new FixedExecutorBuilder(
+                settings,
+                GRAPH_LOAD_THREAD_POOL,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 2),
+                -1,
+                KNN_THREAD_POOL_PREFIX,
+                false
+            ),
+            // Builds of the fields of a segment wait for each other, so the queue is bounded by the number of fields being built.
+            // Faiss also parallelizes each build with knn.algo_param.index_thread_qty threads.
+            new FixedExecutorBuilder(
+                settings,
+                INDEX_BUILD_THREAD_POOL,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 4),
+                -1,
+                KNN_THREAD_POOL_PREFIX,
+                false
+            ),
+            // Each build with knn.index_build.pipelined_transfer.enabled reads its vectors from one thread of this pool. Transfers
+            // never wait for each other, so a transfer queued behind others only delays its own build.
+            new FixedExecutorBuilder(
+                settings,
+                VECTOR_TRANSFER_THREAD_POOL,
+                OpenSearchExecutors.allocatedProcessors(settings),
+                -1,
+                KNN_THREAD_POOL_PREFIX,
+                false
+            )
+        );
     }
 
     @Override
@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * Action to read a block of sampled training vectors from a shard. It reads documents of the index, so it is registered as an index
+ * read action, which subjects it to the index permissions and document and field level security of the caller.
+ */
+public class TrainingDataSampleAction extends ActionType<TrainingDataSampleResponse> {
+
+    public static final TrainingDataSampleAction INSTANCE = new TrainingDataSampleAction();
+    public static final String NAME = "indices:data/read/knn/training_data_sample";
+
+    private TrainingDataSampleAction() {
+        super(NAME, TrainingDataSampleResponse::new);
+    }
+
+    @Override
+    public Writeable.Reader<TrainingDataSampleResponse> getResponseReader() {
+        return TrainingDataSampleResponse::new;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.single.shard.SingleShardRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request to read a block of the training vectors sampled from a shard. The first request draws the sample from the seed and returns
+ * the id of its context on the shard, see {@link org.opensearch.knn.training.ShardTrainingDataSampleContexts}. The following blocks of
+ * the same sample are read by sending that context id with a different offset.
+ */
+@Getter
+public class TrainingDataSampleRequest extends SingleShardRequest<TrainingDataSampleRequest> {
+
+    private final String fieldName;
+    private final int shardNumber;
+    private final int sampleSize;
+    private final long seed;
+    private final int from;
+    private final int count;
+    @Nullable
+    private final String contextId;
+
+    /**
+     * Constructor
+     *
+     * @param index name of the index containing the training vectors
+     * @param fieldName name of the field containing the training vectors
+     * @param shardNumber number of the shard to sample from
+     * @param sampleSize number of vectors to sample from the shard
+     * @param seed seed of the sample
+     * @param from index of the first sampled vector to return
+     * @param count maximum number of sampled vectors to return
+     * @param contextId id of the context of the sample on the shard, or null to draw a new sample
+     */
+    public TrainingDataSampleRequest(
+        String index,
+        String fieldName,
+        int shardNumber,
+        int sampleSize,
+        long seed,
+        int from,
+        int count,
+        @Nullable String contextId
+    ) {
+        super(index);
+        this.fieldName = fieldName;
+        this.shardNumber = shardNumber;
+        this.sampleSize = sampleSize;
+        this.seed = seed;
+        this.from = from;
+        this.count = count;
+        this.contextId = contextId;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException if read from stream fails
+     */
+    public TrainingDataSampleRequest(StreamInput in) throws IOException {
+        super(in);
+        this.fieldName = in.readString();
+        this.shardNumber = in.readVInt();
+        this.sampleSize = in.readVInt();
+        this.seed = in.readLong();
+        this.from = in.readVInt();
+        this.count = in.readVInt();
+        this.contextId = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(fieldName);
+        out.writeVInt(shardNumber);
+        out.writeVInt(sampleSize);
+        out.writeLong(seed);
+        out.writeVInt(from);
+        out.writeVInt(count);
+        out.writeOptionalString(contextId);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = validateNonNullIndex();
+        if (fieldName == null || fieldName.isEmpty()) {
+            exception = addValidationError("field name must be provided", exception);
+        }
+        if (shardNumber < 0) {
+            exception = addValidationError("shard number must be >= 0", exception);
+        }
+        if (sampleSize < 0 || from < 0 || count < 0) {
+            exception = addValidationError("sample size, from and count must be >= 0", exception);
+        }
+        return exception;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response with a block of the training vectors sampled from a shard
+ */
+@Getter
+public class TrainingDataSampleResponse extends ActionResponse {
+
+    private final int sampleSize;
+    private final List<?> vectors;
+    @Nullable
+    private final String contextId;
+
+    /**
+     * Constructor
+     *
+     * @param sampleSize number of vectors sampled from the shard, which is lower than requested when the shard has fewer vectors
+     * @param vectors float[] or byte[] vectors of the requested block of the sample
+     * @param contextId id of the context to read the next blocks of the sample from, or null if the whole sample was read
+     */
+    public TrainingDataSampleResponse(int sampleSize, List<?> vectors, @Nullable String contextId) {
+        this.sampleSize = sampleSize;
+        this.vectors = vectors;
+        this.contextId = contextId;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException if read from stream fails
+     */
+    public TrainingDataSampleResponse(StreamInput in) throws IOException {
+        super(in);
+        this.sampleSize = in.readVInt();
+        final boolean isFloat = in.readBoolean();
+        final int size = in.readVInt();
+        final List<Object> vectors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            vectors.add(isFloat ? in.readFloatArray() : in.readByteArray());
+        }
+        this.vectors = vectors;
+        this.contextId = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(sampleSize);
+        out.writeBoolean(vectors.isEmpty() == false && vectors.get(0) instanceof float[]);
+        out.writeVInt(vectors.size());
+        for (Object vector : vectors) {
+            if (vector instanceof float[]) {
+                out.writeFloatArray((float[]) vector);
+            } else {
+                out.writeByteArray((byte[]) vector);
+            }
+        }
+        out.writeOptionalString(contextId);
+    }
+}
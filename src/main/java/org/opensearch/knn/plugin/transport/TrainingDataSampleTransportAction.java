@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.single.shard.TransportSingleShardAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.routing.ShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.knn.training.ShardTrainingDataSampleContexts;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Transport action that samples training vectors from the vector values of a shard and returns one block of the sample. The sample
+ * is drawn once, by the first request, and kept in a context on the shard until its last block is read. Requests are always routed to
+ * the primary, so that every block of a sample is read from the context on the same copy of the shard.
+ */
+public class TrainingDataSampleTransportAction extends TransportSingleShardAction<TrainingDataSampleRequest, TrainingDataSampleResponse> {
+
+    private final IndicesService indicesService;
+
+    @Inject
+    public TrainingDataSampleTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        IndicesService indicesService,
+        ActionFilters actionFilters,
+        IndexNameExpressionResolver indexNameExpressionResolver
+    ) {
+        super(
+            TrainingDataSampleAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            indexNameExpressionResolver,
+            TrainingDataSampleRequest::new,
+            ThreadPool.Names.SEARCH
+        );
+        this.indicesService = indicesService;
+    }
+
+    @Override
+    protected TrainingDataSampleResponse shardOperation(TrainingDataSampleRequest request, ShardId shardId) throws IOException {
+        ShardTrainingDataSampleContexts sampleContexts = ShardTrainingDataSampleContexts.getInstance();
+        ShardTrainingDataSampleContexts.SampleContext sampleContext;
+        if (request.getContextId() == null) {
+            IndexShard indexShard = indicesService.indexServiceSafe(shardId.getIndex()).getShard(shardId.id());
+            Engine.Searcher searcher = indexShard.acquireSearcher("knn-training-data-sample");
+            sampleContext = sampleContexts.create(
+                searcher.getIndexReader(),
+                searcher,
+                request.getFieldName(),
+                request.getSampleSize(),
+                request.getSeed()
+            );
+        } else {
+            sampleContext = sampleContexts.acquire(request.getContextId());
+        }
+
+        int[] positions = sampleContext.getPositions();
+        boolean consumed = true;
+        try {
+            List<Object> vectors = sampleContext.getSampler().readVectors(positions, request.getFrom(), request.getCount());
+            consumed = request.getFrom() + vectors.size() >= positions.length;
+            return new TrainingDataSampleResponse(positions.length, vectors, consumed ? null : sampleContext.getId());
+        } finally {
+            sampleContexts.release(sampleContext, consumed);
+        }
+    }
+
+    @Override
+    protected Writeable.Reader<TrainingDataSampleResponse> getResponseReader() {
+        return TrainingDataSampleResponse::new;
+    }
+
+    @Override
+    protected boolean resolveIndex(TrainingDataSampleRequest request) {
+        return true;
+    }
+
+    @Override
+    protected ShardsIterator shards(ClusterState state, InternalRequest request) {
+        return state.routingTable().shardRoutingTable(request.concreteIndex(), request.request().getShardNumber()).primaryShardIt();
+    }
+}
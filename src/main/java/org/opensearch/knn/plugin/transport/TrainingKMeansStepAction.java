@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * Action to compute the partial sums of a k-means iteration on the training vectors sampled from a shard. It reads documents of the
+ * index, so it is registered as an index read action, which subjects it to the index permissions and document and field level
+ * security of the caller.
+ */
+public class TrainingKMeansStepAction extends ActionType<TrainingKMeansStepResponse> {
+
+    public static final TrainingKMeansStepAction INSTANCE = new TrainingKMeansStepAction();
+    public static final String NAME = "indices:data/read/knn/training_kmeans_step";
+
+    private TrainingKMeansStepAction() {
+        super(NAME, TrainingKMeansStepResponse::new);
+    }
+
+    @Override
+    public Writeable.Reader<TrainingKMeansStepResponse> getResponseReader() {
+        return TrainingKMeansStepResponse::new;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.single.shard.SingleShardRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.knn.index.SpaceType;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request to assign the training vectors sampled from a shard to the given centroids and sum them up per centroid. The first
+ * iteration draws the sample from the seed and returns the id of its context on the shard, see
+ * {@link org.opensearch.knn.training.ShardTrainingDataSampleContexts}. The following iterations send that context id to run on the
+ * same sample, and the last one releases the context.
+ */
+@Getter
+public class TrainingKMeansStepRequest extends SingleShardRequest<TrainingKMeansStepRequest> {
+
+    private final String fieldName;
+    private final int shardNumber;
+    private final int sampleSize;
+    private final long seed;
+    private final SpaceType spaceType;
+    private final float[][] centroids;
+    @Nullable
+    private final String contextId;
+    private final boolean releaseContext;
+
+    /**
+     * Constructor
+     *
+     * @param index name of the index containing the training vectors
+     * @param fieldName name of the field containing the training vectors
+     * @param shardNumber number of the shard to sample from
+     * @param sampleSize number of vectors to sample from the shard
+     * @param seed seed of the sample
+     * @param spaceType space type used to assign vectors to centroids
+     * @param centroids centroids of the iteration
+     * @param contextId id of the context of the sample on the shard, or null to draw a new sample
+     * @param releaseContext true to release the context of the sample after the iteration
+     */
+    public TrainingKMeansStepRequest(
+        String index,
+        String fieldName,
+        int shardNumber,
+        int sampleSize,
+        long seed,
+        SpaceType spaceType,
+        float[][] centroids,
+        @Nullable String contextId,
+        boolean releaseContext
+    ) {
+        super(index);
+        this.fieldName = fieldName;
+        this.shardNumber = shardNumber;
+        this.sampleSize = sampleSize;
+        this.seed = seed;
+        this.spaceType = spaceType;
+        this.centroids = centroids;
+        this.contextId = contextId;
+        this.releaseContext = releaseContext;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException if read from stream fails
+     */
+    public TrainingKMeansStepRequest(StreamInput in) throws IOException {
+        super(in);
+        this.fieldName = in.readString();
+        this.shardNumber = in.readVInt();
+        this.sampleSize = in.readVInt();
+        this.seed = in.readLong();
+        this.spaceType = SpaceType.getSpace(in.readString());
+        this.centroids = new float[in.readVInt()][];
+        for (int i = 0; i < centroids.length; i++) {
+            centroids[i] = in.readFloatArray();
+        }
+        this.contextId = in.readOptionalString();
+        this.releaseContext = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(fieldName);
+        out.writeVInt(shardNumber);
+        out.writeVInt(sampleSize);
+        out.writeLong(seed);
+        out.writeString(spaceType.getValue());
+        out.writeVInt(centroids.length);
+        for (float[] centroid : centroids) {
+            out.writeFloatArray(centroid);
+        }
+        out.writeOptionalString(contextId);
+        out.writeBoolean(releaseContext);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = validateNonNullIndex();
+        if (fieldName == null || fieldName.isEmpty()) {
+            exception = addValidationError("field name must be provided", exception);
+        }
+        if (shardNumber < 0 || sampleSize < 0) {
+            exception = addValidationError("shard number and sample size must be >= 0", exception);
+        }
+        if (spaceType == null) {
+            exception = addValidationError("space type must be provided", exception);
+        }
+        if (centroids == null || centroids.length == 0) {
+            exception = addValidationError("centroids must be provided", exception);
+        }
+        return exception;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * Response with the sums and counts of the training vectors of a shard assigned to each centroid
+ */
+@Getter
+public class TrainingKMeansStepResponse extends ActionResponse {
+
+    private final double[] sums;
+    private final long[] counts;
+    @Nullable
+    private final String contextId;
+
+    /**
+     * Constructor
+     *
+     * @param sums sums of the vectors assigned to each centroid, centroid after centroid
+     * @param counts number of vectors assigned to each centroid
+     * @param contextId id of the context to run the next iterations on, or null if the context was released
+     */
+    public TrainingKMeansStepResponse(double[] sums, long[] counts, @Nullable String contextId) {
+        this.sums = sums;
+        this.counts = counts;
+        this.contextId = contextId;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException if read from stream fails
+     */
+    public TrainingKMeansStepResponse(StreamInput in) throws IOException {
+        super(in);
+        this.sums = in.readDoubleArray();
+        this.counts = in.readVLongArray();
+        this.contextId = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeDoubleArray(sums);
+        out.writeVLongArray(counts);
+        out.writeOptionalString(contextId);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.single.shard.TransportSingleShardAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.routing.ShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.knn.training.KMeansCentroidSums;
+import org.opensearch.knn.training.ShardTrainingDataSampleContexts;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+
+/**
+ * Transport action that runs one k-means iteration on the training vectors sampled from a shard, so that the vectors never leave
+ * the node holding them. The sample is drawn once, by the first iteration, and kept in a context on the shard until the last one.
+ * Requests are always routed to the primary, so that every iteration runs on the context on the same copy of the shard.
+ */
+public class TrainingKMeansStepTransportAction extends TransportSingleShardAction<TrainingKMeansStepRequest, TrainingKMeansStepResponse> {
+
+    private final IndicesService indicesService;
+
+    @Inject
+    public TrainingKMeansStepTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        IndicesService indicesService,
+        ActionFilters actionFilters,
+        IndexNameExpressionResolver indexNameExpressionResolver
+    ) {
+        super(
+            TrainingKMeansStepAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            indexNameExpressionResolver,
+            TrainingKMeansStepRequest::new,
+            ThreadPool.Names.SEARCH
+        );
+        this.indicesService = indicesService;
+    }
+
+    @Override
+    protected TrainingKMeansStepResponse shardOperation(TrainingKMeansStepRequest request, ShardId shardId) throws IOException {
+        ShardTrainingDataSampleContexts sampleContexts = ShardTrainingDataSampleContexts.getInstance();
+        ShardTrainingDataSampleContexts.SampleContext sampleContext;
+        if (request.getContextId() == null) {
+            IndexShard indexShard = indicesService.indexServiceSafe(shardId.getIndex()).getShard(shardId.id());
+            Engine.Searcher searcher = indexShard.acquireSearcher("knn-training-kmeans-step");
+            sampleContext = sampleContexts.create(
+                searcher.getIndexReader(),
+                searcher,
+                request.getFieldName(),
+                request.getSampleSize(),
+                request.getSeed()
+            );
+        } else {
+            sampleContext = sampleContexts.acquire(request.getContextId());
+        }
+
+        boolean consumed = true;
+        try {
+            KMeansCentroidSums centroidSums = new KMeansCentroidSums(request.getCentroids(), request.getSpaceType());
+            sampleContext.getSampler().visitVectors(sampleContext.getPositions(), vector -> {
+                if (vector instanceof float[] == false) {
+                    throw new IllegalStateException("Field [" + request.getFieldName() + "] does not contain float vectors");
+                }
+                centroidSums.add((float[]) vector);
+            });
+            consumed = request.isReleaseContext();
+            String contextId = consumed ? null : sampleContext.getId();
+            return new TrainingKMeansStepResponse(centroidSums.getSums(), centroidSums.getCounts(), contextId);
+        } finally {
+            sampleContexts.release(sampleContext, consumed);
+        }
+    }
+
+    @Override
+    protected Writeable.Reader<TrainingKMeansStepResponse> getResponseReader() {
+        return TrainingKMeansStepResponse::new;
+    }
+
+    @Override
+    protected boolean resolveIndex(TrainingKMeansStepRequest request) {
+        return true;
+    }
+
+    @Override
+    protected ShardsIterator shards(ClusterState state, InternalRequest request) {
+        return state.routingTable().shardRoutingTable(request.concreteIndex(), request.request().getShardNumber()).primaryShardIt();
+    }
+}
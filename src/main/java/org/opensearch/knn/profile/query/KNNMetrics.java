@@ -21,6 +21,7 @@ public class KNNMetrics {
 
     public static final String NUM_NESTED_DOCS = "num_nested_docs";
     public static final String CARDINALITY = "cardinality";
+    public static final String FIRST_PASS_K = "first_pass_k";
 
     /**
      * Contains profile metric information for KNN Queries based on {@link KNNQueryTimingType} timers. Additionally, it
@@ -41,13 +42,14 @@ public class KNNMetrics {
 
     /**
      * Contains profile metric information for KNN queries. Additionally, contains a metric on the number
-     * of nested docs for {@link NativeEngineKnnVectorQuery} queries.
+     * of nested docs and on the first pass k chosen by adaptive oversampling for {@link NativeEngineKnnVectorQuery} queries.
      * @return list of {@link org.opensearch.search.profile.ProfileMetric} for NativeEngineQueries
      */
     public static Collection<Supplier<ProfileMetric>> getNativeMetrics() {
         Collection<Supplier<ProfileMetric>> metrics = getKNNQueryMetrics();
 
         metrics.add(() -> new LongMetric(NUM_NESTED_DOCS));
+        metrics.add(() -> new LongMetric(FIRST_PASS_K));
 
         return metrics;
     }
@@ -5,6 +5,8 @@
 
 package org.opensearch.knn.quantization.sampler;
 
+import java.util.Random;
+
 /**
  * The Sampler interface defines the contract for sampling strategies
  * used in various quantization processes. Implementations of this
@@ -22,4 +24,15 @@ public interface Sampler {
      * @throws IllegalArgumentException if the sample size is greater than the total number of vectors.
      */
     int[] sample(int totalNumberOfVectors, int sampleSize);
+
+    /**
+     * Samples a subset of indices from the total number of vectors with the given source of randomness, so that the same sample can be
+     * drawn again from the same seed.
+     *
+     * @param totalNumberOfVectors the total number of vectors available.
+     * @param sampleSize the number of vectors to be sampled.
+     * @param random the source of randomness.
+     * @return an array of integers representing the indices of the sampled vectors.
+     */
+    int[] sample(int totalNumberOfVectors, int sampleSize, Random random);
 }
@@ -13,10 +13,12 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.util.IndexUtil;
 import org.opensearch.knn.index.util.KNNClusterUtil;
 import org.opensearch.knn.search.extension.MMRSearchExtBuilder;
 import org.opensearch.search.fetch.StoredFieldsContext;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.fetch.subphase.FieldAndFormat;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.ProcessorGenerationContext;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
@@ -31,6 +33,8 @@ import java.util.Locale;
 import java.util.Map;
 
 import static org.opensearch.knn.common.KNNConstants.MMR_RERANK_CONTEXT;
+import static org.opensearch.knn.common.KNNConstants.MMR_VECTOR_DOC_VALUES_FEATURE;
+import static org.opensearch.knn.search.processor.mmr.MMRUtil.isKnnVectorFieldInAllIndices;
 import static org.opensearch.knn.search.processor.mmr.MMRUtil.resolveKnnVectorFieldInfo;
 import static org.opensearch.knn.search.processor.mmr.MMRUtil.shouldGenerateMMRProcessor;
 
@@ -103,8 +107,6 @@ public class MMROverSampleProcessor implements SearchRequestProcessor, SystemGen
             validateForRemoteIndices(mmrSearchExtBuilder, remoteIndices);
 
             int candidates = computeCandidatesAndSetRequestSize(mmrRerankContext, request, mmrSearchExtBuilder);
-            // ensure we have the vector in the _source so that the MMRRerankProcessor can use it for mmr rerank
-            preserveAndEnableFullSource(request, mmrRerankContext);
 
             OriginalIndices localIndicesSearchRequest = new OriginalIndices(localIndices.toArray(String[]::new), request.indicesOptions());
             List<IndexMetadata> localIndexMetadataList = getLocalIndexMetadata(localIndicesSearchRequest);
@@ -243,6 +245,34 @@ public class MMROverSampleProcessor implements SearchRequestProcessor, SystemGen
         return candidates;
     }
 
+    // Fetch the vectors with docvalue_fields so that the shards read them from the vector values instead of shipping the whole
+    // _source. Only possible when the vector field is a knn_vector field in all the target indices, since we cannot check the
+    // mapping and the version of remote clusters.
+    private boolean shouldFetchVectorFromDocValues(SearchRequest request, MMRTransformContext mmrTransformContext) {
+        MMRRerankContext mmrContext = mmrTransformContext.getMmrRerankContext();
+        String vectorFieldPath = mmrContext.getVectorFieldPath();
+        Map<String, String> indexToVectorFieldPathMap = mmrContext.getIndexToVectorFieldPathMap();
+        StoredFieldsContext storedFieldsContext = request.source().storedFields();
+        return vectorFieldPath != null
+            && (indexToVectorFieldPathMap == null || indexToVectorFieldPathMap.isEmpty())
+            && mmrTransformContext.getRemoteIndices().isEmpty()
+            && (storedFieldsContext == null || isStoredFieldsDisabled(storedFieldsContext) == false)
+            && IndexUtil.isClusterOnOrAfterMinRequiredVersion(MMR_VECTOR_DOC_VALUES_FEATURE)
+            && isKnnVectorFieldInAllIndices(vectorFieldPath, mmrTransformContext.getLocalIndexMetadataList());
+    }
+
+    private void enableVectorDocValueField(SearchRequest request, MMRRerankContext mmrContext) {
+        String vectorFieldPath = mmrContext.getVectorFieldPath();
+        List<FieldAndFormat> docValueFields = request.source().docValueFields();
+        boolean isRequestedByUser = docValueFields != null
+            && docValueFields.stream().anyMatch(fieldAndFormat -> vectorFieldPath.equals(fieldAndFormat.field));
+        if (isRequestedByUser == false) {
+            request.source().docValueField(vectorFieldPath);
+            mmrContext.setVectorDocValueFieldAddedForMMR(true);
+        }
+        mmrContext.setVectorFetchedFromDocValues(true);
+    }
+
     private void preserveAndEnableFullSource(SearchRequest request, MMRRerankContext mmrContext) {
         FetchSourceContext currentSourceContext = request.source().fetchSource();
         StoredFieldsContext storedFieldsContext = request.source().storedFields();
@@ -339,7 +369,19 @@ public class MMROverSampleProcessor implements SearchRequestProcessor, SystemGen
         transformer.transform(queryBuilder, new ActionListener<>() {
             @Override
             public void onResponse(Void unused) {
-                requestContext.setAttribute(MMR_RERANK_CONTEXT, mmrTransformationContext.getMmrRerankContext());
+                MMRRerankContext mmrRerankContext = mmrTransformationContext.getMmrRerankContext();
+                try {
+                    if (shouldFetchVectorFromDocValues(request, mmrTransformationContext)) {
+                        enableVectorDocValueField(request, mmrRerankContext);
+                    } else {
+                        // ensure we have the vector in the _source so that the MMRRerankProcessor can use it for mmr rerank
+                        preserveAndEnableFullSource(request, mmrRerankContext);
+                    }
+                } catch (Exception e) {
+                    requestListener.onFailure(e);
+                    return;
+                }
+                requestContext.setAttribute(MMR_RERANK_CONTEXT, mmrRerankContext);
                 requestListener.onResponse(request);
             }
 
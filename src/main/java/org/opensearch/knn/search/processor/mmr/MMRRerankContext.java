@@ -28,4 +28,8 @@ public class MMRRerankContext {
     private VectorDataType vectorDataType;
     // To support the case that we have different vector field paths in different indices
     private Map<String, String> indexToVectorFieldPathMap;
+    // If the vectors are fetched with docvalue_fields from the vector values of the shards instead of from the _source
+    private boolean vectorFetchedFromDocValues;
+    // If the docvalue field of the vector is only fetched for MMR and should be removed from the hits after rerank
+    private boolean vectorDocValueFieldAddedForMMR;
 }
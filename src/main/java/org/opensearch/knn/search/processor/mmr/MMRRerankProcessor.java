@@ -5,9 +5,9 @@
 
 package org.opensearch.knn.search.processor.mmr;
 
+import com.google.common.annotations.VisibleForTesting;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
@@ -27,15 +27,14 @@ import org.opensearch.search.profile.SearchProfileShardResults;
 import java.io.IOException;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static org.opensearch.knn.common.KNNConstants.MMR_RERANK_CONTEXT;
+import static org.opensearch.knn.search.processor.mmr.MMRUtil.extractVectorFromDocValueField;
 import static org.opensearch.knn.search.processor.mmr.MMRUtil.extractVectorFromHit;
 import static org.opensearch.knn.search.processor.mmr.MMRUtil.shouldGenerateMMRProcessor;
 
@@ -73,11 +72,12 @@ public class MMRRerankProcessor implements SearchResponseProcessor, SystemGenera
         final float diversity = mmrContext.getDiversity();
         final boolean isFloatVector = VectorDataType.FLOAT.equals(mmrContext.getVectorDataType());
 
-        final List<SearchHit> candidates = new ArrayList<>(List.of(searchResponse.getHits().getHits()));
-        final Map<String, Object> docVectors = extractVectors(
+        final SearchHit[] candidates = searchResponse.getHits().getHits();
+        final Object[] docVectors = extractVectors(
             candidates,
             mmrContext.getVectorFieldPath(),
             mmrContext.getIndexToVectorFieldPathMap(),
+            mmrContext.isVectorFetchedFromDocValues(),
             isFloatVector
         );
 
@@ -90,6 +90,7 @@ public class MMRRerankProcessor implements SearchResponseProcessor, SystemGenera
             isFloatVector
         );
 
+        removeVectorDocValueFieldIfNeeded(selected, mmrContext);
         applyFetchSourceFilterIfNeeded(selected, mmrContext);
 
         final float maxSelectedScore = selected.stream().map(SearchHit::getScore).max(Float::compare).orElse(Float.NEGATIVE_INFINITY);
@@ -162,15 +163,20 @@ public class MMRRerankProcessor implements SearchResponseProcessor, SystemGenera
         return ctx;
     }
 
-    private Map<String, Object> extractVectors(
-        List<SearchHit> hits,
+    /**
+     * Extract the vector of every hit, in the order of the hits, from the fetched doc values or from the _source.
+     */
+    private Object[] extractVectors(
+        SearchHit[] hits,
         String defaultVectorFieldPath,
         Map<String, String> indexToVectorFieldPathMap,
+        boolean isVectorFetchedFromDocValues,
         boolean isFloatVector
     ) {
-        Map<String, Object> vectors = new ConcurrentHashMap<>();
+        final Object[] vectors = isFloatVector ? new float[hits.length][] : new byte[hits.length][];
 
-        for (SearchHit hit : hits) {
+        for (int i = 0; i < hits.length; i++) {
+            final SearchHit hit = hits[i];
             String vectorPath = defaultVectorFieldPath;
 
             if (indexToVectorFieldPathMap != null) {
@@ -180,67 +186,82 @@ public class MMRRerankProcessor implements SearchResponseProcessor, SystemGenera
                 }
             }
 
-            Object embedding = extractVectorFromHit(hit.getSourceAsMap(), vectorPath, hit.getId(), isFloatVector);
-            vectors.put(hit.getId(), embedding);
+            vectors[i] = isVectorFetchedFromDocValues
+                ? extractVectorFromDocValueField(hit, vectorPath, isFloatVector)
+                : extractVectorFromHit(hit.getSourceAsMap(), vectorPath, hit.getId(), isFloatVector);
         }
 
         return vectors;
     }
 
-    private List<SearchHit> selectHitsWithMMR(
-        List<SearchHit> candidates,
-        Map<String, Object> docVectors,
+    /**
+     * Greedily select the hit maximizing {@code (1 - diversity) * score - diversity * maxSimilarityToSelected} until targetSize hits
+     * are selected. The max similarity to the selected hits is kept per candidate and only updated with the last selected hit, so every
+     * round computes one similarity per remaining candidate instead of one per remaining candidate and selected hit.
+     *
+     * @param candidates Hits to select from, ties are broken by their order.
+     * @param docVectors Vectors of the candidates in the same order, a float[][] or a byte[][].
+     * @return Selected hits in the order they were selected.
+     */
+    @VisibleForTesting
+    static List<SearchHit> selectHitsWithMMR(
+        SearchHit[] candidates,
+        Object[] docVectors,
         KNNVectorSimilarityFunction similarityFunction,
         float diversity,
         int targetSize,
         boolean isFloatVector
     ) {
-        List<SearchHit> selected = new ArrayList<>();
-        Map<String, Float> simCache = new HashMap<>();
-
-        while (selected.size() < targetSize && !candidates.isEmpty()) {
-
-            Pair<SearchHit, Double> bestCandidate = null;
+        final int numCandidates = candidates.length;
+        final float[][] floatVectors = isFloatVector ? (float[][]) docVectors : null;
+        final byte[][] byteVectors = isFloatVector ? null : (byte[][]) docVectors;
+        final float[] maxSimToSelected = new float[numCandidates];
+        final boolean[] isSelected = new boolean[numCandidates];
+        final List<SearchHit> selected = new ArrayList<>(Math.min(targetSize, numCandidates));
+        int lastSelected = -1;
+
+        while (selected.size() < targetSize && selected.size() < numCandidates) {
+            int bestCandidate = -1;
             double bestScore = Double.NEGATIVE_INFINITY;
 
-            for (SearchHit candidate : candidates) {
-                String candidateId = candidate.getId();
-                float maxSimToSelected = 0.0f;
-
-                for (SearchHit sel : selected) {
-                    String selId = sel.getId();
-                    String key = cacheKey(candidateId, selId);
-                    String symKey = cacheKey(selId, candidateId);
-
-                    float sim = simCache.computeIfAbsent(key, k -> {
-                        if (isFloatVector) {
-                            return similarityFunction.compare((float[]) docVectors.get(candidateId), (float[]) docVectors.get(selId));
-                        } else {
-                            return similarityFunction.compare((byte[]) docVectors.get(candidateId), (byte[]) docVectors.get(selId));
-                        }
-                    });
-
-                    simCache.putIfAbsent(symKey, sim);
-                    maxSimToSelected = Math.max(maxSimToSelected, sim);
+            for (int i = 0; i < numCandidates; i++) {
+                if (isSelected[i]) {
+                    continue;
+                }
+                if (lastSelected >= 0) {
+                    final float sim = isFloatVector
+                        ? similarityFunction.compare(floatVectors[i], floatVectors[lastSelected])
+                        : similarityFunction.compare(byteVectors[i], byteVectors[lastSelected]);
+                    maxSimToSelected[i] = Math.max(maxSimToSelected[i], sim);
                 }
 
-                double score = (1 - diversity) * candidate.getScore() - diversity * maxSimToSelected;
+                double score = (1 - diversity) * candidates[i].getScore() - diversity * maxSimToSelected[i];
                 if (score > bestScore) {
                     bestScore = score;
-                    bestCandidate = Pair.of(candidate, score);
+                    bestCandidate = i;
                 }
             }
 
-            if (bestCandidate != null) {
-                SearchHit bestHit = bestCandidate.getLeft();
-                selected.add(bestHit);
-                candidates.remove(bestHit);
+            if (bestCandidate < 0) {
+                break;
             }
+            isSelected[bestCandidate] = true;
+            selected.add(candidates[bestCandidate]);
+            lastSelected = bestCandidate;
         }
 
         return selected;
     }
 
+    private void removeVectorDocValueFieldIfNeeded(List<SearchHit> hits, MMRRerankContext mmrContext) {
+        if (mmrContext.isVectorDocValueFieldAddedForMMR() == false) {
+            return;
+        }
+        for (SearchHit hit : hits) {
+            hit.removeDocumentField(mmrContext.getVectorFieldPath());
+        }
+    }
+
     private void applyFetchSourceFilterIfNeeded(List<SearchHit> hits, MMRRerankContext mmrContext) throws IOException {
         final FetchSourceContext fetchSourceContext = mmrContext.getOriginalFetchSourceContext();
         if (fetchSourceContext == null) {
@@ -261,10 +282,6 @@ public class MMRRerankProcessor implements SearchResponseProcessor, SystemGenera
         }
     }
 
-    private String cacheKey(String id1, String id2) {
-        return String.join(":", id1, id2);
-    }
-
     // This processor will be executed pre the user defined search request processor if there is any. Since
     // we oversample before so it is better to execute this processor to rerank and reduce the response to the
     // original query size before executing other user defined search response processors.
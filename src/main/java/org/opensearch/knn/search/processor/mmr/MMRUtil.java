@@ -8,15 +8,18 @@ package org.opensearch.knn.search.processor.mmr;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.mapper.ObjectMapper;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
+import org.opensearch.knn.index.mapper.KNNVectorFieldMapperUtil;
 import org.opensearch.knn.plugin.transport.GetModelAction;
 import org.opensearch.knn.plugin.transport.GetModelRequest;
 import org.opensearch.knn.plugin.transport.GetModelResponse;
 import org.opensearch.knn.search.extension.MMRSearchExtBuilder;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.pipeline.ProcessorGenerationContext;
 import org.opensearch.transport.client.Client;
 import reactor.util.annotation.NonNull;
@@ -37,6 +40,8 @@ import java.util.stream.Collectors;
 
 import static org.opensearch.knn.common.KNNConstants.TYPE;
 import static org.opensearch.knn.index.engine.SpaceTypeResolver.getDefaultSpaceType;
+import static org.opensearch.knn.index.mapper.KNNVectorFieldMapperUtil.decodeByteVector;
+import static org.opensearch.knn.index.mapper.KNNVectorFieldMapperUtil.decodeFloatVector;
 
 /**
  * A util for MMR related functions
@@ -408,7 +413,8 @@ public class MMRUtil {
      *
      * This utility is designed for KNN / MMR use cases where the vector is expected to be stored
      * as a top-level or single field inside the document. Nested object structures containing
-     * vectors are not supported, and will cause an exception.
+     * vectors are not supported, and will cause an exception. The vector is either a list of numbers or its bytes encoded in
+     * base64, see {@link KNNVectorFieldMapperUtil#decodeFloatVector(Object)}.
      *
      * Example:
      * source = Map.of("embedding", List.of(0.1, 0.2, 0.3));
@@ -480,9 +486,22 @@ public class MMRUtil {
                         return floatVector;
                     } else return byteVector;
                 }
+                // The vector may also be given as a base64 encoded string of its bytes
+                final Object decodedVector;
+                try {
+                    decodedVector = isFloatVector ? decodeFloatVector(current) : decodeByteVector(current);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(
+                        String.format("%s: unexpected value at the vector field [%s]. error: %s", baseError, fieldPath, e.getMessage()),
+                        e
+                    );
+                }
+                if (decodedVector != null) {
+                    return decodedVector;
+                }
                 throw new IllegalArgumentException(
                     String.format(
-                        "%s: expected vector (list of numbers) at field path [%s], but found type [%s]",
+                        "%s: expected vector (list of numbers or base64 encoded string) at field path [%s], but found type [%s]",
                         baseError,
                         fieldPath,
                         current.getClass().getName()
@@ -495,6 +514,53 @@ public class MMRUtil {
         throw new IllegalStateException(String.format("%s: unexpected error resolving field path [%s].", baseError, fieldPath));
     }
 
+    /**
+     * Extracts the vector of a hit fetched with docvalue_fields, which is read from the vector values of the doc on the shard.
+     *
+     * @param hit The search hit.
+     * @param fieldPath The path of the vector field.
+     * @param isFloatVector If the vector is float or byte
+     * @return A primitive float/byte array representing the vector.
+     */
+    public static Object extractVectorFromDocValueField(SearchHit hit, String fieldPath, boolean isFloatVector)
+        throws IllegalArgumentException {
+        DocumentField field = hit.field(fieldPath);
+        Object vector = field == null || field.getValues().isEmpty() ? null : field.getValue();
+        if (isFloatVector ? vector instanceof float[] : vector instanceof byte[]) {
+            return vector;
+        }
+        throw new IllegalArgumentException(
+            String.format(
+                Locale.ROOT,
+                "Failed to extract the vector from the doc [%s] for MMR rerank: vector field [%s] not found in the fetched doc values.",
+                hit.getId(),
+                fieldPath
+            )
+        );
+    }
+
+    /**
+     * @param fieldPath The path of the vector field.
+     * @param indexMetadataList List of index metadata of the local target indices.
+     * @return If the field is mapped as a knn_vector field in all the indices, so its vectors can be fetched from the vector values.
+     */
+    public static boolean isKnnVectorFieldInAllIndices(@NonNull String fieldPath, @NonNull List<IndexMetadata> indexMetadataList) {
+        if (indexMetadataList.isEmpty()) {
+            return false;
+        }
+        for (IndexMetadata indexMetadata : indexMetadataList) {
+            MappingMetadata mappingMetadata = indexMetadata.mapping();
+            if (mappingMetadata == null) {
+                return false;
+            }
+            Map<String, Object> config = getMMRFieldMappingByPath(mappingMetadata.sourceAsMap(), fieldPath);
+            if (config == null || KNNVectorFieldMapper.CONTENT_TYPE.equals(config.get(TYPE)) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * @param processorGenerationContext The context to evaluate if we should generate the MMR processor.
      * @return If the MMR processor should be generated.
@@ -14,6 +14,8 @@ import org.opensearch.search.SearchHit;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.opensearch.knn.index.mapper.KNNVectorFieldMapperUtil.decodeByteVector;
+
 /**
  * Transfers binary vectors from JVM to native memory.
  */
@@ -51,13 +53,17 @@ public class BinaryTrainingDataConsumer extends TrainingDataConsumer {
             }
 
             byte[] byteArray;
-            if (!(fieldValue instanceof List<?>)) {
-                continue;
-            }
-            List<Number> fieldList = (List<Number>) fieldValue;
-            byteArray = new byte[fieldList.size()];
-            for (int i = 0; i < fieldList.size(); i++) {
-                byteArray[i] = fieldList.get(i).byteValue();
+            if (fieldValue instanceof List<?>) {
+                List<Number> fieldList = (List<Number>) fieldValue;
+                byteArray = new byte[fieldList.size()];
+                for (int i = 0; i < fieldList.size(); i++) {
+                    byteArray[i] = fieldList.get(i).byteValue();
+                }
+            } else {
+                byteArray = decodeByteVector(fieldValue);
+                if (byteArray == null) {
+                    continue;
+                }
             }
 
             vectors.add(byteArray);
@@ -19,6 +19,8 @@ import org.opensearch.search.SearchHit;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.opensearch.knn.index.mapper.KNNVectorFieldMapperUtil.decodeByteVector;
+
 /**
  * Transfers byte vectors from JVM to native memory.
  */
@@ -50,13 +52,17 @@ public class ByteTrainingDataConsumer extends TrainingDataConsumer {
             Object fieldValue = extractFieldValue(hits[vector], fieldPath);
 
             byte[] byteArray;
-            if (!(fieldValue instanceof List<?>)) {
-                continue;
-            }
-            List<Number> fieldList = (List<Number>) fieldValue;
-            byteArray = new byte[fieldList.size()];
-            for (int i = 0; i < fieldList.size(); i++) {
-                byteArray[i] = fieldList.get(i).byteValue();
+            if (fieldValue instanceof List<?>) {
+                List<Number> fieldList = (List<Number>) fieldValue;
+                byteArray = new byte[fieldList.size()];
+                for (int i = 0; i < fieldList.size(); i++) {
+                    byteArray[i] = fieldList.get(i).byteValue();
+                }
+            } else {
+                byteArray = decodeByteVector(fieldValue);
+                if (byteArray == null) {
+                    continue;
+                }
             }
 
             vectors.add(byteArray);
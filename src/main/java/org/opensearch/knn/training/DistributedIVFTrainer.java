@@ -0,0 +1,224 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.engine.KNNMethodContext;
+import org.opensearch.knn.index.engine.MethodComponentContext;
+import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleAction;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleRequest;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleResponse;
+import org.opensearch.knn.plugin.transport.TrainingKMeansStepAction;
+import org.opensearch.knn.plugin.transport.TrainingKMeansStepRequest;
+import org.opensearch.knn.plugin.transport.TrainingKMeansStepResponse;
+import org.opensearch.transport.client.Client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.opensearch.knn.common.KNNConstants.ENCODER_FLAT;
+import static org.opensearch.knn.common.KNNConstants.METHOD_ENCODER_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.METHOD_IVF;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_NLIST;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_NLIST_DEFAULT;
+
+/**
+ * Trains the coarse centroids of a faiss IVF model with k-means iterations distributed over the shards of the training index. Each
+ * shard samples its share of the training vectors from its vector values once, keeps the sample for all iterations, and only sends
+ * back the sums of the vectors assigned to each centroid, which are reduced here into the centroids of the next iteration.
+ */
+public class DistributedIVFTrainer {
+
+    public static Logger logger = LogManager.getLogger(DistributedIVFTrainer.class);
+
+    // Same number of iterations as faiss uses to train the coarse quantizer of IVF indices
+    static final int KMEANS_ITERATIONS = 10;
+
+    private static DistributedIVFTrainer INSTANCE;
+
+    private Client client;
+
+    /**
+     * Get singleton DistributedIVFTrainer
+     *
+     * @return instance of DistributedIVFTrainer
+     */
+    public static synchronized DistributedIVFTrainer getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new DistributedIVFTrainer();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Initialize singleton.
+     *
+     * @param client used to send the requests to the shards of the training index
+     */
+    public static void initialize(final Client client) {
+        getInstance().client = client;
+    }
+
+    private DistributedIVFTrainer() {}
+
+    /**
+     * Check whether a model can be trained on the shards. Only faiss IVF models of float vectors with the flat encoder and without
+     * quantization are supported: their coarse centroids are all there is to train, so the training vectors never need to be loaded
+     * on the training node. Encoders such as PQ are trained by faiss from the training vectors, which would still have to be loaded.
+     *
+     * @param knnMethodContext method definition of the model
+     * @param vectorDataType vector data type of the model
+     * @param quantizationConfig quantization config of the model
+     * @return true if the coarse centroids can be trained on the shards
+     */
+    public static boolean isSupported(
+        final KNNMethodContext knnMethodContext,
+        final VectorDataType vectorDataType,
+        final QuantizationConfig quantizationConfig
+    ) {
+        return knnMethodContext.getKnnEngine() == KNNEngine.FAISS
+            && METHOD_IVF.equals(knnMethodContext.getMethodComponentContext().getName())
+            && vectorDataType == VectorDataType.FLOAT
+            && (quantizationConfig == null || quantizationConfig == QuantizationConfig.EMPTY)
+            && isFlatEncoder(knnMethodContext);
+    }
+
+    private static boolean isFlatEncoder(final KNNMethodContext knnMethodContext) {
+        final Object encoder = knnMethodContext.getMethodComponentContext().getParameters().get(METHOD_ENCODER_PARAMETER);
+        if (encoder == null) {
+            return true;
+        }
+        return encoder instanceof MethodComponentContext && ENCODER_FLAT.equals(((MethodComponentContext) encoder).getName());
+    }
+
+    /**
+     * @param knnMethodContext method definition of an IVF model
+     * @return number of coarse centroids of the model
+     */
+    public static int getNlist(final KNNMethodContext knnMethodContext) {
+        final Object nlist = knnMethodContext.getMethodComponentContext().getParameters().get(METHOD_PARAMETER_NLIST);
+        return nlist instanceof Integer ? (Integer) nlist : METHOD_PARAMETER_NLIST_DEFAULT;
+    }
+
+    /**
+     * Train the coarse centroids. Blocks until all iterations are done, so it must not be called from a transport thread.
+     *
+     * @param clusterService cluster service to get the number of shards of the training index
+     * @param indexName name of index containing vectors
+     * @param fieldName name of field containing vectors
+     * @param maxVectorCount maximum total number of vectors to train on
+     * @param nlist number of centroids
+     * @param spaceType space type of the model
+     * @return trained centroids
+     */
+    public float[][] trainCentroids(
+        final ClusterService clusterService,
+        final String indexName,
+        final String fieldName,
+        final int maxVectorCount,
+        final int nlist,
+        final SpaceType spaceType
+    ) {
+        final IndexMetadata indexMetadata = clusterService.state().metadata().index(indexName);
+        if (indexMetadata == null) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Index [%s] does not exist", indexName));
+        }
+        final int numberOfShards = indexMetadata.getNumberOfShards();
+        final int shardSampleSize = getShardSampleSize(maxVectorCount, numberOfShards);
+        final Random random = new Random(ThreadLocalRandom.current().nextLong());
+        final long sampleSeed = random.nextLong();
+
+        float[][] centroids = initialCentroids(indexName, fieldName, numberOfShards, nlist, random);
+        // The first iteration draws the sample of each shard, the following ones reuse it from its context on the shard
+        final String[] contextIds = new String[numberOfShards];
+        for (int iteration = 0; iteration < KMEANS_ITERATIONS; iteration++) {
+            final boolean lastIteration = iteration == KMEANS_ITERATIONS - 1;
+            final List<ActionFuture<TrainingKMeansStepResponse>> responses = new ArrayList<>(numberOfShards);
+            for (int shard = 0; shard < numberOfShards; shard++) {
+                responses.add(
+                    client.execute(
+                        TrainingKMeansStepAction.INSTANCE,
+                        new TrainingKMeansStepRequest(
+                            indexName,
+                            fieldName,
+                            shard,
+                            shardSampleSize,
+                            sampleSeed,
+                            spaceType,
+                            centroids,
+                            contextIds[shard],
+                            lastIteration
+                        )
+                    )
+                );
+            }
+            final KMeansCentroidSums centroidSums = new KMeansCentroidSums(centroids, spaceType);
+            for (int shard = 0; shard < numberOfShards; shard++) {
+                final TrainingKMeansStepResponse shardSums = responses.get(shard).actionGet();
+                centroidSums.add(shardSums.getSums(), shardSums.getCounts());
+                contextIds[shard] = shardSums.getContextId();
+            }
+            centroids = centroidSums.computeCentroids();
+        }
+        logger.debug("Trained {} centroids on {} shards of index {}", nlist, numberOfShards, indexName);
+        return centroids;
+    }
+
+    /**
+     * @param maxVectorCount maximum total number of vectors to train on
+     * @param numberOfShards number of shards of the training index
+     * @return number of vectors to sample from each shard
+     */
+    static int getShardSampleSize(final int maxVectorCount, final int numberOfShards) {
+        // Ceiling division in long, as the maximum vector count defaults to Integer.MAX_VALUE
+        return (int) Math.min(Integer.MAX_VALUE, ((long) maxVectorCount + numberOfShards - 1) / numberOfShards);
+    }
+
+    // Pick the initial centroids at random among nlist vectors sampled from every shard
+    private float[][] initialCentroids(
+        final String indexName,
+        final String fieldName,
+        final int numberOfShards,
+        final int nlist,
+        final Random random
+    ) {
+        final long seed = random.nextLong();
+        final List<ActionFuture<TrainingDataSampleResponse>> responses = new ArrayList<>(numberOfShards);
+        for (int shard = 0; shard < numberOfShards; shard++) {
+            responses.add(
+                client.execute(
+                    TrainingDataSampleAction.INSTANCE,
+                    new TrainingDataSampleRequest(indexName, fieldName, shard, nlist, seed, 0, nlist, null)
+                )
+            );
+        }
+        final List<float[]> candidates = new ArrayList<>();
+        for (ActionFuture<TrainingDataSampleResponse> response : responses) {
+            for (Object vector : response.actionGet().getVectors()) {
+                candidates.add((float[]) vector);
+            }
+        }
+        if (candidates.size() < nlist) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Number of training vectors [%d] is lower than nlist [%d]", candidates.size(), nlist)
+            );
+        }
+        Collections.shuffle(candidates, random);
+        return candidates.subList(0, nlist).toArray(new float[0][]);
+    }
+}
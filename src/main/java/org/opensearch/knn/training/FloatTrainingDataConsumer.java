@@ -28,6 +28,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.opensearch.knn.index.mapper.KNNVectorFieldMapperUtil.decodeFloatVector;
+
 /**
  * Transfers float vectors from JVM to native memory.
  */
@@ -60,7 +62,7 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
             trainingDataAllocation.setMemoryAddress(
                 JNICommons.storeVectorData(
                     trainingDataAllocation.getMemoryAddress(),
-                    floats.stream().map(v -> ArrayUtils.toPrimitive((Float[]) v)).toArray(float[][]::new),
+                    floats.stream().map(FloatTrainingDataConsumer::toFloatArray).toArray(float[][]::new),
                     floats.size()
                 )
             );
@@ -75,12 +77,16 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
 
         for (int vector = 0; vector < vectorsToAdd; vector++) {
             Object fieldValue = extractFieldValue(hits[vector], fieldPath);
-            if (!(fieldValue instanceof List<?>)) {
+            if (fieldValue instanceof List<?>) {
+                List<Number> fieldList = (List<Number>) fieldValue;
+                vectors.add(fieldList.stream().map(Number::floatValue).toArray(Float[]::new));
                 continue;
             }
 
-            List<Number> fieldList = (List<Number>) fieldValue;
-            vectors.add(fieldList.stream().map(Number::floatValue).toArray(Float[]::new));
+            float[] decodedVector = decodeFloatVector(fieldValue);
+            if (decodedVector != null) {
+                vectors.add(ArrayUtils.toObject(decodedVector));
+            }
         }
 
         setTotalVectorsCountAdded(getTotalVectorsCountAdded() + vectors.size());
@@ -98,7 +104,7 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
         TrainingRequest<float[]> trainingRequest = new TrainingRequest<float[]>(vectors.size()) {
             @Override
             public float[] getVectorAtThePosition(int position) {
-                return ArrayUtils.toPrimitive((Float[]) vectors.get(position));
+                return toFloatArray(vectors.get(position));
             }
 
             @Override
@@ -111,13 +117,18 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
         QuantizationState quantizationState = quantizer.train(trainingRequest);
         BinaryQuantizationOutput binaryQuantizationOutput = new BinaryQuantizationOutput(quantizationConfig.getQuantizationType().getId());
         for (int i = 0; i < vectors.size(); i++) {
-            quantizer.quantize(ArrayUtils.toPrimitive((Float[]) vectors.get(i)), quantizationState, binaryQuantizationOutput);
+            quantizer.quantize(toFloatArray(vectors.get(i)), quantizationState, binaryQuantizationOutput);
             bytes.add(binaryQuantizationOutput.getQuantizedVectorCopy());
         }
 
         return bytes;
     }
 
+    // Vectors parsed from the _source are Float[], vectors read from the vector values of a shard are already float[].
+    private static float[] toFloatArray(Object vector) {
+        return vector instanceof float[] ? (float[]) vector : ArrayUtils.toPrimitive((Float[]) vector);
+    }
+
     private boolean isValidFloatsAndQuantizationConfig(List<?> floats) {
         return floats != null && floats.isEmpty() == false && quantizationConfig != null && quantizationConfig != QuantizationConfig.EMPTY;
     }
@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import lombok.Getter;
+import org.apache.lucene.util.VectorUtil;
+import org.opensearch.knn.index.SpaceType;
+
+/**
+ * Partial sums of one k-means iteration. Every vector is assigned to its closest centroid and summed up with the other vectors
+ * assigned to it, so that shards only send the sums and counts per centroid, and the next centroids are computed from the sums of
+ * all shards.
+ * <p>
+ * As faiss does for the coarse quantizer of IVF indices, vectors are assigned by inner product with spherical centroids for inner
+ * product and cosine spaces, and by L2 distance otherwise.
+ */
+public class KMeansCentroidSums {
+
+    private final float[][] centroids;
+    private final int dimension;
+    private final boolean spherical;
+    @Getter
+    private final double[] sums;
+    @Getter
+    private final long[] counts;
+
+    /**
+     * @param centroids Centroids of the iteration.
+     * @param spaceType Space type of the model.
+     */
+    public KMeansCentroidSums(final float[][] centroids, final SpaceType spaceType) {
+        this.centroids = centroids;
+        this.dimension = centroids.length == 0 ? 0 : centroids[0].length;
+        this.spherical = spaceType == SpaceType.INNER_PRODUCT || spaceType == SpaceType.COSINESIMIL;
+        this.sums = new double[centroids.length * dimension];
+        this.counts = new long[centroids.length];
+    }
+
+    /**
+     * Assign a vector to its closest centroid and add it to the sum of that centroid.
+     *
+     * @param vector Vector to add.
+     */
+    public void add(final float[] vector) {
+        final int centroid = closestCentroid(vector);
+        final int offset = centroid * dimension;
+        for (int i = 0; i < dimension; ++i) {
+            sums[offset + i] += vector[i];
+        }
+        ++counts[centroid];
+    }
+
+    /**
+     * Add the partial sums computed for the same centroids on a shard.
+     *
+     * @param shardSums Sums per centroid, centroid after centroid.
+     * @param shardCounts Number of vectors per centroid.
+     */
+    public void add(final double[] shardSums, final long[] shardCounts) {
+        if (shardSums.length != sums.length || shardCounts.length != counts.length) {
+            throw new IllegalArgumentException("Partial sums do not match the number of centroids and the dimension");
+        }
+        for (int i = 0; i < sums.length; ++i) {
+            sums[i] += shardSums[i];
+        }
+        for (int i = 0; i < counts.length; ++i) {
+            counts[i] += shardCounts[i];
+        }
+    }
+
+    /**
+     * Compute the centroids of the next iteration as the mean of the vectors assigned to each centroid. A centroid no vector was
+     * assigned to is kept as is.
+     *
+     * @return Centroids of the next iteration.
+     */
+    public float[][] computeCentroids() {
+        final float[][] nextCentroids = new float[centroids.length][];
+        for (int centroid = 0; centroid < centroids.length; ++centroid) {
+            if (counts[centroid] == 0) {
+                nextCentroids[centroid] = centroids[centroid].clone();
+                continue;
+            }
+            final float[] nextCentroid = new float[dimension];
+            final int offset = centroid * dimension;
+            for (int i = 0; i < dimension; ++i) {
+                nextCentroid[i] = (float) (sums[offset + i] / counts[centroid]);
+            }
+            if (spherical) {
+                normalize(nextCentroid);
+            }
+            nextCentroids[centroid] = nextCentroid;
+        }
+        return nextCentroids;
+    }
+
+    private int closestCentroid(final float[] vector) {
+        int closest = 0;
+        float best = spherical ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+        for (int centroid = 0; centroid < centroids.length; ++centroid) {
+            if (spherical) {
+                final float score = VectorUtil.dotProduct(vector, centroids[centroid]);
+                if (score > best) {
+                    best = score;
+                    closest = centroid;
+                }
+            } else {
+                final float distance = VectorUtil.squareDistance(vector, centroids[centroid]);
+                if (distance < best) {
+                    best = distance;
+                    closest = centroid;
+                }
+            }
+        }
+        return closest;
+    }
+
+    private static void normalize(final float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm > 0) {
+            final float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < vector.length; ++i) {
+                vector[i] *= scale;
+            }
+        }
+    }
+}
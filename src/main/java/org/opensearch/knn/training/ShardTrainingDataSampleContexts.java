@@ -0,0 +1,195 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import lombok.Getter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local registry of the training data samples drawn from the shards held by this node.
+ * <p>
+ * Drawing a sample counts the live vectors of every segment of the shard, which is linear in the number of vectors. A sample context
+ * keeps the reader the sample was drawn from open along with the sampled positions, so that the blocks of a sample, or the k-means
+ * iterations over it, are served without drawing it again and always see the same vectors. Contexts are released by the request that
+ * consumes the sample last, and contexts idle for longer than {@link #KEEP_ALIVE} are released in the background, for when the node
+ * consuming the sample goes away.
+ */
+public class ShardTrainingDataSampleContexts {
+
+    public static Logger logger = LogManager.getLogger(ShardTrainingDataSampleContexts.class);
+
+    static final TimeValue KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+    private static final TimeValue REAP_INTERVAL = TimeValue.timeValueMinutes(1);
+
+    private static ShardTrainingDataSampleContexts INSTANCE;
+
+    private final ConcurrentHashMap<String, SampleContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Get singleton ShardTrainingDataSampleContexts
+     *
+     * @return instance of ShardTrainingDataSampleContexts
+     */
+    public static synchronized ShardTrainingDataSampleContexts getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new ShardTrainingDataSampleContexts();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Initialize singleton and schedule the release of idle contexts.
+     *
+     * @param threadPool used to release idle contexts
+     */
+    public static void initialize(final ThreadPool threadPool) {
+        final ShardTrainingDataSampleContexts instance = getInstance();
+        threadPool.scheduleWithFixedDelay(() -> instance.releaseIdleContexts(System.nanoTime()), REAP_INTERVAL, ThreadPool.Names.GENERIC);
+    }
+
+    ShardTrainingDataSampleContexts() {}
+
+    /**
+     * Draw a sample and register its context. The context takes ownership of the reader, which is closed along with it.
+     *
+     * @param indexReader reader of the shard, e.g. of a searcher acquired from the shard
+     * @param onClose closes the reader
+     * @param fieldName name of the vector field
+     * @param sampleSize number of vectors to sample
+     * @param seed seed of the sample
+     * @return context acquired for the calling request, which must give it back with {@link #release(SampleContext, boolean)}
+     * @throws IOException if the vector values of a segment cannot be read
+     */
+    public SampleContext create(
+        final IndexReader indexReader,
+        final Closeable onClose,
+        final String fieldName,
+        final int sampleSize,
+        final long seed
+    ) throws IOException {
+        final SampleContext context;
+        try {
+            final ShardTrainingDataSampler sampler = new ShardTrainingDataSampler(indexReader, fieldName);
+            context = new SampleContext(UUIDs.randomBase64UUID(), sampler, sampler.samplePositions(sampleSize, seed), onClose);
+        } catch (IOException | RuntimeException e) {
+            onClose.close();
+            throw e;
+        }
+        context.acquire();
+        contexts.put(context.getId(), context);
+        return context;
+    }
+
+    /**
+     * Acquire the context of a sample drawn by a previous request.
+     *
+     * @param contextId id of the context
+     * @return context acquired for the calling request, which must give it back with {@link #release(SampleContext, boolean)}
+     */
+    public SampleContext acquire(final String contextId) {
+        final SampleContext context = contexts.get(contextId);
+        if (context == null || context.acquire() == false) {
+            throw new IllegalStateException(
+                String.format(Locale.ROOT, "Training data sample context [%s] does not exist or was released after being idle", contextId)
+            );
+        }
+        return context;
+    }
+
+    /**
+     * Give back a context acquired by a request.
+     *
+     * @param context context acquired by the request
+     * @param consumed true if the sample is fully consumed, in which case the context is removed and its reader closed
+     */
+    public void release(final SampleContext context, final boolean consumed) {
+        if (consumed && contexts.remove(context.getId(), context)) {
+            // Drop the reference of the registry
+            context.release();
+        }
+        context.release();
+    }
+
+    /**
+     * @return number of contexts currently registered
+     */
+    int getContextCount() {
+        return contexts.size();
+    }
+
+    void releaseIdleContexts(final long nowInNanos) {
+        for (SampleContext context : contexts.values()) {
+            if (context.isIdle(nowInNanos, KEEP_ALIVE.nanos()) && contexts.remove(context.getId(), context)) {
+                logger.debug("Releasing training data sample context [{}] after being idle for {}", context.getId(), KEEP_ALIVE);
+                context.release();
+            }
+        }
+    }
+
+    /**
+     * A sample of the live vectors of a shard, along with the reader it was drawn from. The reader is closed once the context is
+     * removed from the registry and no request is using it anymore.
+     */
+    public static final class SampleContext {
+        @Getter
+        private final String id;
+        @Getter
+        private final ShardTrainingDataSampler sampler;
+        @Getter
+        private final int[] positions;
+        private final Closeable onClose;
+        // Number of requests using the context, plus one as long as the context is registered
+        private int refCount = 1;
+        private long lastAccessNanos;
+
+        private SampleContext(final String id, final ShardTrainingDataSampler sampler, final int[] positions, final Closeable onClose) {
+            this.id = id;
+            this.sampler = sampler;
+            this.positions = positions;
+            this.onClose = onClose;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private synchronized boolean acquire() {
+            if (refCount <= 0) {
+                return false;
+            }
+            ++refCount;
+            lastAccessNanos = System.nanoTime();
+            return true;
+        }
+
+        private synchronized boolean isIdle(final long nowInNanos, final long keepAliveInNanos) {
+            // Only the registry holds a reference, no request is using the context
+            return refCount == 1 && nowInNanos - lastAccessNanos > keepAliveInNanos;
+        }
+
+        private void release() {
+            final boolean close;
+            synchronized (this) {
+                lastAccessNanos = System.nanoTime();
+                close = --refCount == 0;
+            }
+            if (close) {
+                try {
+                    onClose.close();
+                } catch (IOException e) {
+                    logger.warn("Failed to close the reader of training data sample context [{}]", id, e);
+                }
+            }
+        }
+    }
+}
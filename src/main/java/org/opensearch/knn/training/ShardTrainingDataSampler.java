@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Bits;
+import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.quantization.sampler.SamplerType;
+import org.opensearch.knn.quantization.sampler.SamplingFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Samples training vectors of a field directly from the vector values of the segments of a shard, instead of paging through the
+ * _source of every doc with a scroll search.
+ * <p>
+ * Live vectors of the shard are numbered in segment and doc id order. A sample is a sorted set of those positions drawn from a seed,
+ * so the same sample can be read back in blocks by separate requests against the same reader.
+ */
+public class ShardTrainingDataSampler {
+
+    private final String fieldName;
+    private final List<LeafReaderContext> leaves;
+    private final int[] liveVectorCounts;
+    private final int totalLiveVectors;
+
+    /**
+     * @param indexReader Reader of the shard.
+     * @param fieldName Name of the vector field.
+     * @throws IOException if the vector values of a segment cannot be read.
+     */
+    public ShardTrainingDataSampler(final IndexReader indexReader, final String fieldName) throws IOException {
+        this.fieldName = fieldName;
+        this.leaves = indexReader.leaves();
+        this.liveVectorCounts = new int[leaves.size()];
+        int total = 0;
+        for (int i = 0; i < leaves.size(); ++i) {
+            liveVectorCounts[i] = countLiveVectors(leaves.get(i).reader());
+            total += liveVectorCounts[i];
+        }
+        this.totalLiveVectors = total;
+    }
+
+    /**
+     * @return Number of live docs of the shard with a vector in the field.
+     */
+    public int getTotalLiveVectors() {
+        return totalLiveVectors;
+    }
+
+    /**
+     * Draw a sample of positions of live vectors.
+     *
+     * @param sampleSize Number of vectors to sample. All vectors are sampled if the shard has fewer.
+     * @param seed Seed of the sample, the same seed draws the same sample from the same reader.
+     * @return Sorted positions of the sampled vectors.
+     */
+    public int[] samplePositions(final int sampleSize, final long seed) {
+        return SamplingFactory.getSampler(SamplerType.RESERVOIR).sample(totalLiveVectors, sampleSize, new Random(seed));
+    }
+
+    /**
+     * Read the vectors at positions[from, from + count). Segments without any of those positions are skipped without reading them.
+     *
+     * @param positions Sorted positions of live vectors, as returned by {@link #samplePositions(int, long)}.
+     * @param from Index of the first position to read.
+     * @param count Number of positions to read.
+     * @return float[] or byte[] vectors, depending on the vector data type of the field.
+     * @throws IOException if the vector values of a segment cannot be read.
+     */
+    public List<Object> readVectors(final int[] positions, final int from, final int count) throws IOException {
+        final List<Object> vectors = new ArrayList<>(Math.max(0, Math.min(positions.length, from + count) - from));
+        visitVectors(positions, from, count, true, vectors::add);
+        return vectors;
+    }
+
+    /**
+     * Pass the vectors at the given positions to a visitor without collecting them. The vector passed to the visitor may be reused
+     * for the next position, so it must not be kept.
+     *
+     * @param positions Sorted positions of live vectors, as returned by {@link #samplePositions(int, long)}.
+     * @param visitor Visitor of float[] or byte[] vectors, depending on the vector data type of the field.
+     * @throws IOException if the vector values of a segment cannot be read.
+     */
+    public void visitVectors(final int[] positions, final Consumer<Object> visitor) throws IOException {
+        visitVectors(positions, 0, positions.length, false, visitor);
+    }
+
+    private void visitVectors(final int[] positions, final int from, final int count, final boolean clone, final Consumer<Object> visitor)
+        throws IOException {
+        final int to = Math.min(positions.length, from + count);
+        int next = from;
+        int leafStart = 0;
+        for (int i = 0; i < leaves.size() && next < to; ++i) {
+            final int leafEnd = leafStart + liveVectorCounts[i];
+            if (positions[next] < leafEnd) {
+                final LeafReader reader = leaves.get(i).reader();
+                final KNNVectorValues<?> vectorValues = getVectorValues(reader);
+                final Bits liveDocs = reader.getLiveDocs();
+                int position = leafStart;
+                while (next < to && positions[next] < leafEnd && vectorValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                    if (liveDocs != null && liveDocs.get(vectorValues.docId()) == false) {
+                        continue;
+                    }
+                    if (position == positions[next]) {
+                        visitor.accept(clone ? vectorValues.conditionalCloneVector() : vectorValues.getVector());
+                        ++next;
+                    }
+                    ++position;
+                }
+            }
+            leafStart = leafEnd;
+        }
+    }
+
+    private int countLiveVectors(final LeafReader reader) throws IOException {
+        final KNNVectorValues<?> vectorValues = getVectorValues(reader);
+        if (vectorValues == null) {
+            return 0;
+        }
+        final Bits liveDocs = reader.getLiveDocs();
+        int count = 0;
+        while (vectorValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+            if (liveDocs == null || liveDocs.get(vectorValues.docId())) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    private KNNVectorValues<?> getVectorValues(final LeafReader reader) throws IOException {
+        final FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(reader, fieldName);
+        return fieldInfo == null ? null : KNNVectorValuesFactory.getVectorValues(fieldInfo, reader);
+    }
+}
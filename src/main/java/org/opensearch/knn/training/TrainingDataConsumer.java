@@ -44,6 +44,16 @@ public abstract class TrainingDataConsumer {
 
     public abstract void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName);
 
+    /**
+     * Adds vectors read from the vector values of a shard, which are float[] or byte[] depending on the vector data type.
+     *
+     * @param vectors The vectors to add
+     */
+    public void processTrainingVectors(List<?> vectors) {
+        setTotalVectorsCountAdded(getTotalVectorsCountAdded() + vectors.size());
+        accept(vectors);
+    }
+
     /**
      * Traverses the hit to the desired field and extracts its value.
      *
@@ -24,6 +24,7 @@ import org.opensearch.knn.index.engine.KNNMethodConfigContext;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.mapper.CompressionLevel;
 import org.opensearch.knn.index.mapper.Mode;
+import org.opensearch.knn.jni.JNICommons;
 import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.index.engine.KNNMethodContext;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
@@ -113,12 +114,18 @@ public class TrainingJob implements Runnable {
         NativeMemoryAllocation modelAnonymousAllocation = null;
         ModelMetadata modelMetadata = model.getModelMetadata();
 
+        // When the model is trained on the shards holding the training vectors, faiss has nothing left to train on this node, so the
+        // training data is never loaded
+        final boolean trainedOnShards = isTrainedOnShards();
+
         try {
-            // Get training data
-            trainingDataAllocation = nativeMemoryCacheManager.get(trainingDataEntryContext, false);
+            if (trainedOnShards == false) {
+                // Get training data
+                trainingDataAllocation = nativeMemoryCacheManager.get(trainingDataEntryContext, false);
 
-            // Acquire lock on allocation -- this will wait until training data is loaded
-            trainingDataAllocation.readLock();
+                // Acquire lock on allocation -- this will wait until training data is loaded
+                trainingDataAllocation.readLock();
+            }
         } catch (Exception e) {
             logger.error("Failed to get training data for model \"" + modelId + "\": " + e.getMessage());
             modelMetadata.setState(ModelState.FAILED);
@@ -148,8 +155,10 @@ public class TrainingJob implements Runnable {
                 "Failed to allocate space in native memory for the model. " + "Check if there is enough memory to perform the request."
             );
 
-            trainingDataAllocation.readUnlock();
-            nativeMemoryCacheManager.invalidate(trainingDataEntryContext.getKey());
+            if (trainingDataAllocation != null) {
+                trainingDataAllocation.readUnlock();
+                nativeMemoryCacheManager.invalidate(trainingDataEntryContext.getKey());
+            }
 
             if (modelAnonymousAllocation != null) {
                 nativeMemoryCacheManager.invalidate(modelAnonymousEntryContext.getKey());
@@ -162,6 +171,7 @@ public class TrainingJob implements Runnable {
 
         // Once locks are acquired, train the model. We need a separate try/catch block due to the fact that the lock
         // needs to be released after they are acquired, but cannot be released if it has not been acquired.
+        long emptyTrainingDataAddress = 0;
         try {
             // We need to check if either allocation is closed before we proceed. There is a possibility that
             // immediately after the cache returns the allocation, it will grab the write lock and close them before
@@ -170,7 +180,7 @@ public class TrainingJob implements Runnable {
                 throw new RuntimeException("Unable to reserve memory for model: allocation is already closed");
             }
 
-            if (trainingDataAllocation.isClosed()) {
+            if (trainingDataAllocation != null && trainingDataAllocation.isClosed()) {
                 throw new RuntimeException("Unable to load training data into memory: allocation is already closed");
             }
 
@@ -187,10 +197,32 @@ public class TrainingJob implements Runnable {
                 trainParameters.put(KNNConstants.VECTOR_DATA_TYPE_FIELD, modelMetadata.getVectorDataType().getValue());
             }
 
+            final long trainingDataAddress;
+            if (trainedOnShards) {
+                // Train the coarse centroids on the shards holding the training vectors. The flat encoder has nothing to train, so faiss
+                // is given no training vectors.
+                trainParameters.put(
+                    KNNConstants.IVF_CENTROIDS,
+                    DistributedIVFTrainer.getInstance()
+                        .trainCentroids(
+                            trainingDataEntryContext.getClusterService(),
+                            trainingDataEntryContext.getTrainIndexName(),
+                            trainingDataEntryContext.getTrainFieldName(),
+                            trainingDataEntryContext.getMaxVectorCount(),
+                            DistributedIVFTrainer.getNlist(knnMethodContext),
+                            modelMetadata.getSpaceType()
+                        )
+                );
+                emptyTrainingDataAddress = JNICommons.storeVectorData(0, new float[0][], 0);
+                trainingDataAddress = emptyTrainingDataAddress;
+            } else {
+                trainingDataAddress = trainingDataAllocation.getMemoryAddress();
+            }
+
             byte[] modelBlob = JNIService.trainIndex(
                 trainParameters,
                 model.getModelMetadata().getDimension(),
-                trainingDataAllocation.getMemoryAddress(),
+                trainingDataAddress,
                 model.getModelMetadata().getKnnEngine()
             );
 
@@ -206,10 +238,26 @@ public class TrainingJob implements Runnable {
 
         } finally {
             // Invalidate right away so we dont run into any big memory problems
-            trainingDataAllocation.readUnlock();
+            if (trainingDataAllocation != null) {
+                trainingDataAllocation.readUnlock();
+                nativeMemoryCacheManager.invalidate(trainingDataEntryContext.getKey());
+            }
+            if (emptyTrainingDataAddress != 0) {
+                JNICommons.freeVectorData(emptyTrainingDataAddress);
+            }
             modelAnonymousAllocation.readUnlock();
-            nativeMemoryCacheManager.invalidate(trainingDataEntryContext.getKey());
             nativeMemoryCacheManager.invalidate(modelAnonymousEntryContext.getKey());
         }
     }
+
+    private boolean isTrainedOnShards() {
+        if (KNNSettings.isTrainingDistributedIVFEnabled() == false) {
+            return false;
+        }
+        QuantizationConfig quantizationConfig = model.getModelMetadata()
+            .getKnnEngine()
+            .getKNNLibraryIndexingContext(knnMethodContext, knnMethodConfigContext)
+            .getQuantizationConfig();
+        return DistributedIVFTrainer.isSupported(knnMethodContext, model.getModelMetadata().getVectorDataType(), quantizationConfig);
+    }
 }
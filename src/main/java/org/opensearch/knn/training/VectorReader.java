@@ -11,6 +11,7 @@
 
 package org.opensearch.knn.training;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.core.action.ActionListener;
@@ -23,13 +24,20 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.ValidationException;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.query.ExistsQueryBuilder;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.util.IndexUtil;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleAction;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleRequest;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleResponse;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.sort.SortOrder;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.opensearch.knn.index.mapper.KNNVectorFieldMapperUtil.decodeFloatVector;
 
 public class VectorReader {
 
@@ -98,6 +106,21 @@ public class VectorReader {
             throw validationException;
         }
 
+        if (KNNSettings.isTrainingShardSamplingEnabled()) {
+            new ShardSamplingListener(
+                client,
+                indexName,
+                fieldName,
+                indexMetadata.getNumberOfShards(),
+                maxVectorCount,
+                searchSize,
+                ThreadLocalRandom.current().nextLong(),
+                vectorConsumer,
+                listener
+            ).start();
+            return;
+        }
+
         // Start reading vectors from index
         SearchScrollRequestBuilder searchScrollRequestBuilder = createSearchScrollRequestBuilder();
 
@@ -135,6 +158,115 @@ public class VectorReader {
         return searchScrollRequestBuilder;
     }
 
+    /**
+     * Reads training vectors sampled directly from the vector values of each shard, one shard at a time and one block of at most
+     * searchSize vectors per request. Every shard is asked for its share of the vectors still missing, so that shards with fewer
+     * vectors than their share are made up for by the following shards.
+     */
+    private static class ShardSamplingListener implements ActionListener<TrainingDataSampleResponse> {
+
+        final Client client;
+        final String indexName;
+        final String fieldName;
+        final int numberOfShards;
+        final int maxVectorCount;
+        final int searchSize;
+        final long seed;
+        final TrainingDataConsumer vectorConsumer;
+        final ActionListener<SearchResponse> listener;
+        int shardNumber;
+        int shardSampleSize;
+        int from;
+        String contextId;
+
+        /**
+         * Constructor
+         *
+         * @param client used to send the sample requests
+         * @param indexName name of index containing vectors
+         * @param fieldName name of field containing vectors
+         * @param numberOfShards number of shards of the index
+         * @param maxVectorCount maximum total number of vectors to read
+         * @param searchSize maximum number of vectors to read per request
+         * @param seed seed of the samples drawn from the shards
+         * @param vectorConsumer consumer used to do something with the vectors
+         * @param listener listener to be called when all vectors are read
+         */
+        ShardSamplingListener(
+            Client client,
+            String indexName,
+            String fieldName,
+            int numberOfShards,
+            int maxVectorCount,
+            int searchSize,
+            long seed,
+            TrainingDataConsumer vectorConsumer,
+            ActionListener<SearchResponse> listener
+        ) {
+            this.client = client;
+            this.indexName = indexName;
+            this.fieldName = fieldName;
+            this.numberOfShards = numberOfShards;
+            this.maxVectorCount = maxVectorCount;
+            this.searchSize = searchSize;
+            this.seed = seed;
+            this.vectorConsumer = vectorConsumer;
+            this.listener = listener;
+        }
+
+        void start() {
+            shardNumber = -1;
+            sampleNextShard();
+        }
+
+        @Override
+        public void onResponse(TrainingDataSampleResponse response) {
+            List<?> vectors = response.getVectors();
+            if (vectors.isEmpty() == false) {
+                vectorConsumer.processTrainingVectors(vectors);
+            }
+            from += vectors.size();
+            contextId = response.getContextId();
+
+            if (vectorConsumer.getTotalVectorsCountAdded() >= maxVectorCount) {
+                listener.onResponse(null);
+            } else if (vectors.isEmpty() == false && from < response.getSampleSize()) {
+                readNextBlock();
+            } else {
+                sampleNextShard();
+            }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            listener.onFailure(e);
+        }
+
+        private void sampleNextShard() {
+            shardNumber++;
+            if (shardNumber >= numberOfShards) {
+                listener.onResponse(null);
+                return;
+            }
+            int remainingVectors = maxVectorCount - vectorConsumer.getTotalVectorsCountAdded();
+            int remainingShards = numberOfShards - shardNumber;
+            // Ceiling division in long, as the maximum vector count defaults to Integer.MAX_VALUE
+            shardSampleSize = (int) Math.min(Integer.MAX_VALUE, ((long) remainingVectors + remainingShards - 1) / remainingShards);
+            from = 0;
+            contextId = null;
+            readNextBlock();
+        }
+
+        private void readNextBlock() {
+            int count = Math.min(searchSize, Math.min(shardSampleSize - from, maxVectorCount - vectorConsumer.getTotalVectorsCountAdded()));
+            client.execute(
+                TrainingDataSampleAction.INSTANCE,
+                new TrainingDataSampleRequest(indexName, fieldName, shardNumber, shardSampleSize, seed, from, count, contextId),
+                this
+            );
+        }
+    }
+
     private static class VectorReaderListener<T> implements ActionListener<SearchResponse> {
 
         final Client client;
@@ -239,14 +371,20 @@ public class VectorReader {
                     currentMap = (Map<String, Object>) currentMap.get(fieldPath[pathPart]);
                 }
 
-                if (currentMap.get(fieldPath[fieldPath.length - 1]) instanceof List<?> == false) {
-                    nullVectorCount++;
+                Object fieldValue = currentMap.get(fieldPath[fieldPath.length - 1]);
+                if (fieldValue instanceof List<?>) {
+                    List<Number> fieldList = (List<Number>) fieldValue;
+                    trainingData.add(fieldList.stream().map(Number::floatValue).toArray(Float[]::new));
                     continue;
                 }
 
-                List<Number> fieldList = (List<Number>) currentMap.get(fieldPath[fieldPath.length - 1]);
-
-                trainingData.add(fieldList.stream().map(Number::floatValue).toArray(Float[]::new));
+                // The vector may also be given as a base64 encoded string
+                float[] decodedVector = decodeFloatVector(fieldValue);
+                if (decodedVector == null) {
+                    nullVectorCount++;
+                    continue;
+                }
+                trainingData.add(ArrayUtils.toObject(decodedVector));
             }
             if (nullVectorCount > 0) {
                 logger.warn("Found {} documents with null vectors in field {}", nullVectorCount, fieldName);
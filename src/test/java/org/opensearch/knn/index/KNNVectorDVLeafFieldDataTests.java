@@ -10,6 +10,7 @@ import org.opensearch.knn.KNNTestCase;
 import org.apache.lucene.tests.analysis.MockAnalyzer;
 import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.KnnFloatVectorField;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
@@ -17,6 +18,8 @@ import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.store.Directory;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.mapper.DocValueFetcher;
+import org.opensearch.search.DocValueFormat;
 import org.junit.Before;
 import org.opensearch.knn.index.codec.util.KNNVectorAsCollectionOfFloatsSerializer;
 
@@ -91,6 +94,41 @@ public class KNNVectorDVLeafFieldDataTests extends KNNTestCase {
         assertEquals(0, leafFieldData.ramBytesUsed());
     }
 
+    public void testGetLeafValueFetcher_whenDocsHaveVectors_thenFetchVectors() throws IOException {
+        try (Directory vectorDirectory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(vectorDirectory, newIndexWriterConfig(new MockAnalyzer(random())))) {
+                for (float[] vector : new float[][] { { 1.0f, 2.0f }, null, { 3.0f, 4.0f } }) {
+                    Document document = new Document();
+                    if (vector != null) {
+                        document.add(new KnnFloatVectorField(MOCK_INDEX_FIELD_NAME, vector));
+                    }
+                    writer.addDocument(document);
+                }
+                writer.forceMerge(1);
+            }
+            try (DirectoryReader vectorReader = DirectoryReader.open(vectorDirectory)) {
+                KNNVectorDVLeafFieldData leafFieldData = new KNNVectorDVLeafFieldData(
+                    vectorReader.leaves().get(0).reader(),
+                    MOCK_INDEX_FIELD_NAME,
+                    VectorDataType.FLOAT
+                );
+                DocValueFetcher.Leaf leaf = leafFieldData.getLeafValueFetcher(DocValueFormat.RAW);
+
+                assertTrue(leaf.advanceExact(0));
+                assertEquals(1, leaf.docValueCount());
+                assertArrayEquals(new float[] { 1.0f, 2.0f }, (float[]) leaf.nextValue(), 0.0f);
+                assertFalse(leaf.advanceExact(1));
+                assertTrue(leaf.advanceExact(2));
+                assertArrayEquals(new float[] { 3.0f, 4.0f }, (float[]) leaf.nextValue(), 0.0f);
+            }
+        }
+    }
+
+    public void testGetLeafValueFetcher_whenFieldIsMissing_thenFetchNothing() throws IOException {
+        KNNVectorDVLeafFieldData leafFieldData = new KNNVectorDVLeafFieldData(leafReaderContext.reader(), "invalid", VectorDataType.FLOAT);
+        assertFalse(leafFieldData.getLeafValueFetcher(DocValueFormat.RAW).advanceExact(0));
+    }
+
     public void testGetBytesValues() {
         KNNVectorDVLeafFieldData leafFieldData = new KNNVectorDVLeafFieldData(leafReaderContext.reader(), "", VectorDataType.FLOAT);
         expectThrows(UnsupportedOperationException.class, () -> leafFieldData.getBytesValues());
@@ -22,6 +22,7 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexWriter;
@@ -33,6 +34,7 @@ import org.opensearch.knn.plugin.stats.KNNGraphValue;
 import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -43,6 +45,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -835,6 +842,87 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
         }
     }
 
+    @SneakyThrows
+    public void testFlush_whenConcurrentFieldsEnabled_thenBuildFieldsOnIndexBuildThreadPool() {
+        // Given
+        final List<Supplier<KNNVectorValues<?>>> expectedVectorValuesSuppliers = vectorsPerField.stream().map(vectors -> {
+            final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+                new ArrayList<>(vectors.values())
+            );
+            return KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, randomVectorValues);
+        }).toList();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(KNNConstants.INDEX_BUILD_THREAD_POOL)).thenReturn(executor);
+        NativeEngines990KnnVectorsWriter.setThreadPool(threadPool);
+
+        try (
+            MockedStatic<NativeEngineFieldVectorsWriter> fieldWriterMockedStatic = mockStatic(NativeEngineFieldVectorsWriter.class);
+            MockedStatic<KNNVectorValuesFactory> knnVectorValuesFactoryMockedStatic = mockStatic(KNNVectorValuesFactory.class);
+            MockedStatic<QuantizationService> quantizationServiceMockedStatic = mockStatic(QuantizationService.class);
+            MockedStatic<NativeIndexWriter> nativeIndexWriterMockedStatic = mockStatic(NativeIndexWriter.class);
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class);
+        ) {
+            knnSettingsMockedStatic.when(KNNSettings::isIndexBuildConcurrentFieldsEnabled).thenReturn(true);
+            knnSettingsMockedStatic.when(KNNSettings::isCircuitBreakerTriggered).thenReturn(false);
+            quantizationServiceMockedStatic.when(() -> QuantizationService.getInstance()).thenReturn(quantizationService);
+            IntStream.range(0, vectorsPerField.size()).forEach(i -> {
+                final FieldInfo fieldInfo = fieldInfo(
+                    i,
+                    VectorEncoding.FLOAT32,
+                    Map.of(KNNConstants.VECTOR_DATA_TYPE_FIELD, "float", KNNConstants.KNN_ENGINE, "faiss")
+                );
+
+                NativeEngineFieldVectorsWriter field = nativeEngineFieldVectorsWriter(fieldInfo, vectorsPerField.get(i));
+                fieldWriterMockedStatic.when(
+                    () -> NativeEngineFieldVectorsWriter.create(fieldInfo, mockedFlatFieldVectorsWriter, segmentWriteState.infoStream)
+                ).thenReturn(field);
+
+                try {
+                    objectUnderTest.addField(fieldInfo);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+
+                DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
+                knnVectorValuesFactoryMockedStatic.when(
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                ).thenReturn(expectedVectorValuesSuppliers.get(i));
+
+                when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
+                nativeIndexWriterMockedStatic.when(
+                    () -> NativeIndexWriter.getWriter(fieldInfo, segmentWriteState, null, nativeIndexBuildStrategyFactory)
+                ).thenReturn(nativeIndexWriter);
+            });
+
+            final Set<Thread> buildThreads = ConcurrentHashMap.newKeySet();
+            doAnswer(answer -> {
+                buildThreads.add(Thread.currentThread());
+                return null;
+            }).when(nativeIndexWriter).flushIndex(any(), anyInt());
+
+            // When
+            objectUnderTest.flush(5, null);
+
+            // Then
+            final long builtFields = vectorsPerField.stream().filter(Predicate.not(Map::isEmpty)).count();
+            IntStream.range(0, vectorsPerField.size()).filter(i -> vectorsPerField.get(i).isEmpty() == false).forEach(i -> {
+                try {
+                    verify(nativeIndexWriter).flushIndex(expectedVectorValuesSuppliers.get(i), vectorsPerField.get(i).size());
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            // The first field is built on the flushing thread, the others on the thread pool
+            assertEquals(builtFields > 0, buildThreads.contains(Thread.currentThread()));
+            assertEquals(builtFields > 1, buildThreads.size() > 1);
+        } finally {
+            NativeEngines990KnnVectorsWriter.setThreadPool(null);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
     private FieldInfo fieldInfo(int fieldNumber, VectorEncoding vectorEncoding, Map<String, String> attributes) {
         FieldInfo fieldInfo = mock(FieldInfo.class);
         when(fieldInfo.getFieldNumber()).thenReturn(fieldNumber);
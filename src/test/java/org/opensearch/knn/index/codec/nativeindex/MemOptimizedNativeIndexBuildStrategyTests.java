@@ -6,9 +6,11 @@
 package org.opensearch.knn.index.codec.nativeindex;
 
 import lombok.SneakyThrows;
+import org.apache.lucene.util.FixedBitSet;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
@@ -23,15 +25,22 @@ import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.quantization.models.quantizationOutput.QuantizationOutput;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_TRANSFER_THREAD_POOL;
 
 public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCase {
 
@@ -116,6 +125,7 @@ public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCas
             mockedJNIService.verify(
                 () -> JNIService.writeIndex(eq(indexOutputWithBuffer), eq(100L), eq(KNNEngine.FAISS), eq(Map.of("index", "param")))
             );
+            mockedJNIService.verify(() -> JNIService.reorderIndex(eq(100L), eq(KNNEngine.FAISS), eq(Map.of("index", "param"))), times(0));
             assertEquals(200L, vectorAddressCaptor.getValue().longValue());
             assertEquals(vectorAddressCaptor.getValue().longValue(), vectorAddressCaptor.getAllValues().get(0).longValue());
             verify(offHeapVectorTransfer, times(0)).reset();
@@ -130,6 +140,282 @@ public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCas
         }
     }
 
+    @SneakyThrows
+    public void testBuildAndWrite_whenGraphReorderEnabled_thenReorderIndex() {
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            )
+        ) {
+            mockedJNIService.when(() -> JNIService.initIndex(2, 2, Map.of("index", "param"), KNNEngine.FAISS)).thenReturn(100L);
+
+            OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 2))
+                .thenReturn(offHeapVectorTransfer);
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+
+            when(offHeapVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(offHeapVectorTransfer.transfer(any(), eq(false))).thenReturn(false);
+            when(offHeapVectorTransfer.flush(false)).thenReturn(true);
+            when(offHeapVectorTransfer.getVectorAddress()).thenReturn(200L);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .parameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .graphReorderEnabled(true)
+                .build();
+
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            mockedJNIService.verify(() -> JNIService.reorderIndex(eq(100L), eq(KNNEngine.FAISS), eq(Map.of("index", "param"))));
+            mockedJNIService.verify(
+                () -> JNIService.writeIndex(eq(indexOutputWithBuffer), eq(100L), eq(KNNEngine.FAISS), eq(Map.of("index", "param")))
+            );
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenPipelinedTransferEnabled_thenInsertBatchesOfBothBuffers() {
+        List<float[]> vectorValues = List.of(
+            new float[] { 1, 2 },
+            new float[] { 2, 3 },
+            new float[] { 3, 4 },
+            new float[] { 4, 5 },
+            new float[] { 5, 6 }
+        );
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+        final ExecutorService transferExecutor = setUpVectorTransferExecutor();
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            );
+            MockedStatic<KNNSettings> mockedKNNSettings = Mockito.mockStatic(KNNSettings.class)
+        ) {
+            mockedKNNSettings.when(KNNSettings::isIndexBuildPipelinedTransferEnabled).thenReturn(true);
+            mockedJNIService.when(() -> JNIService.initIndex(5, 2, Map.of("index", "param"), KNNEngine.FAISS)).thenReturn(100L);
+
+            // Limits transfer to 2 vectors per buffer, the first buffer is filled again once its batch is inserted
+            OffHeapVectorTransfer firstVectorTransfer = mock(OffHeapVectorTransfer.class);
+            OffHeapVectorTransfer secondVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 5))
+                .thenReturn(firstVectorTransfer)
+                .thenReturn(secondVectorTransfer);
+            when(firstVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(firstVectorTransfer.transfer(any(), eq(false))).thenReturn(false).thenReturn(true).thenReturn(false);
+            when(firstVectorTransfer.flush(false)).thenReturn(true);
+            when(firstVectorTransfer.getVectorAddress()).thenReturn(200L);
+            when(secondVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(secondVectorTransfer.transfer(any(), eq(false))).thenReturn(false).thenReturn(true);
+            when(secondVectorTransfer.getVectorAddress()).thenReturn(300L);
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .parameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 0, 1 }),
+                    eq(200L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 2, 3 }),
+                    eq(300L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 4 }),
+                    eq(200L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            mockedJNIService.verify(
+                () -> JNIService.writeIndex(eq(indexOutputWithBuffer), eq(100L), eq(KNNEngine.FAISS), eq(Map.of("index", "param")))
+            );
+            verify(firstVectorTransfer).close();
+            verify(secondVectorTransfer).close();
+        } finally {
+            tearDownVectorTransferExecutor(transferExecutor);
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenPipelinedInsertFails_thenStopTransferWithoutInterrupt() {
+        List<float[]> vectorValues = List.of(
+            new float[] { 1, 2 },
+            new float[] { 2, 3 },
+            new float[] { 3, 4 },
+            new float[] { 4, 5 },
+            new float[] { 5, 6 },
+            new float[] { 6, 7 }
+        );
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+        final ExecutorService transferExecutor = setUpVectorTransferExecutor();
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            );
+            MockedStatic<KNNSettings> mockedKNNSettings = Mockito.mockStatic(KNNSettings.class)
+        ) {
+            mockedKNNSettings.when(KNNSettings::isIndexBuildPipelinedTransferEnabled).thenReturn(true);
+            mockedJNIService.when(() -> JNIService.initIndex(6, 2, Map.of("index", "param"), KNNEngine.FAISS)).thenReturn(100L);
+            mockedJNIService.when(() -> JNIService.insertToIndex(any(), anyLong(), anyInt(), any(), anyLong(), any()))
+                .thenThrow(new RuntimeException("Insert failed"));
+
+            // Both buffers are filled and the transfer task waits for one to be given back, which never happens
+            OffHeapVectorTransfer firstVectorTransfer = mock(OffHeapVectorTransfer.class);
+            OffHeapVectorTransfer secondVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 6))
+                .thenReturn(firstVectorTransfer)
+                .thenReturn(secondVectorTransfer);
+            when(firstVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(firstVectorTransfer.transfer(any(), eq(false))).thenReturn(false).thenReturn(true);
+            when(secondVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(secondVectorTransfer.transfer(any(), eq(false))).thenReturn(false).thenReturn(true);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(Mockito.mock(IndexOutputWithBuffer.class))
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .parameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            expectThrows(
+                RuntimeException.class,
+                () -> MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams)
+            );
+
+            // The transfer task stopped before the buffers were freed, and the pooled thread is still usable
+            verify(firstVectorTransfer).close();
+            verify(secondVectorTransfer).close();
+            assertFalse(transferExecutor.submit(() -> Thread.currentThread().isInterrupted()).get());
+            mockedJNIService.verify(() -> JNIService.writeIndex(any(), anyLong(), any(), any()), times(0));
+        } finally {
+            tearDownVectorTransferExecutor(transferExecutor);
+        }
+    }
+
+    private static ExecutorService setUpVectorTransferExecutor() {
+        final ExecutorService transferExecutor = Executors.newSingleThreadExecutor();
+        final ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(VECTOR_TRANSFER_THREAD_POOL)).thenReturn(transferExecutor);
+        NativeIndexBuildStrategyFactory.setThreadPool(threadPool);
+        return transferExecutor;
+    }
+
+    private static void tearDownVectorTransferExecutor(final ExecutorService transferExecutor) {
+        NativeIndexBuildStrategyFactory.setThreadPool(null);
+        transferExecutor.shutdown();
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenSeededByMerge_thenOnlyInsertVectorsNotSeeded() {
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            );
+            MockedStatic<MergeIndexSeed> mockedMergeIndexSeed = Mockito.mockStatic(MergeIndexSeed.class)
+        ) {
+            // Docs 0 and 2 come from the segment whose graph seeds the merged index
+            FixedBitSet seededDocs = new FixedBitSet(3);
+            seededDocs.set(0);
+            seededDocs.set(2);
+            MergeIndexSeed mergeIndexSeed = mock(MergeIndexSeed.class);
+            when(mergeIndexSeed.getIndexMemoryAddress()).thenReturn(100L);
+            when(mergeIndexSeed.getSeededDocs()).thenReturn(seededDocs);
+            mockedMergeIndexSeed.when(() -> MergeIndexSeed.load(any())).thenReturn(mergeIndexSeed);
+
+            OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 3))
+                .thenReturn(offHeapVectorTransfer);
+            ArgumentCaptor<float[]> vectorTransferCapture = ArgumentCaptor.forClass(float[].class);
+            when(offHeapVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(offHeapVectorTransfer.transfer(vectorTransferCapture.capture(), eq(false))).thenReturn(false);
+            when(offHeapVectorTransfer.flush(false)).thenReturn(true);
+            when(offHeapVectorTransfer.getVectorAddress()).thenReturn(200L);
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .parameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            mockedJNIService.verify(() -> JNIService.initIndex(anyLong(), anyInt(), any(), any()), times(0));
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 1 }),
+                    eq(200L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            mockedJNIService.verify(
+                () -> JNIService.writeIndex(eq(indexOutputWithBuffer), eq(100L), eq(KNNEngine.FAISS), eq(Map.of("index", "param")))
+            );
+            assertEquals(1, vectorTransferCapture.getAllValues().size());
+            assertArrayEquals(new float[] { 2, 3 }, vectorTransferCapture.getValue(), 0.0f);
+        }
+    }
+
     @SneakyThrows
     public void testBuildAndWrite_withQuantization() {
         // Given
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import org.apache.lucene.index.MergeState;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER;
+
+public class MergeIndexSeedTests extends OpenSearchTestCase {
+
+    public void testLoad_whenNotMerge_thenReturnNull() {
+        assertNull(MergeIndexSeed.load(buildIndexParams("HNSW16,Flat", VectorDataType.FLOAT, null).build()));
+    }
+
+    public void testLoad_whenIndexCannotBeSeeded_thenReturnNull() {
+        final MergeState mergeState = mock(MergeState.class);
+        // Only graphs of float HNSW indices without quantization are seeded
+        assertNull(MergeIndexSeed.load(buildIndexParams("IVF16,Flat", VectorDataType.FLOAT, null).mergeState(mergeState).build()));
+        assertNull(MergeIndexSeed.load(buildIndexParams("BHNSW16,Flat", VectorDataType.BINARY, null).mergeState(mergeState).build()));
+        assertNull(
+            MergeIndexSeed.load(
+                buildIndexParams("HNSW16,Flat", VectorDataType.FLOAT, mock(QuantizationState.class)).mergeState(mergeState).build()
+            )
+        );
+    }
+
+    private static BuildIndexParams.BuildIndexParamsBuilder buildIndexParams(
+        final String indexDescription,
+        final VectorDataType vectorDataType,
+        final QuantizationState quantizationState
+    ) {
+        return BuildIndexParams.builder()
+            .fieldName("test-field")
+            .knnEngine(KNNEngine.FAISS)
+            .vectorDataType(vectorDataType)
+            .quantizationState(quantizationState)
+            .parameters(Map.of(INDEX_DESCRIPTION_PARAMETER, indexDescription));
+    }
+}
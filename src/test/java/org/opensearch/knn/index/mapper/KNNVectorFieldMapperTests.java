@@ -55,9 +55,12 @@ import org.opensearch.knn.indices.ModelState;
 import org.opensearch.knn.indices.ModelUtil;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -2665,6 +2668,129 @@ public class KNNVectorFieldMapperTests extends KNNTestCase {
         return xContentBuilder;
     }
 
+    @SneakyThrows
+    public void testGetFloatsFromContext_whenBase64EncodedVector_thenSameAsArray() {
+        final float[] vector = new float[] { 1.5f, -2.25f, 0.0f, 1024.0f, -0.001f };
+        final ByteBuffer encoded = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        encoded.asFloatBuffer().put(vector);
+        final String base64Vector = "\"" + Base64.getEncoder().encodeToString(encoded.array()) + "\"";
+
+        try (MockedStatic<KNNVectorFieldMapperUtil> utilMockedStatic = Mockito.mockStatic(KNNVectorFieldMapperUtil.class)) {
+            utilMockedStatic.when(() -> KNNVectorFieldMapperUtil.useLuceneKNNVectorsFormat(Mockito.any())).thenReturn(true);
+            final EngineFieldMapper fieldMapper = createFaissHnswFieldMapper(VectorDataType.FLOAT, vector.length);
+
+            assertArrayEquals(
+                vector,
+                fieldMapper.getFloatsFromContext(createParseContext(Arrays.toString(vector)), vector.length).get(),
+                0.0f
+            );
+            assertArrayEquals(vector, fieldMapper.getFloatsFromContext(createParseContext(base64Vector), vector.length).get(), 0.0f);
+            expectThrows(
+                IllegalArgumentException.class,
+                () -> fieldMapper.getFloatsFromContext(createParseContext(base64Vector), vector.length + 1)
+            );
+            final String truncatedVector = "\"" + Base64.getEncoder().encodeToString(Arrays.copyOf(encoded.array(), 6)) + "\"";
+            expectThrows(
+                IllegalArgumentException.class,
+                () -> fieldMapper.getFloatsFromContext(createParseContext(truncatedVector), vector.length)
+            );
+        }
+    }
+
+    @SneakyThrows
+    public void testGetFloatsFromContext_whenDimensionMismatch_thenException() {
+        try (MockedStatic<KNNVectorFieldMapperUtil> utilMockedStatic = Mockito.mockStatic(KNNVectorFieldMapperUtil.class)) {
+            utilMockedStatic.when(() -> KNNVectorFieldMapperUtil.useLuceneKNNVectorsFormat(Mockito.any())).thenReturn(true);
+            final EngineFieldMapper fieldMapper = createFaissHnswFieldMapper(VectorDataType.FLOAT, 3);
+
+            IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> fieldMapper.getFloatsFromContext(createParseContext("[1.0, 2.0, 3.0, 4.0]"), 3)
+            );
+            assertEquals("Vector dimension mismatch. Expected: 3, Given: 4", e.getMessage());
+            e = expectThrows(IllegalArgumentException.class, () -> fieldMapper.getFloatsFromContext(createParseContext("[1.0, 2.0]"), 3));
+            assertEquals("Vector dimension mismatch. Expected: 3, Given: 2", e.getMessage());
+        }
+    }
+
+    @SneakyThrows
+    public void testGetBytesFromContext_whenBase64EncodedVector_thenSameAsArray() {
+        final byte[] vector = new byte[] { -128, -1, 0, 1, 127, 42, -42, 7 };
+        final String base64Vector = "\"" + Base64.getEncoder().encodeToString(vector) + "\"";
+
+        try (MockedStatic<KNNVectorFieldMapperUtil> utilMockedStatic = Mockito.mockStatic(KNNVectorFieldMapperUtil.class)) {
+            utilMockedStatic.when(() -> KNNVectorFieldMapperUtil.useLuceneKNNVectorsFormat(Mockito.any())).thenReturn(true);
+            final EngineFieldMapper fieldMapper = createFaissHnswFieldMapper(VectorDataType.BYTE, vector.length);
+
+            assertArrayEquals(
+                vector,
+                fieldMapper.getBytesFromContext(createParseContext(Arrays.toString(vector)), vector.length, VectorDataType.BYTE).get()
+            );
+            assertArrayEquals(
+                vector,
+                fieldMapper.getBytesFromContext(createParseContext(base64Vector), vector.length, VectorDataType.BYTE).get()
+            );
+            assertArrayEquals(
+                vector,
+                fieldMapper.getBytesFromContext(createParseContext(base64Vector), vector.length * Byte.SIZE, VectorDataType.BINARY).get()
+            );
+            expectThrows(
+                IllegalArgumentException.class,
+                () -> fieldMapper.getBytesFromContext(createParseContext(base64Vector), vector.length + 1, VectorDataType.BYTE)
+            );
+        }
+    }
+
+    private EngineFieldMapper createFaissHnswFieldMapper(final VectorDataType dataType, final int dimension) {
+        final SpaceType spaceType = VectorDataType.BINARY == dataType ? SpaceType.DEFAULT_BINARY : SpaceType.L2;
+        final KNNMethodContext knnMethodContext = new KNNMethodContext(
+            KNNEngine.FAISS,
+            spaceType,
+            new MethodComponentContext(METHOD_HNSW, Collections.emptyMap())
+        );
+        final OriginalMappingParameters originalMappingParameters = new OriginalMappingParameters(
+            dataType,
+            dimension,
+            knnMethodContext,
+            Mode.NOT_CONFIGURED.getName(),
+            CompressionLevel.NOT_CONFIGURED.getName(),
+            null,
+            SpaceType.UNDEFINED.getValue(),
+            KNNEngine.UNDEFINED.getName()
+        );
+        originalMappingParameters.setResolvedKnnMethodContext(knnMethodContext);
+        return EngineFieldMapper.createFieldMapper(
+            TEST_FIELD_NAME,
+            TEST_FIELD_NAME,
+            Collections.emptyMap(),
+            KNNMethodConfigContext.builder().vectorDataType(dataType).versionCreated(CURRENT).dimension(dimension).build(),
+            FieldMapper.MultiFields.empty(),
+            FieldMapper.CopyTo.empty(),
+            new Explicit<>(true, true),
+            false,
+            false,
+            originalMappingParameters,
+            CURRENT
+        );
+    }
+
+    private ParseContext createParseContext(final String vectorValue) throws IOException {
+        final XContentParser parser = XContentHelper.createParser(
+            NamedXContentRegistry.EMPTY,
+            LoggingDeprecationHandler.INSTANCE,
+            new BytesArray(new BytesArray("{\"" + TEST_FIELD_NAME + "\":" + vectorValue + "}").toBytesRef()),
+            MediaTypeRegistry.JSON
+        );
+        // Move the parser to the value of the field
+        parser.nextToken();
+        parser.nextToken();
+        parser.nextToken();
+        final ParseContext parseContext = mock(ParseContext.class);
+        when(parseContext.path()).thenReturn(new ContentPath());
+        when(parseContext.parser()).thenReturn(parser);
+        return parseContext;
+    }
+
     private static float[] createInitializedFloatArray(int dimension, float value) {
         float[] array = new float[dimension];
         Arrays.fill(array, value);
@@ -19,7 +19,11 @@ import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.util.KNNVectorAsCollectionOfFloatsSerializer;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -97,4 +101,26 @@ public class KNNVectorFieldMapperUtilTests extends KNNTestCase {
         Assert.assertTrue(KNNVectorFieldMapperUtil.useFullFieldNameValidation(Version.V_2_17_0));
         Assert.assertTrue(KNNVectorFieldMapperUtil.useFullFieldNameValidation(Version.V_2_18_0));
     }
+
+    public void testDecodeFloatVector_whenBase64EncodedOrRawBytes_thenDecode() {
+        float[] vector = new float[] { 1.5f, -2.25f, 3 };
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        byte[] bytes = buffer.array();
+
+        assertArrayEquals(vector, KNNVectorFieldMapperUtil.decodeFloatVector(Base64.getEncoder().encodeToString(bytes)), 0.0f);
+        assertArrayEquals(vector, KNNVectorFieldMapperUtil.decodeFloatVector(bytes), 0.0f);
+        assertNull(KNNVectorFieldMapperUtil.decodeFloatVector(List.of(1.5, -2.25, 3.0)));
+        assertNull(KNNVectorFieldMapperUtil.decodeFloatVector(null));
+        expectThrows(IllegalArgumentException.class, () -> KNNVectorFieldMapperUtil.decodeFloatVector(new byte[] { 1, 2, 3 }));
+        expectThrows(IllegalArgumentException.class, () -> KNNVectorFieldMapperUtil.decodeFloatVector("not base64!"));
+    }
+
+    public void testDecodeByteVector_whenBase64EncodedOrRawBytes_thenDecode() {
+        byte[] vector = new byte[] { -128, 0, 127 };
+
+        assertArrayEquals(vector, KNNVectorFieldMapperUtil.decodeByteVector(Base64.getEncoder().encodeToString(vector)));
+        assertArrayEquals(vector, KNNVectorFieldMapperUtil.decodeByteVector(vector));
+        assertNull(KNNVectorFieldMapperUtil.decodeByteVector(List.of(-128, 0, 127)));
+    }
 }
@@ -23,10 +23,14 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.action.admin.cluster.settings.ClusterUpdateSettingsRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.knn.TestUtils;
 import org.opensearch.knn.common.exception.OutOfNativeMemoryException;
 import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
@@ -46,8 +50,10 @@ import java.util.HashSet;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -698,6 +704,274 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
         verify(mockReadStream, never()).close();
     }
 
+    @SneakyThrows
+    @Test
+    public void getWithForceEvictEnabled_whenCacheIsFull_thenEvictLeastRecentlyAccessed() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        final int maxWeight = (int) nativeMemoryCacheManager.getMaxCacheSizeInKilobytes();
+        clusterService = mock(ClusterService.class);
+        KNNSettings.state().setClusterService(clusterService);
+        clusterSettings = mock(ClusterSettings.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterSettings.get(KNNFeatureFlags.KNN_FORCE_EVICT_CACHE_ENABLED_SETTING)).thenReturn(true);
+
+        TestNativeMemoryEntryContent entry1 = new TestNativeMemoryEntryContent("test-1", maxWeight / 4);
+        TestNativeMemoryEntryContent entry2 = new TestNativeMemoryEntryContent("test-2", maxWeight / 4);
+        nativeMemoryCacheManager.get(entry1, true);
+        nativeMemoryCacheManager.get(entry2, true);
+
+        // Hitting test-1 makes test-2 the least recently accessed entry
+        nativeMemoryCacheManager.get(entry1, true);
+
+        // Loading test-3 fills up the cache, so test-2 has to be evicted first
+        TestNativeMemoryEntryContent entry3 = new TestNativeMemoryEntryContent("test-3", maxWeight - 2 * (maxWeight / 4));
+        nativeMemoryCacheManager.get(entry3, true);
+
+        assertEquals(maxWeight / 4 + entry3.calculateSizeInKB(), nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        // Only test-3 remains once test-1 is invalidated, meaning test-2 was the one evicted
+        nativeMemoryCacheManager.invalidate("test-1");
+        assertEquals((long) entry3.calculateSizeInKB(), nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        nativeMemoryCacheManager.close();
+    }
+
+    @SneakyThrows
+    public void testGet_whenCacheIsFull_thenEvictLeastRecentlyAccessed() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        final int maxWeight = (int) nativeMemoryCacheManager.getMaxCacheSizeInKilobytes();
+
+        TestNativeMemoryEntryContent entry1 = new TestNativeMemoryEntryContent("test-1", maxWeight / 4);
+        TestNativeMemoryEntryContent entry2 = new TestNativeMemoryEntryContent("test-2", maxWeight / 4);
+        nativeMemoryCacheManager.get(entry1, true);
+        nativeMemoryCacheManager.get(entry2, true);
+
+        // Hitting test-1 makes test-2 the least recently accessed entry
+        nativeMemoryCacheManager.get(entry1, true);
+
+        // Loading test-3 exceeds the maximum weight, so test-2 is evicted once it is loaded
+        TestNativeMemoryEntryContent entry3 = new TestNativeMemoryEntryContent("test-3", maxWeight - 2 * (maxWeight / 4) + 1);
+        nativeMemoryCacheManager.get(entry3, true);
+
+        assertEquals(maxWeight / 4 + entry3.calculateSizeInKB(), nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        assertEquals(1, nativeMemoryCacheManager.getCacheStats().evictionCount());
+        assertTrue(nativeMemoryCacheManager.isCacheCapacityReached());
+        nativeMemoryCacheManager.invalidate("test-1");
+        assertEquals((long) entry3.calculateSizeInKB(), nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        nativeMemoryCacheManager.close();
+    }
+
+    @SneakyThrows
+    public void testGetAsync_whenConcurrentRequests_thenLoadOnce() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        CountDownLatch loadLatch = new CountDownLatch(1);
+        AtomicInteger loadCalls = new AtomicInteger(0);
+        TestNativeMemoryEntryContent entry = new TestNativeMemoryEntryContent("test-1", 10) {
+            @Override
+            public TestNativeMemoryAllocation load() throws IOException {
+                loadCalls.incrementAndGet();
+                try {
+                    loadLatch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return super.load();
+            }
+        };
+
+        CompletableFuture<NativeMemoryAllocation> future1 = nativeMemoryCacheManager.getAsync(entry);
+        CompletableFuture<NativeMemoryAllocation> future2 = nativeMemoryCacheManager.getAsync(entry);
+        // Second request joins the in-flight load
+        assertSame(future1, future2);
+        assertFalse(future1.isDone());
+
+        loadLatch.countDown();
+        NativeMemoryAllocation allocation = future1.get(10, TimeUnit.SECONDS);
+        assertEquals(1, loadCalls.get());
+
+        // Cache hit completes immediately
+        CompletableFuture<NativeMemoryAllocation> future3 = nativeMemoryCacheManager.getAsync(entry);
+        assertTrue(future3.isDone());
+        assertSame(allocation, future3.get());
+        assertEquals(1, loadCalls.get());
+        nativeMemoryCacheManager.close();
+    }
+
+    @SneakyThrows
+    public void testGetAsync_whenInvalidatedWhileLoading_thenDropLoadedEntry() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadLatch = new CountDownLatch(1);
+        AtomicInteger closeCalls = new AtomicInteger(0);
+        TestNativeMemoryEntryContent entry = new TestNativeMemoryEntryContent("test-1", 10) {
+            @Override
+            public TestNativeMemoryAllocation load() throws IOException {
+                loadStarted.countDown();
+                try {
+                    loadLatch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return super.load();
+            }
+        };
+        TestNativeMemoryEntryContent waiter = new TestNativeMemoryEntryContent("test-1", 10) {
+            @Override
+            public void close() {
+                closeCalls.incrementAndGet();
+            }
+        };
+
+        CompletableFuture<NativeMemoryAllocation> future = nativeMemoryCacheManager.getAsync(entry);
+        // The context of a request joining the in-flight load is closed right away
+        assertSame(future, nativeMemoryCacheManager.getAsync(waiter));
+        assertEquals(1, closeCalls.get());
+
+        // Invalidate while the graph is being loaded, e.g. the segment was deleted after the searches waiting on it timed out
+        assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+        nativeMemoryCacheManager.invalidate("test-1");
+        loadLatch.countDown();
+
+        expectThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertEquals(0, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        nativeMemoryCacheManager.close();
+    }
+
+    @SneakyThrows
+    public void testShouldServeFromWarmTier_whenEvictedUnderPressure_thenPromoteAfterThreshold() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        final int maxWeight = (int) nativeMemoryCacheManager.getMaxCacheSizeInKilobytes();
+        clusterService = mock(ClusterService.class);
+        KNNSettings.state().setClusterService(clusterService);
+        clusterSettings = mock(ClusterSettings.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterSettings.get(KNNFeatureFlags.KNN_FORCE_EVICT_CACHE_ENABLED_SETTING)).thenReturn(true);
+        when(clusterSettings.get(KNNSettings.KNN_CACHE_TIERING_ENABLED_SETTING)).thenReturn(true);
+        when(clusterSettings.get(KNNSettings.KNN_CACHE_TIERING_PROMOTION_THRESHOLD_SETTING)).thenReturn(2);
+
+        // Loading test-2 does not fit next to test-1, so test-1 gets evicted into the warm tier
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-1", maxWeight / 2 + 1), true);
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-2", maxWeight / 2 + 1), true);
+        assertEquals(1, nativeMemoryCacheManager.getWarmTierGraphCount());
+        assertFalse(nativeMemoryCacheManager.shouldServeFromWarmTier("test-2"));
+
+        // First access is served from the warm tier, the second one reaches the threshold and promotes the graph
+        assertTrue(nativeMemoryCacheManager.shouldServeFromWarmTier("test-1"));
+        assertFalse(nativeMemoryCacheManager.shouldServeFromWarmTier("test-1"));
+        assertEquals(0, nativeMemoryCacheManager.getWarmTierGraphCount());
+
+        // Loading test-1 back evicts test-2, which is dropped from the warm tier when invalidated
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-1", maxWeight / 2 + 1), true);
+        assertEquals(1, nativeMemoryCacheManager.getWarmTierGraphCount());
+        nativeMemoryCacheManager.invalidate("test-2");
+        assertEquals(0, nativeMemoryCacheManager.getWarmTierGraphCount());
+        nativeMemoryCacheManager.close();
+    }
+
+    @SneakyThrows
+    public void testShouldServeFromWarmTier_whenAccessesSpreadOverWindows_thenNotPromoted() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        final int maxWeight = (int) nativeMemoryCacheManager.getMaxCacheSizeInKilobytes();
+        clusterService = mock(ClusterService.class);
+        KNNSettings.state().setClusterService(clusterService);
+        clusterSettings = mock(ClusterSettings.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterSettings.get(KNNFeatureFlags.KNN_FORCE_EVICT_CACHE_ENABLED_SETTING)).thenReturn(true);
+        when(clusterSettings.get(KNNSettings.KNN_CACHE_TIERING_ENABLED_SETTING)).thenReturn(true);
+        when(clusterSettings.get(KNNSettings.KNN_CACHE_TIERING_PROMOTION_THRESHOLD_SETTING)).thenReturn(2);
+        when(clusterSettings.get(KNNSettings.KNN_CACHE_TIERING_PROMOTION_WINDOW_SETTING)).thenReturn(TimeValue.timeValueMillis(1));
+
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-1", maxWeight / 2 + 1), true);
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-2", maxWeight / 2 + 1), true);
+        assertEquals(1, nativeMemoryCacheManager.getWarmTierGraphCount());
+
+        // Each access falls into a new window, so the count never reaches the threshold
+        for (int i = 0; i < 3; ++i) {
+            assertTrue(nativeMemoryCacheManager.shouldServeFromWarmTier("test-1"));
+            Thread.sleep(10);
+        }
+        assertEquals(1, nativeMemoryCacheManager.getWarmTierGraphCount());
+
+        // With a longer window, the last access and this one fall into the same window, which promotes the graph
+        when(clusterSettings.get(KNNSettings.KNN_CACHE_TIERING_PROMOTION_WINDOW_SETTING)).thenReturn(TimeValue.timeValueMinutes(1));
+        assertFalse(nativeMemoryCacheManager.shouldServeFromWarmTier("test-1"));
+        assertEquals(0, nativeMemoryCacheManager.getWarmTierGraphCount());
+        nativeMemoryCacheManager.close();
+    }
+
+    public void testGet_whenIndexExceedsQuota_thenEvictOwnGraphs() {
+        doTestIndexExceedsQuota(true);
+    }
+
+    public void testGet_whenIndexExceedsQuotaWithoutForceEvict_thenEvictOwnGraphs() {
+        doTestIndexExceedsQuota(false);
+    }
+
+    @SneakyThrows
+    private void doTestIndexExceedsQuota(final boolean forceEvict) {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        clusterService = mock(ClusterService.class);
+        KNNSettings.state().setClusterService(clusterService);
+        clusterSettings = mock(ClusterSettings.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterSettings.get(KNNFeatureFlags.KNN_FORCE_EVICT_CACHE_ENABLED_SETTING)).thenReturn(forceEvict);
+        when(clusterSettings.get(KNNSettings.KNN_CACHE_TIERING_ENABLED_SETTING)).thenReturn(true);
+        ClusterState clusterState = mock(ClusterState.class);
+        Metadata metadata = mock(Metadata.class);
+        IndexMetadata indexMetadata = mock(IndexMetadata.class);
+        when(clusterService.state()).thenReturn(clusterState);
+        when(clusterState.getMetadata()).thenReturn(metadata);
+        when(metadata.index("index-a")).thenReturn(indexMetadata);
+        when(indexMetadata.getSettings()).thenReturn(Settings.builder().put(KNNSettings.INDEX_KNN_MEMORY_QUOTA, "10kb").build());
+
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-b", 4, "index-b"), true);
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-a-1", 4, "index-a"), true);
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-a-2", 4, "index-a"), true);
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-b-2", 4, "index-b"), true);
+
+        // index-a is at 8kb, so loading another 4kb graph evicts its least recently used graph, while index-b is untouched
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-a-3", 4, "index-a"), true);
+        assertEquals(2, nativeMemoryCacheManager.getIndexGraphCount("index-a"));
+        assertEquals(8L, (long) nativeMemoryCacheManager.getIndexSizeInKilobytes("index-a"));
+        assertEquals(2, nativeMemoryCacheManager.getIndexGraphCount("index-b"));
+        // Graphs evicted to stay within a quota are not served from the warm tier
+        assertEquals(0, nativeMemoryCacheManager.getWarmTierGraphCount());
+
+        Map<String, Map<String, Object>> indicesStats = nativeMemoryCacheManager.getIndicesCacheStats();
+        assertEquals(10L, indicesStats.get("index-a").get(NativeMemoryCacheManager.GRAPH_MEMORY_QUOTA));
+        assertFalse(indicesStats.get("index-b").containsKey(NativeMemoryCacheManager.GRAPH_MEMORY_QUOTA));
+        nativeMemoryCacheManager.close();
+    }
+
+    public void testGet_whenFairEvictionEnabled_thenEvictIndexOverItsShareFirst() {
+        doTestFairEviction(true);
+    }
+
+    public void testGet_whenFairEvictionEnabledWithoutForceEvict_thenEvictIndexOverItsShareFirst() {
+        doTestFairEviction(false);
+    }
+
+    @SneakyThrows
+    private void doTestFairEviction(final boolean forceEvict) {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        final int maxWeight = (int) nativeMemoryCacheManager.getMaxCacheSizeInKilobytes();
+        clusterService = mock(ClusterService.class);
+        KNNSettings.state().setClusterService(clusterService);
+        clusterSettings = mock(ClusterSettings.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterSettings.get(KNNFeatureFlags.KNN_FORCE_EVICT_CACHE_ENABLED_SETTING)).thenReturn(forceEvict);
+        when(clusterSettings.get(KNNSettings.KNN_CACHE_FAIR_EVICTION_ENABLED_SETTING)).thenReturn(true);
+
+        // index-b holds the least recently used graph, but index-a uses a larger fraction of its share
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-b-1", maxWeight / 8, "index-b"), true);
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-a-1", maxWeight / 4, "index-a"), true);
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-a-2", maxWeight / 4, "index-a"), true);
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-a-3", maxWeight / 4, "index-a"), true);
+
+        nativeMemoryCacheManager.get(new TestIndexEntryContext("test-b-2", maxWeight / 4, "index-b"), true);
+        assertEquals(2, nativeMemoryCacheManager.getIndexGraphCount("index-a"));
+        assertEquals(2, nativeMemoryCacheManager.getIndexGraphCount("index-b"));
+        nativeMemoryCacheManager.close();
+    }
+
     @Test
     @SneakyThrows
     public void testConcurrentVectorIndexOpening() {
@@ -841,6 +1115,34 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
         }
     }
 
+    private static class TestIndexEntryContext extends NativeMemoryEntryContext<NativeMemoryAllocation.IndexAllocation> {
+        private final int size;
+        private final String indexName;
+
+        TestIndexEntryContext(String key, int size) {
+            this(key, size, "test-index");
+        }
+
+        TestIndexEntryContext(String key, int size, String indexName) {
+            super(key);
+            this.size = size;
+            this.indexName = indexName;
+        }
+
+        @Override
+        public Integer calculateSizeInKB() {
+            return size;
+        }
+
+        @Override
+        public void open() {}
+
+        @Override
+        public NativeMemoryAllocation.IndexAllocation load() {
+            return new NativeMemoryAllocation.IndexAllocation(null, 0, size, null, getKey(), indexName);
+        }
+    }
+
     private static class TestNativeMemoryEntryContent extends NativeMemoryEntryContext<TestNativeMemoryAllocation> {
 
         long memoryAddress;
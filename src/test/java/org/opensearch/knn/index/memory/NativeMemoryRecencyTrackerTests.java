@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.knn.index.memory;
+
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NativeMemoryRecencyTrackerTests extends KNNTestCase {
+
+    public void testEldest_whenAccessed_thenMovedToEnd() {
+        final Map<String, NativeMemoryAllocation> cacheMap = new ConcurrentHashMap<>();
+        final NativeMemoryRecencyTracker tracker = new NativeMemoryRecencyTracker(cacheMap);
+        final NativeMemoryAllocation allocation1 = putAllocation(cacheMap, "test-1", 1);
+        final NativeMemoryAllocation allocation2 = putAllocation(cacheMap, "test-2", 2);
+        final NativeMemoryAllocation allocation3 = putAllocation(cacheMap, "test-3", 4);
+        tracker.add("index-a", "test-1", allocation1);
+        tracker.add("index-a", "test-2", allocation2);
+        tracker.add("index-b", "test-3", allocation3);
+
+        assertEquals("test-1", tracker.eldest().getKey());
+        assertEquals(Set.of("index-a", "index-b"), tracker.getIndexNames());
+        assertEquals(3, tracker.getSizeInKB("index-a"));
+        assertEquals(4, tracker.getSizeInKB("index-b"));
+
+        tracker.recordAccess("index-a", "test-1", allocation1);
+        assertEquals("test-2", tracker.eldest("index-a").getKey());
+        assertEquals(List.of("test-2"), getKeys(tracker.getEldestEntries("index-a", 2)));
+        assertEquals(List.of("test-2", "test-1"), getKeys(tracker.getEldestEntries("index-a", 3)));
+        assertEquals(List.of("test-2", "test-1"), getKeys(tracker.getEldestEntries("index-a", 10)));
+        assertTrue(tracker.getEldestEntries("index-a", 0).isEmpty());
+        assertEquals("test-2", tracker.eldest().getKey());
+    }
+
+    public void testRemove_whenIndexEmptied_thenIndexDropped() {
+        final Map<String, NativeMemoryAllocation> cacheMap = new ConcurrentHashMap<>();
+        final NativeMemoryRecencyTracker tracker = new NativeMemoryRecencyTracker(cacheMap);
+        final NativeMemoryAllocation allocation = putAllocation(cacheMap, "test-1", 1);
+        tracker.add("index-a", "test-1", allocation);
+
+        // A stale removal of another allocation of the same key leaves the entry
+        tracker.remove("index-a", "test-1", mock(NativeMemoryAllocation.class));
+        assertEquals("test-1", tracker.eldest().getKey());
+
+        tracker.remove("index-a", "test-1", allocation);
+        assertNull(tracker.eldest());
+        assertTrue(tracker.getIndexNames().isEmpty());
+        assertEquals(0, tracker.getSizeInKB("index-a"));
+
+        // The index can be tracked again once dropped
+        tracker.add("index-a", "test-1", allocation);
+        assertEquals("test-1", tracker.eldest("index-a").getKey());
+    }
+
+    public void testAdd_whenRemovedFromCacheBeforeTracked_thenNotTracked() {
+        final Map<String, NativeMemoryAllocation> cacheMap = new ConcurrentHashMap<>();
+        final NativeMemoryRecencyTracker tracker = new NativeMemoryRecencyTracker(cacheMap);
+        final NativeMemoryAllocation allocation = putAllocation(cacheMap, "test-1", 1);
+
+        // The entry was dropped from the cache, and its removal processed, before the loading thread registered it
+        cacheMap.remove("test-1");
+        tracker.remove("index-a", "test-1", allocation);
+        tracker.add("index-a", "test-1", allocation);
+        assertNull(tracker.eldest());
+
+        // A hit racing with the removal does not bring it back either
+        tracker.recordAccess("index-a", "test-1", allocation);
+        assertNull(tracker.eldest());
+    }
+
+    private static List<String> getKeys(final List<NativeMemoryRecencyTracker.Entry> entries) {
+        return entries.stream().map(NativeMemoryRecencyTracker.Entry::getKey).toList();
+    }
+
+    private static NativeMemoryAllocation putAllocation(
+        final Map<String, NativeMemoryAllocation> cacheMap,
+        final String key,
+        final int sizeInKB
+    ) {
+        final NativeMemoryAllocation allocation = mock(NativeMemoryAllocation.class);
+        when(allocation.getSizeInKB()).thenReturn(sizeInKB);
+        cacheMap.put(key, allocation);
+        return allocation;
+    }
+}
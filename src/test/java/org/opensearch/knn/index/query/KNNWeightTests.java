@@ -13,11 +13,13 @@ import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FieldInfos;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiReader;
 import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.FilteredDocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.Weight;
@@ -298,6 +300,17 @@ public class KNNWeightTests extends KNNWeightTestCase {
         assertEmptyScorer(knnScorer);
     }
 
+    @SneakyThrows
+    public void testGetWarmTierWeight_whenDifferentK_thenWeightPerK() {
+        final KNNQuery query = new KNNQuery(FIELD_NAME, QUERY_VECTOR, K, INDEX_NAME, null);
+        KNNWeight.initialize(null);
+        final DefaultKNNWeight knnWeight = new DefaultKNNWeight(query, 0.0f, null, new IndexSearcher(new MultiReader()));
+
+        // Segments searched with the same k share a weight, while another k, e.g. after a filter or rescoring, gets its own
+        assertSame(knnWeight.getWarmTierWeight(5), knnWeight.getWarmTierWeight(5));
+        assertNotSame(knnWeight.getWarmTierWeight(5), knnWeight.getWarmTierWeight(10));
+    }
+
     @SneakyThrows
     public void testEmptyQueryResults() {
         final KNNQueryResult[] knnQueryResults = new KNNQueryResult[] {};
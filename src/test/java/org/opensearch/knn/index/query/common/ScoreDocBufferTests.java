@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.common;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+public class ScoreDocBufferTests extends KNNTestCase {
+
+    public void testToScoreDocs_thenKeepInsertionOrder() {
+        final ScoreDocBuffer buffer = new ScoreDocBuffer(1);
+        buffer.add(5, 0.5f);
+        buffer.add(1, 0.9f);
+        buffer.add(3, 0.1f);
+
+        assertEquals(3, buffer.size());
+        final ScoreDoc[] scoreDocs = buffer.toScoreDocs();
+        assertEquals(3, scoreDocs.length);
+        assertScoreDoc(5, 0.5f, scoreDocs[0]);
+        assertScoreDoc(1, 0.9f, scoreDocs[1]);
+        assertScoreDoc(3, 0.1f, scoreDocs[2]);
+    }
+
+    public void testTopScoreDocs_whenLimitIsSmallerThanSize_thenReturnBestHitsSorted() {
+        final int numHits = 1000;
+        final int limit = 37;
+        final ScoreDocBuffer buffer = new ScoreDocBuffer();
+        final ScoreDoc[] expected = new ScoreDoc[numHits];
+        for (int docId = 0; docId < numHits; ++docId) {
+            // Few distinct scores, so ties have to be broken by doc id.
+            final float score = random().nextInt(50) / 10.0f;
+            buffer.add(docId, score);
+            expected[docId] = new ScoreDoc(docId, score);
+        }
+        Arrays.sort(
+            expected,
+            Comparator.comparing((ScoreDoc scoreDoc) -> scoreDoc.score).reversed().thenComparing(scoreDoc -> scoreDoc.doc)
+        );
+
+        final ScoreDoc[] topScoreDocs = buffer.topScoreDocs(limit);
+        assertEquals(limit, topScoreDocs.length);
+        for (int i = 0; i < limit; ++i) {
+            assertScoreDoc(expected[i].doc, expected[i].score, topScoreDocs[i]);
+        }
+    }
+
+    public void testTopScoreDocs_whenLimitIsLargerThanSize_thenReturnAllHitsSorted() {
+        final ScoreDocBuffer buffer = new ScoreDocBuffer();
+        buffer.add(2, 0.2f);
+        buffer.add(4, 0.8f);
+        buffer.add(1, 0.8f);
+
+        final ScoreDoc[] topScoreDocs = buffer.topScoreDocs(10);
+        assertEquals(3, topScoreDocs.length);
+        assertScoreDoc(1, 0.8f, topScoreDocs[0]);
+        assertScoreDoc(4, 0.8f, topScoreDocs[1]);
+        assertScoreDoc(2, 0.2f, topScoreDocs[2]);
+    }
+
+    public void testTopScoreDocs_whenEmpty_thenReturnNoHits() {
+        assertEquals(0, new ScoreDocBuffer().topScoreDocs(10).length);
+        final ScoreDocBuffer buffer = new ScoreDocBuffer();
+        buffer.add(0, 1.0f);
+        assertEquals(0, buffer.topScoreDocs(0).length);
+    }
+
+    private static void assertScoreDoc(final int expectedDocId, final float expectedScore, final ScoreDoc actual) {
+        assertEquals(expectedDocId, actual.doc);
+        assertEquals(expectedScore, actual.score, 0.0f);
+    }
+}
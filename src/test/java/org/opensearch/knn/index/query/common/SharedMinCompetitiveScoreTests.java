@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.common;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SharedMinCompetitiveScoreTests extends KNNTestCase {
+
+    public void testUpdate_whenScoreIsLower_thenKeepHighestScore() {
+        final SharedMinCompetitiveScore minCompetitiveScore = new SharedMinCompetitiveScore(3);
+        assertEquals(Float.NEGATIVE_INFINITY, minCompetitiveScore.get(), 0.0f);
+
+        minCompetitiveScore.update(0.5f);
+        assertEquals(0.5f, minCompetitiveScore.get(), 0.0f);
+        minCompetitiveScore.update(0.2f);
+        assertEquals(0.5f, minCompetitiveScore.get(), 0.0f);
+        minCompetitiveScore.update(0.7f);
+        assertEquals(0.7f, minCompetitiveScore.get(), 0.0f);
+    }
+
+    public void testUpdate_whenSegmentHasFewerThanKHits_thenIgnoreIt() {
+        final SharedMinCompetitiveScore minCompetitiveScore = new SharedMinCompetitiveScore(3);
+        minCompetitiveScore.update(topDocs(0.9f, 0.8f));
+        assertEquals(Float.NEGATIVE_INFINITY, minCompetitiveScore.get(), 0.0f);
+    }
+
+    public void testUpdate_whenSegmentHasKHitsOrMore_thenUseKthBestScore() {
+        final SharedMinCompetitiveScore minCompetitiveScore = new SharedMinCompetitiveScore(3);
+        minCompetitiveScore.update(topDocs(0.3f, 0.9f, 0.6f));
+        assertEquals(0.3f, minCompetitiveScore.get(), 0.0f);
+        minCompetitiveScore.update(topDocs(0.1f, 0.95f, 0.4f, 0.8f, 0.2f));
+        assertEquals(0.4f, minCompetitiveScore.get(), 0.0f);
+    }
+
+    @SneakyThrows
+    public void testUpdate_whenUpdatedConcurrently_thenKeepHighestScore() {
+        final SharedMinCompetitiveScore minCompetitiveScore = new SharedMinCompetitiveScore(1);
+        final int numThreads = 4;
+        final int numUpdates = 1000;
+        final ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(numThreads);
+            for (int thread = 0; thread < numThreads; ++thread) {
+                final int offset = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < numUpdates; ++i) {
+                        minCompetitiveScore.update((float) (i * numThreads + offset));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertEquals((float) (numUpdates * numThreads - 1), minCompetitiveScore.get(), 0.0f);
+    }
+
+    private static TopDocs topDocs(final float... scores) {
+        final ScoreDoc[] scoreDocs = new ScoreDoc[scores.length];
+        for (int i = 0; i < scores.length; ++i) {
+            scoreDocs[i] = new ScoreDoc(i, scores[i]);
+        }
+        return new TopDocs(new TotalHits(scores.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+}
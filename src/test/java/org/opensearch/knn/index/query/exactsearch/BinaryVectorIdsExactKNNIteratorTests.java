@@ -12,11 +12,16 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.FixedBitSet;
 import org.mockito.stubbing.OngoingStubbing;
 import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.vectorvalues.KNNBinaryVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.index.vectorvalues.TestVectorValues;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -100,4 +105,57 @@ public class BinaryVectorIdsExactKNNIteratorTests extends TestCase {
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
         verify(values, never()).advance(anyInt());
     }
+
+    @SneakyThrows
+    public void testNextBlock_whenMoreDocsThanBlock_thenScoresEqualNextDoc() {
+        final SpaceType spaceType = SpaceType.HAMMING;
+        final Random random = new Random(0);
+        final byte[] queryVector = new byte[4];
+        random.nextBytes(queryVector);
+        // More than two blocks of docs.
+        final List<byte[]> dataVectors = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            final byte[] vector = new byte[queryVector.length];
+            random.nextBytes(vector);
+            dataVectors.add(vector);
+        }
+
+        final BinaryVectorIdsExactKNNIterator docByDoc = new BinaryVectorIdsExactKNNIterator(
+            queryVector,
+            createVectorValues(dataVectors),
+            spaceType
+        );
+        final BinaryVectorIdsExactKNNIterator blocks = new BinaryVectorIdsExactKNNIterator(
+            queryVector,
+            createVectorValues(dataVectors),
+            spaceType
+        );
+        assertNextBlockMatchesNextDoc(docByDoc, blocks, dataVectors.size());
+    }
+
+    private static void assertNextBlockMatchesNextDoc(final ExactKNNIterator docByDoc, final ExactKNNIterator blocks, final int numDocs)
+        throws IOException {
+        final int[] docIds = new int[128];
+        final float[] scores = new float[128];
+        int numScoredDocs = 0;
+        int size;
+        do {
+            size = blocks.nextBlock(docIds, scores);
+            for (int i = 0; i < size; i++) {
+                assertEquals(docByDoc.nextDoc(), docIds[i]);
+                assertEquals(docByDoc.score(), scores[i], 0.0f);
+            }
+            numScoredDocs += size;
+        } while (size == docIds.length);
+        assertEquals(numDocs, numScoredDocs);
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, docByDoc.nextDoc());
+    }
+
+    // Vector values returning a single reused buffer, like the ones read from a segment.
+    private static KNNBinaryVectorValues createVectorValues(final List<byte[]> vectors) {
+        return (KNNBinaryVectorValues) KNNVectorValuesFactory.getVectorValues(
+            VectorDataType.BINARY,
+            new TestVectorValues.PreDefinedBinaryVectorValues(vectors)
+        );
+    }
 }
@@ -12,11 +12,16 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.FixedBitSet;
 import org.mockito.stubbing.OngoingStubbing;
 import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.vectorvalues.KNNByteVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.index.vectorvalues.TestVectorValues;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -102,4 +107,59 @@ public class ByteVectorIdsExactKNNIteratorTests extends TestCase {
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
         verify(values, never()).advance(anyInt());
     }
+
+    @SneakyThrows
+    public void testNextBlock_whenMoreDocsThanBlock_thenScoresEqualNextDoc() {
+        final SpaceType spaceType = SpaceType.L2;
+        final Random random = new Random(0);
+        final float[] queryVector = new float[8];
+        for (int i = 0; i < queryVector.length; i++) {
+            queryVector[i] = (byte) random.nextInt();
+        }
+        // More than two blocks of docs.
+        final List<byte[]> dataVectors = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            final byte[] vector = new byte[queryVector.length];
+            random.nextBytes(vector);
+            dataVectors.add(vector);
+        }
+
+        final ByteVectorIdsExactKNNIterator docByDoc = new ByteVectorIdsExactKNNIterator(
+            queryVector,
+            createVectorValues(dataVectors),
+            spaceType
+        );
+        final ByteVectorIdsExactKNNIterator blocks = new ByteVectorIdsExactKNNIterator(
+            queryVector,
+            createVectorValues(dataVectors),
+            spaceType
+        );
+        assertNextBlockMatchesNextDoc(docByDoc, blocks, dataVectors.size());
+    }
+
+    private static void assertNextBlockMatchesNextDoc(final ExactKNNIterator docByDoc, final ExactKNNIterator blocks, final int numDocs)
+        throws IOException {
+        final int[] docIds = new int[128];
+        final float[] scores = new float[128];
+        int numScoredDocs = 0;
+        int size;
+        do {
+            size = blocks.nextBlock(docIds, scores);
+            for (int i = 0; i < size; i++) {
+                assertEquals(docByDoc.nextDoc(), docIds[i]);
+                assertEquals(docByDoc.score(), scores[i], 0.0f);
+            }
+            numScoredDocs += size;
+        } while (size == docIds.length);
+        assertEquals(numDocs, numScoredDocs);
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, docByDoc.nextDoc());
+    }
+
+    // Vector values returning a single reused buffer, like the ones read from a segment.
+    private static KNNByteVectorValues createVectorValues(final List<byte[]> vectors) {
+        return (KNNByteVectorValues) KNNVectorValuesFactory.getVectorValues(
+            VectorDataType.BYTE,
+            new TestVectorValues.PreDefinedByteVectorValues(vectors)
+        );
+    }
 }
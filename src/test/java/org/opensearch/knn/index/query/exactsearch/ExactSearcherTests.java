@@ -14,18 +14,23 @@ import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.StringHelper;
 import org.apache.lucene.util.Version;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.codec.KNNCodecVersion;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.KNNWeight;
+import org.opensearch.knn.index.query.common.SharedMinCompetitiveScore;
 import org.opensearch.knn.index.vectorvalues.KNNFloatVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
@@ -40,7 +45,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
 import static org.mockito.ArgumentMatchers.any;
@@ -152,6 +160,124 @@ public class ExactSearcherTests extends KNNTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testExactSearch_whenSegmentIsPartitioned_thenMergeTopCandidatesOfPartitions() {
+        final float[] queryVector = new float[] { 0.1f, 2.0f, 3.0f };
+        final SpaceType spaceType = SpaceType.L2;
+        final int numDocs = 40;
+        final int k = 5;
+        final List<float[]> vectors = Arrays.asList(TestVectorValues.getRandomVectors(numDocs, queryVector.length));
+
+        // Only even docs are matched by the filter.
+        final FixedBitSet matchedDocs = new FixedBitSet(numDocs);
+        for (int docId = 0; docId < numDocs; docId += 2) {
+            matchedDocs.set(docId);
+        }
+        final List<Integer> expectedDocIds = IntStream.range(0, numDocs)
+            .filter(matchedDocs::get)
+            .boxed()
+            .sorted(
+                Comparator.comparing(
+                    (Integer docId) -> spaceType.getKnnVectorSimilarityFunction().compare(queryVector, vectors.get(docId))
+                ).reversed()
+            )
+            .limit(k)
+            .collect(Collectors.toList());
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try (
+            MockedStatic<KNNVectorValuesFactory> vectorValuesFactoryMockedStatic = Mockito.mockStatic(KNNVectorValuesFactory.class);
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = Mockito.mockStatic(KNNSettings.class)
+        ) {
+            knnSettingsMockedStatic.when(KNNSettings::getExactSearchPartitionMinDocs).thenReturn(5);
+            knnSettingsMockedStatic.when(KNNSettings::getAllocatedProcessors).thenReturn(4);
+            final LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+            final SegmentReader reader = mock(SegmentReader.class);
+            final FieldInfos fieldInfos = mock(FieldInfos.class);
+            final FieldInfo fieldInfo = mock(FieldInfo.class);
+            when(fieldInfo.getAttribute(SPACE_TYPE)).thenReturn(spaceType.getValue());
+            when(reader.getFieldInfos()).thenReturn(fieldInfos);
+            when(reader.maxDoc()).thenReturn(numDocs);
+            when(fieldInfos.fieldInfo(FIELD_NAME)).thenReturn(fieldInfo);
+            when(leafReaderContext.reader()).thenReturn(reader);
+            // Every partition iterates its own vector values.
+            vectorValuesFactoryMockedStatic.when(() -> KNNVectorValuesFactory.getVectorValues(fieldInfo, reader))
+                .thenAnswer(invocation -> TestVectorValues.createKNNFloatVectorValues(vectors));
+
+            final ExactSearcher.ExactSearcherContext context = ExactSearcher.ExactSearcherContext.builder()
+                .field(FIELD_NAME)
+                .floatQueryVector(queryVector)
+                .k(k)
+                .matchedDocsIterator(new BitSetIterator(matchedDocs, matchedDocs.cardinality()))
+                .numberOfMatchedDocs(matchedDocs.cardinality())
+                .taskExecutor(new TaskExecutor(executorService))
+                .build();
+            final TopDocs docs = new ExactSearcher(null).searchLeaf(leafReaderContext, context);
+
+            assertEquals(k, docs.scoreDocs.length);
+            assertEquals(k, docs.totalHits.value());
+            for (int i = 0; i < k; i++) {
+                final int expectedDocId = expectedDocIds.get(i);
+                assertEquals(expectedDocId, docs.scoreDocs[i].doc);
+                assertEquals(
+                    spaceType.getKnnVectorSimilarityFunction().compare(queryVector, vectors.get(expectedDocId)),
+                    docs.scoreDocs[i].score,
+                    1e-6f
+                );
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    public void testExactSearch_whenMinCompetitiveScoreIsShared_thenSkipDocsBelowIt() {
+        final float[] queryVector = new float[] { 0.1f, 2.0f, 3.0f };
+        final SpaceType spaceType = SpaceType.L2;
+        final int numDocs = 20;
+        final int k = 5;
+        final List<float[]> vectors = Arrays.asList(TestVectorValues.getRandomVectors(numDocs, queryVector.length));
+        final List<Integer> expectedDocIds = IntStream.range(0, numDocs)
+            .boxed()
+            .sorted(
+                Comparator.comparing(
+                    (Integer docId) -> spaceType.getKnnVectorSimilarityFunction().compare(queryVector, vectors.get(docId))
+                ).reversed()
+            )
+            .limit(k)
+            .collect(Collectors.toList());
+
+        // Another segment already found k docs scoring at least as high as the third best doc of this segment.
+        final SharedMinCompetitiveScore minCompetitiveScore = new SharedMinCompetitiveScore(k);
+        minCompetitiveScore.update(spaceType.getKnnVectorSimilarityFunction().compare(queryVector, vectors.get(expectedDocIds.get(2))));
+
+        try (MockedStatic<KNNVectorValuesFactory> vectorValuesFactoryMockedStatic = Mockito.mockStatic(KNNVectorValuesFactory.class)) {
+            final LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+            final SegmentReader reader = mock(SegmentReader.class);
+            final FieldInfos fieldInfos = mock(FieldInfos.class);
+            final FieldInfo fieldInfo = mock(FieldInfo.class);
+            when(fieldInfo.getAttribute(SPACE_TYPE)).thenReturn(spaceType.getValue());
+            when(reader.getFieldInfos()).thenReturn(fieldInfos);
+            when(fieldInfos.fieldInfo(FIELD_NAME)).thenReturn(fieldInfo);
+            when(leafReaderContext.reader()).thenReturn(reader);
+            vectorValuesFactoryMockedStatic.when(() -> KNNVectorValuesFactory.getVectorValues(fieldInfo, reader))
+                .thenAnswer(invocation -> TestVectorValues.createKNNFloatVectorValues(vectors));
+
+            final ExactSearcher.ExactSearcherContext context = ExactSearcher.ExactSearcherContext.builder()
+                .field(FIELD_NAME)
+                .floatQueryVector(queryVector)
+                .k(k)
+                .minCompetitiveScore(minCompetitiveScore)
+                .build();
+            final TopDocs docs = new ExactSearcher(null).searchLeaf(leafReaderContext, context);
+
+            assertEquals(3, docs.scoreDocs.length);
+            for (int i = 0; i < docs.scoreDocs.length; i++) {
+                assertEquals((int) expectedDocIds.get(i), docs.scoreDocs[i].doc);
+            }
+        }
+    }
+
     @SneakyThrows
     public void testRadialSearchExactSearch_whenSegmentHasNoVectorField_thenNoDocsReturned() {
         final float[] queryVector = new float[] { 0.1f, 2.0f, 3.0f };
@@ -0,0 +1,220 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.exactsearch;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+import org.mockito.MockedStatic;
+import org.mockito.stubbing.OngoingStubbing;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
+import org.opensearch.knn.index.query.SegmentLevelQuantizationUtil;
+import org.opensearch.knn.index.vectorvalues.KNNFloatVectorValues;
+import org.opensearch.knn.plugin.script.KNNScoringUtil;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class QuantizedVectorIdsExactKNNIteratorTests extends KNNTestCase {
+    // Docs 0, 2, 5 and 7 have no vector.
+    private static final int[] DOC_IDS = { 1, 3, 4, 6, 8 };
+    private static final byte[][] CODES = { { 0x01 }, { 0x03 }, { 0x07 }, { 0x0F }, { 0x1F } };
+
+    @SneakyThrows
+    public void testNextDoc_whenCalledWithFilters_thenScoreStoredCodes() {
+        final byte[] quantizedQueryVector = { 0x01 };
+        final int[] filterIds = { 3, 6, 8 };
+        final int[] expectedOrdinals = { 1, 3, 4 };
+
+        final KNNFloatVectorValues values = mock(KNNFloatVectorValues.class);
+        final FixedBitSet filterBitSet = new FixedBitSet(9);
+        for (int id : filterIds) {
+            when(values.advance(id)).thenReturn(id);
+            filterBitSet.set(id);
+        }
+
+        final QuantizedVectorIdsExactKNNIterator iterator = new QuantizedVectorIdsExactKNNIterator(
+            new BitSetIterator(filterBitSet, filterBitSet.length()),
+            new float[] { 1.0f, 2.0f },
+            values,
+            SpaceType.L2,
+            quantizedQueryVector,
+            null,
+            mockQuantizedVectorValues()
+        );
+        for (int i = 0; i < filterIds.length; i++) {
+            assertEquals(filterIds[i], iterator.nextDoc());
+            final float expectedScore = SpaceType.HAMMING.getKnnVectorSimilarityFunction()
+                .compare(quantizedQueryVector, CODES[expectedOrdinals[i]]);
+            assertEquals(expectedScore, iterator.score(), 0.0f);
+        }
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+        // Full precision vectors must not be read.
+        verify(values, never()).getVector();
+    }
+
+    @SneakyThrows
+    public void testNextDoc_whenAdcWithoutFilters_thenScoreStoredCodes() {
+        final float[] queryVector = { 0.5f, -0.5f, 1.0f, 0.0f, 0.25f, 0.0f, 0.0f, 1.0f };
+
+        final KNNFloatVectorValues values = mock(KNNFloatVectorValues.class);
+        OngoingStubbing<Integer> stubbing = when(values.nextDoc());
+        for (int docId : DOC_IDS) {
+            stubbing = stubbing.thenReturn(docId);
+        }
+        stubbing.thenReturn(DocIdSetIterator.NO_MORE_DOCS);
+
+        final QuantizedVectorIdsExactKNNIterator iterator = new QuantizedVectorIdsExactKNNIterator(
+            null,
+            queryVector,
+            values,
+            SpaceType.L2,
+            null,
+            null,
+            mockQuantizedVectorValues()
+        );
+        for (int i = 0; i < DOC_IDS.length; i++) {
+            assertEquals(DOC_IDS[i], iterator.nextDoc());
+            final float expectedScore = SpaceType.L2.scoreTranslation(KNNScoringUtil.l2SquaredADC(queryVector, CODES[i]));
+            assertEquals(expectedScore, iterator.score(), 0.0f);
+        }
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+        verify(values, never()).getVector();
+        verify(values, never()).advance(anyInt());
+    }
+
+    @SneakyThrows
+    public void testNextDoc_whenDocHasNoCode_thenRequantizeFullPrecisionVector() {
+        final byte[] quantizedQueryVector = { 0x01 };
+        final float[] fullPrecisionVector = { 3.0f, 4.0f };
+        final byte[] requantizedVector = { 0x3F };
+        // Doc 2 has a vector but no code, e.g. it is not covered by the native engine file.
+        final int[] filterIds = { 2, 3 };
+
+        final KNNFloatVectorValues values = mock(KNNFloatVectorValues.class);
+        final FixedBitSet filterBitSet = new FixedBitSet(9);
+        for (int id : filterIds) {
+            when(values.advance(id)).thenReturn(id);
+            filterBitSet.set(id);
+        }
+        when(values.getVector()).thenReturn(fullPrecisionVector);
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo = mock(SegmentLevelQuantizationInfo.class);
+
+        try (MockedStatic<SegmentLevelQuantizationUtil> quantizationUtil = mockStatic(SegmentLevelQuantizationUtil.class)) {
+            quantizationUtil.when(() -> SegmentLevelQuantizationUtil.quantizeVector(fullPrecisionVector, segmentLevelQuantizationInfo))
+                .thenReturn(requantizedVector);
+            final QuantizedVectorIdsExactKNNIterator iterator = new QuantizedVectorIdsExactKNNIterator(
+                new BitSetIterator(filterBitSet, filterBitSet.length()),
+                new float[] { 1.0f, 2.0f },
+                values,
+                SpaceType.L2,
+                quantizedQueryVector,
+                segmentLevelQuantizationInfo,
+                mockQuantizedVectorValues()
+            );
+
+            assertEquals(2, iterator.nextDoc());
+            assertEquals(
+                SpaceType.HAMMING.getKnnVectorSimilarityFunction().compare(quantizedQueryVector, requantizedVector),
+                iterator.score(),
+                0.0f
+            );
+            // The cursor is not lost, the next doc is scored against its stored code.
+            assertEquals(3, iterator.nextDoc());
+            final float expectedScore = SpaceType.HAMMING.getKnnVectorSimilarityFunction().compare(quantizedQueryVector, CODES[1]);
+            assertEquals(expectedScore, iterator.score(), 0.0f);
+            assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+            verify(values, times(1)).getVector();
+        }
+    }
+
+    @SneakyThrows
+    public void testNextBlock_whenDocHasNoCode_thenScoresEqualNextDoc() {
+        final byte[] quantizedQueryVector = { 0x01 };
+        final float[] fullPrecisionVector = { 3.0f, 4.0f };
+        // Doc 2 has a vector but no code.
+        final int[] filterIds = { 1, 2, 3, 4, 8 };
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo = mock(SegmentLevelQuantizationInfo.class);
+
+        try (MockedStatic<SegmentLevelQuantizationUtil> quantizationUtil = mockStatic(SegmentLevelQuantizationUtil.class)) {
+            quantizationUtil.when(() -> SegmentLevelQuantizationUtil.quantizeVector(fullPrecisionVector, segmentLevelQuantizationInfo))
+                .thenAnswer(invocation -> new byte[] { 0x3F });
+            final QuantizedVectorIdsExactKNNIterator docByDoc = createFilteredIterator(
+                filterIds,
+                fullPrecisionVector,
+                quantizedQueryVector,
+                segmentLevelQuantizationInfo
+            );
+            final QuantizedVectorIdsExactKNNIterator blocks = createFilteredIterator(
+                filterIds,
+                fullPrecisionVector,
+                quantizedQueryVector,
+                segmentLevelQuantizationInfo
+            );
+
+            // Blocks are smaller than the docs, so the cursor over the ordinals is carried from one block to the next.
+            final int[] docIds = new int[2];
+            final float[] scores = new float[2];
+            int numScoredDocs = 0;
+            int size;
+            do {
+                size = blocks.nextBlock(docIds, scores);
+                for (int i = 0; i < size; i++) {
+                    assertEquals(docByDoc.nextDoc(), docIds[i]);
+                    assertEquals(docByDoc.score(), scores[i], 0.0f);
+                }
+                numScoredDocs += size;
+            } while (size == docIds.length);
+            assertEquals(filterIds.length, numScoredDocs);
+            assertEquals(DocIdSetIterator.NO_MORE_DOCS, docByDoc.nextDoc());
+        }
+    }
+
+    @SneakyThrows
+    private static QuantizedVectorIdsExactKNNIterator createFilteredIterator(
+        final int[] filterIds,
+        final float[] fullPrecisionVector,
+        final byte[] quantizedQueryVector,
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo
+    ) {
+        final KNNFloatVectorValues values = mock(KNNFloatVectorValues.class);
+        final FixedBitSet filterBitSet = new FixedBitSet(9);
+        for (int id : filterIds) {
+            when(values.advance(id)).thenReturn(id);
+            filterBitSet.set(id);
+        }
+        when(values.getVector()).thenReturn(fullPrecisionVector);
+        return new QuantizedVectorIdsExactKNNIterator(
+            new BitSetIterator(filterBitSet, filterBitSet.length()),
+            new float[] { 1.0f, 2.0f },
+            values,
+            SpaceType.L2,
+            quantizedQueryVector,
+            segmentLevelQuantizationInfo,
+            mockQuantizedVectorValues()
+        );
+    }
+
+    @SneakyThrows
+    private static ByteVectorValues mockQuantizedVectorValues() {
+        final ByteVectorValues quantizedVectorValues = mock(ByteVectorValues.class);
+        when(quantizedVectorValues.size()).thenReturn(DOC_IDS.length);
+        for (int ord = 0; ord < DOC_IDS.length; ord++) {
+            when(quantizedVectorValues.ordToDoc(ord)).thenReturn(DOC_IDS[ord]);
+            when(quantizedVectorValues.vectorValue(ord)).thenReturn(CODES[ord]);
+        }
+        return quantizedVectorValues;
+    }
+}
@@ -12,8 +12,12 @@ import org.apache.lucene.util.FixedBitSet;
 import org.mockito.stubbing.OngoingStubbing;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.vectorvalues.KNNFloatVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.index.vectorvalues.TestVectorValues;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -101,4 +105,42 @@ public class VectorIdsExactKNNIteratorTests extends KNNTestCase {
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
         verify(values, never()).advance(anyInt());
     }
+
+    @SneakyThrows
+    public void testNextBlock_whenMoreDocsThanBlock_thenScoresEqualNextDoc() {
+        final SpaceType spaceType = SpaceType.L2;
+        final float[] queryVector = TestVectorValues.getRandomVector(8);
+        // More than two blocks of docs.
+        final List<float[]> dataVectors = Arrays.asList(TestVectorValues.getRandomVectors(300, 8));
+
+        final VectorIdsExactKNNIterator docByDoc = new VectorIdsExactKNNIterator(queryVector, createVectorValues(dataVectors), spaceType);
+        final VectorIdsExactKNNIterator blocks = new VectorIdsExactKNNIterator(queryVector, createVectorValues(dataVectors), spaceType);
+        assertNextBlockMatchesNextDoc(docByDoc, blocks, dataVectors.size());
+    }
+
+    private static void assertNextBlockMatchesNextDoc(final ExactKNNIterator docByDoc, final ExactKNNIterator blocks, final int numDocs)
+        throws IOException {
+        final int[] docIds = new int[128];
+        final float[] scores = new float[128];
+        int numScoredDocs = 0;
+        int size;
+        do {
+            size = blocks.nextBlock(docIds, scores);
+            for (int i = 0; i < size; i++) {
+                assertEquals(docByDoc.nextDoc(), docIds[i]);
+                assertEquals(docByDoc.score(), scores[i], 0.0f);
+            }
+            numScoredDocs += size;
+        } while (size == docIds.length);
+        assertEquals(numDocs, numScoredDocs);
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, docByDoc.nextDoc());
+    }
+
+    // Vector values returning a single reused buffer, like the ones read from a segment.
+    private static KNNFloatVectorValues createVectorValues(final List<float[]> vectors) {
+        return (KNNFloatVectorValues) KNNVectorValuesFactory.getVectorValues(
+            VectorDataType.FLOAT,
+            new TestVectorValues.PreDefinedFloatVectorValues(vectors)
+        );
+    }
 }
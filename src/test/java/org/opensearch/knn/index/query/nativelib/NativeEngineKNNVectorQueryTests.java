@@ -501,6 +501,343 @@ public class NativeEngineKNNVectorQueryTests extends OpenSearchTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testRescore_whenAdaptiveOversamplingEnabled_thenExpandFirstPassOnlyWhenBoundaryIsCompetitive() {
+        // Given
+        directory = new ByteBuffersDirectory();
+        IndexWriterConfig config = new IndexWriterConfig();
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            // Add documents to simulate multiple segments
+            Document doc1 = new Document();
+            doc1.add(new FloatPoint("vector", 1.0f, 2.0f, 3.0f));
+            writer.addDocument(doc1);
+            Document doc2 = new Document();
+            doc2.add(new FloatPoint("vector", 4.0f, 5.0f, 6.0f));
+            writer.addDocument(doc2);
+            // Force the creation of a second segment
+            writer.flush();
+            Document doc3 = new Document();
+            doc3.add(new FloatPoint("vector", 7.0f, 8.0f, 9.0f));
+            writer.addDocument(doc3);
+            Document doc4 = new Document();
+            doc4.add(new FloatPoint("vector", 10.0f, 11.0f, 12.0f));
+            writer.addDocument(doc4);
+            writer.commit();
+        }
+        Bits liveDocs1 = null;
+
+        Bits liveDocs2 = null;
+
+        DirectoryReader originalReader = DirectoryReader.open(directory);
+
+        // Wrap the DirectoryReader to inject custom liveDocs logic
+        directoryReader = CustomFilterDirectoryReader.wrap(originalReader, liveDocs1, liveDocs2);
+
+        // Set the reader and searcher
+        reader = directoryReader;
+        indexReaderContext = reader.getContext();
+        // Extract LeafReaderContext
+        List<LeafReaderContext> leaves = reader.leaves();
+        assertEquals(2, leaves.size()); // Ensure we have two segments
+        leaf1 = leaves.get(0);
+        leaf2 = leaves.get(1);
+        // Simulate liveDocs for leaf1 (e.g., marking some documents as deleted)
+        leafReader1 = leaf1.reader();
+        leafReader2 = leaf2.reader();
+
+        int k = 2;
+        int firstPassK = 100;
+        int initialFirstPassK = 3;
+        // The drop from the k-th best score to the last one is as large as the spread of the top k, so leaf 1 is searched again.
+        PerLeafResult initialLeaf1Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 21f, 1, 19f, 2, 17f))),
+            PerLeafResult.SearchMode.APPROXIMATE_SEARCH
+        );
+        PerLeafResult expandedLeaf1Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 21f, 1, 19f, 2, 17f, 3, 15f))),
+            PerLeafResult.SearchMode.APPROXIMATE_SEARCH
+        );
+        // Leaf 2 is served with exact search, so it is searched again with the configured first pass k right away.
+        PerLeafResult initialLeaf2Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 20f, 1, 18f, 2, 16f))),
+            PerLeafResult.SearchMode.EXACT_SEARCH
+        );
+        PerLeafResult expandedLeaf2Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 20f, 1, 18f, 2, 16f))),
+            PerLeafResult.SearchMode.EXACT_SEARCH
+        );
+        TopDocs topDocs1 = ResultUtil.resultMapToTopDocs(Map.of(0, 18f, 1, 20f), 0);
+        TopDocs topDocs2 = ResultUtil.resultMapToTopDocs(Map.of(0, 21f), 4);
+        when(knnQuery.getRescoreContext()).thenReturn(RescoreContext.builder().oversampleFactor(1.5f).build());
+        when(knnQuery.getK()).thenReturn(k);
+        when(knnWeight.getQuery()).thenReturn(knnQuery);
+        when(knnWeight.searchLeaf(leaf1, initialFirstPassK)).thenReturn(initialLeaf1Results);
+        when(knnWeight.searchLeaf(leaf1, 2 * initialFirstPassK, initialLeaf1Results)).thenReturn(expandedLeaf1Results);
+        when(knnWeight.searchLeaf(leaf2, initialFirstPassK)).thenReturn(initialLeaf2Results);
+        when(knnWeight.searchLeaf(leaf2, firstPassK, initialLeaf2Results)).thenReturn(expandedLeaf2Results);
+
+        when(knnWeight.exactSearch(eq(leaf1), any())).thenReturn(topDocs1);
+        when(knnWeight.exactSearch(eq(leaf2), any())).thenReturn(topDocs2);
+        when(searcher.getIndexReader()).thenReturn(reader);
+
+        try (
+            MockedStatic<KNNSettings> mockedKnnSettings = mockStatic(KNNSettings.class);
+            MockedStatic<ResultUtil> mockedResultUtil = mockStatic(ResultUtil.class)
+        ) {
+
+            // When shard-level re-scoring is enabled
+            mockedKnnSettings.when(() -> KNNSettings.isShardLevelRescoringDisabledForDiskBasedVector(any())).thenReturn(false);
+            mockedKnnSettings.when(() -> KNNSettings.isAdaptiveOversamplingEnabledForDiskBasedVector(any())).thenReturn(true);
+
+            mockedResultUtil.when(() -> ResultUtil.reduceToTopK(any(), anyInt())).thenAnswer(InvocationOnMock::callRealMethod);
+            mockedResultUtil.when(() -> ResultUtil.resultMapToDocIds(any(), anyInt())).thenAnswer(InvocationOnMock::callRealMethod);
+
+            // Run
+            Weight actual = objectUnderTest.createWeight(searcher, scoreMode, 1);
+
+            // Verify
+            TopDocs[] topDocs = { topDocs1, topDocs2 };
+            TopDocs expectedTopDocs = TopDocs.merge(k, topDocs);
+            Query expected = QueryUtils.getInstance().createDocAndScoreQuery(reader, expectedTopDocs);
+            assertEquals(expected, actual.getQuery());
+            // The filter of each leaf is evaluated once, later searches reuse the first result.
+            verify(knnWeight, times(1)).searchLeaf(leaf1, initialFirstPassK);
+            verify(knnWeight, times(1)).searchLeaf(leaf2, initialFirstPassK);
+            // Leaf 1 ran out of candidates after the first expansion, leaf 2 was expanded once to the configured first pass k.
+            verify(knnWeight, times(1)).searchLeaf(leaf1, 2 * initialFirstPassK, initialLeaf1Results);
+            verify(knnWeight, never()).searchLeaf(eq(leaf1), eq(4 * initialFirstPassK), any());
+            verify(knnWeight, never()).searchLeaf(eq(leaf2), eq(2 * initialFirstPassK), any());
+            verify(knnWeight, times(1)).searchLeaf(leaf2, firstPassK, initialLeaf2Results);
+            verify(knnWeight, never()).searchLeaf(any(), eq(firstPassK));
+        }
+    }
+
+    @SneakyThrows
+    public void testRescore_whenAdaptiveOversamplingAndDeletedDocs_thenExpandFirstPassMissingLiveCandidates() {
+        // Given
+        directory = new ByteBuffersDirectory();
+        IndexWriterConfig config = new IndexWriterConfig();
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            // Add documents to simulate multiple segments
+            Document doc1 = new Document();
+            doc1.add(new FloatPoint("vector", 1.0f, 2.0f, 3.0f));
+            writer.addDocument(doc1);
+            Document doc2 = new Document();
+            doc2.add(new FloatPoint("vector", 4.0f, 5.0f, 6.0f));
+            writer.addDocument(doc2);
+            // Force the creation of a second segment
+            writer.flush();
+            Document doc3 = new Document();
+            doc3.add(new FloatPoint("vector", 7.0f, 8.0f, 9.0f));
+            writer.addDocument(doc3);
+            Document doc4 = new Document();
+            doc4.add(new FloatPoint("vector", 10.0f, 11.0f, 12.0f));
+            writer.addDocument(doc4);
+            writer.commit();
+        }
+        DirectoryReader originalReader = DirectoryReader.open(directory);
+
+        Bits liveDocs1 = new Bits() {
+            @Override
+            public boolean get(int index) {
+                return index != 1; // Document 1 is deleted
+            }
+
+            @Override
+            public int length() {
+                return originalReader.leaves().get(0).reader().maxDoc();
+            }
+        };
+
+        Bits liveDocs2 = null; // No deletions in the second segment
+
+        // Wrap the DirectoryReader to inject custom liveDocs logic
+        directoryReader = CustomFilterDirectoryReader.wrap(originalReader, liveDocs1, liveDocs2);
+
+        // Set the reader and searcher
+        reader = directoryReader;
+        indexReaderContext = reader.getContext();
+        // Extract LeafReaderContext
+        List<LeafReaderContext> leaves = reader.leaves();
+        assertEquals(2, leaves.size()); // Ensure we have two segments
+        leaf1 = leaves.get(0);
+        leaf2 = leaves.get(1);
+        leafReader1 = leaf1.reader();
+        leafReader2 = leaf2.reader();
+
+        int k = 2;
+        int firstPassK = 100;
+        int initialFirstPassK = 3;
+        // Leaf 1 returns a full first pass, but the deleted doc 1 leaves it with fewer live candidates than the first pass k. The live
+        // ones are far apart, yet leaf 1 is searched again.
+        PerLeafResult initialLeaf1Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 21f, 1, 19f, 2, 1f))),
+            PerLeafResult.SearchMode.APPROXIMATE_SEARCH
+        );
+        PerLeafResult expandedLeaf1Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 21f, 1, 19f, 2, 17f, 3, 15f))),
+            PerLeafResult.SearchMode.APPROXIMATE_SEARCH
+        );
+        // Leaf 2 has no deleted docs, and its last candidate is far below the k-th best one.
+        PerLeafResult initialLeaf2Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 20f, 1, 19f, 2, 1f))),
+            PerLeafResult.SearchMode.APPROXIMATE_SEARCH
+        );
+        TopDocs topDocs1 = ResultUtil.resultMapToTopDocs(Map.of(0, 18f, 2, 20f), 0);
+        TopDocs topDocs2 = ResultUtil.resultMapToTopDocs(Map.of(0, 21f), 4);
+        when(knnQuery.getRescoreContext()).thenReturn(RescoreContext.builder().oversampleFactor(1.5f).build());
+        when(knnQuery.getK()).thenReturn(k);
+        when(knnWeight.getQuery()).thenReturn(knnQuery);
+        when(knnWeight.searchLeaf(leaf1, initialFirstPassK)).thenReturn(initialLeaf1Results);
+        when(knnWeight.searchLeaf(leaf1, 2 * initialFirstPassK, initialLeaf1Results)).thenReturn(expandedLeaf1Results);
+        when(knnWeight.searchLeaf(leaf2, initialFirstPassK)).thenReturn(initialLeaf2Results);
+
+        when(knnWeight.exactSearch(eq(leaf1), any())).thenReturn(topDocs1);
+        when(knnWeight.exactSearch(eq(leaf2), any())).thenReturn(topDocs2);
+        when(searcher.getIndexReader()).thenReturn(reader);
+
+        try (
+            MockedStatic<KNNSettings> mockedKnnSettings = mockStatic(KNNSettings.class);
+            MockedStatic<ResultUtil> mockedResultUtil = mockStatic(ResultUtil.class)
+        ) {
+
+            // When shard-level re-scoring is enabled
+            mockedKnnSettings.when(() -> KNNSettings.isShardLevelRescoringDisabledForDiskBasedVector(any())).thenReturn(false);
+            mockedKnnSettings.when(() -> KNNSettings.isAdaptiveOversamplingEnabledForDiskBasedVector(any())).thenReturn(true);
+
+            mockedResultUtil.when(() -> ResultUtil.reduceToTopK(any(), anyInt())).thenAnswer(InvocationOnMock::callRealMethod);
+            mockedResultUtil.when(() -> ResultUtil.resultMapToDocIds(any(), anyInt())).thenAnswer(InvocationOnMock::callRealMethod);
+
+            // Run
+            Weight actual = objectUnderTest.createWeight(searcher, scoreMode, 1);
+
+            // Verify
+            TopDocs[] topDocs = { topDocs1, topDocs2 };
+            TopDocs expectedTopDocs = TopDocs.merge(k, topDocs);
+            Query expected = QueryUtils.getInstance().createDocAndScoreQuery(reader, expectedTopDocs);
+            assertEquals(expected, actual.getQuery());
+            // Leaf 1 was expanded once, then ran out of candidates, and the deleted doc is not rescored.
+            verify(knnWeight, times(1)).searchLeaf(leaf1, 2 * initialFirstPassK, initialLeaf1Results);
+            verify(knnWeight, never()).searchLeaf(eq(leaf1), eq(4 * initialFirstPassK), any());
+            assertFalse(Arrays.stream(expandedLeaf1Results.getResult().scoreDocs).anyMatch(scoreDoc -> scoreDoc.doc == 1));
+            // Leaf 2 was not expanded.
+            verify(knnWeight, never()).searchLeaf(eq(leaf2), anyInt(), any());
+            verify(knnWeight, never()).searchLeaf(any(), eq(firstPassK));
+        }
+    }
+
+    @SneakyThrows
+    public void testRescore_whenPipelinedRescoringEnabled_thenRescoreEachSegmentAfterItsSearch() {
+        // Given
+        directory = new ByteBuffersDirectory();
+        IndexWriterConfig config = new IndexWriterConfig();
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            // Add documents to simulate multiple segments
+            Document doc1 = new Document();
+            doc1.add(new FloatPoint("vector", 1.0f, 2.0f, 3.0f));
+            writer.addDocument(doc1);
+            Document doc2 = new Document();
+            doc2.add(new FloatPoint("vector", 4.0f, 5.0f, 6.0f));
+            writer.addDocument(doc2);
+            // Force the creation of a second segment
+            writer.flush();
+            Document doc3 = new Document();
+            doc3.add(new FloatPoint("vector", 7.0f, 8.0f, 9.0f));
+            writer.addDocument(doc3);
+            Document doc4 = new Document();
+            doc4.add(new FloatPoint("vector", 10.0f, 11.0f, 12.0f));
+            writer.addDocument(doc4);
+            writer.commit();
+        }
+        Bits liveDocs1 = null;
+
+        Bits liveDocs2 = null;
+
+        DirectoryReader originalReader = DirectoryReader.open(directory);
+
+        // Wrap the DirectoryReader to inject custom liveDocs logic
+        directoryReader = CustomFilterDirectoryReader.wrap(originalReader, liveDocs1, liveDocs2);
+
+        // Set the reader and searcher
+        reader = directoryReader;
+        indexReaderContext = reader.getContext();
+        // Extract LeafReaderContext
+        List<LeafReaderContext> leaves = reader.leaves();
+        assertEquals(2, leaves.size()); // Ensure we have two segments
+        leaf1 = leaves.get(0);
+        leaf2 = leaves.get(1);
+        // Simulate liveDocs for leaf1 (e.g., marking some documents as deleted)
+        leafReader1 = leaf1.reader();
+        leafReader2 = leaf2.reader();
+
+        int k = 2;
+        int firstPassK = 100;
+        PerLeafResult initialLeaf1Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 21f, 1, 19f, 2, 17f, 3, 15f))),
+            PerLeafResult.SearchMode.EXACT_SEARCH
+        );
+        PerLeafResult initialLeaf2Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 20f, 1, 18f, 2, 16f, 3, 14f))),
+            PerLeafResult.SearchMode.EXACT_SEARCH
+        );
+        TopDocs topDocs1 = ResultUtil.resultMapToTopDocs(Map.of(0, 18f, 1, 20f), 0);
+        TopDocs topDocs2 = ResultUtil.resultMapToTopDocs(Map.of(0, 21f), 4);
+        when(knnQuery.getRescoreContext()).thenReturn(RescoreContext.builder().oversampleFactor(1.5f).build());
+        when(knnQuery.getK()).thenReturn(k);
+        when(knnWeight.getQuery()).thenReturn(knnQuery);
+        when(knnWeight.searchLeaf(leaf1, firstPassK)).thenReturn(initialLeaf1Results);
+        when(knnWeight.searchLeaf(leaf2, firstPassK)).thenReturn(initialLeaf2Results);
+
+        when(knnWeight.exactSearch(eq(leaf1), any())).thenReturn(topDocs1);
+        when(knnWeight.exactSearch(eq(leaf2), any())).thenReturn(topDocs2);
+        when(searcher.getIndexReader()).thenReturn(reader);
+
+        try (
+            MockedStatic<KNNSettings> mockedKnnSettings = mockStatic(KNNSettings.class);
+            MockedStatic<ResultUtil> mockedResultUtil = mockStatic(ResultUtil.class)
+        ) {
+
+            // When shard-level re-scoring is enabled
+            mockedKnnSettings.when(() -> KNNSettings.isShardLevelRescoringDisabledForDiskBasedVector(any())).thenReturn(false);
+            mockedKnnSettings.when(() -> KNNSettings.isPipelinedRescoringEnabledForDiskBasedVector(any())).thenReturn(true);
+
+            mockedResultUtil.when(() -> ResultUtil.reduceToTopK(any(), anyInt())).thenAnswer(InvocationOnMock::callRealMethod);
+            mockedResultUtil.when(() -> ResultUtil.resultMapToDocIds(any(), anyInt())).thenAnswer(InvocationOnMock::callRealMethod);
+
+            // Run
+            Weight actual = objectUnderTest.createWeight(searcher, scoreMode, 1);
+
+            // Verify
+            TopDocs[] topDocs = { topDocs1, topDocs2 };
+            TopDocs expectedTopDocs = TopDocs.merge(k, topDocs);
+            Query expected = QueryUtils.getInstance().createDocAndScoreQuery(reader, expectedTopDocs);
+            assertEquals(expected, actual.getQuery());
+            // Segments are rescored as they are searched, only the final top k is taken across segments.
+            mockedResultUtil.verify(() -> ResultUtil.reduceToTopK(any(), eq(k)), times(1));
+            mockedResultUtil.verify(() -> ResultUtil.reduceToTopK(any(), eq(firstPassK)), never());
+            verify(knnWeight, times(1)).exactSearch(eq(leaf1), any());
+            verify(knnWeight, times(1)).exactSearch(eq(leaf2), any());
+        }
+    }
+
     @SneakyThrows
     public void testExpandNestedDocs() {
         directory = new ByteBuffersDirectory();
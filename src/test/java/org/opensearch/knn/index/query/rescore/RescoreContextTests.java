@@ -5,6 +5,9 @@
 
 package org.opensearch.knn.index.query.rescore;
 
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
 import org.opensearch.knn.KNNTestCase;
 
 import static org.opensearch.knn.index.query.rescore.RescoreContext.MAX_FIRST_PASS_RESULTS;
@@ -82,4 +85,36 @@ public class RescoreContextTests extends KNNTestCase {
         rescoreContext = RescoreContext.builder().oversampleFactor(oversample).userProvided(true).build();  // User provided
         assertEquals(MIN_FIRST_PASS_RESULTS, rescoreContext.getFirstPassK(finalK, isShardLevelRescoringDisabled, dimension));
     }
+
+    public void testGetAdaptiveInitialFirstPassK() {
+        assertEquals(15, RescoreContext.getAdaptiveInitialFirstPassK(10, 100));
+        // At least one candidate beyond finalK
+        assertEquals(2, RescoreContext.getAdaptiveInitialFirstPassK(1, 100));
+        // Never above the configured first pass k
+        assertEquals(100, RescoreContext.getAdaptiveInitialFirstPassK(80, 100));
+    }
+
+    public void testIsFirstPassExpansionRequired() {
+        // Last candidate is far below the k-th best one
+        assertFalse(RescoreContext.isFirstPassExpansionRequired(topDocs(0.9f, 0.8f, 0.1f), 3, 2, 3));
+        // Last candidate is closer to the k-th best one than the top k are to each other
+        assertTrue(RescoreContext.isFirstPassExpansionRequired(topDocs(1.0f, 0.5f, 0.6f), 3, 2, 3));
+        // All candidates tie
+        assertTrue(RescoreContext.isFirstPassExpansionRequired(topDocs(0.5f, 0.5f, 0.5f), 3, 2, 3));
+        // Segment has no more candidates
+        assertFalse(RescoreContext.isFirstPassExpansionRequired(topDocs(0.5f, 0.5f, 0.5f), 3, 2, 4));
+        assertFalse(RescoreContext.isFirstPassExpansionRequired(topDocs(0.5f, 0.5f), 2, 2, 2));
+        // Deleted docs took the place of live candidates, even though the live ones are far apart
+        assertTrue(RescoreContext.isFirstPassExpansionRequired(topDocs(0.9f, 0.1f), 3, 1, 3));
+        // Segment has no more candidates, deleted ones included
+        assertFalse(RescoreContext.isFirstPassExpansionRequired(topDocs(0.5f, 0.5f), 3, 1, 4));
+    }
+
+    private static TopDocs topDocs(float... scores) {
+        ScoreDoc[] scoreDocs = new ScoreDoc[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            scoreDocs[i] = new ScoreDoc(i, scores[i]);
+        }
+        return new TopDocs(new TotalHits(scores.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
 }
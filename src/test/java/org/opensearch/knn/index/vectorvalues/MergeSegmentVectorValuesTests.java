@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.vectorvalues;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.analysis.MockAnalyzer;
+import org.apache.lucene.util.Bits;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class MergeSegmentVectorValuesTests extends KNNTestCase {
+
+    private static final String FIELD_NAME = "test-vector-field";
+    private static final int NUM_SEGMENTS = 3;
+    private static final int DOCS_PER_SEGMENT = 10;
+    private static final int[] DELETED_DOCS = { 3, 4, 27 };
+
+    private Directory directory;
+    private DirectoryReader reader;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(new MockAnalyzer(random())).setMergePolicy(NoMergePolicy.INSTANCE);
+        try (IndexWriter writer = new IndexWriter(directory, conf)) {
+            for (int segment = 0; segment < NUM_SEGMENTS; segment++) {
+                for (int i = 0; i < DOCS_PER_SEGMENT; i++) {
+                    int value = segment * DOCS_PER_SEGMENT + i;
+                    Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(value), Field.Store.NO));
+                    document.add(new KnnFloatVectorField(FIELD_NAME, new float[] { value, value }));
+                    writer.addDocument(document);
+                    writer.addDocument(new Document());
+                }
+                writer.commit();
+            }
+            for (int deletedDoc : DELETED_DOCS) {
+                writer.deleteDocuments(new Term("id", Integer.toString(deletedDoc)));
+            }
+            writer.commit();
+        }
+        reader = DirectoryReader.open(directory);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        reader.close();
+        directory.close();
+        super.tearDown();
+    }
+
+    @SneakyThrows
+    public void testGetTotalLiveVectors_whenDocsAreDeleted_thenCountOnlyLiveVectors() {
+        assertEquals(NUM_SEGMENTS * DOCS_PER_SEGMENT - DELETED_DOCS.length, segmentVectorValues().getTotalLiveVectors());
+        assertEquals(0, new MergeSegmentVectorValues(List.of(), List.of()).getTotalLiveVectors());
+    }
+
+    @SneakyThrows
+    public void testFloatVectorAtPosition_whenReadInOrder_thenReadLiveVectorsSegmentAfterSegment() {
+        MergeSegmentVectorValues segmentVectorValues = segmentVectorValues();
+        List<Float> expected = liveValues();
+        for (int position = 0; position < segmentVectorValues.getTotalLiveVectors(); position++) {
+            assertEquals(expected.get(position), segmentVectorValues.floatVectorAtPosition(position)[0], 0.0f);
+        }
+    }
+
+    @SneakyThrows
+    public void testFloatVectorAtPosition_whenReadInRandomOrder_thenReadSameVectors() {
+        MergeSegmentVectorValues segmentVectorValues = segmentVectorValues();
+        List<Float> expected = liveValues();
+        for (int i = 0; i < 50; i++) {
+            int position = randomIntBetween(0, segmentVectorValues.getTotalLiveVectors() - 1);
+            assertEquals(expected.get(position), segmentVectorValues.floatVectorAtPosition(position)[0], 0.0f);
+        }
+        expectThrows(
+            IndexOutOfBoundsException.class,
+            () -> segmentVectorValues.floatVectorAtPosition(segmentVectorValues.getTotalLiveVectors())
+        );
+    }
+
+    @SneakyThrows
+    private MergeSegmentVectorValues segmentVectorValues() {
+        List<KnnVectorValues> segmentValues = new ArrayList<>();
+        List<Bits> segmentLiveDocs = new ArrayList<>();
+        for (LeafReaderContext context : reader.leaves()) {
+            segmentValues.add(context.reader().getFloatVectorValues(FIELD_NAME));
+            segmentLiveDocs.add(context.reader().getLiveDocs());
+        }
+        return new MergeSegmentVectorValues(segmentValues, segmentLiveDocs);
+    }
+
+    private List<Float> liveValues() {
+        List<Float> values = new ArrayList<>();
+        for (int value = 0; value < NUM_SEGMENTS * DOCS_PER_SEGMENT; value++) {
+            final int candidate = value;
+            if (Arrays.stream(DELETED_DOCS).noneMatch(deletedDoc -> deletedDoc == candidate)) {
+                values.add((float) value);
+            }
+        }
+        return values;
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.knn.memoryoptsearch;
 
 import lombok.SneakyThrows;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.FilterIndexInput;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.hnsw.HnswGraph;
 import org.mockito.Mockito;
@@ -14,6 +15,8 @@ import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSW;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSWIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissHnswGraph;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHnswNeighborCache;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHnswPrefetcher;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -42,6 +45,90 @@ public class FaissHnswGraphTests extends KNNTestCase {
         assertArrayEquals(FIRST_NEIGHBOR_LIST_AT_1_LEVEL, getNeighborIdList(graph));
     }
 
+    @SneakyThrows
+    public void testTraverseHnswGraph_whenNeighborCacheEnabled_thenReturnSameNeighbors() {
+        final FaissHnswGraph uncachedGraph = prepareFaissHnswGraph();
+        final FaissHNSW faissHNSW = loadFaissHnsw();
+        // Small enough to force evictions
+        final FaissHnswNeighborCache neighborCache = FaissHnswNeighborCache.create(
+            faissHNSW,
+            7L * (1 + faissHNSW.getMaxNumNeighbors()) * Integer.BYTES
+        );
+        assertNotNull(neighborCache);
+        assertEquals(7, neighborCache.getNumSlots());
+
+        final FaissHnswGraph cachedGraph = new FaissHnswGraph(
+            faissHNSW,
+            loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin"),
+            neighborCache
+        );
+
+        // Visit every vector twice, the second round is mostly served from the cache.
+        for (int round = 0; round < 2; ++round) {
+            for (int i = 0; i < NUM_VECTORS; ++i) {
+                uncachedGraph.seek(0, i);
+                cachedGraph.seek(0, i);
+                assertEquals(uncachedGraph.neighborCount(), cachedGraph.neighborCount());
+                assertArrayEquals(getNeighborIdList(uncachedGraph), getNeighborIdList(cachedGraph));
+            }
+        }
+
+        // Upper levels bypass the cache
+        cachedGraph.seek(1, 0);
+        assertArrayEquals(FIRST_NEIGHBOR_LIST_AT_1_LEVEL, getNeighborIdList(cachedGraph));
+    }
+
+    @SneakyThrows
+    public void testTraverseHnswGraph_whenPrefetchEnabled_thenPrefetchNeighbors() {
+        final FaissHNSW faissHNSW = loadFaissHnsw();
+        final long vectorBaseOffset = 1000;
+        final long oneVectorByteSize = 16;
+        final List<Long> prefetchedOffsets = new ArrayList<>();
+        final IndexInput indexInput = new FilterIndexInput(
+            "prefetch-recorder",
+            loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin")
+        ) {
+            @Override
+            public void prefetch(long offset, long length) {
+                prefetchedOffsets.add(offset);
+            }
+        };
+        final FaissHnswGraph graph = new FaissHnswGraph(
+            faissHNSW,
+            indexInput,
+            null,
+            new FaissHnswPrefetcher(faissHNSW, vectorBaseOffset, oneVectorByteSize)
+        );
+
+        // Neighbors are unchanged, and the vector and neighbor list of each of them are prefetched.
+        graph.seek(0, 0);
+        assertEquals(2 * FIRST_NEIGHBOR_LIST_AT_0_LEVEL.length, prefetchedOffsets.size());
+        assertArrayEquals(FIRST_NEIGHBOR_LIST_AT_0_LEVEL, getNeighborIdList(graph));
+        for (int i = 0; i < FIRST_NEIGHBOR_LIST_AT_0_LEVEL.length; ++i) {
+            final int neighborId = FIRST_NEIGHBOR_LIST_AT_0_LEVEL[i];
+            assertEquals(vectorBaseOffset + neighborId * oneVectorByteSize, (long) prefetchedOffsets.get(2 * i));
+            final long begin = faissHNSW.getOffsetsReader().get(neighborId) + faissHNSW.getCumNumberNeighborPerLevel()[0];
+            final long neighborListOffset = faissHNSW.getNeighbors().getBaseOffset() + Integer.BYTES * begin;
+            assertEquals(neighborListOffset, (long) prefetchedOffsets.get(2 * i + 1));
+        }
+
+        // Upper levels are not prefetched.
+        prefetchedOffsets.clear();
+        graph.seek(1, 0);
+        assertArrayEquals(FIRST_NEIGHBOR_LIST_AT_1_LEVEL, getNeighborIdList(graph));
+        assertTrue(prefetchedOffsets.isEmpty());
+    }
+
+    @SneakyThrows
+    public void testNeighborCache_whenDisabled_thenReturnNull() {
+        final FaissHNSW faissHNSW = loadFaissHnsw();
+        assertNull(FaissHnswNeighborCache.create(faissHNSW, 0));
+        // Not enough space for a single neighbor list.
+        assertNull(FaissHnswNeighborCache.create(faissHNSW, Integer.BYTES));
+        // Never allocate more slots than vectors.
+        assertEquals(NUM_VECTORS, FaissHnswNeighborCache.create(faissHNSW, Long.MAX_VALUE / 2).getNumSlots());
+    }
+
     @SneakyThrows
     public void testNodesIterator() {
         final FaissHnswGraph graph = prepareFaissHnswGraph();
@@ -80,6 +167,38 @@ public class FaissHnswGraphTests extends KNNTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testNodesIterator_whenUpperLevel_thenMatchLevelsSection() {
+        final FaissHNSW faissHNSW = loadFaissHnsw();
+        final FaissHnswGraph graph = new FaissHnswGraph(faissHNSW, loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin"));
+
+        // Read `levels` section directly to build the expected node lists.
+        final IndexInput indexInput = loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin");
+        indexInput.seek(faissHNSW.getLevels().getBaseOffset());
+        final int[] levels = new int[NUM_VECTORS];
+        indexInput.readInts(levels, 0, NUM_VECTORS);
+
+        for (int level = 1; level <= faissHNSW.getMaxLevel() + 1; ++level) {
+            final List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < NUM_VECTORS; ++i) {
+                if (levels[i] > level) {
+                    expected.add(i);
+                }
+            }
+
+            // Iterate twice, the second one is served from the materialized node lists.
+            for (int round = 0; round < 2; ++round) {
+                final HnswGraph.NodesIterator iterator = graph.getNodesOnLevel(level);
+                assertEquals(expected.size(), iterator.size());
+                final List<Integer> actual = new ArrayList<>();
+                while (iterator.hasNext()) {
+                    actual.add(iterator.nextInt());
+                }
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
     @SneakyThrows
     private static int[] getNeighborIdList(final FaissHnswGraph graph) {
         final List<Integer> neighborIds = new ArrayList<>();
@@ -95,6 +214,13 @@ public class FaissHnswGraphTests extends KNNTestCase {
         return neighborIds.stream().mapToInt(i -> i).toArray();
     }
 
+    @SneakyThrows
+    private static FaissHNSW loadFaissHnsw() {
+        final FaissHNSW faissHNSW = new FaissHNSW();
+        faissHNSW.load(loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin"), NUM_VECTORS);
+        return faissHNSW;
+    }
+
     @SneakyThrows
     private static FaissHnswGraph prepareFaissHnswGraph() {
         // Prepare parent index
@@ -11,7 +11,7 @@ import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.store.ByteBuffersDataOutput;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
-import org.apache.lucene.util.packed.DirectMonotonicReader;
+import org.apache.lucene.util.LongValues;
 import org.mockito.MockedStatic;
 import org.mockito.stubbing.Answer;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
@@ -122,6 +122,36 @@ public class FaissIdMapIndexTests extends KNNTestCase {
         }
     }
 
+    public void testLoadReorderedCase() {
+        doTestLoadReorderedCase(FaissIdMapIndex.IXMP);
+        doTestLoadReorderedCase(FaissIdMapIndex.IBMP);
+    }
+
+    private void doTestLoadReorderedCase(final String indexType) {
+        // Dimension : 128
+        // #Vectors : 100
+        // Metric : L2
+        final int totalNumberOfVectors = 100;
+        final int dimension = 128;
+        final boolean l2Metric = true;
+
+        // Prepare id mapping
+        // Vectors were renumbered at build time, hence the mapping is a permutation rather than an increasing sequence.
+        final long[] mappingTable = new long[totalNumberOfVectors];
+        for (int i = 0; i < totalNumberOfVectors; ++i) {
+            mappingTable[i] = (7L * i) % totalNumberOfVectors;
+        }
+
+        // Load index
+        final FaissIdMapIndex index = triggerLoadAndGetIndex(dimension, totalNumberOfVectors, l2Metric, mappingTable, indexType);
+
+        assertTrue(index.isReordered());
+        assertArrayEquals(mappingTable, getVectorIdToDocIdMapping(index, totalNumberOfVectors));
+
+        // Validate common header
+        validateHeader(indexType, index, dimension, totalNumberOfVectors);
+    }
+
     public void testParentChildNestedCase() {
         doTestParentChildNestedCase(FaissIdMapIndex.IXMP);
         doTestParentChildNestedCase(FaissIdMapIndex.IBMP);
@@ -194,7 +224,7 @@ public class FaissIdMapIndexTests extends KNNTestCase {
     private static long[] getVectorIdToDocIdMapping(final FaissIdMapIndex index, final int totalNumberOfVectors) {
         final Field field = FaissIdMapIndex.class.getDeclaredField("idMappingReader");
         field.setAccessible(true);
-        DirectMonotonicReader decoder = (DirectMonotonicReader) field.get(index);
+        LongValues decoder = (LongValues) field.get(index);
         if (decoder == null) {
             // It's an identical case
             return null;
@@ -16,6 +16,7 @@ import org.opensearch.knn.jni.SimdVectorComputeService;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import java.nio.ShortBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
@@ -53,6 +54,200 @@ public class NativeRandomVectorScorerTests extends KNNTestCase {
         doFp16ScoringTest(SimdVectorComputeService.SimilarityFunctionType.FP16_L2, KNNVectorSimilarityFunction.EUCLIDEAN, true);
     }
 
+    @Test
+    public void fp32MaxIPTest() {
+        doFp32ScoringTest(
+            SimdVectorComputeService.SimilarityFunctionType.FP32_MAXIMUM_INNER_PRODUCT,
+            KNNVectorSimilarityFunction.MAXIMUM_INNER_PRODUCT,
+            false
+        );
+        doFp32ScoringTest(
+            SimdVectorComputeService.SimilarityFunctionType.FP32_MAXIMUM_INNER_PRODUCT,
+            KNNVectorSimilarityFunction.MAXIMUM_INNER_PRODUCT,
+            true
+        );
+    }
+
+    @Test
+    public void fp32L2Test() {
+        doFp32ScoringTest(SimdVectorComputeService.SimilarityFunctionType.FP32_L2, KNNVectorSimilarityFunction.EUCLIDEAN, false);
+        doFp32ScoringTest(SimdVectorComputeService.SimilarityFunctionType.FP32_L2, KNNVectorSimilarityFunction.EUCLIDEAN, true);
+    }
+
+    @Test
+    public void sq8MaxIPTest() {
+        doSq8ScoringTest(
+            SimdVectorComputeService.SimilarityFunctionType.SQ8_DIRECT_SIGNED_MAXIMUM_INNER_PRODUCT,
+            KNNVectorSimilarityFunction.MAXIMUM_INNER_PRODUCT,
+            false
+        );
+        doSq8ScoringTest(
+            SimdVectorComputeService.SimilarityFunctionType.SQ8_DIRECT_SIGNED_MAXIMUM_INNER_PRODUCT,
+            KNNVectorSimilarityFunction.MAXIMUM_INNER_PRODUCT,
+            true
+        );
+    }
+
+    @Test
+    public void sq8L2Test() {
+        doSq8ScoringTest(
+            SimdVectorComputeService.SimilarityFunctionType.SQ8_DIRECT_SIGNED_L2,
+            KNNVectorSimilarityFunction.EUCLIDEAN,
+            false
+        );
+        doSq8ScoringTest(
+            SimdVectorComputeService.SimilarityFunctionType.SQ8_DIRECT_SIGNED_L2,
+            KNNVectorSimilarityFunction.EUCLIDEAN,
+            true
+        );
+    }
+
+    @SneakyThrows
+    private void doSq8ScoringTest(
+        final SimdVectorComputeService.SimilarityFunctionType functionType,
+        final KNNVectorSimilarityFunction similarityFunction,
+        final boolean multiSegmentsScenario
+    ) {
+        final Path tempDirPath = createTempDir();
+        final int dimension = 123;
+        final int numVectors = 200;
+        final Path tempFile = Paths.get(tempDirPath.toFile().getAbsolutePath(), "test.bin");
+        final long flatVectorStartOffset = 1555;
+        final List<float[]> vectors = new ArrayList<>();
+        try (
+            FileChannel channel = FileChannel.open(
+                tempFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )
+        ) {
+            // Write few bytes before flat vector section
+            channel.write(ByteBuffer.allocate((int) flatVectorStartOffset));
+
+            // Each code is a signed 8 bits value shifted by 128.
+            final ByteBuffer byteBuffer = ByteBuffer.allocate(numVectors * dimension);
+            for (int i = 0; i < numVectors; ++i) {
+                final float[] vector = new float[dimension];
+                for (int j = 0; j < dimension; ++j) {
+                    final int value = ThreadLocalRandom.current().nextInt(-128, 128);
+                    byteBuffer.put((byte) (value + 128));
+                    vector[j] = value;
+                }
+                vectors.add(vector);
+            }
+            byteBuffer.flip();
+            channel.write(byteBuffer);
+        }
+
+        final float[] queryVec = new float[dimension];
+        for (int j = 0; j < dimension; ++j) {
+            queryVec[j] = ThreadLocalRandom.current().nextInt(-128, 128) / 128.0f;
+        }
+
+        // With 1024 bytes chunks, some vectors straddle two mapped regions.
+        try (MMapDirectory mmapDirectory = multiSegmentsScenario ? new MMapDirectory(tempDirPath, 1024) : new MMapDirectory(tempDirPath)) {
+            try (final IndexInput indexInput = mmapDirectory.openInput(tempFile.getFileName().toString(), IOContext.DEFAULT)) {
+                final long[] addressAndSize = MemorySegmentAddressExtractorUtil.tryExtractAddressAndSize(
+                    indexInput,
+                    flatVectorStartOffset,
+                    Files.size(tempFile) - flatVectorStartOffset
+                );
+                assertNotNull(addressAndSize);
+
+                SimdVectorComputeService.saveSearchContext(queryVec, addressAndSize, functionType.ordinal());
+
+                // Test single vector scoring
+                for (int i = 0; i < numVectors; ++i) {
+                    final float expectedScore = similarityFunction.compare(queryVec, vectors.get(i));
+                    assertEquals(expectedScore, SimdVectorComputeService.scoreSimilarity(i), 1e-3 * Math.max(1, expectedScore));
+                }
+
+                // Test bulk scoring with more vectors than a single native batch, twice to reuse the temp buffer across calls.
+                final int[] vectorIds = java.util.stream.IntStream.range(0, numVectors).map(i -> numVectors - 1 - i).toArray();
+                for (int round = 0; round < 2; ++round) {
+                    final float[] scores = new float[numVectors];
+                    SimdVectorComputeService.scoreSimilarityInBulk(vectorIds, scores, numVectors - 1);
+                    for (int j = 0; j < numVectors - 1; j++) {
+                        final float expectedScore = similarityFunction.compare(queryVec, vectors.get(vectorIds[j]));
+                        assertEquals(expectedScore, scores[j], 1e-3 * Math.max(1, expectedScore));
+                    }
+                }
+            }
+        }
+    }
+
+    @SneakyThrows
+    private void doFp32ScoringTest(
+        final SimdVectorComputeService.SimilarityFunctionType functionType,
+        final KNNVectorSimilarityFunction similarityFunction,
+        final boolean multiSegmentsScenario
+    ) {
+        final Path tempDirPath = createTempDir();
+        final int dimension = 123;
+        final int numVectors = 100;
+        final Path tempFile = Paths.get(tempDirPath.toFile().getAbsolutePath(), "test.bin");
+        final long flatVectorStartOffset = 1555;
+        final List<float[]> vectors = new ArrayList<>();
+        try (
+            FileChannel channel = FileChannel.open(
+                tempFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )
+        ) {
+            // Write few bytes before flat vector section
+            channel.write(ByteBuffer.allocate((int) flatVectorStartOffset));
+
+            final ByteBuffer byteBuffer = ByteBuffer.allocate(numVectors * dimension * Float.BYTES).order(ByteOrder.nativeOrder());
+            final FloatBuffer floatBuffer = byteBuffer.asFloatBuffer();
+            for (int i = 0; i < numVectors; ++i) {
+                final float[] vector = new float[dimension];
+                for (int j = 0; j < dimension; ++j) {
+                    vector[j] = ThreadLocalRandom.current().nextFloat();
+                }
+                floatBuffer.put(vector);
+                vectors.add(vector);
+            }
+            channel.write(byteBuffer);
+        }
+
+        final float[] queryVec = new float[dimension];
+        for (int j = 0; j < dimension; ++j) {
+            queryVec[j] = ThreadLocalRandom.current().nextFloat();
+        }
+
+        // With 1024 bytes chunks, some vectors straddle two mapped regions.
+        try (MMapDirectory mmapDirectory = multiSegmentsScenario ? new MMapDirectory(tempDirPath, 1024) : new MMapDirectory(tempDirPath)) {
+            try (final IndexInput indexInput = mmapDirectory.openInput(tempFile.getFileName().toString(), IOContext.DEFAULT)) {
+                final long[] addressAndSize = MemorySegmentAddressExtractorUtil.tryExtractAddressAndSize(
+                    indexInput,
+                    flatVectorStartOffset,
+                    Files.size(tempFile) - flatVectorStartOffset
+                );
+                assertNotNull(addressAndSize);
+
+                SimdVectorComputeService.saveSearchContext(queryVec, addressAndSize, functionType.ordinal());
+
+                // Test single vector scoring
+                for (int i = 0; i < numVectors; ++i) {
+                    final float expectedScore = similarityFunction.compare(queryVec, vectors.get(i));
+                    assertEquals(expectedScore, SimdVectorComputeService.scoreSimilarity(i), 1e-3);
+                }
+
+                // Test bulk scoring, covering both four-at-a-time and tail paths.
+                final int[] vectorIds = java.util.stream.IntStream.range(0, numVectors).map(i -> numVectors - 1 - i).toArray();
+                final float[] scores = new float[numVectors];
+                SimdVectorComputeService.scoreSimilarityInBulk(vectorIds, scores, 99);
+                for (int j = 0; j < 99; j++) {
+                    final float expectedScore = similarityFunction.compare(queryVec, vectors.get(vectorIds[j]));
+                    assertEquals(expectedScore, scores[j], 1e-3);
+                }
+            }
+        }
+    }
+
     @SneakyThrows
     private void doFp16ScoringTest(
         final SimdVectorComputeService.SimilarityFunctionType functionType,
@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.mockito.MockedStatic;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.common.exception.OutOfNativeMemoryException;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.memory.NativeMemoryAllocation;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FaissHnswNeighborCacheReservationTests extends KNNTestCase {
+    private static final int MAX_CONN = 31;
+    private static final long NUM_VECTORS = 100;
+    private static final long SLOT_SIZE_IN_BYTES = (1 + MAX_CONN) * Integer.BYTES;
+
+    public void testReserve_whenMultipleGraphs_thenBoundedNodeWide() {
+        final NativeMemoryCacheManager nativeMemoryCacheManager = mock(NativeMemoryCacheManager.class);
+        final NativeMemoryAllocation allocation = mock(NativeMemoryAllocation.class);
+        when(nativeMemoryCacheManager.get(any(), eq(false))).thenReturn(allocation);
+
+        try (
+            MockedStatic<NativeMemoryCacheManager> cacheManagerMockedStatic = mockStatic(NativeMemoryCacheManager.class);
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)
+        ) {
+            cacheManagerMockedStatic.when(NativeMemoryCacheManager::getInstance).thenReturn(nativeMemoryCacheManager);
+            knnSettingsMockedStatic.when(KNNSettings::isCircuitBreakerTriggered).thenReturn(false);
+
+            // Room for one full graph and a half.
+            final long nodeLimit = SLOT_SIZE_IN_BYTES * NUM_VECTORS * 3 / 2;
+            final long reservedBefore = FaissHnswNeighborCacheReservation.getReservedBytes();
+
+            final FaissHnswNeighborCacheReservation first = FaissHnswNeighborCacheReservation.reserve(mockHnsw(), nodeLimit);
+            assertNotNull(first);
+            assertEquals(NUM_VECTORS, first.getNeighborCache().getNumSlots());
+
+            final FaissHnswNeighborCacheReservation second = FaissHnswNeighborCacheReservation.reserve(mockHnsw(), nodeLimit);
+            assertNotNull(second);
+            assertEquals(NUM_VECTORS / 2, second.getNeighborCache().getNumSlots());
+
+            // Budget exhausted.
+            assertNull(FaissHnswNeighborCacheReservation.reserve(mockHnsw(), nodeLimit));
+            assertEquals(reservedBefore + nodeLimit, FaissHnswNeighborCacheReservation.getReservedBytes());
+
+            // Closing gives the budget back and releases the native memory cache entry.
+            first.close();
+            first.close();
+            second.close();
+            assertEquals(reservedBefore, FaissHnswNeighborCacheReservation.getReservedBytes());
+            assertNull(first.getNeighborCache());
+            verify(nativeMemoryCacheManager, times(2)).invalidate(anyString());
+        }
+    }
+
+    public void testReserve_whenNoRoomInNativeMemoryCache_thenNull() {
+        final NativeMemoryCacheManager nativeMemoryCacheManager = mock(NativeMemoryCacheManager.class);
+        when(nativeMemoryCacheManager.get(any(), eq(false))).thenThrow(new OutOfNativeMemoryException("Full"));
+
+        try (
+            MockedStatic<NativeMemoryCacheManager> cacheManagerMockedStatic = mockStatic(NativeMemoryCacheManager.class);
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)
+        ) {
+            cacheManagerMockedStatic.when(NativeMemoryCacheManager::getInstance).thenReturn(nativeMemoryCacheManager);
+            knnSettingsMockedStatic.when(KNNSettings::isCircuitBreakerTriggered).thenReturn(false);
+
+            final long reservedBefore = FaissHnswNeighborCacheReservation.getReservedBytes();
+            assertNull(FaissHnswNeighborCacheReservation.reserve(mockHnsw(), Long.MAX_VALUE / 2));
+            assertEquals(reservedBefore, FaissHnswNeighborCacheReservation.getReservedBytes());
+
+            // The breaker is tripped.
+            knnSettingsMockedStatic.when(KNNSettings::isCircuitBreakerTriggered).thenReturn(true);
+            assertNull(FaissHnswNeighborCacheReservation.reserve(mockHnsw(), Long.MAX_VALUE / 2));
+            assertEquals(reservedBefore, FaissHnswNeighborCacheReservation.getReservedBytes());
+        }
+    }
+
+    public void testGetNeighborCache_whenEvicted_thenReleased() {
+        final NativeMemoryCacheManager nativeMemoryCacheManager = mock(NativeMemoryCacheManager.class);
+        final NativeMemoryAllocation allocation = mock(NativeMemoryAllocation.class);
+        when(nativeMemoryCacheManager.get(any(), eq(false))).thenReturn(allocation);
+
+        try (
+            MockedStatic<NativeMemoryCacheManager> cacheManagerMockedStatic = mockStatic(NativeMemoryCacheManager.class);
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)
+        ) {
+            cacheManagerMockedStatic.when(NativeMemoryCacheManager::getInstance).thenReturn(nativeMemoryCacheManager);
+            knnSettingsMockedStatic.when(KNNSettings::isCircuitBreakerTriggered).thenReturn(false);
+
+            final long reservedBefore = FaissHnswNeighborCacheReservation.getReservedBytes();
+            final FaissHnswNeighborCacheReservation reservation = FaissHnswNeighborCacheReservation.reserve(mockHnsw(), Long.MAX_VALUE / 2);
+            assertNotNull(reservation);
+            assertNotNull(reservation.getNeighborCache());
+
+            when(allocation.isClosed()).thenReturn(true);
+            assertNull(reservation.getNeighborCache());
+            assertEquals(reservedBefore, FaissHnswNeighborCacheReservation.getReservedBytes());
+        }
+    }
+
+    private static FaissHNSW mockHnsw() {
+        final FaissHNSW faissHnsw = mock(FaissHNSW.class);
+        when(faissHnsw.getMaxNumNeighbors()).thenReturn(MAX_CONN);
+        when(faissHnsw.getTotalNumberOfVectors()).thenReturn(NUM_VECTORS);
+        return faissHnsw;
+    }
+}
@@ -239,14 +239,75 @@ public class MMROverSampleProcessorTests extends MMRTestCase {
         verify(listener).onResponse(captor.capture());
         SearchRequest searchRequest = captor.getValue();
         assertEquals(30, searchRequest.source().size());
-        assertEquals("Fetch source should be set to fetch all fields.", 0, searchRequest.source().fetchSource().excludes().length);
+        assertEquals("Fetch source should not be changed.", fetchSourceContext, searchRequest.source().fetchSource());
         MMRRerankContext mmrRerankContext = (MMRRerankContext) pipelineProcessingContext.getAttribute(MMR_RERANK_CONTEXT);
         assertEquals(10, (int) mmrRerankContext.getOriginalQuerySize());
         assertEquals(0.5f, mmrRerankContext.getDiversity(), DELTA);
         assertEquals(vectorFieldName, mmrRerankContext.getVectorFieldPath());
         assertEquals(SpaceType.L2, mmrRerankContext.getSpaceType());
         assertEquals(VectorDataType.FLOAT, mmrRerankContext.getVectorDataType());
-        assertEquals(fetchSourceContext, mmrRerankContext.getOriginalFetchSourceContext());
+        assertNull(mmrRerankContext.getOriginalFetchSourceContext());
+        assertTrue(mmrRerankContext.isVectorFetchedFromDocValues());
+    }
+
+    public void testProcessRequestAsync_whenKnnVectorField_thenFetchVectorFromDocValues() {
+        String indexName = "test-index";
+        String vectorFieldName = "vectorField";
+        PipelineProcessingContext pipelineProcessingContext = new PipelineProcessingContext();
+        ActionListener<SearchRequest> listener = mock(ActionListener.class);
+
+        MMRSearchExtBuilder mmrSearchExtBuilder = new MMRSearchExtBuilder.Builder().vectorFieldPath(vectorFieldName).build();
+        SearchRequest request = buildSearchRequest(new String[] { indexName }, mmrSearchExtBuilder);
+        request.source().fetchSource(false);
+
+        mockClusterIndexMetadata(
+            Map.of(
+                indexName,
+                Map.of(
+                    "properties",
+                    Map.of(
+                        vectorFieldName,
+                        Map.of(TYPE, KNNVectorFieldMapper.CONTENT_TYPE, TOP_LEVEL_PARAMETER_SPACE_TYPE, SpaceType.L2.getValue())
+                    )
+                )
+            )
+        );
+
+        processor.processRequestAsync(request, pipelineProcessingContext, listener);
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(listener).onResponse(captor.capture());
+        SearchRequest searchRequest = captor.getValue();
+        assertFalse("Should not fetch the _source for MMR.", searchRequest.source().fetchSource().fetchSource());
+        assertEquals(List.of(vectorFieldName), searchRequest.source().docValueFields().stream().map(field -> field.field).toList());
+        MMRRerankContext mmrRerankContext = (MMRRerankContext) pipelineProcessingContext.getAttribute(MMR_RERANK_CONTEXT);
+        assertTrue(mmrRerankContext.isVectorFetchedFromDocValues());
+        assertTrue(mmrRerankContext.isVectorDocValueFieldAddedForMMR());
+        assertNull(mmrRerankContext.getOriginalFetchSourceContext());
+    }
+
+    public void testProcessRequestAsync_whenVectorFieldIsUnmapped_thenFetchVectorFromSource() {
+        String indexName = "test-index";
+        String vectorFieldName = "vectorField";
+        PipelineProcessingContext pipelineProcessingContext = new PipelineProcessingContext();
+        ActionListener<SearchRequest> listener = mock(ActionListener.class);
+
+        MMRSearchExtBuilder mmrSearchExtBuilder = new MMRSearchExtBuilder.Builder().vectorFieldPath(vectorFieldName).build();
+        SearchRequest request = buildSearchRequest(new String[] { indexName }, mmrSearchExtBuilder);
+        request.source().fetchSource(false);
+
+        mockClusterIndexMetadata(Map.of(indexName, Collections.emptyMap()));
+
+        processor.processRequestAsync(request, pipelineProcessingContext, listener);
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(listener).onResponse(captor.capture());
+        SearchRequest searchRequest = captor.getValue();
+        assertTrue("Should fetch the _source for MMR.", searchRequest.source().fetchSource().fetchSource());
+        assertTrue(searchRequest.source().docValueFields() == null || searchRequest.source().docValueFields().isEmpty());
+        MMRRerankContext mmrRerankContext = (MMRRerankContext) pipelineProcessingContext.getAttribute(MMR_RERANK_CONTEXT);
+        assertFalse(mmrRerankContext.isVectorFetchedFromDocValues());
+        assertFalse(mmrRerankContext.getOriginalFetchSourceContext().fetchSource());
     }
 
     private Map<String, MMRQueryTransformer<? extends QueryBuilder>> getMockMMRQueryTransformers() {
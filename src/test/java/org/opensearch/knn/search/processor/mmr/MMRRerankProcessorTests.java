@@ -10,10 +10,12 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNVectorSimilarityFunction;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.search.SearchHit;
@@ -22,7 +24,10 @@ import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.mock;
@@ -99,6 +104,62 @@ public class MMRRerankProcessorTests extends KNNTestCase {
         assertEquals("Should pick the hit with diversity.", 9, result.getInternalResponse().hits().getHits()[2].docId());
     }
 
+    public void testProcessResponse_whenVectorFetchedFromDocValues_thenRerankAndRemoveVectorField() throws IOException {
+        float[][] vectors = new float[][] { { 1f, 1f }, { 1f, 1f }, { 1f, 1f }, { 1f, 2f } };
+        float[] scores = new float[] { 1f, 1f, 1f, 0.8f };
+        SearchHit[] hits = new SearchHit[vectors.length];
+        for (int i = 0; i < vectors.length; i++) {
+            Map<String, DocumentField> documentFields = new HashMap<>();
+            documentFields.put("knn_vector", new DocumentField("knn_vector", List.of(vectors[i])));
+            hits[i] = new SearchHit(i, String.valueOf(i), documentFields, Map.of());
+            hits[i].score(scores[i]);
+        }
+
+        MMRRerankContext mmrRerankContext = new MMRRerankContext();
+        mmrRerankContext.setDiversity(0.5f);
+        mmrRerankContext.setOriginalQuerySize(2);
+        mmrRerankContext.setSpaceType(SpaceType.L2);
+        mmrRerankContext.setVectorDataType(VectorDataType.FLOAT);
+        mmrRerankContext.setVectorFieldPath("knn_vector");
+        mmrRerankContext.setVectorFetchedFromDocValues(true);
+        mmrRerankContext.setVectorDocValueFieldAddedForMMR(true);
+        PipelineProcessingContext ctx = new PipelineProcessingContext();
+        ctx.setAttribute(MMR_RERANK_CONTEXT, mmrRerankContext);
+
+        SearchResponse result = processor.processResponse(searchRequest, createSearchResponse(hits), ctx);
+
+        SearchHit[] resultHits = result.getInternalResponse().hits().getHits();
+        assertEquals(2, resultHits.length);
+        assertEquals(0, resultHits[0].docId());
+        assertEquals("Should pick the hit with diversity.", 3, resultHits[1].docId());
+        assertNull("Should remove the vector fetched for MMR.", resultHits[0].field("knn_vector"));
+        assertNull("Should remove the vector fetched for MMR.", resultHits[1].field("knn_vector"));
+    }
+
+    public void testProcessResponse_whenVectorDocValueFieldMissing_thenException() {
+        SearchHit hit = new SearchHit(0, "0", new HashMap<>(), Map.of());
+        hit.score(1f);
+
+        MMRRerankContext mmrRerankContext = new MMRRerankContext();
+        mmrRerankContext.setDiversity(0.5f);
+        mmrRerankContext.setOriginalQuerySize(1);
+        mmrRerankContext.setSpaceType(SpaceType.L2);
+        mmrRerankContext.setVectorDataType(VectorDataType.FLOAT);
+        mmrRerankContext.setVectorFieldPath("knn_vector");
+        mmrRerankContext.setVectorFetchedFromDocValues(true);
+        PipelineProcessingContext ctx = new PipelineProcessingContext();
+        ctx.setAttribute(MMR_RERANK_CONTEXT, mmrRerankContext);
+
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> processor.processResponse(searchRequest, createSearchResponse(hit), ctx)
+        );
+        assertEquals(
+            "Failed to extract the vector from the doc [0] for MMR rerank: vector field [knn_vector] not found in the fetched doc values.",
+            exception.getMessage()
+        );
+    }
+
     public void testProcessResponse_whenMissingRerankContext_thenException() throws IOException {
         SearchResponse searchResponse = createSearchResponse();
 
@@ -160,6 +221,83 @@ public class MMRRerankProcessorTests extends KNNTestCase {
         assertEquals(expectedMessage, exception.getMessage());
     }
 
+    public void testSelectHitsWithMMR_whenManyCandidates_thenSelectSameHitsAsPairwiseMMR() {
+        final int numCandidates = 200;
+        final int dimension = 8;
+        final int targetSize = 20;
+        final float diversity = 0.3f;
+        final KNNVectorSimilarityFunction similarityFunction = SpaceType.INNER_PRODUCT.getKnnVectorSimilarityFunction();
+        final SearchHit[] candidates = new SearchHit[numCandidates];
+        final float[][] vectors = new float[numCandidates][dimension];
+        for (int i = 0; i < numCandidates; i++) {
+            for (int j = 0; j < dimension; j++) {
+                vectors[i][j] = randomFloat();
+            }
+            // Hits of different indices may share ids.
+            candidates[i] = new SearchHit(i, String.valueOf(i % 50), Map.of(), Map.of());
+            candidates[i].score(randomFloat());
+        }
+
+        final List<SearchHit> selected = MMRRerankProcessor.selectHitsWithMMR(
+            candidates,
+            vectors,
+            similarityFunction,
+            diversity,
+            targetSize,
+            true
+        );
+
+        // Reference: compare every candidate with every selected hit in every round.
+        final List<Integer> remaining = new ArrayList<>();
+        for (int i = 0; i < numCandidates; i++) {
+            remaining.add(i);
+        }
+        final List<Integer> expected = new ArrayList<>();
+        while (expected.size() < targetSize) {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int candidate : remaining) {
+                float maxSim = 0.0f;
+                for (int sel : expected) {
+                    maxSim = Math.max(maxSim, similarityFunction.compare(vectors[candidate], vectors[sel]));
+                }
+                double score = (1 - diversity) * candidates[candidate].getScore() - diversity * maxSim;
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = candidate;
+                }
+            }
+            expected.add(best);
+            remaining.remove(Integer.valueOf(best));
+        }
+
+        assertEquals(targetSize, selected.size());
+        for (int i = 0; i < targetSize; i++) {
+            assertSame(candidates[expected.get(i)], selected.get(i));
+        }
+    }
+
+    public void testSelectHitsWithMMR_whenTargetSizeExceedsCandidates_thenSelectAllCandidates() {
+        final SearchHit[] candidates = new SearchHit[3];
+        final byte[][] vectors = new byte[][] { { 1, 0 }, { 1, 1 }, { 0, 1 } };
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = new SearchHit(i, String.valueOf(i), Map.of(), Map.of());
+            candidates[i].score(1.0f - i * 0.1f);
+        }
+
+        final List<SearchHit> selected = MMRRerankProcessor.selectHitsWithMMR(
+            candidates,
+            vectors,
+            SpaceType.HAMMING.getKnnVectorSimilarityFunction(),
+            0.5f,
+            10,
+            false
+        );
+
+        assertEquals(3, selected.size());
+        assertSame(candidates[0], selected.get(0));
+    }
+
     private SearchResponse createSearchResponse() throws IOException {
         SearchHit[] hits = new SearchHit[10];
 
@@ -19,6 +19,8 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.pipeline.ProcessorGenerationContext;
 import org.opensearch.transport.client.Client;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.*;
 
 import static org.mockito.Mockito.*;
@@ -45,6 +47,28 @@ public class MMRUtilTests extends MMRTestCase {
         assertArrayEquals(new float[] { 0.1f, 0.2f, 0.3f }, result, 0.0001f);
     }
 
+    public void testExtractVectorFromHit_whenBase64EncodedVector_thenDecode() {
+        ByteBuffer floatBytes = ByteBuffer.allocate(3 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        floatBytes.asFloatBuffer().put(new float[] { 0.1f, 0.2f, 0.3f });
+        Map<String, Object> source = new HashMap<>();
+        source.put("embedding", Base64.getEncoder().encodeToString(floatBytes.array()));
+        source.put("byte_embedding", Base64.getEncoder().encodeToString(new byte[] { -1, 0, 1 }));
+
+        float[] floatResult = (float[]) MMRUtil.extractVectorFromHit(source, "embedding", "doc1", true);
+        byte[] byteResult = (byte[]) MMRUtil.extractVectorFromHit(source, "byte_embedding", "doc1", false);
+
+        assertArrayEquals(new float[] { 0.1f, 0.2f, 0.3f }, floatResult, 0.0f);
+        assertArrayEquals(new byte[] { -1, 0, 1 }, byteResult);
+
+        // The bytes of a float vector are a multiple of 4
+        source.put("embedding", Base64.getEncoder().encodeToString(new byte[] { 1, 2, 3 }));
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> MMRUtil.extractVectorFromHit(source, "embedding", "doc1", true)
+        );
+        assertTrue(ex.getMessage().contains("unexpected value at the vector field"));
+    }
+
     public void testExtractVectorFromHit_whenInvalidElementType_thenThrow() {
         Map<String, Object> source = new HashMap<>();
         source.put("embedding", Arrays.asList(1.0, "bad"));
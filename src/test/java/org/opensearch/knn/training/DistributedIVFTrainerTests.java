@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.engine.KNNMethodContext;
+import org.opensearch.knn.index.engine.MethodComponentContext;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleRequest;
+import org.opensearch.knn.plugin.transport.TrainingDataSampleResponse;
+import org.opensearch.knn.plugin.transport.TrainingKMeansStepRequest;
+import org.opensearch.knn.plugin.transport.TrainingKMeansStepResponse;
+import org.opensearch.transport.client.Client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.ENCODER_FLAT;
+import static org.opensearch.knn.common.KNNConstants.ENCODER_PQ;
+import static org.opensearch.knn.common.KNNConstants.METHOD_ENCODER_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.METHOD_IVF;
+
+public class DistributedIVFTrainerTests extends KNNTestCase {
+
+    private static final String INDEX_NAME = "test-index";
+    private static final String FIELD_NAME = "test-field";
+
+    public void testTrainCentroids_whenDefaultMaxVectorCountAndMultipleShards_thenKeepSampleOfEachShardAcrossIterations() {
+        int numberOfShards = 3;
+        ClusterService clusterService = mockClusterService(numberOfShards);
+        List<TrainingKMeansStepRequest> kMeansStepRequests = Collections.synchronizedList(new ArrayList<>());
+        Client client = mock(Client.class);
+        doAnswer(invocation -> {
+            Object request = invocation.getArgument(1);
+            if (request instanceof TrainingDataSampleRequest) {
+                PlainActionFuture<TrainingDataSampleResponse> future = PlainActionFuture.newFuture();
+                future.onResponse(new TrainingDataSampleResponse(2, List.of(new float[] { 0, 0 }, new float[] { 10, 10 }), null));
+                return future;
+            }
+            TrainingKMeansStepRequest kMeansStepRequest = (TrainingKMeansStepRequest) request;
+            kMeansStepRequests.add(kMeansStepRequest);
+            // Every centroid is assigned a vector equal to itself, so the centroids never move
+            float[][] centroids = kMeansStepRequest.getCentroids();
+            double[] sums = new double[centroids.length * centroids[0].length];
+            long[] counts = new long[centroids.length];
+            for (int i = 0; i < centroids.length; i++) {
+                for (int j = 0; j < centroids[i].length; j++) {
+                    sums[i * centroids[i].length + j] = centroids[i][j];
+                }
+                counts[i] = 1;
+            }
+            String contextId = kMeansStepRequest.isReleaseContext() ? null : "context-" + kMeansStepRequest.getShardNumber();
+            PlainActionFuture<TrainingKMeansStepResponse> future = PlainActionFuture.newFuture();
+            future.onResponse(new TrainingKMeansStepResponse(sums, counts, contextId));
+            return future;
+        }).when(client).execute(any(), any());
+        DistributedIVFTrainer.initialize(client);
+
+        float[][] centroids = DistributedIVFTrainer.getInstance()
+            .trainCentroids(clusterService, INDEX_NAME, FIELD_NAME, Integer.MAX_VALUE, 2, SpaceType.L2);
+
+        assertEquals(2, centroids.length);
+        assertEquals(DistributedIVFTrainer.KMEANS_ITERATIONS * numberOfShards, kMeansStepRequests.size());
+        for (int i = 0; i < kMeansStepRequests.size(); i++) {
+            TrainingKMeansStepRequest request = kMeansStepRequests.get(i);
+            int iteration = i / numberOfShards;
+            // ceil(Integer.MAX_VALUE / 3), without overflowing
+            assertEquals(715827883, request.getSampleSize());
+            // The first iteration draws the sample, the following ones reuse it and the last one releases it
+            assertEquals(iteration == 0 ? null : "context-" + request.getShardNumber(), request.getContextId());
+            assertEquals(iteration == DistributedIVFTrainer.KMEANS_ITERATIONS - 1, request.isReleaseContext());
+        }
+    }
+
+    public void testGetShardSampleSize_whenMaxVectorCountIsDefault_thenNoOverflow() {
+        assertEquals(Integer.MAX_VALUE, DistributedIVFTrainer.getShardSampleSize(Integer.MAX_VALUE, 1));
+        assertEquals(1073741824, DistributedIVFTrainer.getShardSampleSize(Integer.MAX_VALUE, 2));
+        assertEquals(4, DistributedIVFTrainer.getShardSampleSize(10, 3));
+    }
+
+    public void testIsSupported_whenEncoderNeedsTrainingVectors_thenNotSupported() {
+        assertTrue(DistributedIVFTrainer.isSupported(ivfMethodContext(null), VectorDataType.FLOAT, null));
+        assertTrue(DistributedIVFTrainer.isSupported(ivfMethodContext(ENCODER_FLAT), VectorDataType.FLOAT, null));
+        assertFalse(DistributedIVFTrainer.isSupported(ivfMethodContext(ENCODER_PQ), VectorDataType.FLOAT, null));
+        assertFalse(DistributedIVFTrainer.isSupported(ivfMethodContext(null), VectorDataType.BYTE, null));
+    }
+
+    private static KNNMethodContext ivfMethodContext(String encoder) {
+        Map<String, Object> parameters = encoder == null
+            ? Map.of()
+            : Map.of(METHOD_ENCODER_PARAMETER, new MethodComponentContext(encoder, Map.of()));
+        return new KNNMethodContext(KNNEngine.FAISS, SpaceType.L2, new MethodComponentContext(METHOD_IVF, parameters));
+    }
+
+    private static ClusterService mockClusterService(int numberOfShards) {
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterState clusterState = mock(ClusterState.class);
+        Metadata metadata = mock(Metadata.class);
+        IndexMetadata indexMetadata = mock(IndexMetadata.class);
+        when(clusterService.state()).thenReturn(clusterState);
+        when(clusterState.metadata()).thenReturn(metadata);
+        when(metadata.index(INDEX_NAME)).thenReturn(indexMetadata);
+        when(indexMetadata.getNumberOfShards()).thenReturn(numberOfShards);
+        return clusterService;
+    }
+}
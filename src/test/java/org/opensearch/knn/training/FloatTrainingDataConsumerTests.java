@@ -12,15 +12,23 @@
 package org.opensearch.knn.training;
 
 import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -92,4 +100,30 @@ public class FloatTrainingDataConsumerTests extends KNNTestCase {
 
         assertNotEquals(0, trainingDataAllocation.getMemoryAddress());
     }
+
+    public void testProcessTrainingVectors_whenBase64EncodedVector_thenAdd() {
+        int dimension = 2;
+        NativeMemoryAllocation.TrainingDataAllocation trainingDataAllocation = mock(NativeMemoryAllocation.TrainingDataAllocation.class);
+        when(trainingDataAllocation.getMemoryAddress()).thenReturn(0L);
+        when(trainingDataAllocation.getQuantizationConfig()).thenReturn(QuantizationConfig.EMPTY);
+
+        ByteBuffer encodedVector = ByteBuffer.allocate(dimension * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        encodedVector.asFloatBuffer().put(new float[] { 3, 4 });
+        SearchHit listHit = mock(SearchHit.class);
+        when(listHit.getSourceAsMap()).thenReturn(Map.of("field", List.of(1.0, 2.0)));
+        SearchHit encodedHit = mock(SearchHit.class);
+        when(encodedHit.getSourceAsMap()).thenReturn(Map.of("field", Base64.getEncoder().encodeToString(encodedVector.array())));
+        SearchHit nullHit = mock(SearchHit.class);
+        when(nullHit.getSourceAsMap()).thenReturn(Map.of());
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        SearchHits searchHits = mock(SearchHits.class);
+        when(searchResponse.getHits()).thenReturn(searchHits);
+        when(searchHits.getHits()).thenReturn(new SearchHit[] { listHit, encodedHit, nullHit });
+
+        FloatTrainingDataConsumer floatTrainingDataConsumer = new FloatTrainingDataConsumer(trainingDataAllocation);
+        floatTrainingDataConsumer.processTrainingVectors(searchResponse, 3, "field");
+
+        assertEquals(2, floatTrainingDataConsumer.getTotalVectorsCountAdded());
+        verify(trainingDataAllocation).setMemoryAddress(anyLong());
+    }
 }
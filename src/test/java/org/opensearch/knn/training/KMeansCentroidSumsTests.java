@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.SpaceType;
+
+public class KMeansCentroidSumsTests extends KNNTestCase {
+
+    public void testAdd_whenL2_thenAssignToClosestCentroid() {
+        KMeansCentroidSums centroidSums = new KMeansCentroidSums(new float[][] { { 0, 0 }, { 10, 10 } }, SpaceType.L2);
+        centroidSums.add(new float[] { 1, 2 });
+        centroidSums.add(new float[] { 3, 0 });
+        centroidSums.add(new float[] { 9, 8 });
+
+        assertArrayEquals(new long[] { 2, 1 }, centroidSums.getCounts());
+        assertArrayEquals(new double[] { 4, 2, 9, 8 }, centroidSums.getSums(), 0.0);
+        float[][] centroids = centroidSums.computeCentroids();
+        assertArrayEquals(new float[] { 2, 1 }, centroids[0], 0.0f);
+        assertArrayEquals(new float[] { 9, 8 }, centroids[1], 0.0f);
+    }
+
+    public void testAdd_whenInnerProduct_thenAssignToMaxInnerProductAndNormalizeCentroids() {
+        KMeansCentroidSums centroidSums = new KMeansCentroidSums(new float[][] { { 1, 0 }, { 0, 1 } }, SpaceType.INNER_PRODUCT);
+        centroidSums.add(new float[] { 4, 1 });
+        centroidSums.add(new float[] { 0, 3 });
+        centroidSums.add(new float[] { 1, 5 });
+
+        assertArrayEquals(new long[] { 1, 2 }, centroidSums.getCounts());
+        float[][] centroids = centroidSums.computeCentroids();
+        assertArrayEquals(new float[] { 4 / (float) Math.sqrt(17), 1 / (float) Math.sqrt(17) }, centroids[0], 1e-6f);
+        assertArrayEquals(new float[] { 1 / (float) Math.sqrt(65), 8 / (float) Math.sqrt(65) }, centroids[1], 1e-6f);
+    }
+
+    public void testComputeCentroids_whenCentroidIsEmpty_thenKeepCentroid() {
+        KMeansCentroidSums centroidSums = new KMeansCentroidSums(new float[][] { { 0, 0 }, { 10, 10 } }, SpaceType.L2);
+        centroidSums.add(new float[] { 1, 1 });
+
+        float[][] centroids = centroidSums.computeCentroids();
+        assertArrayEquals(new float[] { 1, 1 }, centroids[0], 0.0f);
+        assertArrayEquals(new float[] { 10, 10 }, centroids[1], 0.0f);
+    }
+
+    public void testAdd_whenPartialSumsOfShards_thenSameAsSumsOfAllVectors() {
+        float[][] centroids = new float[][] { { 0, 0, 0 }, { 5, 5, 5 }, { -5, 0, 5 } };
+        KMeansCentroidSums allVectors = new KMeansCentroidSums(centroids, SpaceType.L2);
+        KMeansCentroidSums reduced = new KMeansCentroidSums(centroids, SpaceType.L2);
+        for (int shard = 0; shard < 3; shard++) {
+            KMeansCentroidSums shardSums = new KMeansCentroidSums(centroids, SpaceType.L2);
+            for (int i = 0; i < 20; i++) {
+                float[] vector = new float[] { randomIntBetween(-10, 10), randomIntBetween(-10, 10), randomIntBetween(-10, 10) };
+                allVectors.add(vector);
+                shardSums.add(vector);
+            }
+            reduced.add(shardSums.getSums(), shardSums.getCounts());
+        }
+
+        assertArrayEquals(allVectors.getCounts(), reduced.getCounts());
+        assertArrayEquals(allVectors.getSums(), reduced.getSums(), 0.0);
+        expectThrows(IllegalArgumentException.class, () -> reduced.add(new double[1], new long[1]));
+    }
+}
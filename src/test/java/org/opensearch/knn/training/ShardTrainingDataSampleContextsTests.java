@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.analysis.MockAnalyzer;
+import org.opensearch.knn.KNNTestCase;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ShardTrainingDataSampleContextsTests extends KNNTestCase {
+
+    private static final String FIELD_NAME = "test-vector-field";
+    private static final int NUM_DOCS = 20;
+
+    private Directory directory;
+    private DirectoryReader reader;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        directory = newDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())))) {
+            for (int i = 0; i < NUM_DOCS; i++) {
+                Document document = new Document();
+                document.add(new KnnFloatVectorField(FIELD_NAME, new float[] { i, i }));
+                writer.addDocument(document);
+            }
+            writer.commit();
+        }
+        reader = DirectoryReader.open(directory);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        reader.close();
+        directory.close();
+        super.tearDown();
+    }
+
+    @SneakyThrows
+    public void testAcquire_whenSampleIsReadInBlocks_thenDrawSampleOnceAndCloseAfterLastBlock() {
+        ShardTrainingDataSampleContexts sampleContexts = new ShardTrainingDataSampleContexts();
+        AtomicInteger closeCount = new AtomicInteger();
+        Closeable onClose = closeCount::incrementAndGet;
+
+        ShardTrainingDataSampleContexts.SampleContext context = sampleContexts.create(reader, onClose, FIELD_NAME, 10, randomLong());
+        int[] positions = context.getPositions();
+        assertEquals(10, positions.length);
+        sampleContexts.release(context, false);
+        assertEquals(1, sampleContexts.getContextCount());
+
+        // Following blocks are served from the same sample, and the reader stays open until the sample is consumed
+        ShardTrainingDataSampleContexts.SampleContext sameContext = sampleContexts.acquire(context.getId());
+        assertSame(context, sameContext);
+        assertSame(positions, sameContext.getPositions());
+        assertEquals(0, closeCount.get());
+        sampleContexts.release(sameContext, true);
+        assertEquals(0, sampleContexts.getContextCount());
+        assertEquals(1, closeCount.get());
+
+        expectThrows(IllegalStateException.class, () -> sampleContexts.acquire(context.getId()));
+    }
+
+    @SneakyThrows
+    public void testReleaseIdleContexts_whenIdleForLongerThanKeepAlive_thenClose() {
+        ShardTrainingDataSampleContexts sampleContexts = new ShardTrainingDataSampleContexts();
+        AtomicInteger closeCount = new AtomicInteger();
+        Closeable onClose = closeCount::incrementAndGet;
+
+        ShardTrainingDataSampleContexts.SampleContext context = sampleContexts.create(reader, onClose, FIELD_NAME, 5, randomLong());
+        long idleTime = System.nanoTime() + ShardTrainingDataSampleContexts.KEEP_ALIVE.nanos() + 1;
+
+        // A context used by a request is never released
+        sampleContexts.releaseIdleContexts(idleTime);
+        assertEquals(1, sampleContexts.getContextCount());
+
+        sampleContexts.release(context, false);
+        sampleContexts.releaseIdleContexts(System.nanoTime());
+        assertEquals(1, sampleContexts.getContextCount());
+        assertEquals(0, closeCount.get());
+
+        sampleContexts.releaseIdleContexts(System.nanoTime() + ShardTrainingDataSampleContexts.KEEP_ALIVE.nanos() + 1);
+        assertEquals(0, sampleContexts.getContextCount());
+        assertEquals(1, closeCount.get());
+    }
+}
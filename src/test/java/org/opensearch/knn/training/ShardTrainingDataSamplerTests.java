@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.analysis.MockAnalyzer;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShardTrainingDataSamplerTests extends KNNTestCase {
+
+    private static final String FIELD_NAME = "test-vector-field";
+    private static final int NUM_SEGMENTS = 3;
+    private static final int DOCS_PER_SEGMENT = 10;
+    private static final int DELETED_DOC = 5;
+
+    private Directory directory;
+    private DirectoryReader reader;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(new MockAnalyzer(random())).setMergePolicy(NoMergePolicy.INSTANCE);
+        try (IndexWriter writer = new IndexWriter(directory, conf)) {
+            for (int segment = 0; segment < NUM_SEGMENTS; segment++) {
+                for (int i = 0; i < DOCS_PER_SEGMENT; i++) {
+                    int value = segment * DOCS_PER_SEGMENT + i;
+                    Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(value), Field.Store.NO));
+                    document.add(new KnnFloatVectorField(FIELD_NAME, new float[] { value, value }));
+                    writer.addDocument(document);
+                    // Docs without a vector are not sampled
+                    writer.addDocument(new Document());
+                }
+                writer.commit();
+            }
+            writer.deleteDocuments(new Term("id", Integer.toString(DELETED_DOC)));
+            writer.commit();
+        }
+        reader = DirectoryReader.open(directory);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        reader.close();
+        directory.close();
+        super.tearDown();
+    }
+
+    @SneakyThrows
+    public void testGetTotalLiveVectors_whenDocsAreDeleted_thenCountOnlyLiveVectors() {
+        ShardTrainingDataSampler sampler = new ShardTrainingDataSampler(reader, FIELD_NAME);
+        assertEquals(NUM_SEGMENTS * DOCS_PER_SEGMENT - 1, sampler.getTotalLiveVectors());
+        assertEquals(0, new ShardTrainingDataSampler(reader, "unknown-field").getTotalLiveVectors());
+    }
+
+    @SneakyThrows
+    public void testReadVectors_whenSampleSizeExceedsLiveVectors_thenReadAllLiveVectors() {
+        ShardTrainingDataSampler sampler = new ShardTrainingDataSampler(reader, FIELD_NAME);
+        int[] positions = sampler.samplePositions(1000, randomLong());
+        assertEquals(sampler.getTotalLiveVectors(), positions.length);
+
+        List<Object> vectors = sampler.readVectors(positions, 0, positions.length);
+        assertEquals(positions.length, vectors.size());
+        List<Float> values = new ArrayList<>();
+        for (Object vector : vectors) {
+            values.add(((float[]) vector)[0]);
+        }
+        for (int value = 0; value < NUM_SEGMENTS * DOCS_PER_SEGMENT; value++) {
+            assertEquals(value != DELETED_DOC, values.contains((float) value));
+        }
+    }
+
+    @SneakyThrows
+    public void testSamplePositions_whenSameSeed_thenDrawSameSample() {
+        ShardTrainingDataSampler sampler = new ShardTrainingDataSampler(reader, FIELD_NAME);
+        long seed = randomLong();
+        int[] positions = sampler.samplePositions(7, seed);
+        assertEquals(7, positions.length);
+        assertArrayEquals(positions, new ShardTrainingDataSampler(reader, FIELD_NAME).samplePositions(7, seed));
+    }
+
+    @SneakyThrows
+    public void testReadVectors_whenReadInBlocks_thenReadSameVectorsAsAtOnce() {
+        ShardTrainingDataSampler sampler = new ShardTrainingDataSampler(reader, FIELD_NAME);
+        int[] positions = sampler.samplePositions(17, randomLong());
+        List<Object> expected = sampler.readVectors(positions, 0, positions.length);
+
+        List<Object> actual = new ArrayList<>();
+        for (int from = 0; from < positions.length; from += 4) {
+            actual.addAll(sampler.readVectors(positions, from, 4));
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals((float[]) expected.get(i), (float[]) actual.get(i), 0.0f);
+        }
+    }
+}